@@ -1,43 +1,29 @@
 package com.hermes.approvalservice.client;
 
+import com.hermes.api.common.ApiResult;
+import com.hermes.approvalservice.client.dto.OrganizationAssignment;
+import com.hermes.approvalservice.client.dto.OrganizationInfo;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
-import java.util.Collections;
 import java.util.List;
 
+/**
+ * 조직 정보가 비어 있으면 조직/조직장 대상자를 확정할 수 없으므로 빈 목록 대신 실패를 반환한다.
+ */
 @Component
 @Slf4j
 public class OrganizationServiceClientFallback implements OrganizationServiceClient {
 
     @Override
-    public OrganizationInfo getOrganizationById(Long id) {
-        log.warn("Organization service is unavailable. Returning fallback for organization id: {}", id);
-        OrganizationInfo fallback = new OrganizationInfo();
-        fallback.setId(id);
-        fallback.setName("Unknown Organization");
-        return fallback;
+    public ApiResult<List<OrganizationInfo>> getAllOrganizations() {
+        log.error("OrganizationServiceClient fallback triggered for getAllOrganizations");
+        return ApiResult.failure("조직 서비스를 사용할 수 없습니다.");
     }
 
     @Override
-    public List<Long> getOrganizationMembers(Long id) {
-        log.warn("Organization service is unavailable. Returning empty members list for organization id: {}", id);
-        return Collections.emptyList();
+    public ApiResult<List<OrganizationAssignment>> getAllAssignments() {
+        log.error("OrganizationServiceClient fallback triggered for getAllAssignments");
+        return ApiResult.failure("조직 서비스를 사용할 수 없습니다.");
     }
-
-    @Override
-    public List<ManagerInfo> getOrganizationManagers(Long id) {
-        log.warn("Organization service is unavailable. Returning empty managers list for organization id: {}", id);
-        return Collections.emptyList();
-    }
-
-    @Override
-    public ManagerInfo getNthLevelManager(Long userId, Integer level) {
-        log.warn("Organization service is unavailable. Returning fallback manager for user {} level {}", userId, level);
-        ManagerInfo fallback = new ManagerInfo();
-        fallback.setUserId(userId);
-        fallback.setName("Unknown Manager");
-        fallback.setLevel(level);
-        return fallback;
-    }
-}
\ No newline at end of file
+}
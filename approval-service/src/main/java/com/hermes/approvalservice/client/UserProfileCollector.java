@@ -0,0 +1,74 @@
+package com.hermes.approvalservice.client;
+
+import com.hermes.api.common.ApiResult;
+import com.hermes.approvalservice.client.dto.UserProfile;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.annotation.RequestScope;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 요청 단위 사용자 프로필 수집기
+ * 응답 조립 전에 필요한 사용자 ID를 모아 user-service에 한 번에 조회하고, 같은 요청 안에서는 결과를 재사용한다.
+ */
+@Slf4j
+@Component
+@RequestScope
+@RequiredArgsConstructor
+public class UserProfileCollector {
+
+    private final UserServiceClient userServiceClient;
+
+    private final Map<Long, UserProfile> profiles = new HashMap<>();
+
+    /**
+     * 아직 조회하지 않은 사용자들의 프로필을 일괄 조회
+     */
+    public void prefetch(Collection<Long> userIds) {
+        Set<Long> missingIds = userIds.stream()
+                .filter(Objects::nonNull)
+                .filter(userId -> !profiles.containsKey(userId))
+                .collect(Collectors.toSet());
+
+        if (missingIds.isEmpty()) {
+            return;
+        }
+
+        try {
+            ApiResult<List<UserProfile>> result = userServiceClient.getUserProfiles(missingIds);
+            if (result == null || result.getData() == null) {
+                log.warn("사용자 프로필 일괄 조회 결과가 비어 있습니다: count={}", missingIds.size());
+                return;
+            }
+            result.getData().forEach(profile -> profiles.put(profile.getId(), profile));
+            // 존재하지 않는 사용자는 개별 재조회하지 않도록 표시
+            missingIds.forEach(userId -> profiles.putIfAbsent(userId, null));
+        } catch (Exception e) {
+            log.warn("사용자 프로필 일괄 조회 실패, 개별 조회로 대체: count={}, error={}", missingIds.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * 사용자 프로필 조회 (미리 수집되지 않은 경우 개별 조회)
+     */
+    public UserProfile get(Long userId) {
+        if (userId == null) {
+            return null;
+        }
+        if (profiles.containsKey(userId)) {
+            return profiles.get(userId);
+        }
+
+        UserProfile profile = userServiceClient.getUserProfile(userId).getData();
+        profiles.put(userId, profile);
+        return profile;
+    }
+}
@@ -5,8 +5,11 @@ import com.hermes.approvalservice.client.dto.UserProfile;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
 
+import java.util.Collection;
 import java.util.List;
 
 @FeignClient(name = "user-service", fallback = UserServiceClientFallback.class)
@@ -15,6 +18,9 @@ public interface UserServiceClient {
     @GetMapping("/api/users/{userId}/profile")
     ApiResult<UserProfile> getUserProfile(@PathVariable("userId") Long userId);
 
+    @PostMapping("/api/users/profiles:batch")
+    ApiResult<List<UserProfile>> getUserProfiles(@RequestBody Collection<Long> userIds);
+
     @GetMapping("/api/users/search-ids")
     List<Long> searchUserIds(@RequestParam("name") String name);
 
@@ -5,6 +5,7 @@ import com.hermes.approvalservice.client.dto.UserProfile;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 
@@ -15,16 +16,15 @@ public class UserServiceClientFallback implements UserServiceClient {
     @Override
     public ApiResult<UserProfile> getUserProfile(Long userId) {
         log.error("UserServiceClient fallback triggered for getUserProfile, userId: {}", userId);
-        
-        UserProfile fallbackUserProfile = UserProfile.builder()
-                .id(userId)
-                .name("사용자 정보 없음")
-                .email("")
-                .phone("")
-                .profileImageUrl("")
-                .build();
-        
-        return ApiResult.success(fallbackUserProfile);
+        return ApiResult.success(fallbackUserProfile(userId));
+    }
+
+    @Override
+    public ApiResult<List<UserProfile>> getUserProfiles(Collection<Long> userIds) {
+        log.error("UserServiceClient fallback triggered for getUserProfiles, count: {}", userIds.size());
+        return ApiResult.success(userIds.stream()
+                .map(this::fallbackUserProfile)
+                .toList());
     }
 
     @Override
@@ -32,4 +32,14 @@ public class UserServiceClientFallback implements UserServiceClient {
         log.error("UserServiceClient fallback triggered for searchUserIds, name: {}", name);
         return Collections.emptyList();
     }
-}
\ No newline at end of file
+
+    private UserProfile fallbackUserProfile(Long userId) {
+        return UserProfile.builder()
+                .id(userId)
+                .name("사용자 정보 없음")
+                .email("")
+                .phone("")
+                .profileImageUrl("")
+                .build();
+    }
+}
@@ -0,0 +1,19 @@
+package com.hermes.approvalservice.client.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrganizationAssignment {
+
+    private Long employeeId;
+    private Long organizationId;
+    private Boolean isPrimary;
+    private Boolean isLeader;
+
+}
@@ -0,0 +1,18 @@
+package com.hermes.approvalservice.client.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrganizationInfo {
+
+    private Long organizationId;
+    private String name;
+    private Long parentId;
+
+}
@@ -3,10 +3,13 @@ package com.hermes.approvalservice.controller;
 import com.hermes.approvalservice.dto.request.ApprovalActionRequest;
 import com.hermes.approvalservice.dto.request.CreateDocumentRequest;
 import com.hermes.approvalservice.dto.request.UpdateDocumentRequest;
+import com.hermes.approvalservice.dto.response.DocumentActivityResponse;
 import com.hermes.approvalservice.dto.response.DocumentResponse;
 import com.hermes.approvalservice.dto.response.DocumentSummaryResponse;
+import com.hermes.approvalservice.dto.response.InboxPageResponse;
 import com.hermes.approvalservice.enums.DocumentStatus;
 import com.hermes.approvalservice.service.ApprovalDocumentService;
+import com.hermes.approvalservice.service.ApprovalInboxService;
 import com.hermes.approvalservice.service.ApprovalProcessService;
 import com.hermes.auth.principal.UserPrincipal;
 import io.swagger.v3.oas.annotations.Operation;
@@ -36,8 +39,9 @@ public class ApprovalDocumentController {
 
     private final ApprovalDocumentService documentService;
     private final ApprovalProcessService approvalProcessService;
+    private final ApprovalInboxService inboxService;
 
-    @Operation(summary = "문서 목록 조회", description = "현재 사용자가 접근할 수 있는 문서 목록을 필터링하여 페이지네이션으로 조회합니다.")
+    @Operation(summary = "문서 목록 조회", description = "현재 사용자가 접근할 수 있는 문서 목록을 필터링하여 페이지네이션으로 조회합니다. (목록 화면은 /inbox 사용 권장)")
     @GetMapping
     public ResponseEntity<Page<DocumentSummaryResponse>> getDocuments(
             @AuthenticationPrincipal UserPrincipal user,
@@ -51,16 +55,41 @@ public class ApprovalDocumentController {
         return ResponseEntity.ok(documents);
     }
 
+    @Operation(summary = "문서함 조회", description = "현재 사용자의 문서함을 최근 활동순으로 조회합니다. 다음 페이지는 응답의 nextCursor를 cursor로 전달합니다.")
+    @GetMapping("/inbox")
+    public ResponseEntity<InboxPageResponse> getInbox(
+            @AuthenticationPrincipal UserPrincipal user,
+            @Parameter(description = "문서 상태 필터 (여러 개 선택 가능)") @RequestParam(required = false) List<DocumentStatus> status,
+            @Parameter(description = "검색 키워드 (템플릿 제목 또는 작성자 이름)") @RequestParam(required = false) String search,
+            @Parameter(description = "조회 시작 날짜 (yyyy-MM-dd)") @RequestParam(required = false) LocalDate startDate,
+            @Parameter(description = "조회 종료 날짜 (yyyy-MM-dd)") @RequestParam(required = false) LocalDate endDate,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (기본 20, 최대 100)") @RequestParam(defaultValue = "20") int size) {
+        InboxPageResponse inbox = inboxService.getInbox(user, status, search, startDate, endDate, cursor, size);
+        return ResponseEntity.ok(inbox);
+    }
+
 
-    @Operation(summary = "문서 상세 조회", description = "지정한 ID의 문서 상세 정보를 조회합니다.")
+    @Operation(summary = "문서 상세 조회", description = "지정한 ID의 문서 상세 정보를 조회합니다. includeHistory=false면 활동/댓글을 제외하며, 이력은 /activities, /comments?page= 로 페이지 단위 조회합니다.")
     @GetMapping("/{id}")
     public ResponseEntity<DocumentResponse> getDocumentById(
             @AuthenticationPrincipal UserPrincipal user,
-            @Parameter(description = "문서 ID", required = true) @PathVariable Long id) {
-        DocumentResponse document = documentService.getDocumentById(id, user);
+            @Parameter(description = "문서 ID", required = true) @PathVariable Long id,
+            @Parameter(description = "활동/댓글 포함 여부 (기본 true)") @RequestParam(defaultValue = "true") boolean includeHistory) {
+        DocumentResponse document = documentService.getDocumentById(id, user, includeHistory);
         return ResponseEntity.ok(document);
     }
 
+    @Operation(summary = "문서 활동 이력 조회", description = "지정한 문서의 활동 이력을 시간순으로 페이지네이션 조회합니다.")
+    @GetMapping("/{id}/activities")
+    public ResponseEntity<Page<DocumentActivityResponse>> getDocumentActivities(
+            @AuthenticationPrincipal UserPrincipal user,
+            @Parameter(description = "문서 ID", required = true) @PathVariable Long id,
+            @Parameter(description = "페이지네이션 정보 (기본 크기: 20, 최대 100)") @PageableDefault(size = 20) Pageable pageable) {
+        Page<DocumentActivityResponse> activities = documentService.getDocumentActivities(id, user, pageable);
+        return ResponseEntity.ok(activities);
+    }
+
     @Operation(summary = "문서 작성", description = "새로운 결재 문서를 작성합니다.")
     @PostMapping
     public ResponseEntity<DocumentResponse> createDocument(
@@ -99,8 +128,9 @@ public class ApprovalDocumentController {
     public ResponseEntity<Void> approveDocument(
             @AuthenticationPrincipal UserPrincipal user,
             @Parameter(description = "문서 ID", required = true) @PathVariable Long id,
+            @Parameter(description = "멱등성 키 (같은 키로 다시 보낸 요청은 처리 없이 성공 응답)") @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
             @Parameter(description = "승인 처리 요청 정보") @RequestBody ApprovalActionRequest request) {
-        approvalProcessService.approveDocument(id, user, request);
+        approvalProcessService.approveDocument(id, user, request, idempotencyKey);
         return ResponseEntity.ok().build();
     }
 
@@ -111,8 +141,9 @@ public class ApprovalDocumentController {
     public ResponseEntity<Void> rejectDocument(
             @AuthenticationPrincipal UserPrincipal user,
             @Parameter(description = "문서 ID", required = true) @PathVariable Long id,
+            @Parameter(description = "멱등성 키 (같은 키로 다시 보낸 요청은 처리 없이 성공 응답)") @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
             @Parameter(description = "반려 처리 요청 정보", required = true) @RequestBody ApprovalActionRequest request) {
-        approvalProcessService.rejectDocument(id, user, request);
+        approvalProcessService.rejectDocument(id, user, request, idempotencyKey);
         return ResponseEntity.ok().build();
     }
 
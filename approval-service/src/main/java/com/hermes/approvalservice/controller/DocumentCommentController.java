@@ -11,6 +11,7 @@ import com.hermes.approvalservice.entity.DocumentComment;
 import com.hermes.approvalservice.exception.NotFoundException;
 import com.hermes.approvalservice.repository.ApprovalDocumentRepository;
 import com.hermes.approvalservice.repository.DocumentCommentRepository;
+import com.hermes.approvalservice.service.ApprovalDocumentService;
 import com.hermes.approvalservice.service.DocumentPermissionService;
 import com.hermes.auth.principal.UserPrincipal;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -21,6 +22,9 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -35,6 +39,7 @@ public class DocumentCommentController {
     private final DocumentCommentRepository commentRepository;
     private final ApprovalDocumentRepository documentRepository;
     private final DocumentPermissionService permissionService;
+    private final ApprovalDocumentService documentService;
     private final UserServiceClient userServiceClient;
     private final ResponseConverter responseConverter;
 
@@ -58,6 +63,16 @@ public class DocumentCommentController {
         return ResponseEntity.ok(comments);
     }
 
+    @Operation(summary = "문서 댓글 페이지 조회", description = "지정한 문서의 댓글을 시간순으로 페이지네이션 조회합니다. (page 파라미터가 있을 때)")
+    @GetMapping(params = "page")
+    public ResponseEntity<Page<DocumentCommentResponse>> getCommentPage(
+            @AuthenticationPrincipal UserPrincipal user,
+            @Parameter(description = "문서 ID", required = true) @PathVariable Long documentId,
+            @Parameter(description = "페이지네이션 정보 (기본 크기: 20, 최대 100)") @PageableDefault(size = 20) Pageable pageable) {
+        Page<DocumentCommentResponse> comments = documentService.getDocumentComments(documentId, user, pageable);
+        return ResponseEntity.ok(comments);
+    }
+
     @Operation(summary = "문서 댓글 작성", description = "지정한 문서에 새로운 댓글을 작성합니다.")
     @PostMapping
     public ResponseEntity<DocumentCommentResponse> createComment(
@@ -1,29 +1,73 @@
 package com.hermes.approvalservice.converter;
 
-import com.hermes.api.common.ApiResult;
 import com.hermes.attachment.service.AttachmentClientService;
-import com.hermes.approvalservice.client.UserServiceClient;
-import com.hermes.approvalservice.client.dto.UserProfile;
+import com.hermes.approvalservice.client.UserProfileCollector;
 import com.hermes.approvalservice.dto.response.*;
 import com.hermes.approvalservice.entity.*;
 import com.hermes.approvalservice.enums.ApprovalStatus;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @Component
 @RequiredArgsConstructor
 public class ResponseConverter {
 
-    private final UserServiceClient userServiceClient;
+    private final UserProfileCollector userProfileCollector;
     private final AttachmentClientService attachmentClientService;
 
+    /**
+     * 문서 응답에 필요한 모든 사용자(작성자, 결재/참조 대상자, 처리자, 활동/댓글 작성자, 템플릿 대상자) 프로필을 일괄 조회
+     */
+    public void prefetchUserProfiles(ApprovalDocument document) {
+        prefetchUserProfiles(document, true);
+    }
+
+    /**
+     * includeHistory가 false면 활동/댓글 작성자는 제외 (이력 컬렉션을 초기화하지 않음)
+     */
+    public void prefetchUserProfiles(ApprovalDocument document, boolean includeHistory) {
+        List<Long> userIds = new ArrayList<>();
+        userIds.add(document.getAuthorId());
+        addTemplateUserIds(userIds, document.getTemplate());
+        document.getApprovalStages().forEach(stage ->
+                stage.getApprovalTargets().forEach(target -> addTargetUserIds(userIds, target)));
+        document.getReferenceTargets().forEach(target -> addTargetUserIds(userIds, target));
+        if (includeHistory) {
+            document.getActivities().forEach(activity -> userIds.add(activity.getUserId()));
+            document.getComments().forEach(comment -> userIds.add(comment.getAuthorId()));
+        }
+        userProfileCollector.prefetch(userIds);
+    }
+
+    /**
+     * 템플릿 응답에 필요한 결재/참조 대상자 프로필을 일괄 조회
+     */
+    public void prefetchUserProfiles(DocumentTemplate template) {
+        List<Long> userIds = new ArrayList<>();
+        addTemplateUserIds(userIds, template);
+        userProfileCollector.prefetch(userIds);
+    }
+
+    private void addTemplateUserIds(List<Long> userIds, DocumentTemplate template) {
+        template.getApprovalStages().forEach(stage ->
+                stage.getApprovalTargets().forEach(target -> userIds.add(target.getUserId())));
+        template.getReferenceTargets().forEach(target -> userIds.add(target.getUserId()));
+    }
+
+    private void addTargetUserIds(List<Long> userIds, DocumentApprovalTarget target) {
+        userIds.add(target.getUserId());
+        userIds.add(target.getProcessedBy());
+    }
+
     public DocumentActivityResponse convertToDocumentActivityResponse(DocumentActivity activity) {
         DocumentActivityResponse response = new DocumentActivityResponse();
         response.setId(activity.getId());
         response.setActivityType(activity.getActivityType());
         
-        ApiResult<UserProfile> userResult = userServiceClient.getUserProfile(activity.getUserId());
-        response.setUser(userResult.getData());
+        response.setUser(userProfileCollector.get(activity.getUserId()));
         
         response.setDescription(activity.getDescription());
         response.setReason(activity.getReason());
@@ -36,8 +80,7 @@ public class ResponseConverter {
         response.setId(comment.getId());
         response.setContent(comment.getContent());
         
-        ApiResult<UserProfile> userResult = userServiceClient.getUserProfile(comment.getAuthorId());
-        response.setAuthor(userResult.getData());
+        response.setAuthor(userProfileCollector.get(comment.getAuthorId()));
         
         response.setCreatedAt(comment.getCreatedAt());
         response.setUpdatedAt(comment.getUpdatedAt());
@@ -76,13 +119,11 @@ public class ResponseConverter {
         response.setProcessedAt(target.getProcessedAt());
         
         if (target.getUserId() != null) {
-            ApiResult<UserProfile> userResult = userServiceClient.getUserProfile(target.getUserId());
-            response.setUser(userResult.getData());
+            response.setUser(userProfileCollector.get(target.getUserId()));
         }
         
         if (target.getProcessedBy() != null) {
-            ApiResult<UserProfile> processorResult = userServiceClient.getUserProfile(target.getProcessedBy());
-            response.setProcessor(processorResult.getData());
+            response.setProcessor(userProfileCollector.get(target.getProcessedBy()));
         }
         
         return response;
@@ -99,8 +140,7 @@ public class ResponseConverter {
         response.setProcessedAt(null);
         
         if (target.getUserId() != null) {
-            ApiResult<UserProfile> userResult = userServiceClient.getUserProfile(target.getUserId());
-            response.setUser(userResult.getData());
+            response.setUser(userProfileCollector.get(target.getUserId()));
         }
         
         return response;
@@ -137,6 +177,8 @@ public class ResponseConverter {
     }
 
     public TemplateResponse convertToTemplateResponse(DocumentTemplate template) {
+        prefetchUserProfiles(template);
+
         TemplateResponse response = new TemplateResponse();
         response.setId(template.getId());
         response.setTitle(template.getTitle());
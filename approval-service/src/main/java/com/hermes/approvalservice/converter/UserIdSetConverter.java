@@ -0,0 +1,42 @@
+package com.hermes.approvalservice.converter;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 사용자 ID 집합 ↔ 쉼표 구분 문자열
+ * 대상자 집합을 행과 함께 읽어 별도 조회 없이 집합 조회를 할 수 있게 한다. (null은 미확정)
+ */
+@Converter
+public class UserIdSetConverter implements AttributeConverter<Set<Long>, String> {
+
+    private static final String DELIMITER = ",";
+
+    @Override
+    public String convertToDatabaseColumn(Set<Long> userIds) {
+        if (userIds == null) {
+            return null;
+        }
+        return userIds.stream()
+                .sorted()
+                .map(String::valueOf)
+                .collect(Collectors.joining(DELIMITER));
+    }
+
+    @Override
+    public Set<Long> convertToEntityAttribute(String value) {
+        if (value == null) {
+            return null;
+        }
+        if (value.isEmpty()) {
+            return Set.of();
+        }
+        return Arrays.stream(value.split(DELIMITER))
+                .map(Long::valueOf)
+                .collect(Collectors.toUnmodifiableSet());
+    }
+}
@@ -0,0 +1,27 @@
+package com.hermes.approvalservice.dto.response;
+
+import com.hermes.approvalservice.enums.DocumentRole;
+import com.hermes.approvalservice.enums.DocumentStatus;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+public class InboxItemResponse {
+
+    private Long documentId;
+    private DocumentRole myRole;
+    private Long authorId;
+    private String authorName;
+    private Long templateId;
+    private String templateTitle;
+    private String templateIcon;
+    private String templateColor;
+    private DocumentStatus status;
+    private Integer currentStage;
+    private Integer totalStages;
+    private Boolean isApprovalRequired;
+    private LocalDateTime createdAt;
+    private LocalDateTime submittedAt;
+    private LocalDateTime lastActivityAt;
+}
@@ -0,0 +1,17 @@
+package com.hermes.approvalservice.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class InboxPageResponse {
+
+    private List<InboxItemResponse> items;
+    private String nextCursor; // 다음 페이지 요청 시 cursor로 전달 (마지막 페이지면 null)
+    private boolean hasNext;
+}
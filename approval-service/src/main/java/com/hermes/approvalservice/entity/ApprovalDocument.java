@@ -1,13 +1,16 @@
 package com.hermes.approvalservice.entity;
 
 import com.hermes.attachment.entity.AttachmentInfo;
+import com.hermes.approvalservice.converter.UserIdSetConverter;
 import com.hermes.approvalservice.enums.DocumentStatus;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 @Entity
 @Table(name = "approval_document")
@@ -37,6 +40,10 @@ public class ApprovalDocument {
     @Builder.Default
     private Integer currentStage = 0;
 
+    @Convert(converter = UserIdSetConverter.class)
+    @Column(columnDefinition = "TEXT")
+    private Set<Long> targetUserIds; // 제출 시 확정된 승인/참조 대상 사용자 전체 (null이면 미확정)
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "template_id", nullable = false)
     private DocumentTemplate template;
@@ -81,6 +88,11 @@ public class ApprovalDocument {
     @Column
     private LocalDateTime approvedAt;
 
+    @Version
+    @Column(name = "version", nullable = false)
+    @ColumnDefault("0")
+    private Long version; // 낙관적 잠금 버전 (승인/반려 시 항상 증가)
+
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
@@ -0,0 +1,48 @@
+package com.hermes.approvalservice.entity;
+
+import com.hermes.approvalservice.enums.ActivityType;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 승인/반려 요청의 멱등성 키 (사용자 x 키 한 행)
+ * 처리 트랜잭션 안에서 먼저 선점하므로 같은 키의 재시도는 처리 결과와 함께 커밋된 행을 보고 바로 반환된다.
+ */
+@Entity
+@Table(name = "approval_idempotency_key",
+       uniqueConstraints = @UniqueConstraint(name = "uk_approval_idempotency_user_key", columnNames = {"user_id", "idempotency_key"}),
+       indexes = @Index(name = "idx_approval_idempotency_document", columnList = "document_id"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ApprovalIdempotencyKey {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "idempotency_key", nullable = false, length = 100)
+    private String idempotencyKey;
+
+    @Column(name = "document_id", nullable = false)
+    private Long documentId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ActivityType action;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+}
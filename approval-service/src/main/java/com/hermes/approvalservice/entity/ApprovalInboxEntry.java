@@ -0,0 +1,82 @@
+package com.hermes.approvalservice.entity;
+
+import com.hermes.approvalservice.enums.DocumentRole;
+import com.hermes.approvalservice.enums.DocumentStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자별 결재 문서함 읽기 모델 (사용자 x 문서 한 행)
+ * 문서 작성/수정/제출/승인/반려 시 같은 트랜잭션에서 갱신되며, 목록 화면은 이 테이블만 조회한다.
+ */
+@Entity
+@Table(name = "approval_inbox",
+       uniqueConstraints = @UniqueConstraint(name = "uk_approval_inbox_user_document", columnNames = {"user_id", "document_id"}),
+       indexes = {
+               @Index(name = "idx_approval_inbox_user_activity", columnList = "user_id, last_activity_at DESC, document_id DESC"),
+               @Index(name = "idx_approval_inbox_document", columnList = "document_id"),
+               @Index(name = "idx_approval_inbox_template", columnList = "template_id")
+       })
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ApprovalInboxEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "document_id", nullable = false)
+    private Long documentId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private DocumentRole role; // 이 사용자의 문서 내 역할 (작성자 > 승인자 > 참조자)
+
+    @Column(nullable = false)
+    private Long authorId;
+
+    @Column(length = 100)
+    private String authorName; // 작성자 이름 (조회 실패 시 null, 다음 갱신 때 재조회)
+
+    @Column(name = "template_id", nullable = false)
+    private Long templateId;
+
+    @Column(nullable = false, length = 200)
+    private String templateTitle;
+
+    @Column(length = 100)
+    private String templateIcon;
+
+    @Column(length = 7)
+    private String templateColor;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private DocumentStatus status;
+
+    @Column(nullable = false)
+    private Integer currentStage;
+
+    @Column(nullable = false)
+    private Integer totalStages;
+
+    @Column(nullable = false)
+    private Boolean actionRequired; // 현재 단계에서 이 사용자의 승인이 대기 중인지
+
+    @Column(nullable = false)
+    private LocalDateTime documentCreatedAt;
+
+    @Column
+    private LocalDateTime submittedAt;
+
+    @Column(name = "last_activity_at", nullable = false)
+    private LocalDateTime lastActivityAt;
+}
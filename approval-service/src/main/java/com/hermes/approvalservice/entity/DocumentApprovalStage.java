@@ -2,6 +2,7 @@ package com.hermes.approvalservice.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -33,6 +34,11 @@ public class DocumentApprovalStage {
     @Column
     private LocalDateTime completedAt;
 
+    @Version
+    @Column(name = "version", nullable = false)
+    @ColumnDefault("0")
+    private Long version; // 낙관적 잠금 버전
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "document_id", nullable = false)
     private ApprovalDocument document;
@@ -1,11 +1,14 @@
 package com.hermes.approvalservice.entity;
 
+import com.hermes.approvalservice.converter.UserIdSetConverter;
 import com.hermes.approvalservice.enums.ApprovalStatus;
 import com.hermes.approvalservice.enums.TargetType;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDateTime;
+import java.util.Set;
 
 @Entity
 @Table(name = "document_approval_target")
@@ -33,6 +36,10 @@ public class DocumentApprovalTarget {
     @Column
     private Integer managerLevel;
 
+    @Convert(converter = UserIdSetConverter.class)
+    @Column(columnDefinition = "TEXT")
+    private Set<Long> resolvedUserIds; // 제출 시 확정된 실제 대상 사용자 (null이면 미확정)
+
     @Column(nullable = false)
     @Builder.Default
     private Boolean isReference = false;
@@ -48,6 +55,11 @@ public class DocumentApprovalTarget {
     @Column
     private LocalDateTime processedAt;
 
+    @Version
+    @Column(name = "version", nullable = false)
+    @ColumnDefault("0")
+    private Long version; // 낙관적 잠금 버전
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "document_id", nullable = false)
     private ApprovalDocument document;
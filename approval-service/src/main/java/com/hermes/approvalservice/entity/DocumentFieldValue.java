@@ -5,7 +5,9 @@ import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
-@Table(name = "document_field_value")
+@Table(name = "document_field_value",
+       uniqueConstraints = @UniqueConstraint(name = "uk_document_field_value_document_field",
+               columnNames = {"document_id", "template_field_id"}))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -17,6 +19,9 @@ public class DocumentFieldValue {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    @Column
+    private Long templateFieldId; // 값이 속한 템플릿 필드 (일괄 UPSERT 키, 이전에 저장된 값은 null)
+
     @Column(nullable = false, length = 100)
     private String fieldName;
 
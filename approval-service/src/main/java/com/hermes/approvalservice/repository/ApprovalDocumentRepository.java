@@ -2,6 +2,7 @@ package com.hermes.approvalservice.repository;
 
 import com.hermes.approvalservice.entity.ApprovalDocument;
 import com.hermes.approvalservice.enums.DocumentStatus;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -11,6 +12,7 @@ import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface ApprovalDocumentRepository extends JpaRepository<ApprovalDocument, Long> {
@@ -21,6 +23,33 @@ public interface ApprovalDocumentRepository extends JpaRepository<ApprovalDocume
 
     List<ApprovalDocument> findByTemplateId(Long templateId);
 
+    List<ApprovalDocument> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    /**
+     * 문서 상세 조회 시작점 (문서 + 템플릿 + 분류)
+     * 나머지 컬렉션은 아래 fetch 쿼리로 같은 영속성 컨텍스트의 문서에 하나씩 채운다. (여러 List 동시 fetch join 불가)
+     */
+    @Query("SELECT d FROM ApprovalDocument d JOIN FETCH d.template t LEFT JOIN FETCH t.category WHERE d.id = :id")
+    Optional<ApprovalDocument> findDetailById(@Param("id") Long id);
+
+    @Query("SELECT d FROM ApprovalDocument d LEFT JOIN FETCH d.fieldValues WHERE d.id = :id")
+    Optional<ApprovalDocument> fetchFieldValues(@Param("id") Long id);
+
+    @Query("SELECT d FROM ApprovalDocument d LEFT JOIN FETCH d.approvalStages WHERE d.id = :id")
+    Optional<ApprovalDocument> fetchApprovalStages(@Param("id") Long id);
+
+    @Query("SELECT d FROM ApprovalDocument d LEFT JOIN FETCH d.referenceTargets WHERE d.id = :id")
+    Optional<ApprovalDocument> fetchReferenceTargets(@Param("id") Long id);
+
+    @Query("SELECT d FROM ApprovalDocument d LEFT JOIN FETCH d.attachments WHERE d.id = :id")
+    Optional<ApprovalDocument> fetchAttachments(@Param("id") Long id);
+
+    @Query("SELECT d FROM ApprovalDocument d LEFT JOIN FETCH d.activities WHERE d.id = :id")
+    Optional<ApprovalDocument> fetchActivities(@Param("id") Long id);
+
+    @Query("SELECT d FROM ApprovalDocument d LEFT JOIN FETCH d.comments WHERE d.id = :id")
+    Optional<ApprovalDocument> fetchComments(@Param("id") Long id);
+
     @Query("SELECT d FROM ApprovalDocument d WHERE " +
            "(d.authorId = :userId OR EXISTS (SELECT 1 FROM DocumentApprovalTarget t WHERE t.document = d AND t.userId = :userId)) " +
            "AND (:statuses IS NULL OR d.status IN :statuses) " +
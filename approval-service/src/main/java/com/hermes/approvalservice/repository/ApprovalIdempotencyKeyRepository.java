@@ -0,0 +1,20 @@
+package com.hermes.approvalservice.repository;
+
+import com.hermes.approvalservice.entity.ApprovalIdempotencyKey;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface ApprovalIdempotencyKeyRepository extends JpaRepository<ApprovalIdempotencyKey, Long> {
+
+    Optional<ApprovalIdempotencyKey> findByUserIdAndIdempotencyKey(Long userId, String idempotencyKey);
+
+    @Modifying
+    @Query("DELETE FROM ApprovalIdempotencyKey k WHERE k.documentId = :documentId")
+    void deleteByDocumentId(@Param("documentId") Long documentId);
+}
@@ -0,0 +1,66 @@
+package com.hermes.approvalservice.repository;
+
+import com.hermes.approvalservice.entity.ApprovalInboxEntry;
+import com.hermes.approvalservice.enums.DocumentStatus;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface ApprovalInboxRepository extends JpaRepository<ApprovalInboxEntry, Long> {
+
+    String INBOX_FILTER = "SELECT e FROM ApprovalInboxEntry e WHERE e.userId = :userId " +
+            "AND (:statuses IS NULL OR e.status IN :statuses) " +
+            "AND (:searchPattern IS NULL OR LOWER(e.templateTitle) LIKE :searchPattern " +
+            "    OR LOWER(e.authorName) LIKE :searchPattern) " +
+            "AND (CAST(:startDateTime AS java.time.LocalDateTime) IS NULL OR e.documentCreatedAt >= :startDateTime) " +
+            "AND (CAST(:endDateTime AS java.time.LocalDateTime) IS NULL OR e.documentCreatedAt <= :endDateTime) ";
+
+    String INBOX_ORDER = "ORDER BY e.lastActivityAt DESC, e.documentId DESC";
+
+    List<ApprovalInboxEntry> findByDocumentId(Long documentId);
+
+    /**
+     * 사용자 문서함 첫 페이지 (최근 활동순, (user_id, last_activity_at, document_id) 인덱스 순서로 탐색)
+     */
+    @Query(INBOX_FILTER + INBOX_ORDER)
+    List<ApprovalInboxEntry> findInboxPage(
+            @Param("userId") Long userId,
+            @Param("statuses") List<DocumentStatus> statuses,
+            @Param("searchPattern") String searchPattern,
+            @Param("startDateTime") LocalDateTime startDateTime,
+            @Param("endDateTime") LocalDateTime endDateTime,
+            Limit limit);
+
+    /**
+     * 이전 페이지 마지막 항목 이후의 문서함 페이지 (행 비교로 인덱스 위치에서 바로 이어서 탐색)
+     */
+    @Query(INBOX_FILTER + "AND (e.lastActivityAt, e.documentId) < (:cursorAt, :cursorDocumentId) " + INBOX_ORDER)
+    List<ApprovalInboxEntry> findInboxPageAfter(
+            @Param("userId") Long userId,
+            @Param("statuses") List<DocumentStatus> statuses,
+            @Param("searchPattern") String searchPattern,
+            @Param("startDateTime") LocalDateTime startDateTime,
+            @Param("endDateTime") LocalDateTime endDateTime,
+            @Param("cursorAt") LocalDateTime cursorAt,
+            @Param("cursorDocumentId") Long cursorDocumentId,
+            Limit limit);
+
+    @Modifying
+    @Query("DELETE FROM ApprovalInboxEntry e WHERE e.documentId = :documentId")
+    void deleteByDocumentId(@Param("documentId") Long documentId);
+
+    @Modifying
+    @Query("UPDATE ApprovalInboxEntry e SET e.templateTitle = :title, e.templateIcon = :icon, e.templateColor = :color " +
+           "WHERE e.templateId = :templateId")
+    int updateTemplateInfo(@Param("templateId") Long templateId,
+                           @Param("title") String title,
+                           @Param("icon") String icon,
+                           @Param("color") String color);
+}
@@ -1,6 +1,8 @@
 package com.hermes.approvalservice.repository;
 
 import com.hermes.approvalservice.entity.DocumentActivity;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -10,4 +12,6 @@ import java.util.List;
 public interface DocumentActivityRepository extends JpaRepository<DocumentActivity, Long> {
 
     List<DocumentActivity> findByDocumentIdOrderByCreatedAtAsc(Long documentId);
+
+    Page<DocumentActivity> findByDocumentIdOrderByCreatedAtAscIdAsc(Long documentId, Pageable pageable);
 }
\ No newline at end of file
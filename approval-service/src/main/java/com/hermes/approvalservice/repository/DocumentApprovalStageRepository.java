@@ -2,6 +2,8 @@ package com.hermes.approvalservice.repository;
 
 import com.hermes.approvalservice.entity.DocumentApprovalStage;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -12,4 +14,10 @@ public interface DocumentApprovalStageRepository extends JpaRepository<DocumentA
     List<DocumentApprovalStage> findByDocumentIdOrderByStageOrderAsc(Long documentId);
 
     void deleteByDocumentId(Long documentId);
+
+    /**
+     * 문서의 모든 단계 대상자를 한 번에 채움 (단계별 지연 로딩 대신)
+     */
+    @Query("SELECT s FROM DocumentApprovalStage s LEFT JOIN FETCH s.approvalTargets WHERE s.document.id = :documentId")
+    List<DocumentApprovalStage> fetchApprovalTargets(@Param("documentId") Long documentId);
 }
\ No newline at end of file
@@ -1,6 +1,8 @@
 package com.hermes.approvalservice.repository;
 
 import com.hermes.approvalservice.entity.DocumentComment;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -10,4 +12,6 @@ import java.util.List;
 public interface DocumentCommentRepository extends JpaRepository<DocumentComment, Long> {
 
     List<DocumentComment> findByDocumentIdOrderByCreatedAtAsc(Long documentId);
+
+    Page<DocumentComment> findByDocumentIdOrderByCreatedAtAscIdAsc(Long documentId, Pageable pageable);
 }
\ No newline at end of file
@@ -0,0 +1,86 @@
+package com.hermes.approvalservice.repository;
+
+import com.hermes.approvalservice.entity.DocumentFieldValue;
+import com.hermes.jpa.batch.SequenceIdAllocator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * 문서 필드 값 일괄 저장 Repository
+ * 문서의 필드 값 전체를 (문서, 템플릿 필드) 기준 배치 UPSERT로 반영하고 요청에 없는 값은 삭제한다.
+ * 필드 수와 무관하게 삭제 1회, ID 할당 2회, 배치 1회의 왕복으로 끝난다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class DocumentFieldValueBulkRepository {
+
+    // 값이 바뀐 필드만 갱신, 신규 행 ID는 엔티티와 같은 시퀀스에서 블록 단위로 할당 (충돌로 갱신된 행의 ID는 버려짐)
+    private static final String UPSERT_SQL = """
+            INSERT INTO document_field_value (id, document_id, template_field_id, field_name, field_type, field_value)
+            VALUES (?, ?, ?, ?, ?, ?)
+            ON CONFLICT (document_id, template_field_id) DO UPDATE
+               SET field_name = EXCLUDED.field_name,
+                   field_type = EXCLUDED.field_type,
+                   field_value = EXCLUDED.field_value
+             WHERE (document_field_value.field_name,
+                    document_field_value.field_type,
+                    document_field_value.field_value)
+                   IS DISTINCT FROM
+                   (EXCLUDED.field_name, EXCLUDED.field_type, EXCLUDED.field_value)
+            """;
+
+    private static final String ID_SEQUENCE = "document_field_value_id_seq";
+
+    // 템플릿 필드 ID가 없는 행은 이전 방식으로 저장된 값이므로 함께 정리
+    private static final String DELETE_STALE_SQL = """
+            DELETE FROM document_field_value
+             WHERE document_id = ?
+               AND (template_field_id IS NULL OR template_field_id <> ALL(?))
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 문서의 필드 값을 values로 교체 (values의 templateFieldId는 문서 안에서 중복되지 않아야 함)
+     */
+    public void replaceAll(Long documentId, List<DocumentFieldValue> values) {
+        Long[] fieldIds = values.stream()
+                .map(DocumentFieldValue::getTemplateFieldId)
+                .toArray(Long[]::new);
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(DELETE_STALE_SQL);
+            ps.setLong(1, documentId);
+            ps.setArray(2, connection.createArrayOf("bigint", fieldIds));
+            return ps;
+        });
+
+        if (values.isEmpty()) {
+            return;
+        }
+
+        long[] ids = SequenceIdAllocator.allocate(jdbcTemplate, ID_SEQUENCE, values.size());
+        jdbcTemplate.batchUpdate(UPSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                DocumentFieldValue value = values.get(i);
+                ps.setLong(1, ids[i]);
+                ps.setLong(2, documentId);
+                ps.setLong(3, value.getTemplateFieldId());
+                ps.setString(4, value.getFieldName());
+                ps.setString(5, value.getFieldType().name());
+                ps.setString(6, value.getFieldValue());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return values.size();
+            }
+        });
+    }
+}
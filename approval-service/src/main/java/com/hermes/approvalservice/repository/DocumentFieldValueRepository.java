@@ -11,5 +11,7 @@ public interface DocumentFieldValueRepository extends JpaRepository<DocumentFiel
 
     List<DocumentFieldValue> findByDocumentId(Long documentId);
 
+    List<DocumentFieldValue> findByDocumentIdOrderByIdAsc(Long documentId);
+
     void deleteByDocumentId(Long documentId);
 }
\ No newline at end of file
@@ -3,9 +3,11 @@ package com.hermes.approvalservice.repository;
 import com.hermes.approvalservice.entity.DocumentTemplate;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface DocumentTemplateRepository extends JpaRepository<DocumentTemplate, Long> {
@@ -18,4 +20,22 @@ public interface DocumentTemplateRepository extends JpaRepository<DocumentTempla
 
     @Query("SELECT t FROM DocumentTemplate t LEFT JOIN FETCH t.category WHERE t.isHidden = false ORDER BY t.category.sortOrder ASC, t.createdAt ASC")
     List<DocumentTemplate> findVisibleTemplatesWithCategory();
+
+    /**
+     * 템플릿 상세 조회 시작점 (템플릿 + 분류), 컬렉션은 아래 fetch 쿼리로 하나씩 채운다
+     */
+    @Query("SELECT t FROM DocumentTemplate t LEFT JOIN FETCH t.category WHERE t.id = :id")
+    Optional<DocumentTemplate> findDetailById(@Param("id") Long id);
+
+    @Query("SELECT t FROM DocumentTemplate t LEFT JOIN FETCH t.fields WHERE t.id = :id")
+    Optional<DocumentTemplate> fetchFields(@Param("id") Long id);
+
+    @Query("SELECT t FROM DocumentTemplate t LEFT JOIN FETCH t.referenceFiles WHERE t.id = :id")
+    Optional<DocumentTemplate> fetchReferenceFiles(@Param("id") Long id);
+
+    @Query("SELECT t FROM DocumentTemplate t LEFT JOIN FETCH t.approvalStages WHERE t.id = :id")
+    Optional<DocumentTemplate> fetchApprovalStages(@Param("id") Long id);
+
+    @Query("SELECT t FROM DocumentTemplate t LEFT JOIN FETCH t.referenceTargets WHERE t.id = :id")
+    Optional<DocumentTemplate> fetchReferenceTargets(@Param("id") Long id);
 }
\ No newline at end of file
@@ -2,6 +2,8 @@ package com.hermes.approvalservice.repository;
 
 import com.hermes.approvalservice.entity.TemplateApprovalStage;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -12,4 +14,10 @@ public interface TemplateApprovalStageRepository extends JpaRepository<TemplateA
     List<TemplateApprovalStage> findByTemplateIdOrderByStageOrderAsc(Long templateId);
 
     void deleteByTemplateId(Long templateId);
+
+    /**
+     * 템플릿의 모든 단계 대상자를 한 번에 채움 (단계별 지연 로딩 대신)
+     */
+    @Query("SELECT s FROM TemplateApprovalStage s LEFT JOIN FETCH s.approvalTargets WHERE s.template.id = :templateId")
+    List<TemplateApprovalStage> fetchApprovalTargets(@Param("templateId") Long templateId);
 }
\ No newline at end of file
@@ -0,0 +1,74 @@
+package com.hermes.approvalservice.service;
+
+import com.hermes.approvalservice.entity.ApprovalDocument;
+import com.hermes.approvalservice.entity.DocumentTemplate;
+import com.hermes.approvalservice.repository.ApprovalDocumentRepository;
+import com.hermes.approvalservice.repository.DocumentApprovalStageRepository;
+import com.hermes.approvalservice.repository.DocumentTemplateRepository;
+import com.hermes.approvalservice.repository.TemplateApprovalStageRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * 문서/템플릿 상세 애그리거트 적재
+ * <p>
+ * 컬렉션마다 fetch join 쿼리 하나로 같은 영속성 컨텍스트의 엔티티를 채우므로, 단계와 대상자 수와 무관하게
+ * 쿼리 수가 고정된다. (문서 6 + 템플릿 5, 이력 포함 시 + 2)
+ * 적재한 엔티티를 쓰는 동안 영속성 컨텍스트가 유지되도록 호출자의 트랜잭션 안에서 호출해야 한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ApprovalDocumentDetailLoader {
+
+    /** 템플릿 컬렉션 적재 쿼리 수 */
+    public static final int TEMPLATE_QUERIES = 5;
+
+    /** 이력(활동, 댓글) 제외 문서 상세 적재 쿼리 수 */
+    public static final int DOCUMENT_QUERIES = 6 + TEMPLATE_QUERIES;
+
+    /** 이력 포함 시 추가 쿼리 수 */
+    public static final int HISTORY_QUERIES = 2;
+
+    private final ApprovalDocumentRepository documentRepository;
+    private final DocumentApprovalStageRepository documentStageRepository;
+    private final DocumentTemplateRepository templateRepository;
+    private final TemplateApprovalStageRepository templateStageRepository;
+
+    public Optional<ApprovalDocument> loadDocument(Long id, boolean includeHistory) {
+        Optional<ApprovalDocument> document = documentRepository.findDetailById(id);
+        if (document.isEmpty()) {
+            return document;
+        }
+
+        documentRepository.fetchFieldValues(id);
+        documentRepository.fetchApprovalStages(id);
+        documentStageRepository.fetchApprovalTargets(id);
+        documentRepository.fetchReferenceTargets(id);
+        documentRepository.fetchAttachments(id);
+        if (includeHistory) {
+            documentRepository.fetchActivities(id);
+            documentRepository.fetchComments(id);
+        }
+        fetchTemplateCollections(document.get().getTemplate().getId());
+        return document;
+    }
+
+    public Optional<DocumentTemplate> loadTemplate(Long id) {
+        Optional<DocumentTemplate> template = templateRepository.findDetailById(id);
+        template.ifPresent(found -> fetchTemplateCollections(found.getId()));
+        return template;
+    }
+
+    /**
+     * 템플릿은 문서 조회 시 분류와 함께 이미 읽었으므로 컬렉션만 채운다
+     */
+    private void fetchTemplateCollections(Long templateId) {
+        templateRepository.fetchFields(templateId);
+        templateRepository.fetchReferenceFiles(templateId);
+        templateRepository.fetchApprovalStages(templateId);
+        templateStageRepository.fetchApprovalTargets(templateId);
+        templateRepository.fetchReferenceTargets(templateId);
+    }
+}
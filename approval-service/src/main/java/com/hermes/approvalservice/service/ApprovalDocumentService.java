@@ -1,12 +1,11 @@
 package com.hermes.approvalservice.service;
 
-import com.hermes.api.common.ApiResult;
 import com.hermes.approvalservice.dto.request.*;
 import com.hermes.approvalservice.enums.DocumentRole;
 import com.hermes.attachment.entity.AttachmentInfo;
 import com.hermes.attachment.service.AttachmentClientService;
+import com.hermes.approvalservice.client.UserProfileCollector;
 import com.hermes.approvalservice.client.UserServiceClient;
-import com.hermes.approvalservice.client.dto.UserProfile;
 import com.hermes.approvalservice.converter.ResponseConverter;
 import com.hermes.approvalservice.dto.response.*;
 import com.hermes.approvalservice.entity.*;
@@ -20,15 +19,21 @@ import com.hermes.approvalservice.repository.*;
 import com.hermes.auth.principal.UserPrincipal;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Hibernate;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 @Slf4j
 @Service
@@ -36,13 +41,24 @@ import java.util.List;
 @Transactional(readOnly = true)
 public class ApprovalDocumentService {
 
+    private static final int MAX_SECTION_PAGE_SIZE = 100;
+
     private final ApprovalDocumentRepository documentRepository;
+    private final ApprovalDocumentDetailLoader detailLoader;
+    private final DocumentActivityRepository activityRepository;
+    private final DocumentCommentRepository commentRepository;
     private final DocumentTemplateRepository templateRepository;
-    private final TemplateFieldRepository templateFieldRepository;
+    private final DocumentFieldValueRepository fieldValueRepository;
+    private final DocumentFieldValueBulkRepository fieldValueBulkRepository;
+    private final CompiledTemplateCache compiledTemplateCache;
     private final DocumentPermissionService permissionService;
+    private final ApprovalTargetResolver targetResolver;
     private final DocumentActivityService activityService;
+    private final ApprovalInboxService inboxService;
+    private final ApprovalIdempotencyKeyRepository idempotencyKeyRepository;
     private final AttachmentClientService attachmentService;
     private final UserServiceClient userServiceClient;
+    private final UserProfileCollector userProfileCollector;
     private final ResponseConverter responseConverter;
 
 
@@ -64,21 +80,51 @@ public class ApprovalDocumentService {
             }
         }
         
-        return documentRepository.findDocumentsForUserWithFilters(userId, statuses, search, 
-                                                                 authorIds, startDateTime, endDateTime, pageable)
-                .map(document -> convertToSummaryResponse(document, user));
+        Page<ApprovalDocument> documents = documentRepository.findDocumentsForUserWithFilters(userId, statuses, search, 
+                                                                 authorIds, startDateTime, endDateTime, pageable);
+        
+        // 페이지 내 작성자 프로필을 한 번에 조회
+        userProfileCollector.prefetch(documents.getContent().stream()
+                .map(ApprovalDocument::getAuthorId)
+                .toList());
+        
+        return documents.map(document -> convertToSummaryResponse(document, user));
     }
 
 
-    public DocumentResponse getDocumentById(Long id, UserPrincipal user) {
-        ApprovalDocument document = documentRepository.findById(id)
+    /**
+     * 문서 상세 조회 (문서 애그리거트를 고정된 수의 쿼리로 적재)
+     * includeHistory가 false면 활동/댓글을 비워 두고, 클라이언트는 이력 구간 API로 페이지 단위 조회한다.
+     */
+    public DocumentResponse getDocumentById(Long id, UserPrincipal user, boolean includeHistory) {
+        ApprovalDocument document = detailLoader.loadDocument(id, includeHistory)
                 .orElseThrow(() -> new NotFoundException("문서를 찾을 수 없습니다."));
 
         if (!permissionService.canViewDocument(document, user)) {
             throw new UnauthorizedException("문서 조회 권한이 없습니다.");
         }
 
-        return convertToResponse(document, user);
+        return convertToResponse(document, user, includeHistory);
+    }
+
+    public Page<DocumentActivityResponse> getDocumentActivities(Long id, UserPrincipal user, Pageable pageable) {
+        checkViewPermission(id, user);
+        Page<DocumentActivity> activities = activityRepository.findByDocumentIdOrderByCreatedAtAscIdAsc(id, sectionPage(pageable));
+
+        userProfileCollector.prefetch(activities.getContent().stream()
+                .map(DocumentActivity::getUserId)
+                .toList());
+        return activities.map(responseConverter::convertToDocumentActivityResponse);
+    }
+
+    public Page<DocumentCommentResponse> getDocumentComments(Long id, UserPrincipal user, Pageable pageable) {
+        checkViewPermission(id, user);
+        Page<DocumentComment> comments = commentRepository.findByDocumentIdOrderByCreatedAtAscIdAsc(id, sectionPage(pageable));
+
+        userProfileCollector.prefetch(comments.getContent().stream()
+                .map(DocumentComment::getAuthorId)
+                .toList());
+        return comments.map(responseConverter::convertToDocumentCommentResponse);
     }
 
     @Transactional
@@ -112,6 +158,7 @@ public class ApprovalDocumentService {
 
         // 즉시 제출 옵션 처리
         if (request.isSubmitImmediately()) {
+            targetResolver.resolve(savedDocument);
             savedDocument.setStatus(DocumentStatus.IN_PROGRESS);
             savedDocument.setSubmittedAt(LocalDateTime.now());
             savedDocument.setCurrentStage(1);
@@ -119,6 +166,8 @@ public class ApprovalDocumentService {
             activityService.recordActivity(savedDocument, user.getId(), ActivityType.SUBMIT, "결재를 요청했습니다.");
         }
 
+        inboxService.refresh(savedDocument);
+
         return convertToResponse(savedDocument, user);
     }
 
@@ -149,7 +198,6 @@ public class ApprovalDocumentService {
 
         // Update related entities using helper methods
         if (request.getFieldValues() != null) {
-            document.getFieldValues().clear();
             saveFieldValues(document, request.getFieldValues());
         }
         
@@ -164,6 +212,7 @@ public class ApprovalDocumentService {
         }
 
         activityService.recordActivity(document, user.getId(), ActivityType.UPDATE, "문서를 수정했습니다.");
+        inboxService.refresh(document);
 
         return convertToResponse(document, user);
     }
@@ -181,11 +230,14 @@ public class ApprovalDocumentService {
             throw new BusinessException("임시저장 상태의 문서만 제출할 수 있습니다.");
         }
 
+        // 조직/조직장 대상을 제출 시점의 조직도로 확정
+        targetResolver.resolve(document);
         document.setStatus(DocumentStatus.IN_PROGRESS);
         document.setSubmittedAt(LocalDateTime.now());
         document.setCurrentStage(1);
 
         activityService.recordActivity(document, userId, ActivityType.SUBMIT, "결재를 요청했습니다.");
+        inboxService.refresh(document);
     }
 
     @Transactional
@@ -198,6 +250,8 @@ public class ApprovalDocumentService {
         }
 
         activityService.recordActivity(document, user.getId(), ActivityType.DELETE, "문서를 삭제했습니다.");
+        inboxService.remove(document.getId());
+        idempotencyKeyRepository.deleteByDocumentId(document.getId());
         documentRepository.delete(document);
     }
 
@@ -211,7 +265,31 @@ public class ApprovalDocumentService {
         return response;
     }
 
+    private void checkViewPermission(Long id, UserPrincipal user) {
+        ApprovalDocument document = documentRepository.findById(id)
+                .orElseThrow(() -> new NotFoundException("문서를 찾을 수 없습니다."));
+
+        if (!permissionService.canViewDocument(document, user)) {
+            throw new UnauthorizedException("문서 조회 권한이 없습니다.");
+        }
+    }
+
+    /**
+     * 이력 구간 페이지: 정렬은 작성순으로 고정하고 크기는 1~100으로 제한
+     */
+    private Pageable sectionPage(Pageable pageable) {
+        int size = Math.min(Math.max(pageable.getPageSize(), 1), MAX_SECTION_PAGE_SIZE);
+        return PageRequest.of(pageable.getPageNumber(), size);
+    }
+
     private DocumentResponse convertToResponse(ApprovalDocument document, UserPrincipal user) {
+        return convertToResponse(document, user, true);
+    }
+
+    private DocumentResponse convertToResponse(ApprovalDocument document, UserPrincipal user, boolean includeHistory) {
+        // 응답에 필요한 사용자 프로필을 한 번에 조회
+        responseConverter.prefetchUserProfiles(document, includeHistory);
+        
         DocumentResponse response = new DocumentResponse();
         setCommonFields(response, document, user);
         
@@ -233,15 +311,17 @@ public class ApprovalDocumentService {
                 .map(responseConverter::convertToApprovalTargetResponse)
                 .toList());
         
-        // Activities 변환
-        response.setActivities(document.getActivities().stream()
-                .map(responseConverter::convertToDocumentActivityResponse)
-                .toList());
-        
-        // Comments 변환
-        response.setComments(document.getComments().stream()
-                .map(responseConverter::convertToDocumentCommentResponse)
-                .toList());
+        if (includeHistory) {
+            // Activities 변환
+            response.setActivities(document.getActivities().stream()
+                    .map(responseConverter::convertToDocumentActivityResponse)
+                    .toList());
+
+            // Comments 변환
+            response.setComments(document.getComments().stream()
+                    .map(responseConverter::convertToDocumentCommentResponse)
+                    .toList());
+        }
         
         // 첨부파일 정보 변환
         response.setAttachments(attachmentService.convertToResponseList(document.getAttachments()));
@@ -255,8 +335,7 @@ public class ApprovalDocumentService {
         response.setStatus(document.getStatus());
         response.setCurrentStage(document.getCurrentStage());
         
-        ApiResult<UserProfile> authorResult = userServiceClient.getUserProfile(document.getAuthorId());
-        response.setAuthor(authorResult.getData());
+        response.setAuthor(userProfileCollector.get(document.getAuthorId()));
         
         if (user != null) {
             DocumentRole myRole = permissionService.getMyRole(user, document);
@@ -273,21 +352,50 @@ public class ApprovalDocumentService {
         response.setApprovedAt(document.getApprovedAt());
     }
 
+    /**
+     * 컴파일된 템플릿으로 필드를 확인/검증하고 문서의 필드 값 전체를 한 번의 배치 UPSERT로 교체
+     * 배치 UPSERT는 영속성 컨텍스트를 거치지 않으므로 이후 문서의 fieldValues 컬렉션을 기록한 행과 맞춘다.
+     */
     private void saveFieldValues(ApprovalDocument document, List<DocumentFieldValueRequest> fieldValues) {
-        if (fieldValues != null) {
-            for (DocumentFieldValueRequest fieldValueRequest : fieldValues) {
-                TemplateField templateField = templateFieldRepository.findById(fieldValueRequest.getTemplateFieldId())
-                        .orElseThrow(() -> new NotFoundException("템플릿 필드를 찾을 수 없습니다."));
-                
-                DocumentFieldValue fieldValue = DocumentFieldValue.builder()
-                        .fieldName(templateField.getName())
-                        .fieldType(templateField.getFieldType())
-                        .fieldValue(fieldValueRequest.getFieldValue())
-                        .document(document)
-                        .build();
-                document.getFieldValues().add(fieldValue);
+        if (fieldValues == null) {
+            return;
+        }
+
+        CompiledTemplate template = compiledTemplateCache.get(document.getTemplate().getId());
+        Set<Long> fieldIds = new HashSet<>();
+        List<DocumentFieldValue> values = new ArrayList<>(fieldValues.size());
+        for (DocumentFieldValueRequest fieldValueRequest : fieldValues) {
+            CompiledTemplate.CompiledField field = template.field(fieldValueRequest.getTemplateFieldId());
+            if (!fieldIds.add(field.id())) {
+                throw new BusinessException("'" + field.name() + "' 항목의 값이 중복되었습니다.");
             }
+            field.validate(fieldValueRequest.getFieldValue());
+
+            values.add(DocumentFieldValue.builder()
+                    .templateFieldId(field.id())
+                    .fieldName(field.name())
+                    .fieldType(field.fieldType())
+                    .fieldValue(fieldValueRequest.getFieldValue())
+                    .document(document)
+                    .build());
+        }
+        fieldValueBulkRepository.replaceAll(document.getId(), values);
+        syncFieldValues(document);
+    }
+
+    /**
+     * 일괄 저장 후 문서의 fieldValues 컬렉션을 저장된 행으로 맞춤
+     * 아직 적재되지 않은 컬렉션(수정)은 처음 접근할 때 저장된 행이 적재되고,
+     * 새 문서의 컬렉션은 빈 상태로 초기화되어 있으므로 방금 기록한 행을 다시 읽어 채운다.
+     */
+    private void syncFieldValues(ApprovalDocument document) {
+        List<DocumentFieldValue> loaded = document.getFieldValues();
+        if (!Hibernate.isInitialized(loaded)) {
+            return;
         }
+        // 적재된 이전 값 엔티티는 일괄 저장 전 상태이므로 다시 읽어도 갱신되지 않는다
+        Assert.state(loaded.isEmpty(), "필드 값 컬렉션이 이미 적재된 문서는 일괄 저장할 수 없습니다.");
+        loaded.addAll(fieldValueRepository.findByDocumentIdOrderByIdAsc(document.getId()));
     }
 
     private void saveApprovalStages(ApprovalDocument document, List<ApprovalStageRequest> approvalStages) {
@@ -0,0 +1,47 @@
+package com.hermes.approvalservice.service;
+
+import com.hermes.approvalservice.repository.ApprovalDocumentRepository;
+import com.hermes.approvalservice.repository.ApprovalInboxRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+/**
+ * 문서함(approval_inbox) 도입 이전에 생성된 문서를 위해 시작 시 문서함 행을 채움
+ * 문서함이 비어 있고 문서가 있을 때만 ID 순으로 묶음마다 별도 트랜잭션에서 채운다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ApprovalInboxInitializer {
+
+    private static final int PAGE_SIZE = 200;
+
+    private final ApprovalDocumentRepository documentRepository;
+    private final ApprovalInboxRepository inboxRepository;
+    private final ApprovalInboxService inboxService;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        if (inboxRepository.count() > 0 || documentRepository.count() == 0) {
+            return;
+        }
+
+        log.info("Backfilling approval inbox");
+        Long lastId = 0L;
+        int pages = 0;
+        try {
+            while ((lastId = inboxService.rebuildAfter(lastId, PAGE_SIZE)) != null) {
+                pages++;
+            }
+        } catch (DataIntegrityViolationException e) {
+            // 다른 인스턴스가 같은 문서를 먼저 채운 경우: 해당 인스턴스가 이어서 채운다
+            log.info("Approval inbox backfill taken over by another instance: pages={}", pages);
+            return;
+        }
+        log.info("Approval inbox backfilled: pages={}", pages);
+    }
+}
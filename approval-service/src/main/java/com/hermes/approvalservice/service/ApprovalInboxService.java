@@ -0,0 +1,289 @@
+package com.hermes.approvalservice.service;
+
+import com.hermes.api.common.ApiResult;
+import com.hermes.approvalservice.client.UserServiceClient;
+import com.hermes.approvalservice.client.dto.UserProfile;
+import com.hermes.approvalservice.dto.response.InboxItemResponse;
+import com.hermes.approvalservice.dto.response.InboxPageResponse;
+import com.hermes.approvalservice.entity.ApprovalDocument;
+import com.hermes.approvalservice.entity.ApprovalInboxEntry;
+import com.hermes.approvalservice.entity.DocumentApprovalStage;
+import com.hermes.approvalservice.entity.DocumentApprovalTarget;
+import com.hermes.approvalservice.entity.DocumentTemplate;
+import com.hermes.approvalservice.enums.ApprovalStatus;
+import com.hermes.approvalservice.enums.DocumentRole;
+import com.hermes.approvalservice.enums.DocumentStatus;
+import com.hermes.approvalservice.exception.BusinessException;
+import com.hermes.approvalservice.repository.ApprovalDocumentRepository;
+import com.hermes.approvalservice.repository.ApprovalInboxRepository;
+import com.hermes.auth.principal.UserPrincipal;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 사용자별 결재 문서함(approval_inbox) 읽기 모델 관리 및 조회
+ * <p>
+ * 문서 변경 시 작성자/승인 대상자/참조 대상자별 행을 같은 트랜잭션에서 다시 계산하고,
+ * 목록 조회는 사용자 + 최근 활동순 인덱스를 따라 keyset 페이지로 읽는다 (OFFSET, EXISTS 서브쿼리, Feign 호출 없음).
+ * 작성자 이름은 행을 만들 때 한 번만 조회하므로 이후 이름 변경은 문서가 다시 갱신될 때 반영된다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ApprovalInboxService {
+
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final String CURSOR_SEPARATOR = "|";
+
+    private final ApprovalInboxRepository inboxRepository;
+    private final ApprovalDocumentRepository documentRepository;
+    private final UserServiceClient userServiceClient;
+    private final DocumentPermissionService permissionService;
+
+    public InboxPageResponse getInbox(UserPrincipal user, List<DocumentStatus> statuses, String search,
+                                      LocalDate startDate, LocalDate endDate, String cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        LocalDateTime startDateTime = startDate != null ? startDate.atStartOfDay() : null;
+        LocalDateTime endDateTime = endDate != null ? endDate.atTime(23, 59, 59) : null;
+        List<DocumentStatus> statusFilter = statuses == null || statuses.isEmpty() ? null : statuses;
+        String searchPattern = search != null && !search.trim().isEmpty()
+                ? "%" + search.trim().toLowerCase(Locale.ROOT) + "%"
+                : null;
+        Limit limit = Limit.of(pageSize + 1);
+
+        List<ApprovalInboxEntry> entries;
+        if (cursor == null || cursor.isBlank()) {
+            entries = inboxRepository.findInboxPage(user.getId(), statusFilter, searchPattern,
+                    startDateTime, endDateTime, limit);
+        } else {
+            Cursor position = decodeCursor(cursor);
+            entries = inboxRepository.findInboxPageAfter(user.getId(), statusFilter, searchPattern,
+                    startDateTime, endDateTime, position.lastActivityAt(), position.documentId(), limit);
+        }
+
+        boolean hasNext = entries.size() > pageSize;
+        List<ApprovalInboxEntry> page = hasNext ? entries.subList(0, pageSize) : entries;
+        String nextCursor = hasNext ? encodeCursor(page.get(page.size() - 1)) : null;
+
+        return new InboxPageResponse(page.stream().map(this::toResponse).toList(), nextCursor, hasNext);
+    }
+
+    /**
+     * 문서 변경 직후 호출하여 문서함 행을 다시 계산 (최근 활동 시각은 현재 시각)
+     */
+    @Transactional
+    public void refresh(ApprovalDocument document) {
+        rebuild(document, LocalDateTime.now(), Map.of());
+    }
+
+    /**
+     * afterId 다음 문서부터 size건의 문서함 행을 다시 계산 (기존 문서 채우기용, 최근 활동 시각은 문서 수정 시각)
+     * 작성자 이름은 묶음 단위로 한 번에 조회하며, 마지막으로 처리한 문서 ID를 반환한다 (더 없으면 null).
+     */
+    @Transactional
+    public Long rebuildAfter(Long afterId, int size) {
+        List<ApprovalDocument> documents = documentRepository.findByIdGreaterThanOrderByIdAsc(afterId, Limit.of(size));
+        if (documents.isEmpty()) {
+            return null;
+        }
+
+        Map<Long, String> authorNames = fetchUserNames(documents.stream()
+                .map(ApprovalDocument::getAuthorId)
+                .collect(Collectors.toSet()));
+        for (ApprovalDocument document : documents) {
+            rebuild(document, document.getUpdatedAt(), authorNames);
+        }
+        return documents.get(documents.size() - 1).getId();
+    }
+
+    @Transactional
+    public void remove(Long documentId) {
+        inboxRepository.deleteByDocumentId(documentId);
+    }
+
+    /**
+     * 템플릿 제목/아이콘/색상 변경을 문서함 행에 반영
+     */
+    @Transactional
+    public void refreshTemplate(DocumentTemplate template) {
+        inboxRepository.updateTemplateInfo(template.getId(), template.getTitle(), template.getIcon(), template.getColor());
+    }
+
+    private void rebuild(ApprovalDocument document, LocalDateTime lastActivityAt, Map<Long, String> knownAuthorNames) {
+        Map<Long, DocumentRole> members = collectMembers(document);
+        Set<Long> actionRequiredUsers = collectActionRequiredUsers(document);
+
+        List<ApprovalInboxEntry> existing = inboxRepository.findByDocumentId(document.getId());
+        Map<Long, ApprovalInboxEntry> existingByUser = existing.stream()
+                .collect(Collectors.toMap(ApprovalInboxEntry::getUserId, Function.identity()));
+
+        List<ApprovalInboxEntry> removed = existing.stream()
+                .filter(entry -> !members.containsKey(entry.getUserId()))
+                .toList();
+        if (!removed.isEmpty()) {
+            inboxRepository.deleteAllInBatch(removed);
+        }
+
+        String authorName = existing.stream()
+                .map(ApprovalInboxEntry::getAuthorName)
+                .filter(Objects::nonNull)
+                .findFirst()
+                .orElseGet(() -> knownAuthorNames.containsKey(document.getAuthorId())
+                        ? knownAuthorNames.get(document.getAuthorId())
+                        : fetchUserName(document.getAuthorId()));
+
+        DocumentTemplate template = document.getTemplate();
+        List<ApprovalInboxEntry> entries = new ArrayList<>(members.size());
+        members.forEach((userId, role) -> {
+            ApprovalInboxEntry entry = existingByUser.getOrDefault(userId, new ApprovalInboxEntry());
+            entry.setUserId(userId);
+            entry.setDocumentId(document.getId());
+            entry.setRole(role);
+            entry.setAuthorId(document.getAuthorId());
+            entry.setAuthorName(authorName);
+            entry.setTemplateId(template.getId());
+            entry.setTemplateTitle(template.getTitle());
+            entry.setTemplateIcon(template.getIcon());
+            entry.setTemplateColor(template.getColor());
+            entry.setStatus(document.getStatus());
+            entry.setCurrentStage(document.getCurrentStage());
+            entry.setTotalStages(document.getApprovalStages().size());
+            entry.setActionRequired(actionRequiredUsers.contains(userId));
+            entry.setDocumentCreatedAt(document.getCreatedAt());
+            entry.setSubmittedAt(document.getSubmittedAt());
+            entry.setLastActivityAt(lastActivityAt);
+            entries.add(entry);
+        });
+        inboxRepository.saveAll(entries);
+    }
+
+    /**
+     * 문서함에 문서가 보여야 하는 사용자와 역할 (작성자 > 승인자 > 참조자 우선)
+     */
+    private Map<Long, DocumentRole> collectMembers(ApprovalDocument document) {
+        Map<Long, DocumentRole> members = new LinkedHashMap<>();
+        members.put(document.getAuthorId(), DocumentRole.AUTHOR);
+
+        for (DocumentApprovalStage stage : document.getApprovalStages()) {
+            for (DocumentApprovalTarget target : stage.getApprovalTargets()) {
+                addMember(members, target, Boolean.TRUE.equals(target.getIsReference()) ? DocumentRole.REFERENCE : DocumentRole.APPROVER);
+            }
+        }
+        // referenceTargets는 document 기준 매핑이라 다시 읽으면 단계 대상자도 포함되므로 단계 없는 대상만 본다
+        for (DocumentApprovalTarget target : document.getReferenceTargets()) {
+            if (target.getApprovalStage() == null) {
+                addMember(members, target, DocumentRole.REFERENCE);
+            }
+        }
+        return members;
+    }
+
+    private void addMember(Map<Long, DocumentRole> members, DocumentApprovalTarget target, DocumentRole role) {
+        for (Long userId : permissionService.targetUsersOf(target)) {
+            members.merge(userId, role, (current, added) -> current.ordinal() <= added.ordinal() ? current : added);
+        }
+    }
+
+    private Set<Long> collectActionRequiredUsers(ApprovalDocument document) {
+        Set<Long> users = new HashSet<>();
+        if (document.getStatus() != DocumentStatus.IN_PROGRESS) {
+            return users;
+        }
+        for (DocumentApprovalStage stage : document.getApprovalStages()) {
+            if (!stage.getStageOrder().equals(document.getCurrentStage())) {
+                continue;
+            }
+            for (DocumentApprovalTarget target : stage.getApprovalTargets()) {
+                if (!Boolean.TRUE.equals(target.getIsReference())
+                        && target.getApprovalStatus() == ApprovalStatus.PENDING) {
+                    users.addAll(permissionService.targetUsersOf(target));
+                }
+            }
+        }
+        return users;
+    }
+
+    private String fetchUserName(Long userId) {
+        try {
+            ApiResult<UserProfile> result = userServiceClient.getUserProfile(userId);
+            return result != null && result.getData() != null ? result.getData().getName() : null;
+        } catch (Exception e) {
+            log.warn("문서함 작성자 이름 조회 실패: userId={}, error={}", userId, e.getMessage());
+            return null;
+        }
+    }
+
+    private Map<Long, String> fetchUserNames(Set<Long> userIds) {
+        Map<Long, String> names = new HashMap<>();
+        if (userIds.isEmpty()) {
+            return names;
+        }
+        try {
+            ApiResult<List<UserProfile>> result = userServiceClient.getUserProfiles(userIds);
+            if (result != null && result.getData() != null) {
+                result.getData().forEach(profile -> names.put(profile.getId(), profile.getName()));
+            }
+        } catch (Exception e) {
+            log.warn("문서함 작성자 이름 일괄 조회 실패: count={}, error={}", userIds.size(), e.getMessage());
+        }
+        return names;
+    }
+
+    private InboxItemResponse toResponse(ApprovalInboxEntry entry) {
+        InboxItemResponse response = new InboxItemResponse();
+        response.setDocumentId(entry.getDocumentId());
+        response.setMyRole(entry.getRole());
+        response.setAuthorId(entry.getAuthorId());
+        response.setAuthorName(entry.getAuthorName());
+        response.setTemplateId(entry.getTemplateId());
+        response.setTemplateTitle(entry.getTemplateTitle());
+        response.setTemplateIcon(entry.getTemplateIcon());
+        response.setTemplateColor(entry.getTemplateColor());
+        response.setStatus(entry.getStatus());
+        response.setCurrentStage(entry.getCurrentStage());
+        response.setTotalStages(entry.getTotalStages());
+        response.setIsApprovalRequired(entry.getActionRequired());
+        response.setCreatedAt(entry.getDocumentCreatedAt());
+        response.setSubmittedAt(entry.getSubmittedAt());
+        response.setLastActivityAt(entry.getLastActivityAt());
+        return response;
+    }
+
+    private static String encodeCursor(ApprovalInboxEntry entry) {
+        String raw = entry.getLastActivityAt() + CURSOR_SEPARATOR + entry.getDocumentId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Cursor decodeCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(CURSOR_SEPARATOR);
+            return new Cursor(LocalDateTime.parse(raw.substring(0, separator)), Long.valueOf(raw.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new BusinessException("잘못된 페이지 커서입니다.");
+        }
+    }
+
+    private record Cursor(LocalDateTime lastActivityAt, Long documentId) {
+    }
+}
@@ -2,49 +2,101 @@ package com.hermes.approvalservice.service;
 
 import com.hermes.approvalservice.dto.request.ApprovalActionRequest;
 import com.hermes.approvalservice.entity.ApprovalDocument;
+import com.hermes.approvalservice.entity.ApprovalIdempotencyKey;
 import com.hermes.approvalservice.entity.DocumentApprovalStage;
 import com.hermes.approvalservice.entity.DocumentApprovalTarget;
 import com.hermes.approvalservice.enums.ActivityType;
 import com.hermes.approvalservice.enums.ApprovalStatus;
 import com.hermes.approvalservice.enums.DocumentStatus;
+import com.hermes.approvalservice.exception.BusinessException;
 import com.hermes.approvalservice.exception.NotFoundException;
 import com.hermes.approvalservice.exception.UnauthorizedException;
 import com.hermes.approvalservice.repository.ApprovalDocumentRepository;
+import com.hermes.approvalservice.repository.ApprovalIdempotencyKeyRepository;
 import com.hermes.auth.principal.UserPrincipal;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.function.Consumer;
 
 @Service
 @RequiredArgsConstructor
-@Transactional
 public class ApprovalProcessService {
 
+    private static final int MAX_IDEMPOTENCY_KEY_LENGTH = 100;
+
     private final ApprovalDocumentRepository documentRepository;
+    private final ApprovalIdempotencyKeyRepository idempotencyKeyRepository;
     private final DocumentPermissionService permissionService;
     private final DocumentActivityService activityService;
+    private final ApprovalInboxService inboxService;
+    private final ApprovalRetryPolicy retryPolicy;
+
+    /**
+     * 문서 승인 (같은 문서의 동시 처리와 충돌하면 최신 상태로 재시도)
+     * idempotencyKey가 있으면 같은 사용자가 같은 키로 다시 보낸 요청은 처리 없이 반환한다.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public void approveDocument(Long documentId, UserPrincipal user, ApprovalActionRequest request, String idempotencyKey) {
+        transition("approveDocument", documentId, user, ActivityType.APPROVE, idempotencyKey,
+                document -> approve(document, user, request));
+    }
 
-    public void approveDocument(Long documentId, UserPrincipal user, ApprovalActionRequest request) {
-        ApprovalDocument document = documentRepository.findById(documentId)
-                .orElseThrow(() -> new NotFoundException("문서를 찾을 수 없습니다."));
+    /**
+     * 문서 반려 (같은 문서의 동시 처리와 충돌하면 최신 상태로 재시도)
+     * idempotencyKey가 있으면 같은 사용자가 같은 키로 다시 보낸 요청은 처리 없이 반환한다.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public void rejectDocument(Long documentId, UserPrincipal user, ApprovalActionRequest request, String idempotencyKey) {
+        transition("rejectDocument", documentId, user, ActivityType.REJECT, idempotencyKey,
+                document -> reject(document, user, request));
+    }
+
+    private void transition(String operation, Long documentId, UserPrincipal user, ActivityType action,
+                            String idempotencyKey, Consumer<ApprovalDocument> change) {
+        String key = normalizeIdempotencyKey(idempotencyKey);
+        retryPolicy.execute(operation, () -> {
+            if (key != null && !claimIdempotencyKey(user.getId(), key, documentId, action)) {
+                return null;
+            }
+
+            ApprovalDocument document = documentRepository.findById(documentId)
+                    .orElseThrow(() -> new NotFoundException("문서를 찾을 수 없습니다."));
+            change.accept(document);
+
+            // 문서 버전 조건부 UPDATE(where version = ?)를 바로 실행해, 같은 문서를 먼저 처리한 요청이 있으면
+            // 문서함 갱신 전에 충돌로 끝내고 최신 상태로 재시도한다
+            document.setUpdatedAt(LocalDateTime.now());
+            documentRepository.flush();
+
+            inboxService.refresh(document);
+            return null;
+        });
+    }
 
+    private void approve(ApprovalDocument document, UserPrincipal user, ApprovalActionRequest request) {
         Long userId = user.getId();
 
+        if (document.getStatus() != DocumentStatus.IN_PROGRESS) {
+            throw new BusinessException("진행중인 문서만 승인할 수 있습니다.");
+        }
+
         if (!permissionService.canApproveDocument(document, document.getCurrentStage(), user)) {
             throw new UnauthorizedException("승인 권한이 없습니다.");
         }
 
         // 현재 단계의 승인 대상자 승인 처리
-        DocumentApprovalStage currentStage = document.getApprovalStages().stream()
-                .filter(stage -> stage.getStageOrder().equals(document.getCurrentStage()))
-                .findFirst()
-                .orElseThrow(() -> new NotFoundException("승인 단계를 찾을 수 없습니다."));
+        DocumentApprovalStage currentStage = findCurrentStage(document);
 
-        // 해당 사용자의 승인 처리
+        // 해당 사용자의 대기 중인 승인 처리
         currentStage.getApprovalTargets().stream()
-                .filter(target -> !target.getIsReference() && isTargetUser(target, userId))
+                .filter(target -> isPendingTargetOf(target, userId))
                 .forEach(target -> {
                     target.setApprovalStatus(ApprovalStatus.APPROVED);
                     target.setProcessedBy(userId);
@@ -77,25 +129,23 @@ public class ApprovalProcessService {
         }
     }
 
-    public void rejectDocument(Long documentId, UserPrincipal user, ApprovalActionRequest request) {
-        ApprovalDocument document = documentRepository.findById(documentId)
-                .orElseThrow(() -> new NotFoundException("문서를 찾을 수 없습니다."));
-
+    private void reject(ApprovalDocument document, UserPrincipal user, ApprovalActionRequest request) {
         Long userId = user.getId();
 
+        if (document.getStatus() != DocumentStatus.IN_PROGRESS) {
+            throw new BusinessException("진행중인 문서만 반려할 수 있습니다.");
+        }
+
         if (!permissionService.canApproveDocument(document, document.getCurrentStage(), user)) {
             throw new UnauthorizedException("반려 권한이 없습니다.");
         }
 
         // 현재 단계의 승인 대상자 반려 처리
-        DocumentApprovalStage currentStage = document.getApprovalStages().stream()
-                .filter(stage -> stage.getStageOrder().equals(document.getCurrentStage()))
-                .findFirst()
-                .orElseThrow(() -> new NotFoundException("승인 단계를 찾을 수 없습니다."));
+        DocumentApprovalStage currentStage = findCurrentStage(document);
 
-        // 해당 사용자의 반려 처리
+        // 해당 사용자의 대기 중인 승인 반려 처리
         currentStage.getApprovalTargets().stream()
-                .filter(target -> !target.getIsReference() && isTargetUser(target, userId))
+                .filter(target -> isPendingTargetOf(target, userId))
                 .forEach(target -> {
                     target.setApprovalStatus(ApprovalStatus.REJECTED);
                     target.setProcessedBy(userId);
@@ -106,12 +156,55 @@ public class ApprovalProcessService {
         activityService.recordActivity(document, userId, ActivityType.REJECT, "문서를 반려했습니다.", request.getReason());
     }
 
-    private boolean isTargetUser(DocumentApprovalTarget target, Long userId) {
-        if (target.getUserId() != null) {
-            return target.getUserId().equals(userId);
+    private DocumentApprovalStage findCurrentStage(ApprovalDocument document) {
+        return document.getApprovalStages().stream()
+                .filter(stage -> stage.getStageOrder().equals(document.getCurrentStage()))
+                .findFirst()
+                .orElseThrow(() -> new NotFoundException("승인 단계를 찾을 수 없습니다."));
+    }
+
+    private boolean isPendingTargetOf(DocumentApprovalTarget target, Long userId) {
+        return !target.getIsReference()
+                && target.getApprovalStatus() == ApprovalStatus.PENDING
+                && permissionService.isTargetUser(target, userId);
+    }
+
+    /**
+     * 멱등성 키 선점: 처리 결과와 같은 트랜잭션에 기록하므로 실패하면 함께 롤백되어 재요청이 다시 처리된다.
+     * 같은 키로 이미 처리된 요청이면 false를 반환한다.
+     */
+    private boolean claimIdempotencyKey(Long userId, String idempotencyKey, Long documentId, ActivityType action) {
+        Optional<ApprovalIdempotencyKey> existing = idempotencyKeyRepository.findByUserIdAndIdempotencyKey(userId, idempotencyKey);
+        if (existing.isPresent()) {
+            ApprovalIdempotencyKey claimed = existing.get();
+            if (!claimed.getDocumentId().equals(documentId) || claimed.getAction() != action) {
+                throw new BusinessException("다른 요청에 이미 사용된 멱등성 키입니다.");
+            }
+            return false;
+        }
+
+        try {
+            idempotencyKeyRepository.saveAndFlush(ApprovalIdempotencyKey.builder()
+                    .userId(userId)
+                    .idempotencyKey(idempotencyKey)
+                    .documentId(documentId)
+                    .action(action)
+                    .build());
+        } catch (DataIntegrityViolationException e) {
+            // 같은 키의 동시 요청이 먼저 선점: 새 트랜잭션에서 커밋된 결과를 다시 확인
+            throw new ConcurrencyFailureException("멱등성 키 선점 충돌: " + idempotencyKey, e);
+        }
+        return true;
+    }
+
+    private static String normalizeIdempotencyKey(String idempotencyKey) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return null;
+        }
+        String key = idempotencyKey.trim();
+        if (key.length() > MAX_IDEMPOTENCY_KEY_LENGTH) {
+            throw new BusinessException("멱등성 키는 " + MAX_IDEMPOTENCY_KEY_LENGTH + "자를 넘을 수 없습니다.");
         }
-        
-        // 조직 또는 n차 조직장 로직은 추후 구현
-        return false;
+        return key;
     }
 }
\ No newline at end of file
@@ -0,0 +1,22 @@
+package com.hermes.approvalservice.service;
+
+import com.hermes.jpa.retry.TransactionRetryTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * 결재 상태 전이 재시도 정책
+ * <p>
+ * 같은 문서를 동시에 승인/반려하면 문서 버전 조건부 UPDATE에서 한쪽만 커밋되므로,
+ * 충돌한 쪽(문서 버전 충돌, 멱등성 키 선점 충돌, 잠금 대기 실패)은 새 트랜잭션에서 최신 상태를 다시 읽어 처리한다.
+ */
+@Component
+public class ApprovalRetryPolicy extends TransactionRetryTemplate {
+
+    public ApprovalRetryPolicy(PlatformTransactionManager transactionManager,
+                               @Value("${approval.process.retry.max-attempts:3}") int maxAttempts,
+                               @Value("${approval.process.retry.backoff-millis:20}") long backoffMillis) {
+        super("결재 처리", transactionManager, maxAttempts, backoffMillis);
+    }
+}
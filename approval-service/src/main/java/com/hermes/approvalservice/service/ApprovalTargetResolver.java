@@ -0,0 +1,81 @@
+package com.hermes.approvalservice.service;
+
+import com.hermes.approvalservice.entity.ApprovalDocument;
+import com.hermes.approvalservice.entity.DocumentApprovalStage;
+import com.hermes.approvalservice.entity.DocumentApprovalTarget;
+import com.hermes.approvalservice.enums.TargetType;
+import com.hermes.approvalservice.exception.BusinessException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 결재 대상자 확정
+ * 제출 시점의 조직 그래프로 사용자/조직/n차 조직장 대상을 실제 사용자 집합으로 풀어 문서와 대상에 저장한다.
+ * 이후 권한 확인은 저장된 집합만 조회하므로 org-service를 다시 호출하지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ApprovalTargetResolver {
+
+    private final OrganizationDirectory organizationDirectory;
+
+    public void resolve(ApprovalDocument document) {
+        OrganizationGraph graph = null;
+        Set<Long> documentUsers = new HashSet<>();
+
+        for (DocumentApprovalStage stage : document.getApprovalStages()) {
+            for (DocumentApprovalTarget target : stage.getApprovalTargets()) {
+                graph = graphFor(target, graph);
+                Set<Long> users = resolveTarget(target, document.getAuthorId(), graph);
+                if (users.isEmpty() && !Boolean.TRUE.equals(target.getIsReference())) {
+                    throw new BusinessException(stage.getStageOrder() + "단계 결재 대상자를 찾을 수 없습니다.");
+                }
+                target.setResolvedUserIds(users);
+                documentUsers.addAll(users);
+            }
+        }
+        // referenceTargets는 document 기준 매핑이라 다시 읽으면 단계 대상자도 포함되므로 단계 없는 대상만 본다
+        for (DocumentApprovalTarget target : document.getReferenceTargets()) {
+            if (target.getApprovalStage() == null) {
+                graph = graphFor(target, graph);
+                Set<Long> users = resolveTarget(target, document.getAuthorId(), graph);
+                target.setResolvedUserIds(users);
+                documentUsers.addAll(users);
+            }
+        }
+
+        document.setTargetUserIds(Set.copyOf(documentUsers));
+    }
+
+    /**
+     * 사용자 지정 대상만 있으면 조직 그래프를 적재하지 않는다
+     */
+    private OrganizationGraph graphFor(DocumentApprovalTarget target, OrganizationGraph graph) {
+        if (graph != null || target.getTargetType() == TargetType.USER) {
+            return graph;
+        }
+        try {
+            return organizationDirectory.getGraph();
+        } catch (Exception e) {
+            log.error("조직 정보 조회 실패: error={}", e.getMessage(), e);
+            throw new BusinessException("조직 정보를 조회할 수 없어 결재 대상자를 확정할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        }
+    }
+
+    private Set<Long> resolveTarget(DocumentApprovalTarget target, Long authorId, OrganizationGraph graph) {
+        return switch (target.getTargetType()) {
+            case USER -> target.getUserId() != null ? Set.of(target.getUserId()) : Set.of();
+            case ORGANIZATION -> target.getOrganizationId() != null
+                    ? graph.membersOf(target.getOrganizationId())
+                    : Set.of();
+            case N_LEVEL_MANAGER -> target.getManagerLevel() != null
+                    ? graph.managersOf(authorId, target.getManagerLevel())
+                    : Set.of();
+        };
+    }
+}
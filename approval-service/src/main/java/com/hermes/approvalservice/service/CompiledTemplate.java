@@ -0,0 +1,159 @@
+package com.hermes.approvalservice.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hermes.approvalservice.entity.TemplateField;
+import com.hermes.approvalservice.enums.FieldType;
+import com.hermes.approvalservice.exception.BusinessException;
+import com.hermes.approvalservice.exception.NotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.util.StringUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.format.ResolverStyle;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * 문서 필드 값 저장용으로 컴파일한 템플릿 (불변)
+ * 필드를 ID로 색인하고 필드 타입/선택지별 검증기를 미리 만들어 두므로, 필드 값을 저장할 때 필드마다 조회하거나
+ * 선택지를 다시 해석하지 않는다. 테넌트 캐시(approval-template)에 템플릿 ID로 보관한다.
+ */
+@Slf4j
+public final class CompiledTemplate {
+
+    private static final ObjectMapper OPTIONS_MAPPER = new ObjectMapper();
+
+    /**
+     * DATE 필드가 받는 형식: ISO(2025-03-01)와 화면에서 흔히 쓰는 2025/03/01, 2025.03.01, 20250301
+     */
+    private static final List<DateTimeFormatter> DATE_FORMATS = List.of(
+            DateTimeFormatter.ISO_LOCAL_DATE,
+            DateTimeFormatter.ofPattern("uuuu/MM/dd").withResolverStyle(ResolverStyle.STRICT),
+            DateTimeFormatter.ofPattern("uuuu.MM.dd").withResolverStyle(ResolverStyle.STRICT),
+            DateTimeFormatter.BASIC_ISO_DATE);
+
+    private final Map<Long, CompiledField> fieldsById;
+
+    private CompiledTemplate(Map<Long, CompiledField> fieldsById) {
+        this.fieldsById = fieldsById;
+    }
+
+    public static CompiledTemplate of(List<TemplateField> fields) {
+        Map<Long, CompiledField> fieldsById = new HashMap<>();
+        for (TemplateField field : fields) {
+            fieldsById.put(field.getId(), new CompiledField(field.getId(), field.getName(), field.getFieldType(),
+                    Boolean.TRUE.equals(field.getRequired()), validatorOf(field.getFieldType(), field.getOptions())));
+        }
+        return new CompiledTemplate(Map.copyOf(fieldsById));
+    }
+
+    /**
+     * 이 템플릿에 속한 필드 (다른 템플릿의 필드나 템플릿 수정으로 사라진 필드면 예외)
+     */
+    public CompiledField field(Long fieldId) {
+        CompiledField field = fieldId != null ? fieldsById.get(fieldId) : null;
+        if (field == null) {
+            throw new NotFoundException("템플릿 필드를 찾을 수 없습니다.");
+        }
+        return field;
+    }
+
+    public record CompiledField(Long id, String name, FieldType fieldType, boolean required,
+                                Predicate<String> validator) {
+
+        /**
+         * 값 형식 검증 (임시저장을 위해 빈 값은 허용)
+         */
+        public void validate(String value) {
+            if (StringUtils.hasText(value) && !validator.test(value.trim())) {
+                throw new BusinessException("'" + name + "' 항목의 값이 올바르지 않습니다.");
+            }
+        }
+    }
+
+    static Predicate<String> validatorOf(FieldType fieldType, String options) {
+        return switch (fieldType) {
+            case TEXT -> value -> true;
+            case NUMBER, MONEY -> CompiledTemplate::isNumber;
+            case DATE -> CompiledTemplate::isDate;
+            case SELECT -> {
+                Set<String> choices = choicesOf(fieldType, options);
+                yield choices == null ? value -> false : choices.isEmpty() ? value -> true : choices::contains;
+            }
+            case MULTISELECT -> {
+                Set<String> choices = choicesOf(fieldType, options);
+                yield choices == null ? value -> false : choices.isEmpty() ? value -> true : value -> {
+                    Set<String> selected = parseChoices(value);
+                    return selected != null && choices.containsAll(selected);
+                };
+            }
+        };
+    }
+
+    /**
+     * 선택지를 해석할 수 없는 필드는 어떤 값도 통과시키지 않도록 null을 돌려주고 경고를 남긴다
+     */
+    private static Set<String> choicesOf(FieldType fieldType, String options) {
+        Set<String> choices = parseChoices(options);
+        if (choices == null) {
+            log.warn("템플릿 필드 선택지 형식 오류로 {} 값을 모두 거부합니다: options={}", fieldType, options);
+        }
+        return choices;
+    }
+
+    private static boolean isNumber(String value) {
+        try {
+            new BigDecimal(value.replace(",", ""));
+            return true;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private static boolean isDate(String value) {
+        for (DateTimeFormatter format : DATE_FORMATS) {
+            try {
+                LocalDate.parse(value, format);
+                return true;
+            } catch (DateTimeParseException e) {
+                // 다음 형식 시도
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 선택지 해석: JSON 문자열 배열 또는 쉼표 구분 목록
+     * 선택지가 없으면 빈 집합, '['로 시작하지만 문자열 배열로 읽을 수 없으면 null
+     */
+    static Set<String> parseChoices(String options) {
+        if (!StringUtils.hasText(options)) {
+            return Set.of();
+        }
+        String trimmed = options.trim();
+        if (trimmed.startsWith("[")) {
+            try {
+                List<String> choices = OPTIONS_MAPPER.readValue(trimmed, new TypeReference<List<String>>() {});
+                return choices.stream()
+                        .filter(StringUtils::hasText)
+                        .map(String::trim)
+                        .collect(Collectors.toUnmodifiableSet());
+            } catch (Exception e) {
+                return null;
+            }
+        }
+        return Arrays.stream(trimmed.split(","))
+                .map(String::trim)
+                .filter(StringUtils::hasText)
+                .collect(Collectors.toUnmodifiableSet());
+    }
+}
@@ -0,0 +1,30 @@
+package com.hermes.approvalservice.service;
+
+import com.hermes.approvalservice.repository.TemplateFieldRepository;
+import com.hermes.cache.TenantCacheManager;
+import com.hermes.cache.invalidation.CacheInvalidationPublisher;
+import com.hermes.events.cache.CacheNames;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * 컴파일된 템플릿 로컬 캐시
+ * 템플릿별 필드 정의를 한 번에 읽어 컴파일해 두고, 템플릿이 수정/삭제되면 커밋 후 무효화 이벤트로 모든 인스턴스에서 비운다.
+ */
+@Service
+@RequiredArgsConstructor
+public class CompiledTemplateCache {
+
+    private final TemplateFieldRepository templateFieldRepository;
+    private final TenantCacheManager tenantCacheManager;
+    private final CacheInvalidationPublisher cacheInvalidationPublisher;
+
+    public CompiledTemplate get(Long templateId) {
+        return tenantCacheManager.<Long, CompiledTemplate>getCache(CacheNames.APPROVAL_TEMPLATE)
+                .get(templateId, () -> CompiledTemplate.of(templateFieldRepository.findByTemplateIdOrderByFieldOrderAsc(templateId)));
+    }
+
+    public void invalidate(Long templateId) {
+        cacheInvalidationPublisher.invalidate(CacheNames.APPROVAL_TEMPLATE, templateId);
+    }
+}
@@ -10,6 +10,8 @@ import com.hermes.auth.principal.UserPrincipal;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.Set;
+
 @Service
 @RequiredArgsConstructor
 public class DocumentPermissionService {
@@ -26,6 +28,11 @@ public class DocumentPermissionService {
             return true;
         }
 
+        // 제출 시 확정된 대상자 집합이 있으면 집합 조회로 판단
+        if (document.getTargetUserIds() != null) {
+            return document.getTargetUserIds().contains(userId);
+        }
+
         // 승인 대상자 또는 참조 대상자인 경우 조회 가능
         return document.getApprovalStages().stream()
         .flatMap(stage -> stage.getApprovalTargets().stream())
@@ -121,14 +128,21 @@ public class DocumentPermissionService {
         return approvalInfo;
     }
 
-    private boolean isTargetUser(DocumentApprovalTarget target, Long userId) {
+    public boolean isTargetUser(DocumentApprovalTarget target, Long userId) {
+        return targetUsersOf(target).contains(userId);
+    }
+
+    /**
+     * 대상의 실제 사용자 집합
+     * 제출 시 확정된 집합을 사용하고, 확정 전(임시저장 문서, 도입 이전 문서)에는 지정된 사용자만 인정한다.
+     */
+    public Set<Long> targetUsersOf(DocumentApprovalTarget target) {
+        if (target.getResolvedUserIds() != null) {
+            return target.getResolvedUserIds();
+        }
         if (target.getUserId() != null) {
-            return target.getUserId().equals(userId);
+            return Set.of(target.getUserId());
         }
-        
-        // 조직 또는 n차 조직장 로직은 추후 구현
-        // OrganizationService와 연동 필요
-        
-        return false;
+        return Set.of();
     }
 }
\ No newline at end of file
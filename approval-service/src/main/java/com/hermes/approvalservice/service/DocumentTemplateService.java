@@ -26,11 +26,14 @@ import java.util.stream.Collectors;
 public class DocumentTemplateService {
 
     private final DocumentTemplateRepository templateRepository;
+    private final ApprovalDocumentDetailLoader detailLoader;
     private final TemplateCategoryRepository categoryRepository;
     private final TemplateFieldRepository fieldRepository;
     private final TemplateApprovalStageRepository stageRepository;
     private final TemplateApprovalTargetRepository targetRepository;
     private final AttachmentClientService attachmentService;
+    private final ApprovalInboxService inboxService;
+    private final CompiledTemplateCache compiledTemplateCache;
     private final ResponseConverter responseConverter;
 
     public List<TemplateSummaryResponse> getAllTemplates(boolean isAdmin) {
@@ -95,7 +98,7 @@ public class DocumentTemplateService {
     }
 
     public TemplateResponse getTemplateById(Long id) {
-        DocumentTemplate template = templateRepository.findById(id)
+        DocumentTemplate template = detailLoader.loadTemplate(id)
                 .orElseThrow(() -> new NotFoundException("템플릿을 찾을 수 없습니다."));
         return responseConverter.convertToTemplateResponse(template);
     }
@@ -171,6 +174,7 @@ public class DocumentTemplateService {
         template.setUseAttachment(request.getUseAttachment());
         template.setAllowTargetChange(request.getAllowTargetChange());
         template.setCategory(category);
+        inboxService.refreshTemplate(template);
 
         // Clear existing fields, stages, and targets using orphanRemoval
         template.getFields().clear();
@@ -192,6 +196,9 @@ public class DocumentTemplateService {
             saveReferenceTargets(template, request.getReferenceTargets());
         }
 
+        // 필드가 다시 만들어지므로 컴파일된 템플릿 무효화 (커밋 후 전파)
+        compiledTemplateCache.invalidate(template.getId());
+
         return getTemplateById(template.getId());
     }
 
@@ -209,6 +216,7 @@ public class DocumentTemplateService {
             throw new NotFoundException("템플릿을 찾을 수 없습니다.");
         }
         templateRepository.deleteById(id);
+        compiledTemplateCache.invalidate(id);
     }
 
     private void saveTemplateFields(DocumentTemplate template, List<TemplateFieldRequest> fieldRequests) {
@@ -0,0 +1,53 @@
+package com.hermes.approvalservice.service;
+
+import com.hermes.api.common.ApiResult;
+import com.hermes.approvalservice.client.OrganizationServiceClient;
+import com.hermes.approvalservice.client.dto.OrganizationAssignment;
+import com.hermes.approvalservice.client.dto.OrganizationInfo;
+import com.hermes.cache.TenantCacheManager;
+import com.hermes.events.cache.CacheNames;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * 조직 계층/직원 배정 로컬 캐시
+ * 테넌트별로 조직 그래프 전체를 한 번에 적재하고, org-service가 조직이나 배정을 변경하면
+ * 캐시 무효화 이벤트(organization-graph)로 비워져 다음 조회 때 다시 적재한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OrganizationDirectory {
+
+    private static final String GRAPH_KEY = "all";
+
+    private final OrganizationServiceClient organizationServiceClient;
+    private final TenantCacheManager tenantCacheManager;
+
+    /**
+     * 현재 테넌트의 조직 그래프 (조회 실패는 캐시하지 않고 예외 전파)
+     */
+    public OrganizationGraph getGraph() {
+        return tenantCacheManager.<String, OrganizationGraph>getCache(CacheNames.ORGANIZATION_GRAPH)
+                .get(GRAPH_KEY, this::fetchGraph);
+    }
+
+    private OrganizationGraph fetchGraph() {
+        List<OrganizationInfo> organizations = requireData(organizationServiceClient.getAllOrganizations(), "organizations");
+        List<OrganizationAssignment> assignments = requireData(organizationServiceClient.getAllAssignments(), "assignments");
+
+        log.info("Organization graph loaded: organizations={}, assignments={}", organizations.size(), assignments.size());
+        return OrganizationGraph.of(organizations, assignments);
+    }
+
+    private static <T> List<T> requireData(ApiResult<List<T>> result, String name) {
+        if (result == null || !"SUCCESS".equals(result.getStatus()) || result.getData() == null) {
+            throw new IllegalStateException("Failed to get " + name + " from org-service: "
+                    + (result != null ? result.getMessage() : null));
+        }
+        return result.getData();
+    }
+}
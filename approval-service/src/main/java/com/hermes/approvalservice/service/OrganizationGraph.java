@@ -0,0 +1,99 @@
+package com.hermes.approvalservice.service;
+
+import com.hermes.approvalservice.client.dto.OrganizationAssignment;
+import com.hermes.approvalservice.client.dto.OrganizationInfo;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 테넌트 조직 계층과 직원 배정의 불변 스냅샷
+ * org-service 전체 조회 결과로 한 번 만들고, 대상자 확정 시에는 원격 호출 없이 메모리에서만 탐색한다.
+ */
+public final class OrganizationGraph {
+
+    private final Map<Long, Long> parentByOrganization;
+    private final Map<Long, Set<Long>> membersByOrganization;
+    private final Map<Long, Set<Long>> leadersByOrganization;
+    private final Map<Long, Long> primaryOrganizationByEmployee;
+
+    private OrganizationGraph(Map<Long, Long> parentByOrganization,
+                              Map<Long, Set<Long>> membersByOrganization,
+                              Map<Long, Set<Long>> leadersByOrganization,
+                              Map<Long, Long> primaryOrganizationByEmployee) {
+        this.parentByOrganization = parentByOrganization;
+        this.membersByOrganization = membersByOrganization;
+        this.leadersByOrganization = leadersByOrganization;
+        this.primaryOrganizationByEmployee = primaryOrganizationByEmployee;
+    }
+
+    public static OrganizationGraph of(Collection<OrganizationInfo> organizations,
+                                       Collection<OrganizationAssignment> assignments) {
+        Map<Long, Long> parents = new HashMap<>();
+        for (OrganizationInfo organization : organizations) {
+            if (organization.getParentId() != null) {
+                parents.put(organization.getOrganizationId(), organization.getParentId());
+            }
+        }
+
+        Map<Long, Set<Long>> members = new HashMap<>();
+        Map<Long, Set<Long>> leaders = new HashMap<>();
+        Map<Long, Long> primaryOrganizations = new HashMap<>();
+        for (OrganizationAssignment assignment : assignments) {
+            Long employeeId = assignment.getEmployeeId();
+            Long organizationId = assignment.getOrganizationId();
+            members.computeIfAbsent(organizationId, id -> new LinkedHashSet<>()).add(employeeId);
+            if (Boolean.TRUE.equals(assignment.getIsLeader())) {
+                leaders.computeIfAbsent(organizationId, id -> new LinkedHashSet<>()).add(employeeId);
+            }
+            // 주 소속이 없으면 처음 조회된 배정을 소속으로 사용
+            if (Boolean.TRUE.equals(assignment.getIsPrimary())) {
+                primaryOrganizations.put(employeeId, organizationId);
+            } else {
+                primaryOrganizations.putIfAbsent(employeeId, organizationId);
+            }
+        }
+
+        return new OrganizationGraph(Map.copyOf(parents), freeze(members), freeze(leaders), Map.copyOf(primaryOrganizations));
+    }
+
+    /**
+     * 조직에 직접 배정된 직원 (하위 조직 제외)
+     */
+    public Set<Long> membersOf(Long organizationId) {
+        return membersByOrganization.getOrDefault(organizationId, Set.of());
+    }
+
+    /**
+     * 직원의 n차 조직장
+     * 소속 조직부터 상위로 올라가며 본인 외 조직장이 있는 조직을 차수로 센다. 해당 차수가 없으면 빈 집합.
+     */
+    public Set<Long> managersOf(Long employeeId, int level) {
+        if (level < 1) {
+            return Set.of();
+        }
+
+        Long organizationId = primaryOrganizationByEmployee.get(employeeId);
+        Set<Long> visited = new HashSet<>();
+        int found = 0;
+        while (organizationId != null && visited.add(organizationId)) {
+            Set<Long> managers = new LinkedHashSet<>(leadersByOrganization.getOrDefault(organizationId, Set.of()));
+            managers.remove(employeeId);
+            if (!managers.isEmpty() && ++found == level) {
+                return Set.copyOf(managers);
+            }
+            organizationId = parentByOrganization.get(organizationId);
+        }
+        return Set.of();
+    }
+
+    private static Map<Long, Set<Long>> freeze(Map<Long, Set<Long>> source) {
+        Map<Long, Set<Long>> frozen = new HashMap<>();
+        source.forEach((key, values) -> frozen.put(key, Set.copyOf(values)));
+        return Map.copyOf(frozen);
+    }
+}
@@ -0,0 +1,175 @@
+package com.hermes.approvalservice.service;
+
+import com.hermes.approvalservice.entity.ApprovalDocument;
+import com.hermes.approvalservice.entity.DocumentApprovalStage;
+import com.hermes.approvalservice.entity.DocumentTemplate;
+import com.hermes.approvalservice.entity.TemplateApprovalStage;
+import com.hermes.approvalservice.entity.TemplateCategory;
+import com.hermes.approvalservice.enums.DocumentStatus;
+import com.hermes.approvalservice.repository.ApprovalDocumentRepository;
+import com.hermes.approvalservice.support.ApprovalFixtures;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 결재 문서 상세 애그리거트 적재 쿼리 수 테스트
+ * 단계 수와 무관하게 ApprovalDocumentDetailLoader의 상한 안에서 적재하고, 지연 로딩과 같은 컬렉션을 돌려주는지 확인한다.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(ApprovalDocumentDetailLoader.class)
+class ApprovalDocumentDetailLoaderTest {
+
+    private static final int FIELDS = 6;
+    private static final int TARGETS_PER_STAGE = 3;
+    private static final int ATTACHMENTS = 2;
+    private static final int HISTORY_SIZE = 5;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private ApprovalDocumentRepository documentRepository;
+
+    @Autowired
+    private ApprovalDocumentDetailLoader detailLoader;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {2, 8})
+    void loadDocumentWithHistoryStaysWithinQueryBound(int stages) {
+        Long documentId = seed(stages);
+
+        long queries = countStatements(() -> walk(detailLoader.loadDocument(documentId, true).orElseThrow(), true),
+                expectedElements(stages, true));
+
+        assertThat(queries).isLessThanOrEqualTo(
+                ApprovalDocumentDetailLoader.DOCUMENT_QUERIES + ApprovalDocumentDetailLoader.HISTORY_QUERIES);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {2, 8})
+    void loadDocumentWithoutHistorySkipsHistoryQueries(int stages) {
+        Long documentId = seed(stages);
+
+        long queries = countStatements(() -> walk(detailLoader.loadDocument(documentId, false).orElseThrow(), false),
+                expectedElements(stages, false));
+
+        assertThat(queries).isLessThanOrEqualTo(ApprovalDocumentDetailLoader.DOCUMENT_QUERIES);
+    }
+
+    @Test
+    void lazyWalkIssuesMoreQueriesThanLoader() {
+        Long documentId = seed(8);
+        int expected = expectedElements(8, true);
+
+        long lazyQueries = countStatements(() -> walk(documentRepository.findById(documentId).orElseThrow(), true), expected);
+        long loaderQueries = countStatements(() -> walk(detailLoader.loadDocument(documentId, true).orElseThrow(), true), expected);
+
+        assertThat(lazyQueries).isGreaterThan(loaderQueries);
+    }
+
+    @Test
+    void loadTemplateStaysWithinQueryBound() {
+        Long documentId = seed(8);
+        Long templateId = documentRepository.findById(documentId).orElseThrow().getTemplate().getId();
+        entityManager.clear();
+
+        statistics.clear();
+        DocumentTemplate template = detailLoader.loadTemplate(templateId).orElseThrow();
+        int stageTargets = template.getApprovalStages().stream()
+                .mapToInt(stage -> stage.getApprovalTargets().size())
+                .sum();
+
+        assertThat(stageTargets).isEqualTo(8 * TARGETS_PER_STAGE);
+        assertThat(template.getFields()).hasSize(FIELDS);
+        assertThat(statistics.getPrepareStatementCount())
+                .isLessThanOrEqualTo(1 + ApprovalDocumentDetailLoader.TEMPLATE_QUERIES);
+    }
+
+    @Test
+    void loadMissingDocumentReturnsEmpty() {
+        assertThat(detailLoader.loadDocument(-1L, true)).isEmpty();
+    }
+
+    /**
+     * 새 영속성 컨텍스트에서 path를 실행해 원소 수를 확인하고 실행한 문장 수를 돌려준다
+     */
+    private long countStatements(Supplier<Integer> path, int expectedElements) {
+        entityManager.clear();
+        statistics.clear();
+        int elements = path.get();
+        long statements = statistics.getPrepareStatementCount();
+        assertThat(elements).isEqualTo(expectedElements);
+        return statements;
+    }
+
+    private Long seed(int stages) {
+        TemplateCategory category = entityManager.persist(TemplateCategory.builder().name("재무").build());
+        DocumentTemplate template = entityManager.persist(
+                ApprovalFixtures.template(category, FIELDS, stages, TARGETS_PER_STAGE, ATTACHMENTS));
+        ApprovalDocument document = entityManager.persist(ApprovalFixtures.document(
+                template, DocumentStatus.IN_PROGRESS, FIELDS, stages, TARGETS_PER_STAGE, ATTACHMENTS, HISTORY_SIZE));
+        entityManager.flush();
+        entityManager.clear();
+        return document.getId();
+    }
+
+    /**
+     * 상세 응답이 읽는 모든 연관을 훑고 원소 수를 센다 (fetch join으로 bag이 중복 적재되면 값이 달라진다)
+     */
+    private static int walk(ApprovalDocument document, boolean includeHistory) {
+        DocumentTemplate template = document.getTemplate();
+        int elements = template.getCategory().getName().isEmpty() ? 0 : 1;
+        elements += template.getFields().size();
+        elements += template.getReferenceFiles().size();
+        for (TemplateApprovalStage stage : template.getApprovalStages()) {
+            elements += 1 + stage.getApprovalTargets().size();
+        }
+        elements += template.getReferenceTargets().size();
+
+        elements += document.getFieldValues().size();
+        for (DocumentApprovalStage stage : document.getApprovalStages()) {
+            elements += 1 + stage.getApprovalTargets().size();
+        }
+        elements += document.getReferenceTargets().size();
+        elements += document.getAttachments().size();
+        if (includeHistory) {
+            elements += document.getActivities().size();
+            elements += document.getComments().size();
+        }
+        return elements;
+    }
+
+    /**
+     * walk 기준 원소 수: 템플릿/문서 referenceTargets는 template/document 기준 매핑이라 단계 대상자도 포함한다
+     */
+    private static int expectedElements(int stages, boolean includeHistory) {
+        int stageTargets = stages * TARGETS_PER_STAGE;
+        int template = 1 + FIELDS + ATTACHMENTS + stages + stageTargets + (stageTargets + 1);
+        int document = FIELDS + stages + stageTargets + (stageTargets + 1) + ATTACHMENTS;
+        return template + document + (includeHistory ? 2 * HISTORY_SIZE : 0);
+    }
+}
@@ -0,0 +1,164 @@
+package com.hermes.approvalservice.service;
+
+import com.hermes.approvalservice.client.UserServiceClient;
+import com.hermes.approvalservice.dto.response.InboxItemResponse;
+import com.hermes.approvalservice.dto.response.InboxPageResponse;
+import com.hermes.approvalservice.entity.ApprovalDocument;
+import com.hermes.approvalservice.entity.DocumentTemplate;
+import com.hermes.approvalservice.entity.TemplateCategory;
+import com.hermes.approvalservice.enums.DocumentStatus;
+import com.hermes.approvalservice.repository.ApprovalDocumentRepository;
+import com.hermes.approvalservice.support.ApprovalFixtures;
+import com.hermes.auth.enums.Role;
+import com.hermes.auth.principal.UserPrincipal;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * 결재 문서함 읽기 모델 조회 테스트
+ * 기존 문서 목록 쿼리(EXISTS + OFFSET)와 문서함 keyset 페이지가 같은 문서를 같은 순서로 돌려주고,
+ * 문서함 페이지는 user-service 호출 없이 쿼리 한 번으로 읽는지 확인한다.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ApprovalInboxService.class, DocumentPermissionService.class})
+class ApprovalInboxServiceTest {
+
+    private static final long USER_ID = ApprovalFixtures.AUTHOR_ID;
+    private static final long OTHER_AUTHOR_ID = 500L;
+    private static final int DOCUMENTS = 60;
+    private static final int PAGE_SIZE = 7;
+
+    @MockitoBean
+    private UserServiceClient userServiceClient;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ApprovalDocumentRepository documentRepository;
+
+    @Autowired
+    private ApprovalInboxService inboxService;
+
+    private Statistics statistics;
+    private UserPrincipal user;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        user = UserPrincipal.builder().id(USER_ID).role(Role.USER).build();
+        seed();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "휴가"})
+    void inboxPagesMatchDocumentListPages(String search) {
+        String filter = search.isEmpty() ? null : search;
+        List<Long> walked = new ArrayList<>();
+        String cursor = null;
+
+        for (int page = 0; ; page++) {
+            Page<ApprovalDocument> documents = documentRepository.findDocumentsForUserWithFilters(
+                    USER_ID, null, filter, null, null, null, PageRequest.of(page, PAGE_SIZE));
+            InboxPageResponse inbox = inboxService.getInbox(user, null, filter, null, null, cursor, PAGE_SIZE);
+
+            List<Long> inboxIds = inbox.getItems().stream().map(InboxItemResponse::getDocumentId).toList();
+            assertThat(inboxIds).as("page %d", page)
+                    .containsExactlyElementsOf(documents.map(ApprovalDocument::getId).getContent());
+            assertThat(inbox.isHasNext()).as("page %d", page).isEqualTo(documents.hasNext());
+            walked.addAll(inboxIds);
+
+            if (!inbox.isHasNext()) {
+                break;
+            }
+            cursor = inbox.getNextCursor();
+        }
+
+        assertThat(walked).hasSizeGreaterThan(PAGE_SIZE).doesNotHaveDuplicates();
+    }
+
+    @Test
+    void inboxPageIsReadWithSingleQuery() {
+        clearInvocations(userServiceClient);
+
+        long firstPageQueries = countStatements(null);
+        String cursor = inboxService.getInbox(user, null, null, null, null, null, PAGE_SIZE).getNextCursor();
+        long nextPageQueries = countStatements(cursor);
+
+        assertThat(firstPageQueries).isOne();
+        assertThat(nextPageQueries).isOne();
+        verifyNoInteractions(userServiceClient);
+    }
+
+    /**
+     * 새 영속성 컨텍스트에서 문서함 한 페이지를 읽고 실행한 문장 수를 돌려준다
+     */
+    private long countStatements(String cursor) {
+        entityManager.clear();
+        statistics.clear();
+        InboxPageResponse page = inboxService.getInbox(user, null, null, null, null, cursor, PAGE_SIZE);
+        assertThat(page.getItems()).hasSize(PAGE_SIZE);
+        return statistics.getPrepareStatementCount();
+    }
+
+    /**
+     * 문서 n은 n % 3 == 0이면 사용자가 작성자, 1이면 1단계 승인자, 2면 관련 없음이며 4건 중 1건이 휴가 신청서다.
+     * 생성/수정 시각을 id 순으로 1초씩 늘려 두 경로의 정렬 기준(작성 시각, 최근 활동 시각)이 같은 순서가 되게 한 뒤
+     * 문서함 행을 채운다.
+     */
+    private void seed() {
+        TemplateCategory category = entityManager.persist(TemplateCategory.builder().name("공통").build());
+        DocumentTemplate leave = ApprovalFixtures.template(category, 0, 1, 1, 0);
+        leave.setTitle("휴가 신청서");
+        entityManager.persist(leave);
+        DocumentTemplate expense = entityManager.persist(ApprovalFixtures.template(category, 0, 1, 1, 0));
+
+        for (int n = 0; n < DOCUMENTS; n++) {
+            ApprovalDocument document = ApprovalFixtures.document(
+                    n % 4 == 0 ? leave : expense, DocumentStatus.IN_PROGRESS, 0, 1, 1, 0, 0);
+            if (n % 3 != 0) {
+                document.setAuthorId(OTHER_AUTHOR_ID + n);
+            }
+            if (n % 3 == 1) {
+                document.getApprovalStages().get(0).getApprovalTargets().get(0).setUserId(USER_ID);
+            }
+            entityManager.persist(document);
+        }
+        entityManager.flush();
+        jdbcTemplate.update("UPDATE approval_document SET " +
+                "created_at = DATEADD('SECOND', id, TIMESTAMP '2025-01-01 00:00:00'), " +
+                "updated_at = DATEADD('SECOND', id, TIMESTAMP '2025-01-01 00:00:00')");
+        entityManager.clear();
+
+        inboxService.rebuildAfter(0L, DOCUMENTS);
+        entityManager.flush();
+        entityManager.clear();
+    }
+}
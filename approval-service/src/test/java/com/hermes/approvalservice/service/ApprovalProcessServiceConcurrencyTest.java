@@ -0,0 +1,175 @@
+package com.hermes.approvalservice.service;
+
+import com.hermes.approvalservice.client.UserServiceClient;
+import com.hermes.approvalservice.converter.ResponseConverter;
+import com.hermes.approvalservice.dto.request.ApprovalActionRequest;
+import com.hermes.approvalservice.entity.ApprovalDocument;
+import com.hermes.approvalservice.entity.DocumentTemplate;
+import com.hermes.approvalservice.entity.TemplateCategory;
+import com.hermes.approvalservice.enums.DocumentStatus;
+import com.hermes.approvalservice.support.ApprovalFixtures;
+import com.hermes.auth.enums.Role;
+import com.hermes.auth.principal.UserPrincipal;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 같은 문서 동시 승인 테스트
+ * <p>
+ * 8개 스레드가 같은 순서로 문서를 훑으며 1단계 병렬 승인자 4명으로 승인한다. 스레드 i와 i + 4는 같은 승인자로
+ * 같은 멱등성 키를 보내 중복 제출(더블 클릭, 클라이언트 재시도)을 모사한다. 모든 요청이 끝난 뒤
+ * 단계 완료 유실, 중복 승인 이력, 멱등성 키/승인 대상자/승인 이력 수 불일치가 없어야 한다.
+ */
+@DataJpaTest(properties = {
+        "approval.process.retry.max-attempts=20",
+        "approval.process.retry.backoff-millis=1"
+})
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({ApprovalProcessService.class, ApprovalRetryPolicy.class, DocumentPermissionService.class,
+        DocumentActivityService.class, ApprovalInboxService.class})
+class ApprovalProcessServiceConcurrencyTest {
+
+    private static final int THREADS = 8;
+    private static final int FIRST_STAGE_APPROVERS = 4;
+    private static final int DOCUMENTS = 30;
+
+    // 재시도 한도 초과로 실패한 요청은 클라이언트처럼 같은 키로 다시 보낸다
+    private static final int CLIENT_RETRIES = 10;
+
+    @MockitoBean
+    private UserServiceClient userServiceClient;
+
+    @MockitoBean
+    private ResponseConverter responseConverter;
+
+    @Autowired
+    private ApprovalProcessService processService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void concurrentApprovalsKeepStageTransitionsAndIdempotency() throws Exception {
+        List<Long> documentIds = seed();
+        ApprovalActionRequest request = new ApprovalActionRequest();
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Void>> results = new ArrayList<>();
+        try {
+            for (int thread = 0; thread < THREADS; thread++) {
+                UserPrincipal approver = UserPrincipal.builder()
+                        .id(ApprovalFixtures.approverId(1, thread % FIRST_STAGE_APPROVERS + 1))
+                        .role(Role.USER)
+                        .build();
+                Callable<Void> approveAll = () -> {
+                    start.await();
+                    for (Long documentId : documentIds) {
+                        approve(documentId, approver, request);
+                    }
+                    return null;
+                };
+                results.add(executor.submit(approveAll));
+            }
+            start.countDown();
+            for (Future<Void> result : results) {
+                result.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        long from = documentIds.get(0);
+        long to = documentIds.get(documentIds.size() - 1);
+
+        assertThat(count("SELECT COUNT(*) FROM approval_document WHERE id BETWEEN ? AND ? AND current_stage = 2", from, to))
+                .as("모든 문서가 2단계로 진행")
+                .isEqualTo(DOCUMENTS);
+        assertThat(count("SELECT COUNT(*) FROM document_approval_stage " +
+                "WHERE document_id BETWEEN ? AND ? AND stage_order = 1 AND is_completed = TRUE", from, to))
+                .as("1단계 완료 유실 없음")
+                .isEqualTo(DOCUMENTS);
+        assertThat(count("SELECT COUNT(*) FROM (SELECT a.document_id, a.user_id FROM document_activity a " +
+                "WHERE a.document_id BETWEEN ? AND ? AND a.activity_type = 'APPROVE' " +
+                "GROUP BY a.document_id, a.user_id HAVING COUNT(*) > 1) duplicated", from, to))
+                .as("중복 승인 이력 없음")
+                .isZero();
+
+        long approvedTargets = count("SELECT COUNT(*) FROM document_approval_target " +
+                "WHERE document_id BETWEEN ? AND ? AND approval_status = 'APPROVED'", from, to);
+        long activities = count("SELECT COUNT(*) FROM document_activity " +
+                "WHERE document_id BETWEEN ? AND ? AND activity_type = 'APPROVE'", from, to);
+        long keys = count("SELECT COUNT(*) FROM approval_idempotency_key WHERE document_id BETWEEN ? AND ?", from, to);
+        assertThat(approvedTargets).isEqualTo((long) DOCUMENTS * FIRST_STAGE_APPROVERS);
+        assertThat(activities).isEqualTo(approvedTargets);
+        assertThat(keys).isEqualTo(approvedTargets);
+    }
+
+    /**
+     * 재시도 한도를 넘어 충돌로 끝나면 같은 키로 다시 보낸다
+     */
+    private void approve(Long documentId, UserPrincipal approver, ApprovalActionRequest request) {
+        String idempotencyKey = "approve-" + documentId;
+        for (int retry = 0; ; retry++) {
+            try {
+                processService.approveDocument(documentId, approver, request, idempotencyKey);
+                return;
+            } catch (ConcurrencyFailureException e) {
+                if (retry >= CLIENT_RETRIES) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    private List<Long> seed() {
+        return new TransactionTemplate(transactionManager).execute(status -> {
+            TemplateCategory category = entityManager.persist(TemplateCategory.builder().name("재무").build());
+            DocumentTemplate template = entityManager.persist(ApprovalFixtures.template(category, 0, 0, 0, 0));
+
+            List<Long> ids = new ArrayList<>();
+            for (int n = 0; n < DOCUMENTS; n++) {
+                ApprovalDocument document = entityManager.persist(ApprovalFixtures.document(
+                        template, DocumentStatus.IN_PROGRESS, 0, 2, FIRST_STAGE_APPROVERS, 0, 0));
+                ids.add(document.getId());
+            }
+            return ids;
+        });
+    }
+
+    private long count(String sql, long from, long to) {
+        Long count = jdbcTemplate.queryForObject(sql, Long.class, from, to);
+        return count == null ? 0 : count;
+    }
+}
@@ -0,0 +1,218 @@
+package com.hermes.approvalservice.service;
+
+import com.hermes.approvalservice.client.dto.OrganizationAssignment;
+import com.hermes.approvalservice.client.dto.OrganizationInfo;
+import com.hermes.approvalservice.entity.ApprovalDocument;
+import com.hermes.approvalservice.entity.DocumentApprovalStage;
+import com.hermes.approvalservice.entity.DocumentApprovalTarget;
+import com.hermes.approvalservice.enums.DocumentStatus;
+import com.hermes.approvalservice.enums.TargetType;
+import com.hermes.approvalservice.exception.BusinessException;
+import com.hermes.auth.enums.Role;
+import com.hermes.auth.principal.UserPrincipal;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * 결재 대상자 확정 테스트
+ * 제출 시 확정한 대상자 집합으로 판단한 조회 권한이 조직 그래프에서 대상을 매번 풀어 판단한 결과와 같은지,
+ * 확정할 사용자가 없거나 조직 정보를 읽지 못하면 제출을 막는지 확인한다.
+ */
+class ApprovalTargetResolverTest {
+
+    private static final int ORGANIZATIONS = 40;
+    private static final int EMPLOYEES = 400;
+    private static final int BRANCHES = 3;
+    private static final int STAGES = 3;
+
+    // 주 소속 조직 40 -> 13 -> 4 -> 1 경로라 1차/2차 조직장이 모두 있다
+    private static final long AUTHOR_ID = 120L;
+
+    private final OrganizationDirectory organizationDirectory = mock(OrganizationDirectory.class);
+    private final ApprovalTargetResolver resolver = new ApprovalTargetResolver(organizationDirectory);
+    private final DocumentPermissionService permissionService = new DocumentPermissionService();
+    private final OrganizationGraph graph = OrganizationGraph.of(organizations(), assignments());
+
+    @Test
+    void resolvedTargetsGrantSameViewersAsScanningTheGraph() {
+        when(organizationDirectory.getGraph()).thenReturn(graph);
+        ApprovalDocument draft = document();
+        ApprovalDocument submitted = document();
+
+        resolver.resolve(submitted);
+
+        Set<Long> viewers = new HashSet<>();
+        for (long userId = 1; userId <= EMPLOYEES; userId++) {
+            UserPrincipal user = UserPrincipal.builder().id(userId).role(Role.USER).build();
+            boolean scanned = canViewByScan(draft, userId);
+            assertThat(permissionService.canViewDocument(submitted, user)).as("userId=%d", userId).isEqualTo(scanned);
+            if (scanned) {
+                viewers.add(userId);
+            }
+        }
+        // 사용자 지정 대상과 작성자만 풀렸다면 단계 수 + 1명 이하
+        assertThat(viewers).hasSizeGreaterThan(STAGES + 1);
+        verify(organizationDirectory, times(1)).getGraph();
+    }
+
+    @Test
+    void userOnlyTargetsDoNotLoadOrganizationGraph() {
+        ApprovalDocument document = draft();
+        for (int order = 1; order <= STAGES; order++) {
+            DocumentApprovalStage stage = stage(document, order);
+            stage.getApprovalTargets().add(target(document, stage, TargetType.USER, 200L + order, null, null));
+        }
+
+        resolver.resolve(document);
+
+        assertThat(document.getTargetUserIds()).containsExactlyInAnyOrder(201L, 202L, 203L);
+        verifyNoInteractions(organizationDirectory);
+    }
+
+    @Test
+    void approverTargetWithoutMembersFailsSubmission() {
+        when(organizationDirectory.getGraph()).thenReturn(graph);
+        ApprovalDocument document = draft();
+        DocumentApprovalStage stage = stage(document, 1);
+        stage.getApprovalTargets().add(target(document, stage, TargetType.ORGANIZATION, null, 999L, null));
+
+        assertThatThrownBy(() -> resolver.resolve(document))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("1단계");
+    }
+
+    @Test
+    void organizationLookupFailureFailsSubmission() {
+        when(organizationDirectory.getGraph()).thenThrow(new IllegalStateException("org-service unavailable"));
+        ApprovalDocument document = draft();
+        DocumentApprovalStage stage = stage(document, 1);
+        stage.getApprovalTargets().add(target(document, stage, TargetType.N_LEVEL_MANAGER, null, null, 1));
+
+        assertThatThrownBy(() -> resolver.resolve(document)).isInstanceOf(BusinessException.class);
+        assertThat(document.getTargetUserIds()).isNull();
+    }
+
+    /**
+     * 대상을 매번 조직 그래프에서 풀어 확인하는 방식 (사전 확정 이전의 권한 확인 모델)
+     */
+    private boolean canViewByScan(ApprovalDocument document, Long userId) {
+        if (document.getAuthorId().equals(userId)) {
+            return true;
+        }
+        for (DocumentApprovalStage stage : document.getApprovalStages()) {
+            for (DocumentApprovalTarget target : stage.getApprovalTargets()) {
+                if (usersOf(target).contains(userId)) {
+                    return true;
+                }
+            }
+        }
+        for (DocumentApprovalTarget target : document.getReferenceTargets()) {
+            if (usersOf(target).contains(userId)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Set<Long> usersOf(DocumentApprovalTarget target) {
+        return switch (target.getTargetType()) {
+            case USER -> Set.of(target.getUserId());
+            case ORGANIZATION -> graph.membersOf(target.getOrganizationId());
+            case N_LEVEL_MANAGER -> graph.managersOf(AUTHOR_ID, target.getManagerLevel());
+        };
+    }
+
+    /**
+     * 단계마다 사용자/조직/1차 조직장/2차 조직장 대상, 단계 밖 참조 조직 하나
+     */
+    private static ApprovalDocument document() {
+        ApprovalDocument document = draft();
+        for (int order = 1; order <= STAGES; order++) {
+            DocumentApprovalStage stage = stage(document, order);
+            stage.getApprovalTargets().add(target(document, stage, TargetType.USER, 10L * order + 5, null, null));
+            stage.getApprovalTargets().add(target(document, stage, TargetType.ORGANIZATION, null, 5L * order + 2, null));
+            stage.getApprovalTargets().add(target(document, stage, TargetType.N_LEVEL_MANAGER, null, null, 1));
+            stage.getApprovalTargets().add(target(document, stage, TargetType.N_LEVEL_MANAGER, null, null, 2));
+        }
+        document.getReferenceTargets().add(target(document, null, TargetType.ORGANIZATION, null, 30L, null));
+        return document;
+    }
+
+    private static ApprovalDocument draft() {
+        return ApprovalDocument.builder()
+                .id(1L)
+                .authorId(AUTHOR_ID)
+                .status(DocumentStatus.DRAFT)
+                .build();
+    }
+
+    private static DocumentApprovalStage stage(ApprovalDocument document, int order) {
+        DocumentApprovalStage stage = DocumentApprovalStage.builder()
+                .stageOrder(order)
+                .stageName(order + "단계")
+                .document(document)
+                .build();
+        document.getApprovalStages().add(stage);
+        return stage;
+    }
+
+    private static DocumentApprovalTarget target(ApprovalDocument document, DocumentApprovalStage stage, TargetType type,
+                                                 Long userId, Long organizationId, Integer managerLevel) {
+        return DocumentApprovalTarget.builder()
+                .targetType(type)
+                .userId(userId)
+                .organizationId(organizationId)
+                .managerLevel(managerLevel)
+                .document(document)
+                .approvalStage(stage)
+                .build();
+    }
+
+    /**
+     * 조직 i의 상위 조직은 (i - 2) / BRANCHES + 1 (1번이 최상위)
+     */
+    private static List<OrganizationInfo> organizations() {
+        List<OrganizationInfo> organizations = new ArrayList<>(ORGANIZATIONS);
+        for (long id = 1; id <= ORGANIZATIONS; id++) {
+            Long parentId = id == 1 ? null : (id - 2) / BRANCHES + 1;
+            organizations.add(OrganizationInfo.builder().organizationId(id).name("조직" + id).parentId(parentId).build());
+        }
+        return organizations;
+    }
+
+    /**
+     * 직원 e의 주 소속은 (e - 1) % ORGANIZATIONS + 1이며 조직마다 첫 직원이 조직장, 10명 중 1명은 다른 조직 겸직
+     */
+    private static List<OrganizationAssignment> assignments() {
+        List<OrganizationAssignment> assignments = new ArrayList<>();
+        for (long employeeId = 1; employeeId <= EMPLOYEES; employeeId++) {
+            assignments.add(OrganizationAssignment.builder()
+                    .employeeId(employeeId)
+                    .organizationId((employeeId - 1) % ORGANIZATIONS + 1)
+                    .isPrimary(true)
+                    .isLeader(employeeId <= ORGANIZATIONS)
+                    .build());
+            if (employeeId % 10 == 0) {
+                assignments.add(OrganizationAssignment.builder()
+                        .employeeId(employeeId)
+                        .organizationId(employeeId * 7 % ORGANIZATIONS + 1)
+                        .isPrimary(false)
+                        .isLeader(false)
+                        .build());
+            }
+        }
+        return assignments;
+    }
+}
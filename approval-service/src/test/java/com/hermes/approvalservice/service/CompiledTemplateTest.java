@@ -0,0 +1,164 @@
+package com.hermes.approvalservice.service;
+
+import com.hermes.approvalservice.entity.TemplateField;
+import com.hermes.approvalservice.enums.FieldType;
+import com.hermes.approvalservice.exception.BusinessException;
+import com.hermes.approvalservice.exception.NotFoundException;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 컴파일한 템플릿의 필드 값 검증 테스트
+ * 숫자/금액, 날짜, 선택지(JSON 배열과 쉼표 목록) 형식을 판단하고, 선택지를 해석할 수 없는 필드는 값을 거부하는지 확인한다.
+ */
+class CompiledTemplateTest {
+
+    private static final long AMOUNT = 1L;
+    private static final long COUNT = 2L;
+    private static final long DATE = 3L;
+    private static final long JSON_SELECT = 4L;
+    private static final long LIST_SELECT = 5L;
+    private static final long JSON_MULTISELECT = 6L;
+    private static final long LIST_MULTISELECT = 7L;
+    private static final long MALFORMED_SELECT = 8L;
+    private static final long MALFORMED_MULTISELECT = 9L;
+    private static final long FREE_SELECT = 10L;
+    private static final long MEMO = 11L;
+
+    private final CompiledTemplate template = CompiledTemplate.of(List.of(
+            field(AMOUNT, "지출 금액", FieldType.MONEY, null),
+            field(COUNT, "인원", FieldType.NUMBER, null),
+            field(DATE, "지출일", FieldType.DATE, null),
+            field(JSON_SELECT, "지출 구분", FieldType.SELECT, "[\"식대\", \"교통비\", \"숙박비\"]"),
+            field(LIST_SELECT, "결제 수단", FieldType.SELECT, "법인카드, 개인카드,현금"),
+            field(JSON_MULTISELECT, "참석 부서", FieldType.MULTISELECT, "[\"개발\",\"영업\",\"인사\"]"),
+            field(LIST_MULTISELECT, "증빙", FieldType.MULTISELECT, "영수증,세금계산서,거래명세서"),
+            field(MALFORMED_SELECT, "출장지", FieldType.SELECT, "[\"서울\", \"부산\""),
+            field(MALFORMED_MULTISELECT, "동행자", FieldType.MULTISELECT, "[1, {\"name\": \"김\"}]"),
+            field(FREE_SELECT, "기타 구분", FieldType.SELECT, "  "),
+            field(MEMO, "비고", FieldType.TEXT, null)));
+
+    @Test
+    void moneyAndNumberAcceptCommaFormattedValues() {
+        assertValid(AMOUNT, "1,234,000");
+        assertValid(AMOUNT, "1234000.50");
+        assertValid(AMOUNT, "-15,000");
+        assertValid(COUNT, "12");
+        assertValid(COUNT, "1,000");
+
+        assertInvalid(AMOUNT, "12a");
+        assertInvalid(AMOUNT, "만원");
+        assertInvalid(COUNT, "1.2.3");
+        assertInvalid(COUNT, ",");
+    }
+
+    @Test
+    void dateAcceptsIsoAndCommonNonIsoFormats() {
+        assertValid(DATE, "2025-03-01");
+        assertValid(DATE, "2025/03/01");
+        assertValid(DATE, "2025.03.01");
+        assertValid(DATE, "20250301");
+        assertValid(DATE, "2024-02-29");
+
+        assertInvalid(DATE, "2025-02-30");
+        assertInvalid(DATE, "2025/02/30");
+        assertInvalid(DATE, "2025-3-1");
+        assertInvalid(DATE, "03/01/2025");
+        assertInvalid(DATE, "2025-03-01T09:00:00");
+        assertInvalid(DATE, "내일");
+    }
+
+    @Test
+    void selectAcceptsOnlyDeclaredChoices() {
+        assertValid(JSON_SELECT, "교통비");
+        assertValid(JSON_SELECT, " 숙박비 ");
+        assertInvalid(JSON_SELECT, "회식비");
+        assertInvalid(JSON_SELECT, "식대,교통비");
+
+        assertValid(LIST_SELECT, "개인카드");
+        assertValid(LIST_SELECT, "현금");
+        assertInvalid(LIST_SELECT, "계좌이체");
+    }
+
+    @Test
+    void multiselectAcceptsJsonArrayOrCommaListWithinChoices() {
+        assertValid(JSON_MULTISELECT, "[\"개발\",\"인사\"]");
+        assertValid(JSON_MULTISELECT, "개발, 영업");
+        assertInvalid(JSON_MULTISELECT, "[\"개발\",\"재무\"]");
+        assertInvalid(JSON_MULTISELECT, "[\"개발\"");
+
+        assertValid(LIST_MULTISELECT, "영수증,거래명세서");
+        assertValid(LIST_MULTISELECT, "[\"세금계산서\"]");
+        assertInvalid(LIST_MULTISELECT, "영수증,계약서");
+    }
+
+    @Test
+    void malformedOptionsRejectEveryValue() {
+        assertInvalid(MALFORMED_SELECT, "서울");
+        assertInvalid(MALFORMED_SELECT, "[\"서울\"");
+        assertInvalid(MALFORMED_MULTISELECT, "[\"김\"]");
+        assertInvalid(MALFORMED_MULTISELECT, "김");
+
+        // 임시저장을 위해 빈 값은 선택지 형식과 관계없이 허용
+        assertValid(MALFORMED_SELECT, "");
+        assertValid(MALFORMED_MULTISELECT, null);
+    }
+
+    @Test
+    void selectWithoutOptionsAcceptsAnyValue() {
+        assertValid(FREE_SELECT, "아무 값");
+        assertValid(MEMO, "자유 입력 1,2,3");
+    }
+
+    @Test
+    void blankValuesAreAllowedForDrafts() {
+        for (long fieldId = AMOUNT; fieldId <= MEMO; fieldId++) {
+            assertValid(fieldId, null);
+            assertValid(fieldId, "   ");
+        }
+    }
+
+    @Test
+    void fieldOutsideTemplateIsNotFound() {
+        assertThat(template.field(AMOUNT).fieldType()).isEqualTo(FieldType.MONEY);
+        assertThatThrownBy(() -> template.field(99L)).isInstanceOf(NotFoundException.class);
+        assertThatThrownBy(() -> template.field(null)).isInstanceOf(NotFoundException.class);
+    }
+
+    @Test
+    void parseChoicesDistinguishesMissingFromMalformedOptions() {
+        assertThat(CompiledTemplate.parseChoices(null)).isEmpty();
+        assertThat(CompiledTemplate.parseChoices("[]")).isEmpty();
+        assertThat(CompiledTemplate.parseChoices("[\"A\", \" \", \" B \"]")).containsExactlyInAnyOrder("A", "B");
+        assertThat(CompiledTemplate.parseChoices("A, ,B,")).containsExactlyInAnyOrder("A", "B");
+        assertThat(CompiledTemplate.parseChoices("[\"A\"")).isNull();
+        assertThat(CompiledTemplate.parseChoices("[{\"label\": \"A\"}]")).isNull();
+    }
+
+    private void assertValid(long fieldId, String value) {
+        assertThatCode(() -> template.field(fieldId).validate(value))
+                .as("field=%d, value=%s", fieldId, value)
+                .doesNotThrowAnyException();
+    }
+
+    private void assertInvalid(long fieldId, String value) {
+        assertThatThrownBy(() -> template.field(fieldId).validate(value))
+                .as("field=%d, value=%s", fieldId, value)
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining(template.field(fieldId).name());
+    }
+
+    private static TemplateField field(long id, String name, FieldType fieldType, String options) {
+        return TemplateField.builder()
+                .id(id)
+                .name(name)
+                .fieldType(fieldType)
+                .options(options)
+                .build();
+    }
+}
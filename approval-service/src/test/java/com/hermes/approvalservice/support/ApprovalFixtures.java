@@ -0,0 +1,105 @@
+package com.hermes.approvalservice.support;
+
+import com.hermes.approvalservice.entity.ApprovalDocument;
+import com.hermes.approvalservice.entity.DocumentActivity;
+import com.hermes.approvalservice.entity.DocumentApprovalStage;
+import com.hermes.approvalservice.entity.DocumentApprovalTarget;
+import com.hermes.approvalservice.entity.DocumentComment;
+import com.hermes.approvalservice.entity.DocumentFieldValue;
+import com.hermes.approvalservice.entity.DocumentTemplate;
+import com.hermes.approvalservice.entity.TemplateApprovalStage;
+import com.hermes.approvalservice.entity.TemplateApprovalTarget;
+import com.hermes.approvalservice.entity.TemplateCategory;
+import com.hermes.approvalservice.entity.TemplateField;
+import com.hermes.approvalservice.enums.ActivityType;
+import com.hermes.approvalservice.enums.DocumentStatus;
+import com.hermes.approvalservice.enums.FieldType;
+import com.hermes.approvalservice.enums.TargetType;
+import com.hermes.attachment.entity.AttachmentInfo;
+
+/**
+ * 결재 문서/템플릿 테스트 데이터
+ * 단계마다 사용자 결재 대상자를 두고, 참조 대상 1명과 첨부/필드/이력을 채운 애그리거트를 만든다 (영속화는 호출자가 수행).
+ */
+public final class ApprovalFixtures {
+
+    public static final long AUTHOR_ID = 1L;
+    public static final long REFERENCE_USER_ID = 99L;
+
+    private ApprovalFixtures() {
+    }
+
+    /**
+     * 단계 order의 i번째 결재 대상자 ID
+     */
+    public static long approverId(int order, int i) {
+        return 100L + order * 10 + i;
+    }
+
+    public static DocumentTemplate template(TemplateCategory category, int fields, int stages, int targetsPerStage,
+                                            int attachments) {
+        DocumentTemplate template = DocumentTemplate.builder().title("지출 결의서").category(category).build();
+        for (int order = 1; order <= fields; order++) {
+            template.getFields().add(TemplateField.builder()
+                    .name("항목" + order).fieldType(FieldType.TEXT).fieldOrder(order).template(template).build());
+        }
+        for (int i = 1; i <= attachments; i++) {
+            template.getReferenceFiles().add(attachment("template-" + i));
+        }
+        for (int order = 1; order <= stages; order++) {
+            TemplateApprovalStage stage = TemplateApprovalStage.builder()
+                    .stageOrder(order).stageName(order + "단계").template(template).build();
+            for (int i = 1; i <= targetsPerStage; i++) {
+                stage.getApprovalTargets().add(TemplateApprovalTarget.builder()
+                        .targetType(TargetType.USER).userId(approverId(order, i))
+                        .template(template).approvalStage(stage).build());
+            }
+            template.getApprovalStages().add(stage);
+        }
+        template.getReferenceTargets().add(TemplateApprovalTarget.builder()
+                .targetType(TargetType.USER).userId(REFERENCE_USER_ID).isReference(true).template(template).build());
+        return template;
+    }
+
+    public static ApprovalDocument document(DocumentTemplate template, DocumentStatus status, int fields, int stages,
+                                            int targetsPerStage, int attachments, int historySize) {
+        ApprovalDocument document = ApprovalDocument.builder()
+                .content("본문")
+                .status(status)
+                .authorId(AUTHOR_ID)
+                .currentStage(status == DocumentStatus.DRAFT ? 0 : 1)
+                .template(template)
+                .build();
+        for (int order = 1; order <= fields; order++) {
+            document.getFieldValues().add(DocumentFieldValue.builder()
+                    .fieldName("항목" + order).fieldType(FieldType.TEXT).fieldValue("값" + order).document(document).build());
+        }
+        for (int order = 1; order <= stages; order++) {
+            DocumentApprovalStage stage = DocumentApprovalStage.builder()
+                    .stageOrder(order).stageName(order + "단계").document(document).build();
+            for (int i = 1; i <= targetsPerStage; i++) {
+                stage.getApprovalTargets().add(DocumentApprovalTarget.builder()
+                        .targetType(TargetType.USER).userId(approverId(order, i))
+                        .document(document).approvalStage(stage).build());
+            }
+            document.getApprovalStages().add(stage);
+        }
+        document.getReferenceTargets().add(DocumentApprovalTarget.builder()
+                .targetType(TargetType.USER).userId(REFERENCE_USER_ID).isReference(true).document(document).build());
+        for (int i = 1; i <= attachments; i++) {
+            document.getAttachments().add(attachment("document-" + i));
+        }
+        for (int i = 0; i < historySize; i++) {
+            document.getActivities().add(DocumentActivity.builder()
+                    .activityType(ActivityType.UPDATE).userId(AUTHOR_ID).description("수정 " + i).document(document).build());
+            document.getComments().add(DocumentComment.builder()
+                    .content("댓글 " + i).authorId(100L + i % 10).document(document).build());
+        }
+        return document;
+    }
+
+    public static AttachmentInfo attachment(String fileId) {
+        return AttachmentInfo.builder()
+                .fileId(fileId).fileName(fileId + ".pdf").fileSize(1_024L).contentType("application/pdf").build();
+    }
+}
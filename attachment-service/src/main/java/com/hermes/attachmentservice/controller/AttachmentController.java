@@ -1,15 +1,18 @@
 package com.hermes.attachmentservice.controller;
 
+import com.hermes.attachmentservice.entity.AttachmentFile;
 import com.hermes.attachmentservice.service.AttachmentService;
 import com.hermes.attachment.dto.AttachmentInfoResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.core.io.Resource;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.util.UriUtils;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -57,33 +60,30 @@ public class AttachmentController {
         }
     }
 
-    @Operation(summary = "파일 다운로드", description = "파일 ID를 통해 파일을 다운로드합니다. 한글 파일명도 지원.")
+    @Operation(summary = "파일 다운로드", description = "파일 ID를 통해 파일을 다운로드합니다. 한글 파일명, Range 요청과 ETag 조건부 요청을 지원.")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "파일 다운로드 성공"),
+        @ApiResponse(responseCode = "206", description = "파일 일부 구간 다운로드 성공"),
+        @ApiResponse(responseCode = "304", description = "파일 변경 없음 (If-None-Match 일치)"),
         @ApiResponse(responseCode = "404", description = "파일을 찾을 수 없음"),
+        @ApiResponse(responseCode = "416", description = "요청한 구간이 파일 범위를 벗어남"),
         @ApiResponse(responseCode = "500", description = "서버 내부 오류")
     })
     @GetMapping("/{fileId}/download")
-    public ResponseEntity<Resource> downloadFile(
-            @Parameter(description = "다운로드할 파일 ID", required = true, example = "uuid-file-id") @PathVariable String fileId) {
+    public ResponseEntity<StreamingResponseBody> downloadFile(
+            @Parameter(description = "다운로드할 파일 ID", required = true, example = "uuid-file-id") @PathVariable String fileId,
+            @RequestHeader(value = HttpHeaders.RANGE, required = false) String range,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         log.info("파일 다운로드 요청: {}", fileId);
         
         try {
-            // 메타데이터 조회
-            AttachmentInfoResponse metadata = attachmentService.getFileMetadata(fileId);
-            
-            // 파일 리소스 조회
-            Resource resource = attachmentService.getFileResource(fileId);
+            AttachmentFile file = attachmentService.getAttachmentFile(fileId);
             
             // 파일명 인코딩 (한글 파일명 지원)
-            String encodedFileName = UriUtils.encode(metadata.getFileName(), StandardCharsets.UTF_8);
+            String encodedFileName = UriUtils.encode(file.getOriginalFileName(), StandardCharsets.UTF_8);
             String contentDisposition = "attachment; filename*=UTF-8''" + encodedFileName;
             
-            return ResponseEntity.ok()
-                    .contentType(MediaType.parseMediaType(metadata.getContentType()))
-                    .contentLength(metadata.getFileSize())
-                    .header(HttpHeaders.CONTENT_DISPOSITION, contentDisposition)
-                    .body(resource);
+            return serveFile(file, contentDisposition, range, ifNoneMatch);
                     
         } catch (Exception e) {
             log.error("파일 다운로드 실패: {}", e.getMessage(), e);
@@ -94,32 +94,105 @@ public class AttachmentController {
     @Operation(summary = "파일 미리보기/표시", description = "파일 ID를 통해 파일을 브라우저에서 직접 표시합니다. 이미지 파일 등의 미리보기에 사용.")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "파일 표시 성공"),
+        @ApiResponse(responseCode = "206", description = "파일 일부 구간 표시 성공"),
+        @ApiResponse(responseCode = "304", description = "파일 변경 없음 (If-None-Match 일치)"),
         @ApiResponse(responseCode = "404", description = "파일을 찾을 수 없음"),
+        @ApiResponse(responseCode = "416", description = "요청한 구간이 파일 범위를 벗어남"),
         @ApiResponse(responseCode = "500", description = "서버 내부 오류")
     })
     @GetMapping("/{fileId}/view")
-    public ResponseEntity<Resource> viewFile(
-            @Parameter(description = "표시할 파일 ID", required = true, example = "uuid-file-id") @PathVariable String fileId) {
+    public ResponseEntity<StreamingResponseBody> viewFile(
+            @Parameter(description = "표시할 파일 ID", required = true, example = "uuid-file-id") @PathVariable String fileId,
+            @RequestHeader(value = HttpHeaders.RANGE, required = false) String range,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         log.info("파일 미리보기 요청: {}", fileId);
         
         try {
-            // 메타데이터 조회
-            AttachmentInfoResponse metadata = attachmentService.getFileMetadata(fileId);
-            
-            // 파일 리소스 조회
-            Resource resource = attachmentService.getFileResource(fileId);
+            AttachmentFile file = attachmentService.getAttachmentFile(fileId);
             
-            return ResponseEntity.ok()
-                    .contentType(MediaType.parseMediaType(metadata.getContentType()))
-                    .contentLength(metadata.getFileSize())
-                    .header(HttpHeaders.CONTENT_DISPOSITION, "inline")
-                    .body(resource);
+            return serveFile(file, "inline", range, ifNoneMatch);
                     
         } catch (Exception e) {
             log.error("파일 미리보기 실패: {}", e.getMessage(), e);
             return ResponseEntity.notFound().build();
         }
     }
+
+    /**
+     * ETag 조건부 요청과 단일 구간 Range 요청을 처리하여 파일을 전송합니다.
+     * 다중 구간 요청이나 Range를 지원하지 않는 저장소에서는 전체 파일을 전송합니다.
+     */
+    private ResponseEntity<StreamingResponseBody> serveFile(
+            AttachmentFile file, String contentDisposition, String range, String ifNoneMatch) {
+        String eTag = file.getContentHash() != null ? "\"" + file.getContentHash() + "\"" : null;
+        long fileSize = file.getFileSize();
+        boolean rangeSupported = attachmentService.supportsRange();
+
+        if (eTag != null && matchesETag(ifNoneMatch, eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+
+        List<HttpRange> ranges = List.of();
+        if (range != null && rangeSupported) {
+            try {
+                ranges = HttpRange.parseRanges(range);
+            } catch (IllegalArgumentException e) {
+                return rangeNotSatisfiable(fileSize);
+            }
+        }
+
+        ResponseEntity.BodyBuilder builder;
+        long start = 0;
+        long length = fileSize;
+        if (ranges.size() == 1) {
+            HttpRange httpRange = ranges.get(0);
+            try {
+                start = httpRange.getRangeStart(fileSize);
+                length = httpRange.getRangeEnd(fileSize) - start + 1;
+            } catch (IllegalArgumentException e) {
+                return rangeNotSatisfiable(fileSize);
+            }
+            builder = ResponseEntity.status(HttpStatus.PARTIAL_CONTENT)
+                    .header(HttpHeaders.CONTENT_RANGE,
+                            "bytes " + start + "-" + (start + length - 1) + "/" + fileSize);
+        } else {
+            builder = ResponseEntity.ok();
+        }
+
+        if (rangeSupported) {
+            builder.header(HttpHeaders.ACCEPT_RANGES, "bytes");
+        }
+        if (eTag != null) {
+            builder.eTag(eTag);
+        }
+
+        long position = start;
+        long count = length;
+        return builder
+                .contentType(MediaType.parseMediaType(file.getContentType()))
+                .contentLength(count)
+                .header(HttpHeaders.CONTENT_DISPOSITION, contentDisposition)
+                .body(outputStream -> attachmentService.transferTo(file, position, count, outputStream));
+    }
+
+    private boolean matchesETag(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String trimmed = candidate.trim();
+            if (trimmed.equals("*") || trimmed.equals(eTag) || trimmed.equals("W/" + eTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private ResponseEntity<StreamingResponseBody> rangeNotSatisfiable(long fileSize) {
+        return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+                .header(HttpHeaders.CONTENT_RANGE, "bytes */" + fileSize)
+                .build();
+    }
     
     @Operation(summary = "파일 삭제", description = "파일을 삭제합니다. ADMIN 권한 필요.")
     @ApiResponses(value = {
@@ -29,6 +29,9 @@ public class AttachmentFile {
     
     @Column(nullable = false)
     private String originalFileName;
+
+    @Column(length = 64)
+    private String contentHash; // 파일 내용 SHA-256 (hex), ETag로 사용
     
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
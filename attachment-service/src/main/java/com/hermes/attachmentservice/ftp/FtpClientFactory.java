@@ -0,0 +1,92 @@
+package com.hermes.attachmentservice.ftp;
+
+import com.hermes.attachmentservice.properties.AttachmentProperties;
+import java.io.IOException;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.net.ftp.FTP;
+import org.apache.commons.net.ftp.FTPClient;
+import org.apache.commons.net.ftp.FTPReply;
+import org.apache.commons.pool2.BasePooledObjectFactory;
+import org.apache.commons.pool2.PooledObject;
+import org.apache.commons.pool2.impl.DefaultPooledObject;
+
+/**
+ * Pool에 담을 FTPClient 생성/검증/정리
+ * 생성 시 로그인, 전송 모드, 작업 디렉토리까지 설정해 두어 대여 후 바로 사용할 수 있도록 함
+ */
+@Slf4j
+public class FtpClientFactory extends BasePooledObjectFactory<FTPClient> {
+
+  private final AttachmentProperties attachmentProperties;
+
+  public FtpClientFactory(AttachmentProperties attachmentProperties) {
+    this.attachmentProperties = attachmentProperties;
+  }
+
+  @Override
+  public FTPClient create() throws IOException {
+    FTPClient ftpClient = new FTPClient();
+    ftpClient.setConnectTimeout((int) attachmentProperties.getPool().getConnectTimeout().toMillis());
+
+    try {
+      ftpClient.connect(attachmentProperties.getHost(), attachmentProperties.getUploadPort());
+      if (!FTPReply.isPositiveCompletion(ftpClient.getReplyCode())) {
+        throw new IOException("FTP 서버 연결 거부: " + ftpClient.getReplyString());
+      }
+      if (!ftpClient.login(attachmentProperties.getUser(), attachmentProperties.getPassword())) {
+        throw new IOException("FTP 로그인 실패: " + ftpClient.getReplyString());
+      }
+      ftpClient.enterLocalPassiveMode();
+      ftpClient.setFileType(FTP.BINARY_FILE_TYPE);
+      if (!ftpClient.changeWorkingDirectory(attachmentProperties.getBaseDir())) {
+        throw new IOException("FTP 디렉토리 변경 실패: " + attachmentProperties.getBaseDir());
+      }
+    } catch (IOException e) {
+      disconnectQuietly(ftpClient);
+      throw e;
+    }
+
+    log.debug("FTP 연결 생성: {}:{}", attachmentProperties.getHost(), attachmentProperties.getUploadPort());
+    return ftpClient;
+  }
+
+  @Override
+  public PooledObject<FTPClient> wrap(FTPClient ftpClient) {
+    return new DefaultPooledObject<>(ftpClient);
+  }
+
+  @Override
+  public boolean validateObject(PooledObject<FTPClient> pooledObject) {
+    FTPClient ftpClient = pooledObject.getObject();
+    try {
+      return ftpClient.isConnected() && ftpClient.sendNoOp();
+    } catch (IOException e) {
+      log.debug("FTP 연결 검증 실패: {}", e.getMessage());
+      return false;
+    }
+  }
+
+  @Override
+  public void destroyObject(PooledObject<FTPClient> pooledObject) {
+    FTPClient ftpClient = pooledObject.getObject();
+    if (ftpClient.isConnected()) {
+      try {
+        ftpClient.logout();
+      } catch (IOException e) {
+        log.debug("FTP 로그아웃 실패: {}", e.getMessage());
+      }
+    }
+    disconnectQuietly(ftpClient);
+    log.debug("FTP 연결 종료: {}:{}", attachmentProperties.getHost(), attachmentProperties.getUploadPort());
+  }
+
+  private void disconnectQuietly(FTPClient ftpClient) {
+    if (ftpClient.isConnected()) {
+      try {
+        ftpClient.disconnect();
+      } catch (IOException e) {
+        log.debug("FTP 연결 해제 실패: {}", e.getMessage());
+      }
+    }
+  }
+}
@@ -0,0 +1,115 @@
+package com.hermes.attachmentservice.ftp;
+
+import com.hermes.attachmentservice.properties.AttachmentProperties;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.io.IOException;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.net.ftp.FTPClient;
+import org.apache.commons.pool2.impl.GenericObjectPool;
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 업로드/다운로드에서 공유하는 FTPClient Pool
+ * 요청마다 연결/로그인/종료하던 왕복을 없애고, 동시 연결 수를 FTP 서버 한도 내로 제한
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "attachment.storage", name = "type", havingValue = "ftp", matchIfMissing = true)
+public class FtpClientPool implements MeterBinder, DisposableBean {
+
+  private final GenericObjectPool<FTPClient> pool;
+
+  public FtpClientPool(AttachmentProperties attachmentProperties) {
+    AttachmentProperties.Pool poolProperties = attachmentProperties.getPool();
+
+    GenericObjectPoolConfig<FTPClient> config = new GenericObjectPoolConfig<>();
+    config.setMaxTotal(poolProperties.getMaxTotal());
+    config.setMaxIdle(poolProperties.getMaxIdle());
+    config.setMinIdle(poolProperties.getMinIdle());
+    config.setMaxWait(poolProperties.getMaxWait());
+    config.setTimeBetweenEvictionRuns(poolProperties.getTimeBetweenEvictionRuns());
+    config.setMinEvictableIdleDuration(poolProperties.getMinEvictableIdleTime());
+    config.setTestOnBorrow(poolProperties.isTestOnBorrow());
+    config.setTestWhileIdle(poolProperties.isTestWhileIdle());
+    config.setJmxEnabled(false);
+
+    this.pool = new GenericObjectPool<>(new FtpClientFactory(attachmentProperties), config);
+  }
+
+  /**
+   * Pool에서 FTPClient를 대여합니다. 사용 후 반드시 {@link #release} 또는 {@link #invalidate}를 호출해야 합니다.
+   */
+  public FTPClient borrow() throws IOException {
+    try {
+      return pool.borrowObject();
+    } catch (IOException e) {
+      throw e;
+    } catch (Exception e) {
+      throw new IOException("FTP 연결 대여 실패", e);
+    }
+  }
+
+  /**
+   * 정상 사용한 FTPClient를 Pool에 반납합니다.
+   */
+  public void release(FTPClient ftpClient) {
+    if (ftpClient != null) {
+      pool.returnObject(ftpClient);
+    }
+  }
+
+  /**
+   * 상태를 신뢰할 수 없는 FTPClient를 Pool에서 제거합니다.
+   */
+  public void invalidate(FTPClient ftpClient) {
+    if (ftpClient == null) {
+      return;
+    }
+    try {
+      pool.invalidateObject(ftpClient);
+    } catch (Exception e) {
+      log.warn("FTP 연결 폐기 실패: {}", e.getMessage());
+    }
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    Gauge.builder("ftp.pool.active", pool, GenericObjectPool::getNumActive)
+        .description("대여 중인 FTP 연결 수")
+        .register(registry);
+    Gauge.builder("ftp.pool.idle", pool, GenericObjectPool::getNumIdle)
+        .description("유휴 FTP 연결 수")
+        .register(registry);
+    Gauge.builder("ftp.pool.waiters", pool, GenericObjectPool::getNumWaiters)
+        .description("연결 대여 대기 중인 요청 수")
+        .register(registry);
+    Gauge.builder("ftp.pool.borrow.wait.mean", pool, p -> p.getMeanBorrowWaitDuration().toMillis())
+        .description("연결 대여 평균 대기 시간(ms)")
+        .baseUnit("milliseconds")
+        .register(registry);
+    FunctionCounter.builder("ftp.pool.created", pool, GenericObjectPool::getCreatedCount)
+        .description("생성된 FTP 연결 수")
+        .register(registry);
+    FunctionCounter.builder("ftp.pool.destroyed", pool, GenericObjectPool::getDestroyedCount)
+        .description("종료된 FTP 연결 수")
+        .register(registry);
+    FunctionCounter.builder("ftp.pool.destroyed.validation", pool,
+            GenericObjectPool::getDestroyedByBorrowValidationCount)
+        .description("NOOP 검증 실패로 종료된 FTP 연결 수")
+        .register(registry);
+    FunctionCounter.builder("ftp.pool.borrowed", pool, GenericObjectPool::getBorrowedCount)
+        .description("누적 연결 대여 횟수")
+        .register(registry);
+  }
+
+  @Override
+  public void destroy() {
+    pool.close();
+  }
+}
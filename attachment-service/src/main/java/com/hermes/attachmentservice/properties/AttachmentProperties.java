@@ -1,4 +1,5 @@
 package com.hermes.attachmentservice.properties;
+import java.time.Duration;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -19,5 +20,26 @@ public class AttachmentProperties {
   private String password;
   private String baseDir;
 
+  private Pool pool = new Pool();
+
+  /**
+   * FTP Connection Pool 설정
+   * 단일 FTP 서버만 사용하므로 maxTotal이 서버(route)당 최대 연결 수
+   */
+  @Getter
+  @Setter
+  public static class Pool {
+
+    private int maxTotal = 8;                                       // 서버당 최대 연결 수
+    private int maxIdle = 8;                                        // 최대 유휴 연결 수
+    private int minIdle = 0;                                        // 최소 유휴 연결 수
+    private Duration maxWait = Duration.ofSeconds(5);               // 연결 대여 최대 대기 시간
+    private Duration timeBetweenEvictionRuns = Duration.ofSeconds(30); // 유휴 연결 점검 주기
+    private Duration minEvictableIdleTime = Duration.ofMinutes(2);  // 유휴 연결 제거 기준 시간
+    private boolean testOnBorrow = true;                            // 대여 시 NOOP 확인
+    private boolean testWhileIdle = true;                           // 유휴 점검 시 NOOP 확인
+    private Duration connectTimeout = Duration.ofSeconds(5);        // 연결 타임아웃
+  }
+
 }
 
@@ -0,0 +1,31 @@
+package com.hermes.attachmentservice.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+
+@Component
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "attachment.storage")
+public class StorageProperties {
+
+  private StorageType type = StorageType.FTP;   // 파일 저장소 종류
+
+  private Local local = new Local();
+
+  public enum StorageType {
+    FTP,    // FTP 서버 (기본값)
+    LOCAL   // 로컬 디스크
+  }
+
+  @Getter
+  @Setter
+  public static class Local {
+
+    private String rootDir = "./attachments";   // 파일 저장 루트 디렉토리
+  }
+
+}
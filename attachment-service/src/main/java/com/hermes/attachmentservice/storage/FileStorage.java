@@ -0,0 +1,33 @@
+package com.hermes.attachmentservice.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * 첨부파일 실제 바이트를 저장/전송하는 저장소 SPI
+ * 메타데이터(AttachmentFile)는 DB에서 관리하고, 저장소는 storedName 단위로만 동작
+ */
+public interface FileStorage {
+
+  /**
+   * 파일을 storedName으로 저장합니다.
+   */
+  void store(String storedName, InputStream inputStream) throws IOException;
+
+  /**
+   * 저장된 파일의 [position, position + count) 구간을 outputStream으로 전송합니다.
+   */
+  void transferTo(String storedName, long position, long count, OutputStream outputStream)
+      throws IOException;
+
+  /**
+   * 저장된 파일을 삭제합니다.
+   */
+  void delete(String storedName) throws IOException;
+
+  /**
+   * 파일 일부 구간 전송(HTTP Range) 지원 여부
+   */
+  boolean supportsRange();
+}
@@ -0,0 +1,86 @@
+package com.hermes.attachmentservice.storage;
+
+import com.hermes.attachmentservice.ftp.FtpClientPool;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import lombok.RequiredArgsConstructor;
+import org.apache.commons.net.ftp.FTPClient;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * FTP 서버 저장소 (기본값)
+ * 연결은 FtpClientPool에서 대여하며, 오류가 난 연결은 Pool에 돌려주지 않고 폐기
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "attachment.storage", name = "type", havingValue = "ftp", matchIfMissing = true)
+public class FtpFileStorage implements FileStorage {
+
+  private final FtpClientPool ftpClientPool;
+
+  @Override
+  public void store(String storedName, InputStream inputStream) throws IOException {
+    FTPClient ftpClient = ftpClientPool.borrow();
+    boolean reusable = false;
+    try {
+      if (!ftpClient.storeFile(storedName, inputStream)) {
+        throw new IOException("FTP 업로드 실패: " + ftpClient.getReplyString());
+      }
+      reusable = true;
+    } finally {
+      releaseOrInvalidate(ftpClient, reusable);
+    }
+  }
+
+  @Override
+  public void transferTo(String storedName, long position, long count, OutputStream outputStream)
+      throws IOException {
+    if (position != 0) {
+      throw new IOException("FTP 저장소는 부분 전송을 지원하지 않습니다");
+    }
+
+    FTPClient ftpClient = ftpClientPool.borrow();
+    boolean reusable = false;
+    try {
+      InputStream inputStream = ftpClient.retrieveFileStream(storedName);
+      if (inputStream == null) {
+        reusable = true;
+        throw new IOException("FTP 파일 스트림 생성 실패: " + storedName);
+      }
+      try (inputStream) {
+        inputStream.transferTo(outputStream);
+      }
+      // 전송 완료 응답까지 받아야 같은 연결로 다음 명령 가능
+      reusable = ftpClient.completePendingCommand();
+    } finally {
+      releaseOrInvalidate(ftpClient, reusable);
+    }
+  }
+
+  @Override
+  public void delete(String storedName) throws IOException {
+    FTPClient ftpClient = ftpClientPool.borrow();
+    boolean reusable = false;
+    try {
+      ftpClient.deleteFile(storedName);
+      reusable = true;
+    } finally {
+      releaseOrInvalidate(ftpClient, reusable);
+    }
+  }
+
+  @Override
+  public boolean supportsRange() {
+    return false;
+  }
+
+  private void releaseOrInvalidate(FTPClient ftpClient, boolean reusable) {
+    if (reusable) {
+      ftpClientPool.release(ftpClient);
+    } else {
+      ftpClientPool.invalidate(ftpClient);
+    }
+  }
+}
@@ -0,0 +1,89 @@
+package com.hermes.attachmentservice.storage;
+
+import com.hermes.attachmentservice.properties.StorageProperties;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로컬 디스크 저장소
+ * storedName 앞 4글자로 2단계 하위 디렉토리를 나눠 한 디렉토리에 파일이 몰리지 않도록 함 (ab/cd/abcd...)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "attachment.storage", name = "type", havingValue = "local")
+public class LocalFileStorage implements FileStorage {
+
+  private final Path rootDir;
+
+  public LocalFileStorage(StorageProperties storageProperties) throws IOException {
+    this.rootDir = Path.of(storageProperties.getLocal().getRootDir()).toAbsolutePath().normalize();
+    Files.createDirectories(rootDir);
+    log.info("로컬 파일 저장소 사용: {}", rootDir);
+  }
+
+  @Override
+  public void store(String storedName, InputStream inputStream) throws IOException {
+    Path target = resolve(storedName);
+    Files.createDirectories(target.getParent());
+
+    // 임시 파일에 다 쓴 뒤 이동하여 읽는 쪽에서 쓰다 만 파일을 보지 않도록 함
+    Path temp = Files.createTempFile(target.getParent(), storedName, ".tmp");
+    try {
+      Files.copy(inputStream, temp, StandardCopyOption.REPLACE_EXISTING);
+      Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+    } finally {
+      Files.deleteIfExists(temp);
+    }
+  }
+
+  @Override
+  public void transferTo(String storedName, long position, long count, OutputStream outputStream)
+      throws IOException {
+    try (FileChannel fileChannel = FileChannel.open(resolve(storedName), StandardOpenOption.READ)) {
+      WritableByteChannel target = Channels.newChannel(outputStream);
+      long transferred = 0;
+      while (transferred < count) {
+        long written = fileChannel.transferTo(position + transferred, count - transferred, target);
+        if (written <= 0) {
+          break;
+        }
+        transferred += written;
+      }
+    }
+  }
+
+  @Override
+  public void delete(String storedName) throws IOException {
+    Files.deleteIfExists(resolve(storedName));
+  }
+
+  @Override
+  public boolean supportsRange() {
+    return true;
+  }
+
+  private Path resolve(String storedName) throws IOException {
+    if (storedName.length() < 4) {
+      throw new IOException("잘못된 저장 파일명: " + storedName);
+    }
+    Path path = rootDir.resolve(storedName.substring(0, 2))
+        .resolve(storedName.substring(2, 4))
+        .resolve(storedName)
+        .normalize();
+    if (!path.startsWith(rootDir)) {
+      throw new IOException("저장소 경로를 벗어난 파일명: " + storedName);
+    }
+    return path;
+  }
+}
@@ -0,0 +1,186 @@
+package com.hermes.attachmentservice.ftp;
+
+import com.hermes.attachmentservice.properties.AttachmentProperties;
+import com.hermes.attachmentservice.storage.FtpFileStorage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.commons.net.ftp.FTPClient;
+import org.apache.ftpserver.FtpServer;
+import org.apache.ftpserver.FtpServerFactory;
+import org.apache.ftpserver.ftplet.UserManager;
+import org.apache.ftpserver.listener.ListenerFactory;
+import org.apache.ftpserver.usermanager.PropertiesUserManagerFactory;
+import org.apache.ftpserver.usermanager.impl.BaseUser;
+import org.apache.ftpserver.usermanager.impl.WritePermission;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 내장 FTP 서버(Apache MINA FtpServer)로 FTPClient Pool의 연결 검증, 폐기, 반납을 확인하는 테스트
+ */
+class FtpClientPoolTest {
+
+    private static final String USER = "hermes";
+    private static final String PASSWORD = "hermes-test";
+    private static final String BASE_DIR = "/attachments";
+
+    @TempDir
+    Path home;
+
+    private FtpServer server;
+    private FtpClientPool ftpClientPool;
+    private FtpFileStorage storage;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Files.createDirectories(home.resolve(BASE_DIR.substring(1)));
+
+        FtpServerFactory serverFactory = new FtpServerFactory();
+        ListenerFactory listenerFactory = new ListenerFactory();
+        listenerFactory.setServerAddress("127.0.0.1");
+        listenerFactory.setPort(0);
+        serverFactory.addListener("default", listenerFactory.createListener());
+
+        UserManager userManager = new PropertiesUserManagerFactory().createUserManager();
+        BaseUser user = new BaseUser();
+        user.setName(USER);
+        user.setPassword(PASSWORD);
+        user.setHomeDirectory(home.toString());
+        user.setAuthorities(List.of(new WritePermission()));
+        userManager.save(user);
+        serverFactory.setUserManager(userManager);
+
+        server = serverFactory.createServer();
+        server.start();
+
+        AttachmentProperties properties = new AttachmentProperties();
+        properties.setHost("127.0.0.1");
+        properties.setUploadPort(serverFactory.getListener("default").getPort());
+        properties.setUser(USER);
+        properties.setPassword(PASSWORD);
+        properties.setBaseDir(BASE_DIR);
+
+        ftpClientPool = new FtpClientPool(properties);
+        storage = new FtpFileStorage(ftpClientPool);
+        meterRegistry = new SimpleMeterRegistry();
+        ftpClientPool.bindTo(meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ftpClientPool.destroy();
+        server.stop();
+    }
+
+    @Test
+    void reusesIdleConnectionThatPassesNoop() throws IOException {
+        FTPClient first = ftpClientPool.borrow();
+        ftpClientPool.release(first);
+
+        FTPClient second = ftpClientPool.borrow();
+        ftpClientPool.release(second);
+
+        assertThat(second).isSameAs(first);
+        assertThat(counter("ftp.pool.created")).isEqualTo(1);
+    }
+
+    @Test
+    void replacesIdleConnectionThatFailsNoop() throws IOException {
+        FTPClient stale = ftpClientPool.borrow();
+        // 서버가 유휴 연결을 끊은 상황: 클라이언트 소켓은 열린 채로 Pool에 반납된다
+        stale.sendCommand("QUIT");
+        ftpClientPool.release(stale);
+
+        FTPClient fresh = ftpClientPool.borrow();
+        ftpClientPool.release(fresh);
+
+        assertThat(fresh).isNotSameAs(stale);
+        assertThat(fresh.sendNoOp()).isTrue();
+        assertThat(counter("ftp.pool.destroyed.validation")).isEqualTo(1);
+        assertThat(counter("ftp.pool.created")).isEqualTo(2);
+    }
+
+    @Test
+    void returnsConnectionAfterDownloadStreamIsClosed() throws IOException {
+        byte[] content = randomBytes(64 * 1024);
+        storage.store("report.pdf", new ByteArrayInputStream(content));
+
+        for (int i = 0; i < 2; i++) {
+            ByteArrayOutputStream downloaded = new ByteArrayOutputStream();
+            storage.transferTo("report.pdf", 0, content.length, downloaded);
+            assertThat(downloaded.toByteArray()).isEqualTo(content);
+        }
+
+        assertThat(counter("ftp.pool.created")).isEqualTo(1);
+        assertThat(counter("ftp.pool.borrowed")).isEqualTo(3);
+        assertThat(gauge("ftp.pool.idle")).isEqualTo(1);
+        assertThat(gauge("ftp.pool.active")).isZero();
+    }
+
+    @Test
+    void invalidatesConnectionWhenDownloadIsAborted() throws IOException {
+        byte[] content = randomBytes(512 * 1024);
+        storage.store("large.bin", new ByteArrayInputStream(content));
+
+        // 클라이언트가 다운로드 도중 연결을 끊은 상황
+        OutputStream abortingClient = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("client aborted");
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                throw new IOException("client aborted");
+            }
+        };
+        assertThatThrownBy(() -> storage.transferTo("large.bin", 0, content.length, abortingClient))
+                .isInstanceOf(IOException.class);
+
+        assertThat(counter("ftp.pool.destroyed")).isEqualTo(1);
+        assertThat(gauge("ftp.pool.idle")).isZero();
+        assertThat(gauge("ftp.pool.active")).isZero();
+
+        ByteArrayOutputStream downloaded = new ByteArrayOutputStream();
+        storage.transferTo("large.bin", 0, content.length, downloaded);
+        assertThat(downloaded.toByteArray()).isEqualTo(content);
+        assertThat(counter("ftp.pool.created")).isEqualTo(2);
+    }
+
+    @Test
+    void keepsConnectionWhenFileIsMissing() throws IOException {
+        assertThatThrownBy(() -> storage.transferTo("missing.pdf", 0, 0, new ByteArrayOutputStream()))
+                .isInstanceOf(IOException.class);
+
+        assertThat(counter("ftp.pool.destroyed")).isZero();
+        assertThat(gauge("ftp.pool.idle")).isEqualTo(1);
+    }
+
+    private double counter(String name) {
+        return meterRegistry.get(name).functionCounter().count();
+    }
+
+    private double gauge(String name) {
+        return meterRegistry.get(name).gauge().value();
+    }
+
+    private static byte[] randomBytes(int size) {
+        byte[] bytes = new byte[size];
+        ThreadLocalRandom.current().nextBytes(bytes);
+        return bytes;
+    }
+}
@@ -0,0 +1,11 @@
+package com.hermes.attendanceservice.aichat.client;
+
+/**
+ * 동시 호출 상한에 걸려 대기 제한 시간 안에 호출 슬롯을 얻지 못함
+ */
+public class ChatCompletionBusyException extends ChatCompletionException {
+
+    public ChatCompletionBusyException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,202 @@
+package com.hermes.attendanceservice.aichat.client;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hermes.attendanceservice.aichat.config.AiChatProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * OpenAI 호환 /chat/completions 호출 클라이언트
+ * <p>
+ * HttpClient는 인스턴스 하나를 공유해 연결(HTTP/2 다중화, HTTP/1.1 keep-alive)을 재사용한다.
+ * 동시 호출 수는 세마포어로 제한하며, 슬롯 대기 시간과 호출 시간을 Micrometer로 기록하고
+ * 대기 제한 시간을 넘기면 {@link ChatCompletionBusyException}으로 바로 거절한다.
+ */
+@Slf4j
+@Component
+public class ChatCompletionClient {
+
+    private static final String DONE_EVENT = "[DONE]";
+    private static final int ERROR_BODY_LOG_LIMIT = 500;
+
+    private final AiChatProperties props;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final HttpClient httpClient;
+    private final Semaphore permits;
+    private final Timer queueTimer;
+    private final Counter rejectedCounter;
+
+    public ChatCompletionClient(AiChatProperties props, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.props = props;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(props.getConnectTimeout())
+                .build();
+
+        int maxConcurrent = Math.max(1, props.getMaxConcurrent());
+        this.permits = new Semaphore(maxConcurrent, true);
+        this.queueTimer = meterRegistry.timer("attendance.aichat.queue.duration");
+        this.rejectedCounter = meterRegistry.counter("attendance.aichat.rejected");
+        meterRegistry.gauge("attendance.aichat.in_flight", permits, p -> maxConcurrent - p.availablePermits());
+    }
+
+    /**
+     * 응답 전체를 한 번에 받아 assistant 메시지 내용을 반환
+     */
+    public String complete(List<Map<String, String>> messages) {
+        return withPermit(false, () -> {
+            HttpResponse<String> response = send(messages, false, HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
+            if (response.statusCode() >= 400) {
+                throw upstreamError(response.statusCode(), response.body());
+            }
+            try {
+                JsonNode root = objectMapper.readTree(response.body());
+                return root.path("choices").path(0).path("message").path("content").asText("");
+            } catch (IOException e) {
+                throw new ChatCompletionException("LLM 응답 파싱 실패", e);
+            }
+        });
+    }
+
+    /**
+     * SSE 스트림으로 응답을 받아 내용 조각마다 onContentDelta를 호출하고, 전체 내용을 반환
+     * onContentDelta가 예외를 던지면(클라이언트 연결 종료 등) 스트림을 닫고 예외를 그대로 전파한다.
+     */
+    public String stream(List<Map<String, String>> messages, Consumer<String> onContentDelta) {
+        return withPermit(true, () -> {
+            HttpResponse<Stream<String>> response = send(messages, true, HttpResponse.BodyHandlers.ofLines());
+            try (Stream<String> lines = response.body()) {
+                if (response.statusCode() >= 400) {
+                    throw upstreamError(response.statusCode(), lines.collect(Collectors.joining("\n")));
+                }
+                return readEvents(lines.iterator(), onContentDelta);
+            }
+        });
+    }
+
+    private String readEvents(Iterator<String> lines, Consumer<String> onContentDelta) {
+        StringBuilder content = new StringBuilder();
+        while (lines.hasNext()) {
+            String line = lines.next();
+            if (!line.startsWith("data:")) {
+                continue;   // 빈 줄(이벤트 구분), 주석, event/id 필드
+            }
+            String data = line.substring("data:".length()).trim();
+            if (DONE_EVENT.equals(data)) {
+                break;
+            }
+            if (data.isEmpty()) {
+                continue;
+            }
+
+            String delta;
+            try {
+                delta = objectMapper.readTree(data).path("choices").path(0).path("delta").path("content").asText("");
+            } catch (IOException e) {
+                throw new ChatCompletionException("LLM 스트림 이벤트 파싱 실패", e);
+            }
+            if (!delta.isEmpty()) {
+                content.append(delta);
+                onContentDelta.accept(delta);
+            }
+        }
+        return content.toString();
+    }
+
+    private <T> HttpResponse<T> send(List<Map<String, String>> messages, boolean stream,
+                                     HttpResponse.BodyHandler<T> bodyHandler) {
+        try {
+            HttpRequest request = HttpRequest.newBuilder()
+                    .uri(URI.create(props.getBaseUrl() + "/chat/completions"))
+                    .timeout(props.getRequestTimeout())
+                    .header("Authorization", "Bearer " + props.getApiKey())
+                    .header("Content-Type", "application/json")
+                    .header("Accept", stream ? "text/event-stream" : "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(requestBody(messages, stream))))
+                    .build();
+            return httpClient.send(request, bodyHandler);
+        } catch (IOException e) {
+            throw new ChatCompletionException("LLM 호출 실패: " + e.getMessage(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ChatCompletionException("LLM 호출 중단", e);
+        }
+    }
+
+    private Map<String, Object> requestBody(List<Map<String, String>> messages, boolean stream) {
+        Map<String, Object> body = new HashMap<>();
+        body.put("model", props.getModel());
+        body.put("temperature", props.getTemperature());
+        body.put("max_tokens", props.getMaxTokens());
+        body.put("messages", messages);
+        if (props.isJsonResponseFormat()) {
+            body.put("response_format", Map.of("type", "json_object"));
+        }
+        if (stream) {
+            body.put("stream", true);
+        }
+        return body;
+    }
+
+    private <T> T withPermit(boolean stream, Supplier<T> call) {
+        long queuedAt = System.nanoTime();
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(props.getAcquireTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ChatCompletionException("LLM 호출 대기 중단", e);
+        } finally {
+            queueTimer.record(System.nanoTime() - queuedAt, TimeUnit.NANOSECONDS);
+        }
+
+        if (!acquired) {
+            rejectedCounter.increment();
+            throw new ChatCompletionBusyException("LLM 동시 호출 한도 초과: maxConcurrent=" + props.getMaxConcurrent());
+        }
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            T result = call.get();
+            outcome = "success";
+            return result;
+        } finally {
+            permits.release();
+            sample.stop(meterRegistry.timer("attendance.aichat.completion.duration",
+                    "stream", String.valueOf(stream), "outcome", outcome));
+        }
+    }
+
+    private ChatCompletionException upstreamError(int status, String body) {
+        String abbreviated = body != null && body.length() > ERROR_BODY_LOG_LIMIT
+                ? body.substring(0, ERROR_BODY_LOG_LIMIT) + "..."
+                : body;
+        log.warn("OpenAI error: status={} body={}", status, abbreviated);
+        return new ChatCompletionException("LLM 오류 응답: status=" + status);
+    }
+}
@@ -0,0 +1,15 @@
+package com.hermes.attendanceservice.aichat.client;
+
+/**
+ * LLM 완성 API 호출 실패 (오류 응답, 통신 실패)
+ */
+public class ChatCompletionException extends RuntimeException {
+
+    public ChatCompletionException(String message) {
+        super(message);
+    }
+
+    public ChatCompletionException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -3,6 +3,8 @@ package com.hermes.attendanceservice.aichat.config;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+
 @Component
 @ConfigurationProperties(prefix = "openai")
 public class AiChatProperties {
@@ -13,6 +15,22 @@ public class AiChatProperties {
     private String model = "gpt-4o-mini";
     private Double temperature = 0.2;
     private Integer maxTokens = 2048;
+    /** JSON 모드(response_format=json_object) 요청 여부 (미지원 호환 서버는 false) */
+    private boolean jsonResponseFormat = true;
+    /** 연결 수립 제한 시간 */
+    private Duration connectTimeout = Duration.ofSeconds(10);
+    /** 응답 제한 시간 (스트리밍은 응답 헤더 수신까지, 전체 스트림은 SSE 제한 시간으로 제한) */
+    private Duration requestTimeout = Duration.ofSeconds(60);
+    /** 동시 LLM 호출 수 상한 (인스턴스 기준) */
+    private int maxConcurrent = 8;
+    /** 동시 호출 슬롯 대기 제한 시간 (초과 시 혼잡 응답) */
+    private Duration acquireTimeout = Duration.ofSeconds(5);
+    /** SSE 스트리밍 전체 제한 시간 */
+    private Duration streamTimeout = Duration.ofSeconds(120);
+    /** 스트리밍 작업 스레드가 모두 사용 중일 때 대기할 수 있는 요청 수 (초과 시 혼잡 응답) */
+    private int streamQueueCapacity = 64;
+    /** 같은 입력(정규화된 대화 + 모델 설정)에 대한 응답 캐시 사용 여부 */
+    private boolean cacheEnabled = true;
 
     public String getBaseUrl() { return baseUrl; }
     public void setBaseUrl(String baseUrl) { this.baseUrl = baseUrl; }
@@ -28,4 +46,28 @@ public class AiChatProperties {
 
     public Integer getMaxTokens() { return maxTokens; }
     public void setMaxTokens(Integer maxTokens) { this.maxTokens = maxTokens; }
+
+    public boolean isJsonResponseFormat() { return jsonResponseFormat; }
+    public void setJsonResponseFormat(boolean jsonResponseFormat) { this.jsonResponseFormat = jsonResponseFormat; }
+
+    public Duration getConnectTimeout() { return connectTimeout; }
+    public void setConnectTimeout(Duration connectTimeout) { this.connectTimeout = connectTimeout; }
+
+    public Duration getRequestTimeout() { return requestTimeout; }
+    public void setRequestTimeout(Duration requestTimeout) { this.requestTimeout = requestTimeout; }
+
+    public int getMaxConcurrent() { return maxConcurrent; }
+    public void setMaxConcurrent(int maxConcurrent) { this.maxConcurrent = maxConcurrent; }
+
+    public Duration getAcquireTimeout() { return acquireTimeout; }
+    public void setAcquireTimeout(Duration acquireTimeout) { this.acquireTimeout = acquireTimeout; }
+
+    public Duration getStreamTimeout() { return streamTimeout; }
+    public void setStreamTimeout(Duration streamTimeout) { this.streamTimeout = streamTimeout; }
+
+    public int getStreamQueueCapacity() { return streamQueueCapacity; }
+    public void setStreamQueueCapacity(int streamQueueCapacity) { this.streamQueueCapacity = streamQueueCapacity; }
+
+    public boolean isCacheEnabled() { return cacheEnabled; }
+    public void setCacheEnabled(boolean cacheEnabled) { this.cacheEnabled = cacheEnabled; }
 } 
\ No newline at end of file
@@ -6,8 +6,10 @@ import com.hermes.attendanceservice.aichat.dto.ChatResponse;
 import com.hermes.attendanceservice.aichat.service.AiChatService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @Slf4j
 @RestController
@@ -27,4 +29,13 @@ public class AiChatController {
             return ResponseEntity.ok(ApiResult.failure("AI 요청 처리 중 오류가 발생했습니다."));
         }
     }
+
+    /**
+     * 스트리밍 응답 (text/event-stream)
+     * delta 이벤트로 답변 텍스트 조각을, result 이벤트로 최종 ChatResponse를 보낸다.
+     */
+    @PostMapping(value = "/chat/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter chatStream(@RequestBody ChatRequest req) {
+        return aiChatService.streamChat(req);
+    }
 } 
\ No newline at end of file
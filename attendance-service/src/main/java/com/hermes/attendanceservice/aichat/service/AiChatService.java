@@ -1,98 +1,264 @@
 package com.hermes.attendanceservice.aichat.service;
 
+import com.fasterxml.jackson.core.json.JsonReadFeature;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.hermes.attendanceservice.aichat.client.ChatCompletionBusyException;
+import com.hermes.attendanceservice.aichat.client.ChatCompletionClient;
+import com.hermes.attendanceservice.aichat.client.ChatCompletionException;
 import com.hermes.attendanceservice.aichat.config.AiChatProperties;
 import com.hermes.attendanceservice.aichat.dto.ChatMessage;
 import com.hermes.attendanceservice.aichat.dto.ChatRequest;
 import com.hermes.attendanceservice.aichat.dto.ChatResponse;
 import com.hermes.attendanceservice.aichat.dto.CommandPayload;
 import com.hermes.attendanceservice.aichat.dto.CommandType;
-import lombok.RequiredArgsConstructor;
+import com.hermes.cache.TenantCacheManager;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutorService;
 import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.net.URI;
-import java.net.http.HttpClient;
-import java.net.http.HttpRequest;
-import java.net.http.HttpResponse;
-import java.nio.charset.StandardCharsets;
-import java.time.Duration;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class AiChatService {
 
+    /** 정규화된 입력 해시 → 응답 (테넌트 캐시, hermes.cache.caches.aichat-response) */
+    public static final String RESPONSE_CACHE = "aichat-response";
+
+    private static final String SYSTEM_PROMPT = "반드시 엄격한 JSON만 출력하세요. 추가 설명이나 코드블록 없이 하나의 JSON 객체로만 답하십시오. 예: {\"type\":\"reply\",\"reply\":\"...\"} 또는 {\"type\":\"command\",\"command\":{\"type\":\"FILL_VACATION_FORM\",\"params\":{\"startDate\":\"2025-01-03\",\"endDate\":\"2025-01-03\",\"type\":\"연차\",\"reason\":\"가족여행\"}}}";
+    private static final String BUSY_REPLY = "요청이 많아 지금은 처리할 수 없어요. 잠시 후 다시 시도해 주세요.";
+    private static final String UNAVAILABLE_REPLY = "죄송해요, 지금은 요청을 처리할 수 없어요. 잠시 후 다시 시도해 주세요.";
+    private static final String ERROR_REPLY = "오류가 발생했어요. 잠시 후 다시 시도해 주세요.";
+    private static final String EMPTY_REPLY = "응답이 비어 있습니다. 다시 시도해 주세요.";
+
     private final AiChatProperties props;
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ChatCompletionClient completionClient;
+    private final TenantCacheManager tenantCacheManager;
+    private final MeterRegistry meterRegistry;
+    private final ExecutorService streamExecutor;
+
+    // 작은따옴표, 따옴표 없는 키, 끝 쉼표를 허용해 JS 객체 형태의 응답도 파싱
+    private final ObjectMapper lenientMapper = JsonMapper.builder()
+            .enable(JsonReadFeature.ALLOW_SINGLE_QUOTES)
+            .enable(JsonReadFeature.ALLOW_UNQUOTED_FIELD_NAMES)
+            .enable(JsonReadFeature.ALLOW_TRAILING_COMMA)
+            .build();
+
+    public AiChatService(AiChatProperties props, ChatCompletionClient completionClient,
+                         TenantCacheManager tenantCacheManager, MeterRegistry meterRegistry) {
+        this.props = props;
+        this.completionClient = completionClient;
+        this.tenantCacheManager = tenantCacheManager;
+        this.meterRegistry = meterRegistry;
+        // LLM 동시 호출 상한만큼의 작업 스레드와 제한된 대기열, 대기열이 가득 차면 혼잡 응답으로 거절
+        int threads = Math.max(1, props.getMaxConcurrent());
+        AtomicInteger sequence = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, props.getStreamQueueCapacity())), runnable -> {
+                    Thread thread = new Thread(runnable, "aichat-stream-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        executor.allowCoreThreadTimeOut(true);
+        meterRegistry.gauge("attendance.aichat.stream.queued", executor, e -> e.getQueue().size());
+        this.streamExecutor = new DelegatingSecurityContextExecutorService(executor);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        streamExecutor.shutdownNow();
+    }
 
     public ChatResponse chat(ChatRequest req) {
         try {
-            Map<String, Object> body = new HashMap<>();
-            body.put("model", props.getModel());
-            body.put("temperature", props.getTemperature());
-            body.put("max_tokens", props.getMaxTokens());
-
-            List<Map<String, String>> messages = new ArrayList<>();
-            messages.add(Map.of(
-                    "role", "system",
-                    "content", "반드시 엄격한 JSON만 출력하세요. 추가 설명이나 코드블록 없이 하나의 JSON 객체로만 답하십시오. 예: {\"type\":\"reply\",\"reply\":\"...\"} 또는 {\"type\":\"command\",\"command\":{\"type\":\"FILL_VACATION_FORM\",\"params\":{\"startDate\":\"2025-01-03\",\"endDate\":\"2025-01-03\",\"type\":\"연차\",\"reason\":\"가족여행\"}}}"
-            ));
-            if (req.getMessages() != null) {
-                for (ChatMessage m : req.getMessages()) {
-                    messages.add(Map.of("role", m.getRole(), "content", m.getContent()));
+            List<Map<String, String>> messages = buildMessages(req);
+            return cached(req, messages, () -> toChatResponse(completionClient.complete(messages), req));
+        } catch (RuntimeException e) {
+            return failureReply(e);
+        }
+    }
+
+    /**
+     * SSE 스트리밍 응답
+     * reply 텍스트는 생성되는 대로 delta 이벤트({"text":"..."})로 보내고, 마지막에 최종 응답을 result 이벤트로 보낸 뒤 종료한다.
+     * 캐시에 있는 입력이면 delta 없이 result만 보낸다. LLM 호출은 별도 스레드에서 실행되어 서블릿 스레드를 점유하지 않는다.
+     */
+    public SseEmitter streamChat(ChatRequest req) {
+        SseEmitter emitter = new SseEmitter(props.getStreamTimeout().toMillis());
+        AtomicBoolean closed = new AtomicBoolean();
+        emitter.onCompletion(() -> closed.set(true));
+        emitter.onTimeout(() -> closed.set(true));
+        emitter.onError(e -> closed.set(true));
+
+        try {
+            streamExecutor.execute(() -> {
+                ChatResponse response;
+                try {
+                    List<Map<String, String>> messages = buildMessages(req);
+                    response = cached(req, messages, () -> {
+                        // 대기열에 있는 동안 연결이 끊겼으면 LLM을 호출하지 않음
+                        ensureOpen(closed);
+                        ReplyStreamExtractor extractor = new ReplyStreamExtractor();
+                        String content = completionClient.stream(messages, delta -> {
+                            String text = extractor.feed(delta);
+                            if (!text.isEmpty()) {
+                                send(emitter, closed, "delta", Map.of("text", text));
+                            }
+                        });
+                        return toChatResponse(content, req);
+                    });
+                } catch (RuntimeException e) {
+                    if (closed.get()) {
+                        log.debug("AI chat stream closed by client");
+                        return;
+                    }
+                    response = failureReply(e);
                 }
+
+                try {
+                    send(emitter, closed, "result", response);
+                    emitter.complete();
+                } catch (RuntimeException e) {
+                    log.debug("AI chat stream closed before result: {}", e.getMessage());
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // 작업 대기열이 가득 참: 동시 호출 상한 초과와 같은 혼잡 응답으로 종료
+            ChatResponse response = failureReply(new ChatCompletionBusyException(
+                    "AI 채팅 스트림 대기열 초과: capacity=" + props.getStreamQueueCapacity()));
+            try {
+                send(emitter, closed, "result", response);
+                emitter.complete();
+            } catch (RuntimeException sendFailure) {
+                emitter.completeWithError(sendFailure);
             }
-            body.put("messages", messages);
+        }
+        return emitter;
+    }
 
-            String json = objectMapper.writeValueAsString(body);
+    private void ensureOpen(AtomicBoolean closed) {
+        if (closed.get()) {
+            throw new IllegalStateException("SSE 연결이 종료되었습니다.");
+        }
+    }
 
-            HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(10)).build();
-            HttpRequest httpRequest = HttpRequest.newBuilder()
-                    .uri(URI.create(props.getBaseUrl() + "/chat/completions"))
-                    .timeout(Duration.ofSeconds(60))
-                    .header("Authorization", "Bearer " + props.getApiKey())
-                    .header("Content-Type", "application/json")
-                    .POST(HttpRequest.BodyPublishers.ofString(json, StandardCharsets.UTF_8))
-                    .build();
+    private void send(SseEmitter emitter, AtomicBoolean closed, String event, Object data) {
+        ensureOpen(closed);
+        try {
+            emitter.send(SseEmitter.event().name(event).data(data, MediaType.APPLICATION_JSON));
+        } catch (IOException e) {
+            closed.set(true);
+            throw new UncheckedIOException(e);
+        }
+    }
 
-            HttpResponse<String> response = client.send(httpRequest, HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
+    /**
+     * 정규화된 입력의 해시로 응답 캐시 조회 (같은 입력의 동시 요청은 LLM을 한 번만 호출)
+     * LLM 호출 실패는 예외로 전파되어 캐시되지 않는다.
+     * 함께 기다리던 다른 요청의 로드가 실패하면(그 요청의 연결 종료 등) 이 요청은 직접 다시 로드한다.
+     */
+    private ChatResponse cached(ChatRequest req, List<Map<String, String>> messages, Supplier<ChatResponse> loader) {
+        if (!props.isCacheEnabled()) {
+            return loader.get();
+        }
 
-            if (response.statusCode() >= 400) {
-                log.warn("OpenAI error: status={} body={}", response.statusCode(), response.body());
-                return ChatResponse.builder().type("reply").reply("죄송해요, 지금은 요청을 처리할 수 없어요. 잠시 후 다시 시도해 주세요.").build();
+        String key = ChatCacheKey.of(props, Boolean.TRUE.equals(req.getAllowCommands()), messages);
+        AtomicBoolean loaded = new AtomicBoolean();
+        ChatResponse response;
+        try {
+            response = tenantCacheManager.<String, ChatResponse>getCache(RESPONSE_CACHE)
+                    .get(key, () -> {
+                        loaded.set(true);
+                        return loader.get();
+                    });
+        } catch (RuntimeException e) {
+            if (loaded.get()) {
+                throw e;
             }
+            log.debug("Shared AI chat load failed, loading for this request: {}", e.getMessage());
+            meterRegistry.counter("attendance.aichat.cache", "result", "shared_failure").increment();
+            return loader.get();
+        }
+        meterRegistry.counter("attendance.aichat.cache", "result", loaded.get() ? "miss" : "hit").increment();
+        return response;
+    }
 
-            JsonNode root = objectMapper.readTree(response.body());
-            String content = root.path("choices").path(0).path("message").path("content").asText("");
-            if (content == null || content.isBlank()) {
-                return ChatResponse.builder().type("reply").reply("응답이 비어 있습니다. 다시 시도해 주세요.").build();
+    private List<Map<String, String>> buildMessages(ChatRequest req) {
+        List<Map<String, String>> messages = new ArrayList<>();
+        messages.add(Map.of("role", "system", "content", SYSTEM_PROMPT));
+        if (req.getMessages() != null) {
+            for (ChatMessage m : req.getMessages()) {
+                messages.add(Map.of("role", m.getRole(), "content", m.getContent()));
             }
+        }
+        return messages;
+    }
 
-            // First try strict JSON
+    private ChatResponse toChatResponse(String content, ChatRequest req) {
+        if (content == null || content.isBlank()) {
+            // 빈 응답은 일시적인 현상일 수 있으므로 캐시하지 않음
+            throw new EmptyCompletionException();
+        }
+
+        String json = extractJsonObject(content);
+        if (json != null) {
             try {
-                return parseAssistantJson(content, req);
+                return parseAssistantJson(json, content, req);
             } catch (Exception e) {
-                // Try repair if got JS-like object
-                String repaired = repairJson(content);
-                if (repaired != null) {
-                    try {
-                        return parseAssistantJson(repaired, req);
-                    } catch (Exception ignore) {}
-                }
-                // Fallback to plain text
-                return ChatResponse.builder().type("reply").reply(content).build();
+                log.debug("AI chat response is not JSON, falling back to plain text: {}", e.getMessage());
             }
-        } catch (Exception e) {
-            log.error("AI chat failed", e);
-            return ChatResponse.builder().type("reply").reply("오류가 발생했어요. 잠시 후 다시 시도해 주세요.").build();
         }
+        // Fallback to plain text
+        return ChatResponse.builder().type("reply").reply(content).build();
+    }
+
+    /**
+     * 코드블록이나 앞뒤 설명이 섞인 경우를 위해 첫 '{'부터 마지막 '}'까지를 JSON 객체로 취급
+     */
+    private String extractJsonObject(String content) {
+        int start = content.indexOf('{');
+        int end = content.lastIndexOf('}');
+        return start >= 0 && end > start ? content.substring(start, end + 1) : null;
+    }
+
+    private ChatResponse failureReply(RuntimeException e) {
+        if (e instanceof ChatCompletionBusyException) {
+            log.warn("AI chat rejected: {}", e.getMessage());
+            return reply(BUSY_REPLY);
+        }
+        if (e instanceof EmptyCompletionException) {
+            return reply(EMPTY_REPLY);
+        }
+        if (e instanceof ChatCompletionException) {
+            log.warn("AI chat failed: {}", e.getMessage());
+            return reply(UNAVAILABLE_REPLY);
+        }
+        log.error("AI chat failed", e);
+        return reply(ERROR_REPLY);
+    }
+
+    private ChatResponse reply(String text) {
+        return ChatResponse.builder().type("reply").reply(text).build();
     }
 
-    private ChatResponse parseAssistantJson(String jsonContent, ChatRequest req) throws Exception {
-        JsonNode node = objectMapper.readTree(jsonContent);
+    private ChatResponse parseAssistantJson(String jsonContent, String rawContent, ChatRequest req) throws Exception {
+        JsonNode node = lenientMapper.readTree(jsonContent);
         String type = node.path("type").asText("");
         if ("command".equalsIgnoreCase(type) && Boolean.TRUE.equals(req.getAllowCommands())) {
             String cmdTypeStr = node.path("command").path("type").asText("");
@@ -100,7 +266,7 @@ public class AiChatService {
             if (cmdType == null) {
                 return ChatResponse.builder().type("reply").reply("허용되지 않은 명령이에요. 다른 방식으로 요청해 주세요.").build();
             }
-            Map<String, Object> rawParams = objectMapper.convertValue(node.path("command").path("params"), Map.class);
+            Map<String, Object> rawParams = lenientMapper.convertValue(node.path("command").path("params"), Map.class);
             Map<String, Object> params = normalizeParams(cmdType, rawParams);
             if (!validateParams(cmdType, params)) {
                 return ChatResponse.builder().type("reply").reply("명령 파라미터가 올바르지 않습니다. 필요한 정보를 더 알려 주세요.").build();
@@ -108,31 +274,11 @@ public class AiChatService {
             return ChatResponse.builder().type("command").command(CommandPayload.builder().type(cmdType).params(params).build()).build();
         } else {
             String reply = node.path("reply").asText("");
-            if (reply.isBlank()) reply = jsonContent;
+            if (reply.isBlank()) reply = rawContent;
             return ChatResponse.builder().type("reply").reply(reply).build();
         }
     }
 
-    private String repairJson(String raw) {
-        if (raw == null) return null;
-        String s = raw.trim();
-        // If already looks like strict JSON, skip
-        if (s.startsWith("{") && s.contains("\"type\"")) return null;
-        // Replace single quotes with double
-        s = s.replace('\'', '"');
-        // Quote common keys if unquoted
-        String[] keys = {"type", "command", "params", "startDate", "endDate", "start_date", "end_date", "date", "reason"};
-        for (String k : keys) {
-            s = s.replaceAll("(?<!\\\\)\\b" + k + ":", '"' + k + '"' + ":");
-        }
-        // Ensure outer braces
-        if (!s.trim().startsWith("{")) {
-            int first = s.indexOf('{');
-            if (first >= 0) s = s.substring(first);
-        }
-        return s;
-    }
-
     private CommandType safeCommandType(String value) {
         try { return CommandType.valueOf(Optional.ofNullable(value).orElse("")); }
         catch (Exception e) { return null; }
@@ -178,4 +324,11 @@ public class AiChatService {
                 return false;
         }
     }
+
+    private static final class EmptyCompletionException extends ChatCompletionException {
+
+        private EmptyCompletionException() {
+            super("LLM 응답이 비어 있습니다.");
+        }
+    }
 } 
\ No newline at end of file
@@ -0,0 +1,73 @@
+package com.hermes.attendanceservice.aichat.service;
+
+import com.hermes.attendanceservice.aichat.config.AiChatProperties;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 응답 캐시 키 (내용 주소 방식)
+ * <p>
+ * 응답을 결정하는 입력(모델 설정, 시스템 프롬프트, 명령 허용 여부, 대화)을 정규화해 SHA-256으로 해시한다.
+ * 대화 내용은 유니코드 NFC 정규화와 공백 정리(앞뒤 제거, 연속 공백 하나로)를 거치므로
+ * 입력 방식에 따른 자모 분리나 공백 차이는 같은 키가 된다.
+ */
+final class ChatCacheKey {
+
+    // 정보 구분 문자는 Character.isWhitespace 대상이라 정규화된 내용에는 나오지 않음
+    private static final char FIELD_SEPARATOR = '\u001F';
+    private static final char RECORD_SEPARATOR = '\u001E';
+
+    private ChatCacheKey() {
+    }
+
+    static String of(AiChatProperties props, boolean allowCommands, List<Map<String, String>> messages) {
+        StringBuilder canonical = new StringBuilder(256)
+                .append(props.getModel()).append(FIELD_SEPARATOR)
+                .append(props.getTemperature()).append(FIELD_SEPARATOR)
+                .append(props.getMaxTokens()).append(FIELD_SEPARATOR)
+                .append(props.isJsonResponseFormat()).append(FIELD_SEPARATOR)
+                .append(allowCommands).append(RECORD_SEPARATOR);
+        for (Map<String, String> message : messages) {
+            canonical.append(normalize(message.get("role"))).append(FIELD_SEPARATOR)
+                    .append(normalize(message.get("content"))).append(RECORD_SEPARATOR);
+        }
+        return sha256(canonical.toString());
+    }
+
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String composed = Normalizer.normalize(text, Normalizer.Form.NFC);
+        StringBuilder out = new StringBuilder(composed.length());
+        boolean pendingSpace = false;
+        for (int i = 0; i < composed.length(); i++) {
+            char c = composed.charAt(i);
+            if (Character.isWhitespace(c)) {
+                pendingSpace = out.length() > 0;
+                continue;
+            }
+            if (pendingSpace) {
+                out.append(' ');
+                pendingSpace = false;
+            }
+            out.append(c);
+        }
+        return out.toString();
+    }
+
+    private static String sha256(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 algorithm not found", e);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.hermes.attendanceservice.aichat.service;
+
+/**
+ * 스트리밍 중인 assistant JSON({"type":"reply","reply":"..."})에서 reply 문자열 값만 점진적으로 추출
+ * <p>
+ * 응답이 완성되기 전에 사용자에게 보여줄 텍스트를 흘려보내기 위한 용도이며,
+ * 최종 응답(명령 여부, 파라미터 검증)은 완성된 내용을 파싱한 결과를 따른다.
+ * 이스케이프 시퀀스는 조각 경계에 걸쳐 있어도 복원한다.
+ */
+final class ReplyStreamExtractor {
+
+    private static final String KEY = "\"reply\"";
+
+    private enum State { SEEK_KEY, SEEK_COLON, SEEK_QUOTE, VALUE, ESCAPE, UNICODE, DONE }
+
+    private State state = State.SEEK_KEY;
+    private int keyMatched;
+    private final StringBuilder unicode = new StringBuilder(4);
+
+    /**
+     * 새로 받은 내용 조각을 반영하고, 이번 조각으로 확정된 reply 텍스트를 반환 (없으면 빈 문자열)
+     */
+    String feed(String delta) {
+        StringBuilder out = new StringBuilder();
+        for (int i = 0; i < delta.length() && state != State.DONE; i++) {
+            accept(delta.charAt(i), out);
+        }
+        return out.toString();
+    }
+
+    private void accept(char c, StringBuilder out) {
+        switch (state) {
+            case SEEK_KEY -> {
+                if (c == KEY.charAt(keyMatched)) {
+                    keyMatched++;
+                    if (keyMatched == KEY.length()) {
+                        keyMatched = 0;
+                        state = State.SEEK_COLON;
+                    }
+                } else {
+                    keyMatched = c == '"' ? 1 : 0;
+                }
+            }
+            case SEEK_COLON -> {
+                if (c == ':') {
+                    state = State.SEEK_QUOTE;
+                } else if (!Character.isWhitespace(c)) {
+                    // "type":"reply" 처럼 값으로 쓰인 경우
+                    keyMatched = c == '"' ? 1 : 0;
+                    state = State.SEEK_KEY;
+                }
+            }
+            case SEEK_QUOTE -> {
+                if (c == '"') {
+                    state = State.VALUE;
+                } else if (!Character.isWhitespace(c)) {
+                    state = State.DONE;     // 문자열이 아닌 reply 값
+                }
+            }
+            case VALUE -> {
+                if (c == '\\') {
+                    state = State.ESCAPE;
+                } else if (c == '"') {
+                    state = State.DONE;
+                } else {
+                    out.append(c);
+                }
+            }
+            case ESCAPE -> {
+                state = State.VALUE;
+                switch (c) {
+                    case 'n' -> out.append('\n');
+                    case 't' -> out.append('\t');
+                    case 'r' -> out.append('\r');
+                    case 'b' -> out.append('\b');
+                    case 'f' -> out.append('\f');
+                    case 'u' -> {
+                        unicode.setLength(0);
+                        state = State.UNICODE;
+                    }
+                    default -> out.append(c);   // \" \\ \/
+                }
+            }
+            case UNICODE -> {
+                unicode.append(c);
+                if (unicode.length() == 4) {
+                    try {
+                        out.append((char) Integer.parseInt(unicode.toString(), 16));
+                    } catch (NumberFormatException ignore) {
+                        // 잘못된 이스케이프는 건너뜀 (최종 파싱 결과로 보정)
+                    }
+                    state = State.VALUE;
+                }
+            }
+            case DONE -> {
+            }
+        }
+    }
+}
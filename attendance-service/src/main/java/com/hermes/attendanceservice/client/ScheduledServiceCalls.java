@@ -0,0 +1,44 @@
+package com.hermes.attendanceservice.client;
+
+import com.hermes.auth.jwt.ServiceTokenContext;
+import com.hermes.cache.tenant.TenantKeyResolver;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+/**
+ * 스케줄러 작업의 서비스 간 호출 범위
+ * 사용자 요청 없이 실행되는 작업은 attendance.scheduler.tenant-id로 지정한 테넌트의 서비스 토큰으로 다른 서비스를 호출한다.
+ * 테넌트가 설정되지 않으면 인증 헤더 없이 실행되므로 권한이 필요한 호출은 실패한다.
+ */
+@Slf4j
+@Component
+public class ScheduledServiceCalls {
+
+    private final String tenantId;
+
+    public ScheduledServiceCalls(@Value("${attendance.scheduler.tenant-id:}") String tenantId) {
+        this.tenantId = tenantId;
+    }
+
+    public void run(String jobName, Runnable job) {
+        if (!StringUtils.hasText(tenantId)) {
+            log.warn("attendance.scheduler.tenant-id가 설정되지 않아 서비스 토큰 없이 실행: job={}", jobName);
+            job.run();
+            return;
+        }
+        ServiceTokenContext.runAsService(tenantId, job);
+    }
+
+    /**
+     * 지정한 테넌트의 서비스 토큰으로 실행 (기본 테넌트면 attendance.scheduler.tenant-id 사용)
+     */
+    public void run(String jobName, String tenantId, Runnable job) {
+        if (!StringUtils.hasText(tenantId) || TenantKeyResolver.DEFAULT_TENANT.equals(tenantId)) {
+            run(jobName, job);
+            return;
+        }
+        ServiceTokenContext.runAsService(tenantId, job);
+    }
+}
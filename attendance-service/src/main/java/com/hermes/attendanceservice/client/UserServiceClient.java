@@ -3,7 +3,9 @@ package com.hermes.attendanceservice.client;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
 
+import java.util.List;
 import java.util.Map;
 
 @FeignClient(name = "user-service", url = "${user-service.url:http://localhost:8081}")
@@ -18,6 +20,9 @@ public interface UserServiceClient {
     @GetMapping("/api/users/{userId}/simple")
     Map<String, Object> getUserWorkPolicyRaw(@PathVariable("userId") Long userId);
 
+    @GetMapping("/api/users/leave-grant-targets")
+    Map<String, Object> getLeaveGrantTargetsRaw(@RequestParam("afterId") Long afterId, @RequestParam("size") int size);
+
     default Map<String, Object> getUserById(Long userId) {
         Map<String, Object> wrapper = getUserByIdRaw(userId);
         Object data = wrapper != null ? wrapper.get("data") : null;
@@ -35,4 +40,13 @@ public interface UserServiceClient {
         Object data = wrapper != null ? wrapper.get("data") : null;
         return data instanceof Map ? (Map<String, Object>) data : Map.of();
     }
+
+    /**
+     * 연차 부여 대상(userId, joinDate, workYears, workPolicyId)을 id 순으로 afterId 이후부터 size명 조회
+     */
+    default List<Map<String, Object>> getLeaveGrantTargets(Long afterId, int size) {
+        Map<String, Object> wrapper = getLeaveGrantTargetsRaw(afterId, size);
+        Object data = wrapper != null ? wrapper.get("data") : null;
+        return data instanceof List ? (List<Map<String, Object>>) data : List.of();
+    }
 } 
\ No newline at end of file
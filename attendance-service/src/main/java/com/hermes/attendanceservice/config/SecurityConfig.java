@@ -1,6 +1,7 @@
 package com.hermes.attendanceservice.config;
 
 import com.hermes.auth.config.BaseSecurityConfig;
+import jakarta.servlet.DispatcherType;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configurers.AuthorizeHttpRequestsConfigurer;
@@ -18,6 +19,8 @@ public class SecurityConfig extends BaseSecurityConfig {
     ) {
         // BaseSecurityConfig에서 이미 /v3/api-docs/**와 /swagger-ui/**를 허용하므로
         // attendance-service API들은 인증된 사용자만 접근 가능
+        // SSE(AI 채팅 스트리밍) 완료 시의 비동기 디스패치는 최초 요청에서 이미 인가됨
+        auth.dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll();
         auth.requestMatchers("/api/**").authenticated();       // attendance-service API들
     }
 }
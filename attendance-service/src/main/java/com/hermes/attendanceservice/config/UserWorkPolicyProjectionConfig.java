@@ -0,0 +1,42 @@
+package com.hermes.attendanceservice.config;
+
+import org.springframework.amqp.core.Binding;
+import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.ExchangeBuilder;
+import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.core.QueueBuilder;
+import org.springframework.amqp.core.TopicExchange;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 사용자 근무 정책 할당 이벤트 수신 Queue 설정
+ * user-service가 tenant.events Exchange에 user.work-policy.* 라우팅 키로 발행한다.
+ */
+@Configuration
+public class UserWorkPolicyProjectionConfig {
+
+    @Value("${attendance.projection.user-work-policy.exchange:tenant.events}")
+    private String exchangeName;
+
+    @Value("${attendance.projection.user-work-policy.queue:attendance.user-work-policy}")
+    private String queueName;
+
+    @Bean
+    public TopicExchange userWorkPolicyExchange() {
+        return ExchangeBuilder.topicExchange(exchangeName).durable(true).build();
+    }
+
+    @Bean
+    public Queue userWorkPolicyQueue() {
+        return QueueBuilder.durable(queueName).build();
+    }
+
+    @Bean
+    public Binding userWorkPolicyBinding() {
+        return BindingBuilder.bind(userWorkPolicyQueue())
+                .to(userWorkPolicyExchange())
+                .with("user.work-policy.*");
+    }
+}
@@ -4,6 +4,7 @@ import com.hermes.api.common.ApiResult;
 import com.hermes.attendanceservice.dto.workschedule.AdjustWorkTimeRequestDto;
 import com.hermes.attendanceservice.dto.workschedule.ColleagueScheduleResponseDto;
 import com.hermes.attendanceservice.dto.workschedule.CreateScheduleRequestDto;
+import com.hermes.attendanceservice.dto.workschedule.ScheduleOverrideRequestDto;
 import com.hermes.attendanceservice.dto.workschedule.ScheduleResponseDto;
 import com.hermes.attendanceservice.dto.workschedule.UpdateScheduleRequestDto;
 import com.hermes.attendanceservice.dto.workschedule.UserWorkPolicyDto;
@@ -135,6 +136,25 @@ public class WorkScheduleController {
         }
     }
     
+    /**
+     * 근무 정책 스케줄 조정
+     * 교대/시차 근무 블록 등 편집 가능한 정책 스케줄의 특정 날짜 시간을 변경
+     */
+    @PostMapping("/users/{userId}/schedules/overrides")
+    @PreAuthorize("hasRole('ADMIN') or #userId == authentication.principal.id")
+    public ResponseEntity<ApiResult<ScheduleResponseDto>> overrideWorkPolicySchedule(
+            @PathVariable Long userId,
+            @Valid @RequestBody ScheduleOverrideRequestDto requestDto) {
+        try {
+            log.info("Overriding work policy schedule for userId: {} on {} ({})", userId, requestDto.getDate(), requestDto.getFixedReason());
+            ScheduleResponseDto result = workScheduleService.overrideWorkPolicySchedule(userId, requestDto);
+            return ResponseEntity.ok(ApiResult.success("근무 정책 스케줄 조정 성공", result));
+        } catch (Exception e) {
+            log.error("Error overriding work policy schedule for userId: {}", userId, e);
+            return ResponseEntity.ok(ApiResult.failure("근무 정책 스케줄 조정 중 오류가 발생했습니다: " + e.getMessage()));
+        }
+    }
+    
     /**
      * 스케줄 수정
      */
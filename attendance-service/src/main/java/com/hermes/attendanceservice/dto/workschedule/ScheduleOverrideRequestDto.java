@@ -0,0 +1,35 @@
+package com.hermes.attendanceservice.dto.workschedule;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * 근무 정책 스케줄 조정 요청 (특정 날짜의 정책 스케줄 시간 변경)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScheduleOverrideRequestDto {
+
+    @NotNull(message = "날짜는 필수입니다.")
+    private LocalDate date;
+
+    @NotBlank(message = "고정 사유는 필수입니다.")
+    private String fixedReason; // SHIFT_WORK_RANDOM, FLEXIBLE_WORK_TIME 등 조정 대상 정책 스케줄
+
+    @NotNull(message = "시작 시간은 필수입니다.")
+    private LocalTime startTime;
+
+    @NotNull(message = "종료 시간은 필수입니다.")
+    private LocalTime endTime;
+
+    private String description;
+}
@@ -0,0 +1,64 @@
+package com.hermes.attendanceservice.entity.leave;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * 연차 일괄 부여 실행 체크포인트
+ * 청크가 커밋될 때마다 마지막으로 처리한 직원 ID를 함께 기록해, 중단된 실행은 처음이 아닌 다음 청크부터 재개한다
+ */
+@Entity
+@Table(name = "annual_leave_grant_run",
+       uniqueConstraints = @UniqueConstraint(name = "uk_annual_leave_grant_run_date", columnNames = "grant_date"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AnnualLeaveGrantRun {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "grant_date", nullable = false)
+    private LocalDate grantDate; // 부여 기준일 (실행 단위)
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private Status status;
+
+    @Column(name = "last_employee_id", nullable = false)
+    @Builder.Default
+    private Long lastEmployeeId = 0L; // 마지막으로 커밋된 청크의 최대 직원 ID
+
+    @Column(name = "processed_count", nullable = false)
+    @Builder.Default
+    private Integer processedCount = 0; // 처리한 직원 수
+
+    @Column(name = "granted_count", nullable = false)
+    @Builder.Default
+    private Integer grantedCount = 0; // 부여된 연차 잔액 행 수
+
+    @Column(name = "skipped_count", nullable = false)
+    @Builder.Default
+    private Integer skippedCount = 0; // 근무정책/연차 규정이 없어 건너뛴 직원 수
+
+    @Column(name = "started_at")
+    private Instant startedAt;
+
+    @Column(name = "heartbeat_at")
+    private Instant heartbeatAt; // 마지막 청크 커밋 시각 (실행 중 여부 판단)
+
+    @Column(name = "completed_at")
+    private Instant completedAt;
+
+    public enum Status {
+        RUNNING,
+        FAILED,
+        COMPLETED
+    }
+}
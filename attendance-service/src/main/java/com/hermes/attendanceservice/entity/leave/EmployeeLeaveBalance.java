@@ -7,7 +7,8 @@ import java.time.Instant;
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "employee_leave_balance")
+@Table(name = "employee_leave_balance",
+       uniqueConstraints = @UniqueConstraint(name = "uk_employee_leave_balance_employee_type", columnNames = {"employee_id", "leave_type"}))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -16,7 +17,8 @@ import java.time.LocalDate;
 public class EmployeeLeaveBalance {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "employee_leave_balance_id_seq")
+    @SequenceGenerator(name = "employee_leave_balance_id_seq", sequenceName = "employee_leave_balance_id_seq", allocationSize = 50)
     private Long id;
     
     @Column(name = "employee_id", nullable = false)
@@ -47,6 +49,10 @@ public class EmployeeLeaveBalance {
     
     @Column(name = "updated_at")
     private Instant updatedAt;
+
+    @Version
+    @Column(name = "version")
+    private Long version; // 낙관적 잠금 버전 (조건부 UPDATE 경로에서도 함께 증가)
     
     @PrePersist
     protected void onCreate() {
@@ -0,0 +1,60 @@
+package com.hermes.attendanceservice.entity.workpolicy;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.time.LocalDateTime;
+
+/**
+ * 사용자별 근무 정책 할당 프로젝션
+ * user-service의 사용자 근무 정책 변경 이벤트로 갱신되며, 출퇴근 처리 시 User Service 호출 없이 근무 정책을 결정하는 데 사용
+ * user-service는 테넌트별 스키마라 사용자 ID가 테넌트마다 겹치므로 (테넌트, 사용자) 단위로 저장
+ */
+@Entity
+@Table(name = "user_work_policy_assignment",
+       indexes = @Index(name = "idx_user_work_policy_assignment_policy", columnList = "work_policy_id"))
+@IdClass(UserWorkPolicyAssignment.AssignmentId.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserWorkPolicyAssignment {
+
+    @Id
+    @Column(name = "tenant_id", length = 100)
+    private String tenantId; // 이벤트/요청의 테넌트 식별자 (없으면 TenantKeyResolver.DEFAULT_TENANT)
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId; // User 엔티티의 고유 식별자
+
+    @Column(name = "work_policy_id")
+    private Long workPolicyId; // null이면 근무 정책 미할당
+
+    @Column(name = "source_updated_at")
+    private LocalDateTime sourceUpdatedAt; // 마지막으로 반영한 이벤트 발생 시각 또는 주기 대조로 고친 시각 (조회로 보충한 경우 null)
+
+    @Column(name = "verified_at")
+    private LocalDateTime verifiedAt; // 마지막으로 User Service 조회 결과와 대조(또는 보충)한 시각
+
+    @UpdateTimestamp
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class AssignmentId implements Serializable {
+        private String tenantId;
+        private Long userId;
+    }
+}
@@ -18,7 +18,8 @@ import com.hermes.attendanceservice.entity.workschedule.ScheduleType;
 public class Schedule {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "schedules_id_seq")
+    @SequenceGenerator(name = "schedules_id_seq", sequenceName = "schedules_id_seq", allocationSize = 50)
     private Long id;
     
     @Column(nullable = false)
@@ -0,0 +1,39 @@
+package com.hermes.attendanceservice.messaging;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hermes.attendanceservice.service.workpolicy.UserWorkPolicyProjectionService;
+import com.hermes.events.user.UserWorkPolicyEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpRejectAndDontRequeueException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용자 근무 정책 할당 변경 이벤트 수신
+ * 프로젝션은 공유 DB에 저장되므로 인스턴스 간 공유 Queue로 한 번만 처리한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserWorkPolicyEventListener {
+
+    private final UserWorkPolicyProjectionService userWorkPolicyProjectionService;
+    private final ObjectMapper objectMapper;
+
+    @RabbitListener(queues = "#{@userWorkPolicyQueue.name}")
+    public void handleUserWorkPolicyEvent(Message message) {
+        UserWorkPolicyEvent event;
+        try {
+            event = objectMapper.readValue(message.getBody(), UserWorkPolicyEvent.class);
+        } catch (Exception e) {
+            // 역직렬화 불가 메시지는 재시도해도 실패하므로 폐기
+            throw new AmqpRejectAndDontRequeueException("사용자 근무 정책 이벤트 역직렬화 실패", e);
+        }
+
+        log.debug("사용자 근무 정책 이벤트 수신: userId={}, workPolicyId={}, removed={}",
+                event.getUserId(), event.getWorkPolicyId(), event.isRemoved());
+        userWorkPolicyProjectionService.apply(event);
+    }
+}
@@ -0,0 +1,60 @@
+package com.hermes.attendanceservice.repository.attendance;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * 출퇴근 기록 일괄 갱신 Repository
+ * 사용자별 퇴근 시간을 배열로 전달해 UPDATE ... FROM unnest 단일 문장으로 반영한다
+ */
+@Repository
+@RequiredArgsConstructor
+public class AttendanceBulkRepository {
+
+    private static final String CLOSE_OPEN_SQL = """
+            UPDATE attendance a
+               SET check_out = v.check_out,
+                   is_auto_recorded = true
+              FROM unnest(?, ?) AS v(user_id, check_out)
+             WHERE a.user_id = v.user_id
+               AND a.date = ?
+               AND a.check_in IS NOT NULL
+               AND a.check_out IS NULL
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 특정 날짜의 미완료 출근 기록을 사용자별 퇴근 시간으로 일괄 자동 퇴근 처리하고 반영된 행 수를 반환
+     * 그 사이 직접 퇴근한 기록은 check_out 조건에 걸려 갱신되지 않는다
+     */
+    public int closeOpenAttendances(LocalDate date, Map<Long, Instant> checkOutByUserId) {
+        if (checkOutByUserId.isEmpty()) {
+            return 0;
+        }
+
+        Long[] userIds = new Long[checkOutByUserId.size()];
+        String[] checkOuts = new String[checkOutByUserId.size()];
+        int index = 0;
+        for (Map.Entry<Long, Instant> entry : checkOutByUserId.entrySet()) {
+            userIds[index] = entry.getKey();
+            // ISO-8601(UTC) 문자열로 전달해 세션 타임존과 무관하게 해석되도록 함
+            checkOuts[index] = entry.getValue().toString();
+            index++;
+        }
+
+        return jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(CLOSE_OPEN_SQL);
+            ps.setArray(1, connection.createArrayOf("bigint", userIds));
+            ps.setArray(2, connection.createArrayOf("timestamptz", checkOuts));
+            ps.setObject(3, date);
+            return ps;
+        });
+    }
+}
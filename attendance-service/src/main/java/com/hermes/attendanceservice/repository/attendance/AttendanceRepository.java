@@ -1,7 +1,10 @@
 package com.hermes.attendanceservice.repository.attendance;
 
 import com.hermes.attendanceservice.entity.attendance.Attendance;
+import com.hermes.attendanceservice.entity.attendance.AttendanceStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -12,7 +15,15 @@ public interface AttendanceRepository extends JpaRepository<Attendance, Long> {
     List<Attendance> findAllByUserIdAndDateBetween(Long userId, LocalDate start, LocalDate end);
     boolean existsByUserIdAndDate(Long userId, LocalDate date);
     List<Attendance> findByDate(LocalDate date);
+
+    // 특정 날짜에 실제 출근(체크인)한 기록 중 특정 출근 상태의 수 (근무 모니터링 집계용)
+    long countByDateAndCheckInIsNotNullAndAttendanceStatus(LocalDate date, AttendanceStatus attendanceStatus);
     
     // 출근했지만 퇴근하지 않은 모든 기록 조회 (자동 퇴근 처리용)
     List<Attendance> findAllByCheckInIsNotNullAndCheckOutIsNullAndDate(LocalDate date);
+
+    // 출근했지만 퇴근하지 않은 사용자 ID 조회 (일괄 자동 퇴근 처리용)
+    @Query("SELECT DISTINCT a.userId FROM Attendance a " +
+           "WHERE a.date = :date AND a.checkIn IS NOT NULL AND a.checkOut IS NULL")
+    List<Long> findOpenUserIdsByDate(@Param("date") LocalDate date);
 } 
\ No newline at end of file
@@ -0,0 +1,49 @@
+package com.hermes.attendanceservice.repository.leave;
+
+import com.hermes.attendanceservice.entity.leave.AnnualLeaveGrantRun;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Optional;
+
+@Repository
+public interface AnnualLeaveGrantRunRepository extends JpaRepository<AnnualLeaveGrantRun, Long> {
+
+    /**
+     * 부여 기준일로 실행 체크포인트 조회
+     */
+    Optional<AnnualLeaveGrantRun> findByGrantDate(LocalDate grantDate);
+
+    /**
+     * 완료되지 않았고 다른 인스턴스가 진행 중이 아닌(하트비트가 오래된) 실행을 점유 (반영된 행 수 반환)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE AnnualLeaveGrantRun r SET r.status = com.hermes.attendanceservice.entity.leave.AnnualLeaveGrantRun.Status.RUNNING, " +
+           "r.heartbeatAt = :now " +
+           "WHERE r.id = :id " +
+           "AND r.status <> com.hermes.attendanceservice.entity.leave.AnnualLeaveGrantRun.Status.COMPLETED " +
+           "AND (r.status <> com.hermes.attendanceservice.entity.leave.AnnualLeaveGrantRun.Status.RUNNING OR r.heartbeatAt < :staleBefore)")
+    int claim(@Param("id") Long id, @Param("now") Instant now, @Param("staleBefore") Instant staleBefore);
+
+    /**
+     * 청크 커밋과 같은 트랜잭션에서 커서와 누적 건수를 전진
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE AnnualLeaveGrantRun r SET r.lastEmployeeId = :lastEmployeeId, " +
+           "r.processedCount = r.processedCount + :processed, " +
+           "r.grantedCount = r.grantedCount + :granted, " +
+           "r.skippedCount = r.skippedCount + :skipped, " +
+           "r.heartbeatAt = :now " +
+           "WHERE r.id = :id")
+    int advance(@Param("id") Long id,
+                @Param("lastEmployeeId") Long lastEmployeeId,
+                @Param("processed") int processed,
+                @Param("granted") int granted,
+                @Param("skipped") int skipped,
+                @Param("now") Instant now);
+}
@@ -0,0 +1,115 @@
+package com.hermes.attendanceservice.repository.leave;
+
+import com.hermes.attendanceservice.entity.leave.EmployeeLeaveBalance;
+import com.hermes.jpa.batch.SequenceIdAllocator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 연차 잔액 일괄 부여 Repository
+ * 청크 단위로 계산된 부여 결과를 배치 UPSERT로 반영하고, 더 이상 부여 대상이 아닌 연차 타입은 정리한다
+ */
+@Repository
+@RequiredArgsConstructor
+public class EmployeeLeaveBalanceBulkRepository {
+
+    // 부여량/근무년수/근무정책이 바뀐 경우에만 재부여 (변경이 없으면 사용 일수를 보존)
+    // 신규 행 ID는 엔티티와 같은 시퀀스에서 블록 단위로 할당 (충돌로 갱신된 행의 ID는 버려짐)
+    private static final String UPSERT_SQL = """
+            INSERT INTO employee_leave_balance
+                   (id, employee_id, leave_type, total_leave_days, used_leave_days, remaining_days,
+                    work_years, work_policy_id, created_at, updated_at, version)
+            VALUES (?, ?, ?, ?, 0, ?, ?, ?, now(), now(), 0)
+            ON CONFLICT (employee_id, leave_type) DO UPDATE
+               SET total_leave_days = EXCLUDED.total_leave_days,
+                   used_leave_days = 0,
+                   remaining_days = EXCLUDED.remaining_days,
+                   work_years = EXCLUDED.work_years,
+                   work_policy_id = EXCLUDED.work_policy_id,
+                   updated_at = now(),
+                   version = employee_leave_balance.version + 1
+             WHERE (employee_leave_balance.total_leave_days,
+                    employee_leave_balance.work_years,
+                    employee_leave_balance.work_policy_id)
+                   IS DISTINCT FROM
+                   (EXCLUDED.total_leave_days, EXCLUDED.work_years, EXCLUDED.work_policy_id)
+            """;
+
+    private static final String ID_SEQUENCE = "employee_leave_balance_id_seq";
+
+    private static final String DELETE_STALE_SQL = """
+            DELETE FROM employee_leave_balance b
+             WHERE b.employee_id = ANY(?)
+               AND NOT EXISTS (
+                     SELECT 1
+                       FROM unnest(?, ?) AS g(employee_id, leave_type)
+                      WHERE g.employee_id = b.employee_id
+                        AND g.leave_type = b.leave_type)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 부여 결과를 배치 UPSERT로 반영하고 실제로 변경된 행 수를 반환
+     */
+    public int upsertGrants(List<EmployeeLeaveBalance> grants) {
+        if (grants.isEmpty()) {
+            return 0;
+        }
+
+        long[] ids = SequenceIdAllocator.allocate(jdbcTemplate, ID_SEQUENCE, grants.size());
+        int[] counts = jdbcTemplate.batchUpdate(UPSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                EmployeeLeaveBalance grant = grants.get(i);
+                ps.setLong(1, ids[i]);
+                ps.setLong(2, grant.getEmployeeId());
+                ps.setString(3, grant.getLeaveType().name());
+                ps.setInt(4, grant.getTotalLeaveDays());
+                ps.setInt(5, grant.getRemainingDays());
+                ps.setInt(6, grant.getWorkYears());
+                ps.setLong(7, grant.getWorkPolicyId());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return grants.size();
+            }
+        });
+        // 드라이버가 배치를 재작성하면 개별 건수 대신 SUCCESS_NO_INFO(-2)가 올 수 있으므로 양수만 합산
+        return Arrays.stream(counts).filter(count -> count > 0).sum();
+    }
+
+    /**
+     * 처리한 직원들의 잔액 중 이번 부여 결과에 없는 연차 타입을 삭제하고 삭제된 행 수를 반환
+     */
+    public int deleteStaleGrants(Collection<Long> employeeIds, List<EmployeeLeaveBalance> grants) {
+        if (employeeIds.isEmpty()) {
+            return 0;
+        }
+
+        Long[] targetIds = employeeIds.toArray(new Long[0]);
+        Long[] grantedIds = new Long[grants.size()];
+        String[] grantedTypes = new String[grants.size()];
+        for (int i = 0; i < grants.size(); i++) {
+            grantedIds[i] = grants.get(i).getEmployeeId();
+            grantedTypes[i] = grants.get(i).getLeaveType().name();
+        }
+
+        return jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(DELETE_STALE_SQL);
+            ps.setArray(1, connection.createArrayOf("bigint", targetIds));
+            ps.setArray(2, connection.createArrayOf("bigint", grantedIds));
+            ps.setArray(3, connection.createArrayOf("varchar", grantedTypes));
+            return ps;
+        });
+    }
+}
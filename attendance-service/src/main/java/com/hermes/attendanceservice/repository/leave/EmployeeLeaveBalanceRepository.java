@@ -3,6 +3,7 @@ package com.hermes.attendanceservice.repository.leave;
 import com.hermes.attendanceservice.entity.leave.EmployeeLeaveBalance;
 import com.hermes.attendanceservice.entity.leave.LeaveType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -38,6 +39,34 @@ public interface EmployeeLeaveBalanceRepository extends JpaRepository<EmployeeLe
      */
     @Query("SELECT COALESCE(SUM(elb.remainingDays), 0) FROM EmployeeLeaveBalance elb WHERE elb.employeeId = :employeeId")
     Integer calculateTotalRemainingDaysByEmployeeId(@Param("employeeId") Long employeeId);
+
+    /**
+     * 잔여 연차가 충분할 때만 단일 UPDATE로 차감 (반영된 행 수 반환, 0이면 잔액 없음 또는 부족)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE EmployeeLeaveBalance elb SET " +
+           "elb.usedLeaveDays = elb.usedLeaveDays + :days, " +
+           "elb.remainingDays = elb.remainingDays - :days, " +
+           "elb.version = elb.version + 1, " +
+           "elb.updatedAt = CURRENT_TIMESTAMP " +
+           "WHERE elb.employeeId = :employeeId AND elb.leaveType = :leaveType AND elb.remainingDays >= :days")
+    int deductLeave(@Param("employeeId") Long employeeId,
+                    @Param("leaveType") LeaveType leaveType,
+                    @Param("days") int days);
+
+    /**
+     * 사용한 연차 범위 안에서만 단일 UPDATE로 복구 (반영된 행 수 반환, 0이면 잔액 없음 또는 복구 초과)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE EmployeeLeaveBalance elb SET " +
+           "elb.usedLeaveDays = elb.usedLeaveDays - :days, " +
+           "elb.remainingDays = elb.remainingDays + :days, " +
+           "elb.version = elb.version + 1, " +
+           "elb.updatedAt = CURRENT_TIMESTAMP " +
+           "WHERE elb.employeeId = :employeeId AND elb.leaveType = :leaveType AND elb.usedLeaveDays >= :days")
+    int restoreLeave(@Param("employeeId") Long employeeId,
+                     @Param("leaveType") LeaveType leaveType,
+                     @Param("days") int days);
     
 
     
@@ -12,8 +12,21 @@ public interface LeaveRepository extends JpaRepository<LeaveRequest, Long> {
     List<LeaveRequest> findByEmployeeId(Long employeeId);
     List<LeaveRequest> findByEmployeeIdAndStatus(Long employeeId, LeaveRequest.RequestStatus status);
     
-    @Query("SELECT l FROM LeaveRequest l WHERE l.status = :status AND l.startDate <= :endDate AND l.endDate >= :startDate")
-    List<LeaveRequest> findByStatusAndDateRange(@Param("status") LeaveRequest.RequestStatus status, 
-                                               @Param("startDate") LocalDate startDate, 
-                                               @Param("endDate") LocalDate endDate);
+    /**
+     * 해당 날짜에 승인된(APPROVED) 휴가 중인 직원 수
+     * 승인 휴가 기간 부분 GiST 인덱스(idx_leave_requests_approved_period)로 해당 날짜를 포함하는 행만 탐색해 집계
+     */
+    @Query(value = "SELECT COUNT(DISTINCT l.employee_id) FROM leave_requests l WHERE l.status = 'APPROVED' " +
+                   "AND daterange(l.start_date, l.end_date, '[]') @> CAST(:date AS date)", nativeQuery = true)
+    long countEmployeesOnApprovedLeave(@Param("date") LocalDate date);
+    
+    /**
+     * 직원의 대기 중(REQUESTED) 휴가 신청 중 기간이 겹치는 것이 있는지 확인
+     * 배제 제약(ex_leave_requests_requested_overlap)의 (employee_id, daterange) GiST 인덱스로 단일 탐색
+     */
+    @Query(value = "SELECT EXISTS (SELECT 1 FROM leave_requests l WHERE l.employee_id = :employeeId AND l.status = 'REQUESTED' " +
+                   "AND daterange(l.start_date, l.end_date, '[]') && daterange(:startDate, :endDate, '[]'))", nativeQuery = true)
+    boolean existsRequestedOverlap(@Param("employeeId") Long employeeId,
+                                   @Param("startDate") LocalDate startDate,
+                                   @Param("endDate") LocalDate endDate);
 } 
\ No newline at end of file
@@ -2,6 +2,9 @@ package com.hermes.attendanceservice.repository.workmonitor;
 
 import com.hermes.attendanceservice.entity.workmonitor.WorkMonitor;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
@@ -19,4 +22,35 @@ public interface WorkMonitorRepository extends JpaRepository<WorkMonitor, Long>
     
     // 오늘 날짜의 데이터가 존재하는지 확인
     boolean existsByDate(LocalDate date);
-} 
\ No newline at end of file
+
+    // 전체 재집계 결과를 단일 UPSERT로 반영 (같은 날짜 행 동시 생성 시에도 유니크 제약 위반 없음)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "INSERT INTO work_monitor (date, total_employees, attendance_count, late_count, vacation_count, created_at, updated_at) " +
+                   "VALUES (:date, :totalEmployees, :attendanceCount, :lateCount, :vacationCount, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP) " +
+                   "ON CONFLICT (date) DO UPDATE SET " +
+                   "total_employees = EXCLUDED.total_employees, " +
+                   "attendance_count = EXCLUDED.attendance_count, " +
+                   "late_count = EXCLUDED.late_count, " +
+                   "vacation_count = EXCLUDED.vacation_count, " +
+                   "updated_at = CURRENT_TIMESTAMP", nativeQuery = true)
+    int upsertTotals(@Param("date") LocalDate date,
+                     @Param("totalEmployees") int totalEmployees,
+                     @Param("attendanceCount") int attendanceCount,
+                     @Param("lateCount") int lateCount,
+                     @Param("vacationCount") int vacationCount);
+
+    // 출근 상태 변경분을 단일 UPSERT로 원자적으로 반영
+    // 해당 날짜 행이 없으면 변경분(음수는 0)과 가장 최근 날짜의 전체 직원 수로 생성하고, 이후 주기적 전체 재집계가 보정
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "INSERT INTO work_monitor (date, total_employees, attendance_count, late_count, vacation_count, created_at, updated_at) " +
+                   "VALUES (:date, " +
+                   "COALESCE((SELECT w.total_employees FROM work_monitor w WHERE w.date < :date ORDER BY w.date DESC LIMIT 1), 0), " +
+                   "GREATEST(:attendanceDelta, 0), GREATEST(:lateDelta, 0), 0, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP) " +
+                   "ON CONFLICT (date) DO UPDATE SET " +
+                   "attendance_count = work_monitor.attendance_count + :attendanceDelta, " +
+                   "late_count = work_monitor.late_count + :lateDelta, " +
+                   "updated_at = CURRENT_TIMESTAMP", nativeQuery = true)
+    int upsertDelta(@Param("date") LocalDate date,
+                    @Param("attendanceDelta") int attendanceDelta,
+                    @Param("lateDelta") int lateDelta);
+}
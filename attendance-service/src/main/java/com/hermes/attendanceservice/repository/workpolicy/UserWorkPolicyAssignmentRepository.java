@@ -0,0 +1,62 @@
+package com.hermes.attendanceservice.repository.workpolicy;
+
+import com.hermes.attendanceservice.entity.workpolicy.UserWorkPolicyAssignment;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface UserWorkPolicyAssignmentRepository extends JpaRepository<UserWorkPolicyAssignment, UserWorkPolicyAssignment.AssignmentId> {
+
+    // 프로젝션에 행이 있는 테넌트 목록 (주기 대조 대상)
+    @Query("SELECT DISTINCT a.tenantId FROM UserWorkPolicyAssignment a")
+    List<String> findDistinctTenantIds();
+
+    List<UserWorkPolicyAssignment> findByTenantIdAndUserIdIn(String tenantId, Collection<Long> userIds);
+
+    // 행이 없을 때만 단일 INSERT로 생성 (이벤트로 먼저 반영됐거나 동시 보충된 행은 유지)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "INSERT INTO user_work_policy_assignment (tenant_id, user_id, work_policy_id, verified_at, updated_at) " +
+                   "VALUES (:tenantId, :userId, :workPolicyId, :verifiedAt, CURRENT_TIMESTAMP) " +
+                   "ON CONFLICT (tenant_id, user_id) DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("tenantId") String tenantId,
+                       @Param("userId") Long userId,
+                       @Param("workPolicyId") Long workPolicyId,
+                       @Param("verifiedAt") LocalDateTime verifiedAt);
+
+    // 대조 기준 시각 이후 이벤트로 갱신된 행은 건드리지 않도록 조건부로 할당 보정
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE user_work_policy_assignment SET " +
+                   "work_policy_id = CAST(:workPolicyId AS BIGINT), " +
+                   "source_updated_at = :observedAt, " +
+                   "updated_at = CURRENT_TIMESTAMP " +
+                   "WHERE tenant_id = :tenantId AND user_id = :userId " +
+                   "AND (source_updated_at IS NULL OR source_updated_at < :observedAt)", nativeQuery = true)
+    int correctWorkPolicy(@Param("tenantId") String tenantId,
+                          @Param("userId") Long userId,
+                          @Param("workPolicyId") Long workPolicyId,
+                          @Param("observedAt") LocalDateTime observedAt);
+
+    // User Service 조회 결과와 대조한 행의 확인 시각 일괄 갱신
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE user_work_policy_assignment SET verified_at = :verifiedAt " +
+                   "WHERE tenant_id = :tenantId AND user_id IN (:userIds)", nativeQuery = true)
+    int markVerified(@Param("tenantId") String tenantId,
+                     @Param("userIds") Collection<Long> userIds,
+                     @Param("verifiedAt") LocalDateTime verifiedAt);
+
+    // 전체 대조 동안 한 번도 확인되지 않았고 그 사이 이벤트도 없던 행 삭제 (User Service에 없는 사용자)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "DELETE FROM user_work_policy_assignment " +
+                   "WHERE tenant_id = :tenantId " +
+                   "AND (verified_at IS NULL OR verified_at < :sweptFrom) " +
+                   "AND (source_updated_at IS NULL OR source_updated_at < :sweptFrom)", nativeQuery = true)
+    int deleteUnverified(@Param("tenantId") String tenantId,
+                         @Param("sweptFrom") LocalDateTime sweptFrom);
+}
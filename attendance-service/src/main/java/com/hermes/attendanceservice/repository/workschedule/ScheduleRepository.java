@@ -19,11 +19,10 @@ public interface ScheduleRepository extends JpaRepository<Schedule, Long> {
     // 사용자별 스케줄 조회
     List<Schedule> findByUserIdAndStatusOrderByStartDateAscStartTimeAsc(Long userId, String status);
     
-    // 사용자별 특정 기간 스케줄 조회
-    @Query("SELECT s FROM Schedule s WHERE s.userId = :userId AND s.status = :status " +
-           "AND ((s.startDate BETWEEN :startDate AND :endDate) OR (s.endDate BETWEEN :startDate AND :endDate) " +
-           "OR (s.startDate <= :startDate AND s.endDate >= :endDate)) " +
-           "ORDER BY s.startDate ASC, s.startTime ASC")
+    // 사용자별 특정 기간 스케줄 조회 ((user_id, daterange) GiST 인덱스로 기간 겹침 탐색)
+    @Query(value = "SELECT s.* FROM schedules s WHERE s.user_id = :userId AND s.status = :status " +
+           "AND daterange(s.start_date, s.end_date, '[]') && daterange(:startDate, :endDate, '[]') " +
+           "ORDER BY s.start_date ASC, s.start_time ASC", nativeQuery = true)
     List<Schedule> findByUserIdAndDateRange(
             @Param("userId") Long userId,
             @Param("status") String status,
@@ -56,12 +55,21 @@ public interface ScheduleRepository extends JpaRepository<Schedule, Long> {
     // 페이지네이션을 위한 사용자별 스케줄 조회
     Page<Schedule> findByUserIdAndStatus(Long userId, String status, Pageable pageable);
     
-    // 스케줄 중복 확인 (같은 시간대에 다른 스케줄이 있는지)
-    @Query("SELECT COUNT(s) > 0 FROM Schedule s WHERE s.userId = :userId AND s.status = 'ACTIVE' " +
-           "AND s.id != :scheduleId " +
-           "AND ((s.startDate <= :endDate AND s.endDate >= :startDate) " +
-           "AND ((s.startTime < :endTime AND s.endTime > :startTime) OR s.isAllDay = true))")
-    boolean existsConflictingSchedule(
+    // 스케줄 중복 확인 (같은 시간대에 다른 스케줄이 있는지, scheduleId가 null이면 신규 스케줄)
+    default boolean existsConflictingSchedule(Long userId, Long scheduleId, LocalDate startDate, LocalDate endDate,
+                                              String startTime, String endTime) {
+        // IDENTITY 키는 1부터 시작하므로 0은 어떤 스케줄도 제외하지 않음 (네이티브 쿼리의 타입 없는 null 바인딩 회피)
+        return existsConflictingScheduleExcluding(userId, scheduleId != null ? scheduleId : 0L,
+                startDate, endDate, startTime, endTime);
+    }
+    
+    // 기간은 (user_id, daterange) GiST 인덱스로 탐색하고, 시간대는 탐색된 소수 행에서만 비교
+    @Query(value = "SELECT EXISTS (SELECT 1 FROM schedules s WHERE s.user_id = :userId AND s.status = 'ACTIVE' " +
+           "AND daterange(s.start_date, s.end_date, '[]') && daterange(:startDate, :endDate, '[]') " +
+           "AND s.id <> :scheduleId " +
+           "AND (s.is_all_day OR (s.start_time < CAST(:endTime AS time) AND s.end_time > CAST(:startTime AS time))))",
+           nativeQuery = true)
+    boolean existsConflictingScheduleExcluding(
             @Param("userId") Long userId,
             @Param("scheduleId") Long scheduleId,
             @Param("startDate") LocalDate startDate,
@@ -85,4 +93,14 @@ public interface ScheduleRepository extends JpaRepository<Schedule, Long> {
             @Param("date") LocalDate date, 
             @Param("scheduleType") ScheduleType scheduleType
     );
+
+    // 특정 날짜의 여러 사용자 근무 스케줄 일괄 조회 (일괄 자동 퇴근 처리용)
+    @Query("SELECT s FROM Schedule s WHERE s.userId IN :userIds AND s.scheduleType = :scheduleType " +
+           "AND s.status = 'ACTIVE' AND s.startDate <= :date AND s.endDate >= :date " +
+           "ORDER BY s.userId ASC, s.startTime ASC")
+    List<Schedule> findByUserIdInAndDateAndScheduleType(
+            @Param("userIds") List<Long> userIds,
+            @Param("date") LocalDate date,
+            @Param("scheduleType") ScheduleType scheduleType
+    );
 } 
\ No newline at end of file
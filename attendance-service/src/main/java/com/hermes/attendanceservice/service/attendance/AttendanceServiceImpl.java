@@ -12,9 +12,11 @@ import com.hermes.attendanceservice.service.workmonitor.WorkMonitorService;
 import com.hermes.attendanceservice.dto.workschedule.WorkTimeInfoDto;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.*;
@@ -41,6 +43,11 @@ public class AttendanceServiceImpl implements AttendanceService {
     private final AttendanceRepository attendanceRepository;
     private final WorkScheduleService workScheduleService;
     private final WorkMonitorService workMonitorService;
+    private final AutoCheckOutService autoCheckOutService;
+
+    // true면 근무 정책 그룹 단위 일괄 UPDATE, false면 기록별 조회/저장
+    @Value("${attendance.auto-checkout.bulk-enabled:true}")
+    private boolean bulkAutoCheckOutEnabled;
 
     @Override
     public AttendanceResponse checkIn(Long userId, Instant checkInTime) {
@@ -60,6 +67,7 @@ public class AttendanceServiceImpl implements AttendanceService {
 
         if (a.getCheckIn() != null) throw new IllegalStateException("이미 출근 처리가 완료되었습니다.");
 
+        AttendanceStatus before = WorkMonitorService.countedStatus(a);
         a.setCheckIn(effective);
 
         // WorkSchedule에서 근무 시간 조회
@@ -86,7 +94,7 @@ public class AttendanceServiceImpl implements AttendanceService {
 
         a.setAutoRecorded(false);
         AttendanceResponse response = toResponse(attendanceRepository.save(a));
-        workMonitorService.refreshTodayWorkMonitor();
+        workMonitorService.applyAttendanceTransition(date, before, WorkMonitorService.countedStatus(a));
         return response;
     }
 
@@ -113,9 +121,8 @@ public class AttendanceServiceImpl implements AttendanceService {
             a.setWorkStatus(WorkStatus.EARLY_LEAVE);
         }
 
-        AttendanceResponse response = toResponse(attendanceRepository.save(a));
-        workMonitorService.refreshTodayWorkMonitor();
-        return response;
+        // 퇴근은 출근 상태 집계에 영향을 주지 않으므로 근무 모니터링 갱신 불필요
+        return toResponse(attendanceRepository.save(a));
     }
 
     @Override
@@ -135,13 +142,14 @@ public class AttendanceServiceImpl implements AttendanceService {
                         .isAutoRecorded(autoRecorded)
                         .build());
 
+        AttendanceStatus before = WorkMonitorService.countedStatus(a);
         a.setAttendanceStatus(attendanceStatus);
         if (checkInTime != null)  a.setCheckIn(checkInTime);
         if (checkOutTime != null) a.setCheckOut(checkOutTime);
         a.setAutoRecorded(autoRecorded);
 
         AttendanceResponse response = toResponse(attendanceRepository.save(a));
-        workMonitorService.refreshTodayWorkMonitor();
+        workMonitorService.applyAttendanceTransition(date, before, WorkMonitorService.countedStatus(a));
         return response;
     }
 
@@ -162,13 +170,14 @@ public class AttendanceServiceImpl implements AttendanceService {
                         .isAutoRecorded(autoRecorded)
                         .build());
 
+        AttendanceStatus before = WorkMonitorService.countedStatus(a);
         a.setWorkStatus(workStatus);
         if (checkInTime != null)  a.setCheckIn(checkInTime);
         if (checkOutTime != null) a.setCheckOut(checkOutTime);
         a.setAutoRecorded(autoRecorded);
 
         AttendanceResponse response = toResponse(attendanceRepository.save(a));
-        workMonitorService.refreshTodayWorkMonitor();
+        workMonitorService.applyAttendanceTransition(date, before, WorkMonitorService.countedStatus(a));
         return response;
     }
 
@@ -332,16 +341,23 @@ public class AttendanceServiceImpl implements AttendanceService {
     }
 
     // 자동 퇴근 처리 메서드
+    // 한 건/한 그룹의 실패가 전체를 롤백하지 않도록 트랜잭션 없이 실행 (저장/UPDATE 단위로 커밋)
     @Scheduled(cron = "0 0 0 * * ?") // 매일 24시(자정)에 실행
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void autoCheckOut() {
         LocalDate today = LocalDate.now(ZONE_SEOUL);
         LocalDate yesterday = today.minusDays(1);
         
-        log.info("자동 퇴근 처리 시작: 오늘({}), 어제({})", today, yesterday);
+        log.info("자동 퇴근 처리 시작: 오늘({}), 어제({}), 일괄 처리: {}", today, yesterday, bulkAutoCheckOutEnabled);
         
         // 어제와 오늘의 미완료 기록 처리
-        processAutoCheckOutForDate(yesterday);
-        processAutoCheckOutForDate(today);
+        if (bulkAutoCheckOutEnabled) {
+            autoCheckOutService.closeOpenAttendances(yesterday);
+            autoCheckOutService.closeOpenAttendances(today);
+        } else {
+            processAutoCheckOutForDate(yesterday);
+            processAutoCheckOutForDate(today);
+        }
         
         // WorkMonitor 데이터 갱신
         try {
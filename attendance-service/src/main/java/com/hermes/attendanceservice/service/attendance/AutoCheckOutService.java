@@ -0,0 +1,149 @@
+package com.hermes.attendanceservice.service.attendance;
+
+import com.hermes.attendanceservice.dto.workschedule.UserWorkPolicyDto;
+import com.hermes.attendanceservice.entity.workschedule.Schedule;
+import com.hermes.attendanceservice.entity.workschedule.ScheduleType;
+import com.hermes.attendanceservice.repository.attendance.AttendanceBulkRepository;
+import com.hermes.attendanceservice.repository.attendance.AttendanceRepository;
+import com.hermes.attendanceservice.repository.workschedule.ScheduleRepository;
+import com.hermes.attendanceservice.service.workschedule.CompiledWorkPolicy;
+import com.hermes.attendanceservice.service.workschedule.WorkScheduleService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 미완료 출근 기록 일괄 자동 퇴근 처리
+ * <p>
+ * 대상 사용자의 퇴근 시간을 먼저 계산하고(저장된 근무 스케줄 일괄 조회, 근무 정책은 정책별 1회 컴파일)
+ * 근무 정책 그룹마다 단일 UPDATE로 반영한다. 그룹 단위로 커밋되므로 호출 측에서 트랜잭션을 열지 않아야 한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AutoCheckOutService {
+
+    private static final ZoneId ZONE_SEOUL = ZoneId.of("Asia/Seoul");
+    private static final int USER_ID_CHUNK_SIZE = 1000;
+    private static final String SCHEDULE_GROUP = "schedule";
+
+    private final AttendanceRepository attendanceRepository;
+    private final AttendanceBulkRepository attendanceBulkRepository;
+    private final ScheduleRepository scheduleRepository;
+    private final WorkScheduleService workScheduleService;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 특정 날짜의 미완료 출근 기록을 일괄 자동 퇴근 처리하고 반영된 행 수를 반환
+     */
+    public int closeOpenAttendances(LocalDate targetDate) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        int closed = 0;
+        int skipped = 0;
+
+        try {
+            List<Long> userIds = attendanceRepository.findOpenUserIdsByDate(targetDate);
+            if (userIds.isEmpty()) {
+                log.debug("자동 퇴근 대상 없음: {}", targetDate);
+                return 0;
+            }
+
+            Map<String, Map<Long, Instant>> groups = resolveCheckOutGroups(userIds, targetDate);
+            int resolved = groups.values().stream().mapToInt(Map::size).sum();
+            skipped = userIds.size() - resolved;
+            log.info("자동 퇴근 일괄 처리 대상: {} 명, 퇴근 시간 미확정: {} 명, 그룹: {} 개 (날짜: {})",
+                    userIds.size(), skipped, groups.size(), targetDate);
+
+            for (Map.Entry<String, Map<Long, Instant>> group : groups.entrySet()) {
+                try {
+                    int rows = attendanceBulkRepository.closeOpenAttendances(targetDate, group.getValue());
+                    closed += rows;
+                    log.info("자동 퇴근 일괄 처리 완료: 그룹 {}, 대상 {} 명, 반영 {} 건 (날짜: {})",
+                            group.getKey(), group.getValue().size(), rows, targetDate);
+                } catch (Exception e) {
+                    skipped += group.getValue().size();
+                    log.error("자동 퇴근 일괄 처리 실패: 그룹 {}, 날짜: {}", group.getKey(), targetDate, e);
+                }
+            }
+            return closed;
+        } finally {
+            sample.stop(meterRegistry.timer("attendance.auto_checkout.duration"));
+            meterRegistry.counter("attendance.auto_checkout.rows").increment(closed);
+            meterRegistry.counter("attendance.auto_checkout.skipped").increment(skipped);
+        }
+    }
+
+    /**
+     * 사용자별 자동 퇴근 시간을 근무 정책 그룹 단위로 계산
+     * 저장된 근무 스케줄이 있으면 우선 적용하고, 없으면 근무 정책 규칙의 근무 블록, 정책 기준 시간 순으로 사용한다
+     * (퇴근 시간을 정할 수 없는 사용자는 제외)
+     */
+    private Map<String, Map<Long, Instant>> resolveCheckOutGroups(List<Long> userIds, LocalDate date) {
+        Map<Long, Schedule> storedSchedules = findStoredWorkSchedules(userIds, date);
+        Map<Long, CompiledWorkPolicy> compiledPolicies = new HashMap<>();
+        Map<String, Map<Long, Instant>> groups = new LinkedHashMap<>();
+
+        for (Long userId : userIds) {
+            String groupKey;
+            LocalTime endTime;
+
+            Schedule stored = storedSchedules.get(userId);
+            if (stored != null) {
+                groupKey = SCHEDULE_GROUP;
+                endTime = stored.getEndTime();
+            } else {
+                try {
+                    UserWorkPolicyDto userPolicy = workScheduleService.getUserWorkPolicy(userId);
+                    if (userPolicy == null || userPolicy.getWorkPolicy() == null) {
+                        log.warn("자동 퇴근 제외 (근무 정책 없음): 사용자 {}, 날짜: {}", userId, date);
+                        continue;
+                    }
+                    CompiledWorkPolicy policy = compiledPolicies.computeIfAbsent(userPolicy.getWorkPolicyId(),
+                            id -> CompiledWorkPolicy.compile(id, userPolicy.getWorkPolicy()));
+                    Schedule workBlock = policy.findWorkBlock(userId, date);
+
+                    groupKey = "policy-" + userPolicy.getWorkPolicyId();
+                    endTime = workBlock != null
+                            ? workBlock.getEndTime()
+                            : workScheduleService.getPolicyWorkTime(userPolicy.getWorkPolicy()).getEndTime();
+                } catch (Exception e) {
+                    log.error("자동 퇴근 제외 (근무 정책 조회 실패): 사용자 {}, 날짜: {}", userId, date, e);
+                    continue;
+                }
+            }
+
+            if (endTime == null) {
+                log.warn("자동 퇴근 제외 (근무 종료 시간 없음): 사용자 {}, 날짜: {}", userId, date);
+                continue;
+            }
+            groups.computeIfAbsent(groupKey, key -> new LinkedHashMap<>())
+                    .put(userId, date.atTime(endTime).atZone(ZONE_SEOUL).toInstant());
+        }
+        return groups;
+    }
+
+    /**
+     * 사용자별 해당 날짜의 첫 근무 스케줄 (IN 목록 크기를 제한하기 위해 나누어 조회)
+     */
+    private Map<Long, Schedule> findStoredWorkSchedules(List<Long> userIds, LocalDate date) {
+        Map<Long, Schedule> schedules = new HashMap<>();
+        for (int from = 0; from < userIds.size(); from += USER_ID_CHUNK_SIZE) {
+            List<Long> chunk = userIds.subList(from, Math.min(from + USER_ID_CHUNK_SIZE, userIds.size()));
+            for (Schedule schedule : scheduleRepository.findByUserIdInAndDateAndScheduleType(chunk, date, ScheduleType.WORK)) {
+                schedules.putIfAbsent(schedule.getUserId(), schedule);
+            }
+        }
+        return schedules;
+    }
+}
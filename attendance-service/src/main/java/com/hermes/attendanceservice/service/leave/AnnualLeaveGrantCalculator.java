@@ -0,0 +1,71 @@
+package com.hermes.attendanceservice.service.leave;
+
+import com.hermes.attendanceservice.entity.leave.EmployeeLeaveBalance;
+import com.hermes.attendanceservice.entity.leave.LeaveType;
+import com.hermes.attendanceservice.entity.workpolicy.AnnualLeave;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 연차 부여량 계산 (단건 부여와 일괄 부여 파이프라인이 공유)
+ */
+final class AnnualLeaveGrantCalculator {
+
+    private AnnualLeaveGrantCalculator() {
+    }
+
+    /**
+     * 기준일 시점의 근무년수 계산 (user-service CareerCalculator와 같은 규칙: 입사일로부터 365일 경과 시 +1년)
+     * 입사일이 없으면 user-service에 저장된 근무년수를 사용
+     */
+    static int calculateWorkYears(LocalDate joinDate, Integer storedWorkYears, LocalDate baseDate) {
+        if (joinDate == null) {
+            return storedWorkYears != null ? storedWorkYears : 0;
+        }
+        long days = ChronoUnit.DAYS.between(joinDate, baseDate);
+        return (int) Math.max(0, days / 365);
+    }
+
+    /**
+     * 근무년수에 해당하는 연차 규정으로 부여할 잔액 목록 생성
+     * 같은 연차 타입으로 매핑되는 규정이 여러 개면 한 행으로 합산 (직원/타입당 잔액은 하나)
+     */
+    static List<EmployeeLeaveBalance> buildLeaveBalances(Long employeeId, List<AnnualLeave> annualLeaves,
+                                                         int workYears, Long workPolicyId) {
+        Map<LeaveType, Integer> daysByType = new EnumMap<>(LeaveType.class);
+        for (AnnualLeave annualLeave : annualLeaves) {
+            if (annualLeave.isInRange(workYears)) {
+                daysByType.merge(mapToLeaveType(annualLeave.getName()), annualLeave.getLeaveDays(), Integer::sum);
+            }
+        }
+
+        List<EmployeeLeaveBalance> grantedLeaves = new ArrayList<>(daysByType.size());
+        daysByType.forEach((leaveType, days) -> grantedLeaves.add(EmployeeLeaveBalance.builder()
+                .employeeId(employeeId)
+                .leaveType(leaveType)
+                .totalLeaveDays(days)
+                .remainingDays(days)
+                .usedLeaveDays(0)
+                .workYears(workYears)
+                .workPolicyId(workPolicyId)
+                .build()));
+        return grantedLeaves;
+    }
+
+    static LeaveType mapToLeaveType(String annualLeaveName) {
+        // 연차 규정 이름을 LeaveType으로 매핑
+        if (annualLeaveName.contains("기본") || annualLeaveName.contains("일반")) {
+            return LeaveType.BASIC_ANNUAL;
+        } else if (annualLeaveName.contains("보상")) {
+            return LeaveType.COMPENSATION_ANNUAL;
+        } else if (annualLeaveName.contains("특별")) {
+            return LeaveType.SPECIAL_ANNUAL;
+        }
+        return LeaveType.BASIC_ANNUAL; // 기본값
+    }
+}
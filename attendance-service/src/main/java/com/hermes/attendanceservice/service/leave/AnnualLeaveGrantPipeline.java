@@ -0,0 +1,319 @@
+package com.hermes.attendanceservice.service.leave;
+
+import com.hermes.attendanceservice.client.UserServiceClient;
+import com.hermes.attendanceservice.entity.leave.AnnualLeaveGrantRun;
+import com.hermes.attendanceservice.entity.leave.EmployeeLeaveBalance;
+import com.hermes.attendanceservice.entity.workpolicy.AnnualLeave;
+import com.hermes.attendanceservice.repository.leave.AnnualLeaveGrantRunRepository;
+import com.hermes.attendanceservice.repository.leave.EmployeeLeaveBalanceBulkRepository;
+import com.hermes.attendanceservice.repository.workpolicy.AnnualLeaveRepository;
+import com.hermes.auth.jwt.ServiceTokenContext;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 청크 단위 연차 일괄 부여 파이프라인
+ * <p>
+ * User Service에서 직원(입사일, 근무년수, 근무정책)을 id 순 키셋 페이지로 가져와 메모리에서 부여량을 계산하고,
+ * 청크마다 배치 UPSERT와 체크포인트 전진을 한 트랜잭션으로 커밋한다. 다음 페이지 조회는 현재 청크 저장과 겹쳐 수행한다.
+ * 중단된 실행은 같은 부여 기준일로 다시 실행하면 마지막 커밋된 청크 다음부터 재개한다.
+ * 청크마다 커밋하므로 호출 측에서 트랜잭션을 열지 않아야 한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AnnualLeaveGrantPipeline {
+
+    private final UserServiceClient userServiceClient;
+    private final AnnualLeaveRepository annualLeaveRepository;
+    private final EmployeeLeaveBalanceBulkRepository employeeLeaveBalanceBulkRepository;
+    private final AnnualLeaveGrantRunRepository annualLeaveGrantRunRepository;
+    private final LeaveBalanceRetryPolicy leaveBalanceRetryPolicy;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${attendance.leave-grant.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${attendance.leave-grant.stale-after:PT5M}")
+    private Duration staleAfter;
+
+    /**
+     * 부여 기준일의 일괄 부여를 실행 (완료된 실행은 건너뛰고, 중단된 실행은 체크포인트부터 재개)
+     */
+    public void run(LocalDate grantDate) {
+        AnnualLeaveGrantRun run = claimRun(grantDate);
+        if (run == null) {
+            return;
+        }
+        execute(run);
+    }
+
+    /**
+     * 부여 기준일의 체크포인트를 지우고 처음부터 다시 실행
+     */
+    public void restart(LocalDate grantDate) {
+        leaveBalanceRetryPolicy.execute("restartAnnualLeaveGrant", () -> {
+            annualLeaveGrantRunRepository.findByGrantDate(grantDate).ifPresent(annualLeaveGrantRunRepository::delete);
+            return null;
+        });
+        run(grantDate);
+    }
+
+    /**
+     * 부여 기준일의 실행이 시작되었으나 완료되지 않은 경우에만 재개
+     */
+    public void resumeIfIncomplete(LocalDate grantDate) {
+        annualLeaveGrantRunRepository.findByGrantDate(grantDate)
+                .filter(run -> run.getStatus() != AnnualLeaveGrantRun.Status.COMPLETED)
+                .ifPresent(run -> {
+                    log.info("중단된 연차 일괄 부여 재개 시도: grantDate={}, lastEmployeeId={}", grantDate, run.getLastEmployeeId());
+                    run(grantDate);
+                });
+    }
+
+    private void execute(AnnualLeaveGrantRun run) {
+        Long runId = run.getId();
+        LocalDate grantDate = run.getGrantDate();
+        log.info("연차 일괄 부여 시작: runId={}, grantDate={}, 재개 위치 employeeId>{}, chunkSize={}",
+                runId, grantDate, run.getLastEmployeeId(), chunkSize);
+
+        long startedNanos = System.nanoTime();
+        Map<Long, List<AnnualLeave>> rulesByPolicy = new HashMap<>();
+        int chunks = 0;
+        int processed = 0;
+        int granted = 0;
+        int skipped = 0;
+
+        // 수동 실행 시 Authorization 헤더 전달을 위해 호출 스레드의 요청 컨텍스트를, 스케줄 실행 시 서비스 토큰 범위를 조회 스레드에 넘김
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        String serviceTenantId = ServiceTokenContext.getTenantId();
+        ExecutorService prefetcher = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "leave-grant-prefetch");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        try {
+            CompletableFuture<FetchedPage> next = fetchAsync(run.getLastEmployeeId(), requestAttributes, serviceTenantId, prefetcher);
+            while (true) {
+                FetchedPage page = next.join();
+                if (page.targets.isEmpty()) {
+                    break;
+                }
+
+                Long lastEmployeeId = toLong(page.targets.get(page.targets.size() - 1).get("userId"));
+                next = page.targets.size() < chunkSize
+                        ? CompletableFuture.completedFuture(FetchedPage.EMPTY)
+                        : fetchAsync(lastEmployeeId, requestAttributes, serviceTenantId, prefetcher);
+
+                ChunkResult result = writeChunk(runId, grantDate, page, lastEmployeeId, rulesByPolicy);
+                chunks++;
+                processed += page.targets.size();
+                granted += result.upserted;
+                skipped += result.skipped;
+            }
+
+            leaveBalanceRetryPolicy.execute("completeAnnualLeaveGrant", () -> {
+                annualLeaveGrantRunRepository.findById(runId).ifPresent(completed -> {
+                    completed.setStatus(AnnualLeaveGrantRun.Status.COMPLETED);
+                    completed.setCompletedAt(Instant.now());
+                });
+                return null;
+            });
+            log.info("연차 일괄 부여 완료: runId={}, grantDate={}, 청크 {}개, 직원 {}명, 변경 {}건, 건너뜀 {}명, 소요 {}ms",
+                    runId, grantDate, chunks, processed, granted, skipped,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedNanos));
+        } catch (RuntimeException e) {
+            RuntimeException cause = e instanceof CompletionException && e.getCause() instanceof RuntimeException
+                    ? (RuntimeException) e.getCause()
+                    : e;
+            markFailed(runId);
+            log.error("연차 일괄 부여 중단: runId={}, grantDate={}, 커밋된 청크 {}개 (다음 실행 시 재개)", runId, grantDate, chunks, cause);
+            throw cause;
+        } finally {
+            prefetcher.shutdownNow();
+        }
+    }
+
+    /**
+     * 한 청크의 부여량을 메모리에서 계산한 뒤 배치 UPSERT, 제외 타입 정리, 체크포인트 전진을 한 트랜잭션으로 커밋
+     */
+    private ChunkResult writeChunk(Long runId, LocalDate grantDate, FetchedPage page, Long lastEmployeeId,
+                                   Map<Long, List<AnnualLeave>> rulesByPolicy) {
+        long computeStarted = System.nanoTime();
+        List<EmployeeLeaveBalance> grants = new ArrayList<>();
+        List<Long> grantedEmployeeIds = new ArrayList<>();
+        int skipped = 0;
+
+        for (Map<String, Object> target : page.targets) {
+            Long employeeId = toLong(target.get("userId"));
+            Long workPolicyId = toLong(target.get("workPolicyId"));
+            if (workPolicyId == null) {
+                skipped++;
+                log.debug("연차 부여 제외 (근무정책 없음): employeeId={}", employeeId);
+                continue;
+            }
+
+            List<AnnualLeave> rules = rulesByPolicy.computeIfAbsent(workPolicyId, annualLeaveRepository::findByWorkPolicyId);
+            if (rules.isEmpty()) {
+                skipped++;
+                log.debug("연차 부여 제외 (연차 규정 없음): employeeId={}, workPolicyId={}", employeeId, workPolicyId);
+                continue;
+            }
+
+            Object workYearsValue = target.get("workYears");
+            int workYears = AnnualLeaveGrantCalculator.calculateWorkYears(
+                    toLocalDate(target.get("joinDate")),
+                    workYearsValue != null ? Integer.valueOf(workYearsValue.toString()) : null,
+                    grantDate);
+            grants.addAll(AnnualLeaveGrantCalculator.buildLeaveBalances(employeeId, rules, workYears, workPolicyId));
+            grantedEmployeeIds.add(employeeId);
+        }
+        long computeMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - computeStarted);
+
+        long writeStarted = System.nanoTime();
+        int skippedInChunk = skipped;
+        ChunkResult result = leaveBalanceRetryPolicy.execute("grantAnnualLeaveChunk", () -> {
+            int upserted = employeeLeaveBalanceBulkRepository.upsertGrants(grants);
+            int deleted = employeeLeaveBalanceBulkRepository.deleteStaleGrants(grantedEmployeeIds, grants);
+            annualLeaveGrantRunRepository.advance(runId, lastEmployeeId, page.targets.size(), upserted, skippedInChunk, Instant.now());
+            return new ChunkResult(upserted, deleted, skippedInChunk);
+        });
+        long writeNanos = System.nanoTime() - writeStarted;
+
+        meterRegistry.timer("attendance.leave_grant.chunk.duration").record(writeNanos, TimeUnit.NANOSECONDS);
+        meterRegistry.counter("attendance.leave_grant.granted").increment(result.upserted);
+        meterRegistry.counter("attendance.leave_grant.skipped").increment(result.skipped);
+        log.info("연차 일괄 부여 청크 커밋: runId={}, employeeId<={}, 직원 {}명, 변경 {}건, 정리 {}건, 건너뜀 {}명, 조회 {}ms, 계산 {}ms, 저장 {}ms",
+                runId, lastEmployeeId, page.targets.size(), result.upserted, result.deleted, result.skipped,
+                page.fetchMillis, computeMillis, TimeUnit.NANOSECONDS.toMillis(writeNanos));
+        return result;
+    }
+
+    private CompletableFuture<FetchedPage> fetchAsync(Long afterId, RequestAttributes requestAttributes,
+                                                      String serviceTenantId, ExecutorService executor) {
+        return CompletableFuture.supplyAsync(() -> {
+            RequestContextHolder.setRequestAttributes(requestAttributes);
+            try {
+                return serviceTenantId != null
+                        ? ServiceTokenContext.callAsService(serviceTenantId, () -> fetchPage(afterId))
+                        : fetchPage(afterId);
+            } finally {
+                RequestContextHolder.resetRequestAttributes();
+            }
+        }, executor);
+    }
+
+    private FetchedPage fetchPage(Long afterId) {
+        long started = System.nanoTime();
+        List<Map<String, Object>> targets = userServiceClient.getLeaveGrantTargets(afterId, chunkSize);
+        return new FetchedPage(targets, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+    }
+
+    /**
+     * 부여 기준일의 실행을 생성하거나, 완료되지 않았고 다른 인스턴스가 진행 중이 아닌 실행을 점유
+     * (점유하지 못하면 null)
+     */
+    private AnnualLeaveGrantRun claimRun(LocalDate grantDate) {
+        try {
+            return leaveBalanceRetryPolicy.execute("claimAnnualLeaveGrant", () -> {
+                AnnualLeaveGrantRun existing = annualLeaveGrantRunRepository.findByGrantDate(grantDate).orElse(null);
+                Instant now = Instant.now();
+
+                if (existing == null) {
+                    return annualLeaveGrantRunRepository.saveAndFlush(AnnualLeaveGrantRun.builder()
+                            .grantDate(grantDate)
+                            .status(AnnualLeaveGrantRun.Status.RUNNING)
+                            .startedAt(now)
+                            .heartbeatAt(now)
+                            .build());
+                }
+                if (existing.getStatus() == AnnualLeaveGrantRun.Status.COMPLETED) {
+                    log.info("이미 완료된 연차 일괄 부여: grantDate={}", grantDate);
+                    return null;
+                }
+                if (annualLeaveGrantRunRepository.claim(existing.getId(), now, now.minus(staleAfter)) == 0) {
+                    log.info("다른 인스턴스에서 연차 일괄 부여 진행 중: grantDate={}", grantDate);
+                    return null;
+                }
+                return annualLeaveGrantRunRepository.findById(existing.getId()).orElse(null);
+            });
+        } catch (DataIntegrityViolationException e) {
+            log.info("다른 인스턴스에서 연차 일괄 부여를 먼저 시작함: grantDate={}", grantDate);
+            return null;
+        }
+    }
+
+    private void markFailed(Long runId) {
+        try {
+            leaveBalanceRetryPolicy.execute("failAnnualLeaveGrant", () -> {
+                annualLeaveGrantRunRepository.findById(runId)
+                        .ifPresent(failed -> failed.setStatus(AnnualLeaveGrantRun.Status.FAILED));
+                return null;
+            });
+        } catch (Exception e) {
+            log.warn("연차 일괄 부여 실패 상태 기록 실패: runId={}", runId, e);
+        }
+    }
+
+    private static Long toLong(Object value) {
+        return value != null ? Long.valueOf(value.toString()) : null;
+    }
+
+    private static LocalDate toLocalDate(Object value) {
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof List<?> parts && parts.size() >= 3) {
+            // 타임스탬프 배열 직렬화 ([yyyy, M, d]) 대응
+            return LocalDate.of(((Number) parts.get(0)).intValue(), ((Number) parts.get(1)).intValue(),
+                    ((Number) parts.get(2)).intValue());
+        }
+        return LocalDate.parse(value.toString());
+    }
+
+    private static final class FetchedPage {
+
+        private static final FetchedPage EMPTY = new FetchedPage(List.of(), 0);
+
+        private final List<Map<String, Object>> targets;
+        private final long fetchMillis;
+
+        private FetchedPage(List<Map<String, Object>> targets, long fetchMillis) {
+            this.targets = targets;
+            this.fetchMillis = fetchMillis;
+        }
+    }
+
+    private static final class ChunkResult {
+
+        private final int upserted;
+        private final int deleted;
+        private final int skipped;
+
+        private ChunkResult(int upserted, int deleted, int skipped) {
+            this.upserted = upserted;
+            this.deleted = deleted;
+            this.skipped = skipped;
+        }
+    }
+}
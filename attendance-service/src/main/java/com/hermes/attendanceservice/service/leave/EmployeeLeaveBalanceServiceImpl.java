@@ -7,18 +7,20 @@ import com.hermes.attendanceservice.entity.leave.LeaveType;
 import com.hermes.attendanceservice.entity.workpolicy.AnnualLeave;
 import com.hermes.attendanceservice.repository.leave.EmployeeLeaveBalanceRepository;
 import com.hermes.attendanceservice.repository.workpolicy.AnnualLeaveRepository;
+import com.hermes.attendanceservice.client.ScheduledServiceCalls;
 import com.hermes.attendanceservice.client.UserServiceClient;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Service
@@ -27,27 +29,52 @@ import java.util.stream.Collectors;
 @Transactional
 public class EmployeeLeaveBalanceServiceImpl implements EmployeeLeaveBalanceService {
     
+    private static final ZoneId ZONE_SEOUL = ZoneId.of("Asia/Seoul");
+    
     private final EmployeeLeaveBalanceRepository employeeLeaveBalanceRepository;
     private final AnnualLeaveRepository annualLeaveRepository;
     private final UserServiceClient userServiceClient;
+    private final LeaveBalanceRetryPolicy leaveBalanceRetryPolicy;
+    private final AnnualLeaveGrantPipeline annualLeaveGrantPipeline;
+    private final ScheduledServiceCalls scheduledServiceCalls;
     
     /**
      * 매일 자정에 실행되는 자동 연차 부여 스케줄러
      * 근무년수가 변경된 직원들에게 자동으로 연차를 재부여
      */
     @Scheduled(cron = "0 10 0 * * ?", zone = "Asia/Seoul") // 자정 10분 후 실행
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void scheduleAnnualLeaveGrant() {
         log.info("자동 연차 부여 스케줄러 실행 시작");
         
         try {
-            grantAnnualLeaveToAllEmployees();
+            scheduledServiceCalls.run("scheduleAnnualLeaveGrant", this::grantAnnualLeaveToAllEmployees);
             log.info("자동 연차 부여 스케줄러 실행 완료");
         } catch (Exception e) {
             log.error("자동 연차 부여 스케줄러 실행 실패", e);
         }
     }
     
+    /**
+     * 자동 연차 부여가 중단된 경우 (인스턴스 재시작 등) 오늘 실행을 체크포인트부터 재개
+     */
+    @Scheduled(fixedDelayString = "${attendance.leave-grant.resume-interval:PT10M}",
+               initialDelayString = "${attendance.leave-grant.resume-interval:PT10M}")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void resumeAnnualLeaveGrant() {
+        try {
+            scheduledServiceCalls.run("resumeAnnualLeaveGrant",
+                    () -> annualLeaveGrantPipeline.resumeIfIncomplete(LocalDate.now(ZONE_SEOUL)));
+        } catch (Exception e) {
+            log.error("자동 연차 부여 재개 실패", e);
+        }
+    }
+    
+    /**
+     * 직원 정보 조회는 트랜잭션 밖에서 수행하고, 잔액 삭제/재부여만 재시도 단위로 묶음
+     */
     @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
     public List<EmployeeLeaveBalanceResponseDto> grantAnnualLeave(Long employeeId, LocalDate baseDate) {
         log.info("연차 자동 부여 시작: employeeId={}, baseDate={}", employeeId, baseDate);
         
@@ -89,40 +116,35 @@ public class EmployeeLeaveBalanceServiceImpl implements EmployeeLeaveBalanceServ
             throw new IllegalArgumentException("근무정책에 연차 규정이 없습니다: " + workPolicyId);
         }
         
-        // 4. 기존 연차 잔액 삭제 (새로운 연차 부여 전)
-        employeeLeaveBalanceRepository.deleteByEmployeeId(employeeId);
-        log.info("기존 연차 잔액 삭제 완료: employeeId={}", employeeId);
-        
-        // 5. 해당 근무년수에 맞는 연차 규정 찾기 및 부여
-        List<EmployeeLeaveBalance> grantedLeaves = new ArrayList<>();
+        // 4. 해당 근무년수에 맞는 연차 규정 찾기
+        final int grantedWorkYears = workYears;
+        final Long grantedWorkPolicyId = workPolicyId;
+        List<AnnualLeave> applicableLeaves = annualLeaves.stream()
+                .filter(annualLeave -> annualLeave.isInRange(grantedWorkYears))
+                .collect(Collectors.toList());
         
-        for (AnnualLeave annualLeave : annualLeaves) {
-            if (annualLeave.isInRange(workYears)) {
-                // 연차 타입 매핑
-                LeaveType leaveType = mapToLeaveType(annualLeave.getName());
-                
-                EmployeeLeaveBalance leaveBalance = EmployeeLeaveBalance.builder()
-                        .employeeId(employeeId)
-                        .leaveType(leaveType)
-                        .totalLeaveDays(annualLeave.getLeaveDays())
-                        .remainingDays(annualLeave.getLeaveDays())
-                        .usedLeaveDays(0)
-                        .workYears(workYears)
-                        .workPolicyId(workPolicyId)
-                        .build();
-                
-                grantedLeaves.add(leaveBalance);
-                log.info("연차 부여: employeeId={}, type={}, days={}, workYears={}, workPolicyId={}", 
-                        employeeId, leaveType, annualLeave.getLeaveDays(), workYears, workPolicyId);
+        // 5. 기존 연차 잔액 삭제 후 재부여 (동시 차감과 버전 충돌 시 재시도)
+        List<EmployeeLeaveBalance> savedLeaves = leaveBalanceRetryPolicy.execute("grantAnnualLeave", () -> {
+            employeeLeaveBalanceRepository.deleteByEmployeeId(employeeId);
+            // (employee_id, leave_type) 유니크 제약: 재부여 INSERT 전에 삭제를 먼저 반영
+            employeeLeaveBalanceRepository.flush();
+            log.info("기존 연차 잔액 삭제 완료: employeeId={}", employeeId);
+            
+            if (applicableLeaves.isEmpty()) {
+                return new ArrayList<EmployeeLeaveBalance>();
             }
-        }
-        
-        if (grantedLeaves.isEmpty()) {
+            List<EmployeeLeaveBalance> grantedLeaves = AnnualLeaveGrantCalculator.buildLeaveBalances(
+                    employeeId, applicableLeaves, grantedWorkYears, grantedWorkPolicyId);
+            grantedLeaves.forEach(leave -> log.info("연차 부여: employeeId={}, type={}, days={}, workYears={}, workPolicyId={}",
+                    employeeId, leave.getLeaveType(), leave.getTotalLeaveDays(), grantedWorkYears, grantedWorkPolicyId));
+            return employeeLeaveBalanceRepository.saveAll(grantedLeaves);
+        });
+        
+        if (savedLeaves.isEmpty()) {
             log.warn("해당 근무년수에 맞는 연차 규정이 없습니다: employeeId={}, workYears={}", employeeId, workYears);
             return new ArrayList<>();
         }
         
-        List<EmployeeLeaveBalance> savedLeaves = employeeLeaveBalanceRepository.saveAll(grantedLeaves);
         log.info("연차 자동 부여 완료: employeeId={}, count={}, workYears={}년", employeeId, savedLeaves.size(), workYears);
         
         return savedLeaves.stream()
@@ -130,40 +152,52 @@ public class EmployeeLeaveBalanceServiceImpl implements EmployeeLeaveBalanceServ
                 .collect(Collectors.toList());
     }
     
+    /**
+     * 잔여 연차 조건을 건 단일 UPDATE로 차감해 동시 승인 시에도 갱신이 유실되지 않도록 함
+     */
     @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
     public void useLeave(Long employeeId, LeaveType leaveType, Integer days) {
         log.info("연차 사용 시작: employeeId={}, leaveType={}, days={}", employeeId, leaveType, days);
         
-        Optional<EmployeeLeaveBalance> balanceOpt = employeeLeaveBalanceRepository
-                .findByEmployeeIdAndLeaveType(employeeId, leaveType);
-        
-        if (balanceOpt.isEmpty()) {
-            throw new IllegalArgumentException("사용 가능한 연차가 없습니다: employeeId=" + employeeId + ", leaveType=" + leaveType);
+        if (days == null || days <= 0) {
+            throw new IllegalArgumentException("사용할 연차 일수는 0보다 커야 합니다.");
         }
         
-        EmployeeLeaveBalance balance = balanceOpt.get();
-        balance.useLeave(days);
+        int updated = leaveBalanceRetryPolicy.execute("useLeave",
+                () -> employeeLeaveBalanceRepository.deductLeave(employeeId, leaveType, days));
         
-        employeeLeaveBalanceRepository.save(balance);
-        log.info("연차 사용 완료: 잔여 연차={}", balance.getRemainingDays());
+        if (updated == 0) {
+            EmployeeLeaveBalance balance = employeeLeaveBalanceRepository.findByEmployeeIdAndLeaveType(employeeId, leaveType)
+                    .orElseThrow(() -> new IllegalArgumentException("사용 가능한 연차가 없습니다: employeeId=" + employeeId + ", leaveType=" + leaveType));
+            throw new IllegalArgumentException("잔여 연차가 부족합니다. 잔여: " + balance.getRemainingDays() + "일, 요청: " + days + "일");
+        }
+        
+        log.info("연차 사용 완료: employeeId={}, leaveType={}, days={}", employeeId, leaveType, days);
     }
     
+    /**
+     * 사용한 연차 범위 조건을 건 단일 UPDATE로 복구
+     */
     @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
     public void restoreLeave(Long employeeId, LeaveType leaveType, Integer days) {
         log.info("연차 복구 시작: employeeId={}, leaveType={}, days={}", employeeId, leaveType, days);
         
-        Optional<EmployeeLeaveBalance> balanceOpt = employeeLeaveBalanceRepository
-                .findByEmployeeIdAndLeaveType(employeeId, leaveType);
-        
-        if (balanceOpt.isEmpty()) {
-            throw new IllegalArgumentException("연차 잔액이 없습니다: employeeId=" + employeeId + ", leaveType=" + leaveType);
+        if (days == null || days <= 0) {
+            throw new IllegalArgumentException("복구할 연차 일수는 0보다 커야 합니다.");
         }
         
-        EmployeeLeaveBalance balance = balanceOpt.get();
-        balance.restoreLeave(days);
+        int updated = leaveBalanceRetryPolicy.execute("restoreLeave",
+                () -> employeeLeaveBalanceRepository.restoreLeave(employeeId, leaveType, days));
         
-        employeeLeaveBalanceRepository.save(balance);
-        log.info("연차 복구 완료: 잔여 연차={}", balance.getRemainingDays());
+        if (updated == 0) {
+            EmployeeLeaveBalance balance = employeeLeaveBalanceRepository.findByEmployeeIdAndLeaveType(employeeId, leaveType)
+                    .orElseThrow(() -> new IllegalArgumentException("연차 잔액이 없습니다: employeeId=" + employeeId + ", leaveType=" + leaveType));
+            throw new IllegalArgumentException("복구할 수 없습니다. 사용한 연차: " + balance.getUsedLeaveDays() + "일, 복구 요청: " + days + "일");
+        }
+        
+        log.info("연차 복구 완료: employeeId={}, leaveType={}, days={}", employeeId, leaveType, days);
     }
     
     @Override
@@ -225,88 +259,46 @@ public class EmployeeLeaveBalanceServiceImpl implements EmployeeLeaveBalanceServ
     }
     
     @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
     public List<EmployeeLeaveBalanceResponseDto> resetAndGrantAnnualLeave(Long employeeId, LocalDate newGrantDate) {
         log.info("직원 연차 초기화 및 재부여 시작: employeeId={}, newGrantDate={}", employeeId, newGrantDate);
         
-        // 1. 기존 연차 잔액 삭제
-        employeeLeaveBalanceRepository.deleteByEmployeeId(employeeId);
-        log.info("기존 연차 잔액 삭제 완료: employeeId={}", employeeId);
-        
-        // 2. 새로운 연차 부여
+        // 기존 연차 잔액 삭제와 새로운 연차 부여를 같은 재시도 단위에서 처리
         return grantAnnualLeave(employeeId, newGrantDate);
     }
     
     @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
     public List<EmployeeLeaveBalanceResponseDto> grantAnnualLeaveByWorkYears(Long employeeId) {
         log.info("근무년수 기반 연차 자동 부여 시작: employeeId={}", employeeId);
         return grantAnnualLeave(employeeId, LocalDate.now());
     }
     
+    /**
+     * 청크 단위 파이프라인으로 오늘 기준 전 직원 연차 부여 (중단된 실행은 체크포인트부터 재개)
+     */
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void grantAnnualLeaveToAllEmployees() {
         log.info("모든 직원에게 근무년수 기반 연차 부여 시작");
-        
-        try {
-            // 1. 전체 직원 수 조회
-            Map<String, Object> totalEmployeesResponse = userServiceClient.getTotalEmployees();
-            Long totalEmployees = (Long) totalEmployeesResponse.get("totalUsers");
-            
-            if (totalEmployees == null || totalEmployees == 0) {
-                log.warn("부여할 직원이 없습니다.");
-                return;
-            }
-            
-            log.info("총 {}명의 직원에게 연차 부여 시작", totalEmployees);
-            
-            // 2. 페이지별로 직원들을 가져와서 연차 부여 (메모리 효율성을 위해)
-            int pageSize = 100; // 한 번에 처리할 직원 수
-            int totalPages = (int) Math.ceil((double) totalEmployees / pageSize);
-            int successCount = 0;
-            int failCount = 0;
-            
-            for (int page = 0; page < totalPages; page++) {
-                try {
-                    // 실제로는 UserServiceClient에 페이징 API가 필요하지만, 
-                    // 현재는 간단히 ID 범위로 처리
-                    for (long employeeId = page * pageSize + 1; employeeId <= Math.min((page + 1) * pageSize, totalEmployees); employeeId++) {
-                        try {
-                            grantAnnualLeaveByWorkYears(employeeId);
-                            successCount++;
-                            log.debug("직원 연차 부여 성공: employeeId={}", employeeId);
-                        } catch (Exception e) {
-                            failCount++;
-                            log.warn("직원 연차 부여 실패: employeeId={}, error={}", employeeId, e.getMessage());
-                        }
-                    }
-                } catch (Exception e) {
-                    log.error("페이지 {} 처리 중 오류 발생: {}", page, e.getMessage());
-                }
-            }
-            
-            log.info("모든 직원 연차 부여 완료: 성공={}명, 실패={}명", successCount, failCount);
-            
-        } catch (Exception e) {
-            log.error("모든 직원 연차 부여 중 오류 발생", e);
-            throw new RuntimeException("모든 직원 연차 부여 실패", e);
-        }
+        annualLeaveGrantPipeline.run(LocalDate.now(ZONE_SEOUL));
     }
     
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void resetAllEmployeesAnnualLeave(LocalDate newGrantDate) {
         log.info("모든 직원 연차 초기화 및 재부여 시작: newGrantDate={}", newGrantDate);
         
         // 1. 모든 연차 잔액 삭제
-        employeeLeaveBalanceRepository.deleteAll();
+        employeeLeaveBalanceRepository.deleteAllInBatch();
         log.info("모든 연차 잔액 삭제 완료");
         
-        // 2. 모든 활성 직원에게 연차 재부여
-        grantAnnualLeaveToAllEmployees();
+        // 2. 체크포인트를 지우고 모든 직원에게 연차 재부여
+        annualLeaveGrantPipeline.restart(newGrantDate);
         
         log.info("모든 직원 연차 초기화 및 재부여 완료");
     }
     
-    
-    
     // Helper methods
     
     private EmployeeLeaveBalanceResponseDto convertToResponseDto(EmployeeLeaveBalance balance) {
@@ -333,16 +325,4 @@ public class EmployeeLeaveBalanceServiceImpl implements EmployeeLeaveBalanceServ
             default: return leaveType.name();
         }
     }
-    
-    private LeaveType mapToLeaveType(String annualLeaveName) {
-        // 연차 규정 이름을 LeaveType으로 매핑
-        if (annualLeaveName.contains("기본") || annualLeaveName.contains("일반")) {
-            return LeaveType.BASIC_ANNUAL;
-        } else if (annualLeaveName.contains("보상")) {
-            return LeaveType.COMPENSATION_ANNUAL;
-        } else if (annualLeaveName.contains("특별")) {
-            return LeaveType.SPECIAL_ANNUAL;
-        }
-        return LeaveType.BASIC_ANNUAL; // 기본값
-    }
 } 
\ No newline at end of file
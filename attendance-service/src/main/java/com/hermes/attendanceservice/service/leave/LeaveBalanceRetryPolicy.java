@@ -0,0 +1,22 @@
+package com.hermes.attendanceservice.service.leave;
+
+import com.hermes.jpa.retry.TransactionRetryTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * 연차 잔액 변경 재시도 정책
+ * <p>
+ * 같은 직원의 잔액을 동시에 차감/복구하면 버전 충돌(낙관적 잠금)이나 잠금 대기 실패가 나므로,
+ * 충돌한 쪽은 새 트랜잭션에서 최신 잔액을 다시 읽어 처리한다.
+ */
+@Component
+public class LeaveBalanceRetryPolicy extends TransactionRetryTemplate {
+
+    public LeaveBalanceRetryPolicy(PlatformTransactionManager transactionManager,
+                                   @Value("${attendance.leave-balance.retry.max-attempts:3}") int maxAttempts,
+                                   @Value("${attendance.leave-balance.retry.backoff-millis:20}") long backoffMillis) {
+        super("연차 잔액 변경", transactionManager, maxAttempts, backoffMillis);
+    }
+}
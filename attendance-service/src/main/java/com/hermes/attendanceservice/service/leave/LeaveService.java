@@ -7,6 +7,7 @@ import com.hermes.attendanceservice.dto.leave.LeaveRequestResponseDto;
 import com.hermes.attendanceservice.repository.leave.LeaveRepository;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -15,7 +16,6 @@ import java.time.LocalTime;
 import java.time.LocalDateTime;
 import java.time.Duration;
 import java.time.temporal.ChronoUnit;
-import java.util.List;
 
 @Service
 @Transactional
@@ -25,6 +25,7 @@ public class LeaveService {
     private static final double WORK_HOURS_PER_DAY = 8.0;
     private static final LocalTime WORK_START_TIME = LocalTime.of(9, 0);
     private static final LocalTime WORK_END_TIME = LocalTime.of(18, 0);
+    private static final String OVERLAPPING_REQUEST_MESSAGE = "해당 기간에 이미 휴가 신청이 있습니다.";
     
     private final LeaveRepository leaveRequestRepository;
     private final EmployeeLeaveBalanceService employeeLeaveBalanceService;
@@ -57,8 +58,13 @@ public class LeaveService {
         // 4. LeaveRequest 엔티티 생성 (엔티티의 정적 팩토리 메서드 사용)
         LeaveRequest leaveRequest = LeaveRequest.createFromDto(createDto, totalDays);
         
-        // 5. 저장
-        LeaveRequest savedRequest = leaveRequestRepository.save(leaveRequest);
+        // 5. 저장 (동시 신청은 배제 제약이 막으므로 같은 메시지로 변환)
+        LeaveRequest savedRequest;
+        try {
+            savedRequest = leaveRequestRepository.save(leaveRequest);
+        } catch (DataIntegrityViolationException e) {
+            throw new RuntimeException(OVERLAPPING_REQUEST_MESSAGE);
+        }
         
         // 6. 연차 잔액 차감 (신청 즉시 차감, 승인/반려 시 복구/확정)
         try {
@@ -127,18 +133,15 @@ public class LeaveService {
             throw new RuntimeException("시작일은 오늘 이후여야 합니다.");
         }
         
-        // 같은 기간에 다른 휴가 신청이 있는지 확인
-        List<LeaveRequest> existingRequests = leaveRequestRepository.findByStatusAndDateRange(
-                LeaveRequest.RequestStatus.REQUESTED,
+        // 같은 기간에 본인의 다른 휴가 신청이 있는지 확인 (직원 범위 기간 겹침 탐색)
+        boolean hasConflict = leaveRequestRepository.existsRequestedOverlap(
+                createDto.getEmployeeId(),
                 createDto.getStartDate(),
                 createDto.getEndDate()
         );
         
-        boolean hasConflict = existingRequests.stream()
-                .anyMatch(request -> request.getEmployeeId().equals(createDto.getEmployeeId()));
-        
         if (hasConflict) {
-            throw new RuntimeException("해당 기간에 이미 휴가 신청이 있습니다.");
+            throw new RuntimeException(OVERLAPPING_REQUEST_MESSAGE);
         }
     }
     
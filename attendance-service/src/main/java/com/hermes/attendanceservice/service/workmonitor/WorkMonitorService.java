@@ -1,27 +1,29 @@
 package com.hermes.attendanceservice.service.workmonitor;
 
+import com.hermes.attendanceservice.client.ScheduledServiceCalls;
 import com.hermes.attendanceservice.client.UserServiceClient;
 import com.hermes.attendanceservice.dto.workmonitor.WorkMonitorDto;
 import com.hermes.attendanceservice.entity.attendance.Attendance;
-import com.hermes.attendanceservice.entity.attendance.WorkStatus;
-import com.hermes.attendanceservice.entity.leave.LeaveRequest;
+import com.hermes.attendanceservice.entity.attendance.AttendanceStatus;
 import com.hermes.attendanceservice.entity.workmonitor.WorkMonitor;
 import com.hermes.attendanceservice.repository.attendance.AttendanceRepository;
 import com.hermes.attendanceservice.repository.leave.LeaveRepository;
 import com.hermes.attendanceservice.repository.workmonitor.WorkMonitorRepository;
+import com.hermes.cache.TenantCacheManager;
+import com.hermes.events.cache.CacheNames;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.context.request.RequestContextHolder;
-import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.scheduling.annotation.EnableScheduling;
 
-import jakarta.servlet.http.HttpServletRequest;
 import java.time.LocalDate;
-import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 
 @Service
@@ -31,10 +33,15 @@ import java.util.Optional;
 @EnableScheduling
 public class WorkMonitorService {
     
+    private static final String HEADCOUNT_KEY = "total";
+    
     private final WorkMonitorRepository workMonitorRepository;
     private final AttendanceRepository attendanceRepository;
     private final LeaveRepository leaveRepository;
     private final UserServiceClient userServiceClient;
+    private final TenantCacheManager tenantCacheManager;
+    private final ScheduledServiceCalls scheduledServiceCalls;
+    private final PlatformTransactionManager transactionManager;
     
     /**
      * 특정 날짜의 근무 모니터링 데이터 조회
@@ -65,17 +72,9 @@ public class WorkMonitorService {
     public WorkMonitorDto updateWorkMonitorData(LocalDate date) {
         WorkMonitorDto workMonitorDto = generateWorkMonitorData(date);
         
-        // 기존 데이터가 있으면 업데이트, 없으면 새로 생성
-        Optional<WorkMonitor> existingMonitor = workMonitorRepository.findByDate(date);
-        
-        if (existingMonitor.isPresent()) {
-            WorkMonitor workMonitor = existingMonitor.get();
-            updateWorkMonitorFromDto(workMonitor, workMonitorDto);
-            workMonitorRepository.save(workMonitor);
-        } else {
-            WorkMonitor newWorkMonitor = convertToEntity(workMonitorDto);
-            workMonitorRepository.save(newWorkMonitor);
-        }
+        // 같은 날짜 행을 동시에 생성해도 유니크 제약 위반 없이 단일 UPSERT로 반영
+        workMonitorRepository.upsertTotals(date, workMonitorDto.getTotalEmployees(), workMonitorDto.getAttendanceCount(),
+                workMonitorDto.getLateCount(), workMonitorDto.getVacationCount());
         
         return workMonitorDto;
     }
@@ -86,43 +85,21 @@ public class WorkMonitorService {
     private WorkMonitorDto generateWorkMonitorData(LocalDate date) {
         log.info("Generating work monitor data for date: {}", date);
         
-        // 1. 전체 직원 수 조회 (UserService에서 가져옴)
-        int totalEmployees = getTotalEmployees();
+        // 1. 전체 직원 수 조회 (캐시, 없으면 UserService에서 가져옴)
+        Integer totalEmployees = getTotalEmployees();
+        if (totalEmployees == null) {
+            // 조회 실패 시 0으로 덮어쓰지 않고 기존 집계 값을 유지
+            totalEmployees = workMonitorRepository.findByDate(date)
+                    .map(WorkMonitor::getTotalEmployees)
+                    .orElse(0);
+        }
         log.info("Total employees: {}", totalEmployees);
         
-        // 2. 출석 데이터 조회
-        List<Attendance> attendances = attendanceRepository.findByDate(date);
-        log.info("Found {} attendance records for date: {}", attendances.size(), date);
-        
-        int attendanceCount = 0; // 정상 출근 + 재택 + 출장 + 외근
-        int lateCount = 0; // 지각
-        
-        for (Attendance attendance : attendances) {
-            log.debug("Processing attendance: userId={}, checkIn={}, status={}", 
-                attendance.getUserId(), attendance.getCheckIn(), attendance.getAttendanceStatus());
-                
-            // 체크인이 있는 경우만 집계 (실제 출근한 사람)
-            if (attendance.getCheckIn() != null) {
-                // 출근 상태에 따른 분류
-                switch (attendance.getAttendanceStatus()) {
-                    case REGULAR:
-                        attendanceCount++;
-                        log.debug("Added to attendance count: userId={}", attendance.getUserId());
-                        break;
-                    case LATE:
-                        lateCount++;
-                        log.info("Added to late count: userId={}, checkIn={}", 
-                            attendance.getUserId(), attendance.getCheckIn());
-                        break;
-                    default:
-                        log.debug("Attendance status {} not counted for userId={}", 
-                            attendance.getAttendanceStatus(), attendance.getUserId());
-                        break;
-                }
-            } else {
-                log.debug("Skipping attendance without checkIn: userId={}", attendance.getUserId());
-            }
-        }
+        // 2. 출석 데이터 집계 (체크인이 있는 기록만 상태별로 COUNT)
+        int attendanceCount = (int) attendanceRepository
+                .countByDateAndCheckInIsNotNullAndAttendanceStatus(date, AttendanceStatus.REGULAR);
+        int lateCount = (int) attendanceRepository
+                .countByDateAndCheckInIsNotNullAndAttendanceStatus(date, AttendanceStatus.LATE);
         
         // 3. 휴가 데이터 조회
         int vacationCount = getVacationCount(date);
@@ -140,46 +117,35 @@ public class WorkMonitorService {
     }
     
     /**
-     * UserService에서 전체 직원 수 조회
+     * 테넌트 전체 직원 수 조회 (테넌트 캐시)
+     * 사용자 생성/삭제 이벤트 반영 시 근무 정책 프로젝션이 무효화하며, 스케줄러에서는 {@link ScheduledServiceCalls} 범위의 서비스 토큰으로 UserService를 조회한다.
+     * 조회에 실패하면 null
      */
-    private int getTotalEmployees() {
+    private Integer getTotalEmployees() {
         try {
-            // 현재 요청의 Authorization 헤더를 가져옴
-            ServletRequestAttributes attributes = (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
-            if (attributes != null) {
-                HttpServletRequest request = attributes.getRequest();
-                String authorization = request.getHeader("Authorization");
-                
-                if (authorization == null || authorization.trim().isEmpty()) {
-                    log.warn("Authorization header is missing or empty");
-                    return 0;
-                }
-                
-                // UserService에서 전체 직원 수를 조회하는 API 호출
-                Map<String, Object> response = userServiceClient.getTotalEmployees();
-                return (Integer) response.get("totalUsers");
-            } else {
-                log.warn("Request context not available");
-                return 0;
-            }
+            return tenantCacheManager.<String, Integer>getCache(CacheNames.USER_HEADCOUNT)
+                    .get(HEADCOUNT_KEY, this::fetchTotalEmployees);
         } catch (Exception e) {
             log.error("Failed to get total employees from UserService", e);
-            return 0;
+            return null;
+        }
+    }
+    
+    private Integer fetchTotalEmployees() {
+        Object totalUsers = userServiceClient.getTotalEmployees().get("totalUsers");
+        if (!(totalUsers instanceof Number count)) {
+            throw new IllegalStateException("UserService 전체 직원 수 응답이 올바르지 않습니다: " + totalUsers);
         }
+        return count.intValue();
     }
     
     /**
-     * 특정 날짜의 휴가 신청 수 조회
+     * 특정 날짜에 승인된 휴가 중인 직원 수 조회 (단일 COUNT 쿼리)
      */
     private int getVacationCount(LocalDate date) {
-        // 승인된 휴가 신청 중 해당 날짜에 포함되는 것들의 수를 조회
-        List<LeaveRequest> approvedLeaves = leaveRepository.findByStatusAndDateRange(
-            LeaveRequest.RequestStatus.APPROVED, date, date);
-        return approvedLeaves.size();
+        return (int) leaveRepository.countEmployeesOnApprovedLeave(date);
     }
     
-
-    
     /**
      * Entity를 DTO로 변환
      */
@@ -194,35 +160,16 @@ public class WorkMonitorService {
                 .build();
     }
     
-    /**
-     * DTO를 Entity로 변환
-     */
-    private WorkMonitor convertToEntity(WorkMonitorDto dto) {
-        return WorkMonitor.builder()
-                .date(dto.getDate())
-                .totalEmployees(dto.getTotalEmployees())
-                .attendanceCount(dto.getAttendanceCount())
-                .lateCount(dto.getLateCount())
-                .vacationCount(dto.getVacationCount())
-                .build();
-    }
-    
-    /**
-     * Entity 업데이트
-     */
-    private void updateWorkMonitorFromDto(WorkMonitor workMonitor, WorkMonitorDto dto) {
-        workMonitor.setTotalEmployees(dto.getTotalEmployees());
-        workMonitor.setAttendanceCount(dto.getAttendanceCount());
-        workMonitor.setLateCount(dto.getLateCount());
-        workMonitor.setVacationCount(dto.getVacationCount());
-    }
-    
     /**
      * 매일 자정에 전날 데이터 최종 집계 및 오늘 데이터 초기화
      * 새로운 날짜가 시작될 때마다 실행
      */
     @Scheduled(cron = "0 0 0 * * *") // 매일 자정
     public void dailyWorkMonitorUpdate() {
+        scheduledServiceCalls.run("dailyWorkMonitorUpdate", this::refreshDailyWorkMonitor);
+    }
+    
+    private void refreshDailyWorkMonitor() {
         try {
             LocalDate yesterday = LocalDate.now().minusDays(1);
             LocalDate today = LocalDate.now();
@@ -233,14 +180,8 @@ public class WorkMonitorService {
             updateWorkMonitorData(yesterday);
             
             // 오늘 데이터 초기화 (새로운 날짜 시작)
-            Optional<WorkMonitor> todayMonitor = workMonitorRepository.findByDate(today);
-            if (!todayMonitor.isPresent()) {
-                // 오늘 날짜의 초기 데이터 생성
-                WorkMonitorDto initialData = generateWorkMonitorData(today);
-                WorkMonitor newMonitor = convertToEntity(initialData);
-                workMonitorRepository.save(newMonitor);
-                log.info("Created initial work monitor data for today: {}", today);
-            }
+            updateWorkMonitorData(today);
+            log.info("Initialized work monitor data for today: {}", today);
             
         } catch (Exception e) {
             log.error("Failed to perform daily work monitor update", e);
@@ -248,10 +189,15 @@ public class WorkMonitorService {
     }
     
     /**
-     * 매 30분마다 오늘 데이터 갱신 (실시간성 확보)
+     * 매 30분마다 오늘 데이터 전체 재집계
+     * 출퇴근 이벤트는 증분으로 반영되므로, 전체 직원 수/휴가 수 변동 및 누락된 증분을 보정하는 안전망 역할
      */
     @Scheduled(fixedRate = 1800000) // 30분마다 (30 * 60 * 1000 ms)
     public void periodicWorkMonitorUpdate() {
+        scheduledServiceCalls.run("periodicWorkMonitorUpdate", this::refreshTodayWorkMonitor);
+    }
+    
+    private void refreshTodayWorkMonitor() {
         try {
             LocalDate today = LocalDate.now();
             log.debug("Performing periodic work monitor update for today: {}", today);
@@ -261,6 +207,65 @@ public class WorkMonitorService {
         }
     }
     
+    /**
+     * 출근 상태 전이를 근무 모니터링 카운터에 증분 반영
+     * 출퇴근 트랜잭션이 커밋된 뒤 별도 트랜잭션의 단일 UPSERT로 카운터만 가감하므로,
+     * 집계 실패나 같은 날짜 행 생성 경합이 출퇴근 처리를 롤백시키지 않는다. 누락분은 주기적 전체 재집계가 보정한다.
+     *
+     * @param date   출근 기록 날짜
+     * @param before 변경 전 집계 상태 ({@link #countedStatus(Attendance)})
+     * @param after  변경 후 집계 상태 ({@link #countedStatus(Attendance)})
+     */
+    public void applyAttendanceTransition(LocalDate date, AttendanceStatus before, AttendanceStatus after) {
+        if (before == after) {
+            return;
+        }
+        
+        int attendanceDelta = bucketDelta(AttendanceStatus.REGULAR, before, after);
+        int lateDelta = bucketDelta(AttendanceStatus.LATE, before, after);
+        if (attendanceDelta == 0 && lateDelta == 0) {
+            return;
+        }
+        
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            applyDelta(date, attendanceDelta, lateDelta);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                applyDelta(date, attendanceDelta, lateDelta);
+            }
+        });
+    }
+    
+    private void applyDelta(LocalDate date, int attendanceDelta, int lateDelta) {
+        try {
+            TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+            transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+            transactionTemplate.executeWithoutResult(status ->
+                    workMonitorRepository.upsertDelta(date, attendanceDelta, lateDelta));
+            log.debug("Applied work monitor delta for {}: attendance={}, late={}", date, attendanceDelta, lateDelta);
+        } catch (Exception e) {
+            // 주기적 전체 재집계에서 보정되므로 출퇴근 처리 자체는 실패시키지 않음
+            log.error("Failed to apply work monitor delta for date: {}", date, e);
+        }
+    }
+    
+    /**
+     * 근무 모니터링 집계 기준 출근 상태 (체크인이 없으면 집계 대상이 아니므로 null)
+     */
+    public static AttendanceStatus countedStatus(Attendance attendance) {
+        if (attendance == null || attendance.getCheckIn() == null) {
+            return null;
+        }
+        return attendance.getAttendanceStatus();
+    }
+    
+    private int bucketDelta(AttendanceStatus bucket, AttendanceStatus before, AttendanceStatus after) {
+        return (after == bucket ? 1 : 0) - (before == bucket ? 1 : 0);
+    }
+    
     /**
      * 출근/퇴근 이벤트 발생 시 즉시 호출할 수 있는 메서드
      * AttendanceService에서 체크인/체크아웃 후 호출하여 실시간 업데이트
@@ -0,0 +1,153 @@
+package com.hermes.attendanceservice.service.workpolicy;
+
+import com.hermes.attendanceservice.entity.workpolicy.UserWorkPolicyAssignment;
+import com.hermes.attendanceservice.repository.workpolicy.UserWorkPolicyAssignmentRepository;
+import com.hermes.cache.invalidation.CacheInvalidationPublisher;
+import com.hermes.cache.tenant.TenantKeyResolver;
+import com.hermes.events.cache.CacheInvalidationEvent;
+import com.hermes.events.cache.CacheNames;
+import com.hermes.events.user.UserWorkPolicyEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * 사용자-근무정책 할당 로컬 프로젝션 관리
+ * <p>
+ * user-service의 근무 정책 할당 변경 이벤트로 갱신하고, 이벤트 도입 이전 사용자는
+ * 최초 조회 시 User Service 조회 결과로 보충한다.
+ * 이벤트 발행/수신이 실패해 어긋난 행은 {@link UserWorkPolicyReconciler}의 주기 대조로 바로잡는다.
+ * 조회/보충은 현재 요청의 테넌트, 이벤트 반영은 이벤트의 테넌트 기준으로 (테넌트, 사용자) 행을 다룬다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserWorkPolicyProjectionService {
+
+    private final UserWorkPolicyAssignmentRepository assignmentRepository;
+    private final CacheInvalidationPublisher cacheInvalidationPublisher;
+    private final TenantKeyResolver tenantKeyResolver;
+
+    /**
+     * 사용자 근무 정책 할당 조회 (프로젝션에 없으면 empty)
+     */
+    @Transactional(readOnly = true)
+    public Optional<UserWorkPolicyAssignment> findAssignment(Long userId) {
+        return assignmentRepository.findById(new UserWorkPolicyAssignment.AssignmentId(tenantKeyResolver.resolve(), userId));
+    }
+
+    /**
+     * User Service 조회 결과로 프로젝션 보충 (이벤트로 이미 반영된 사용자는 유지)
+     * 존재 확인과 저장을 단일 조건부 INSERT로 처리해 동시 보충이나 이벤트 반영과 겹쳐도 키 중복이 나지 않는다.
+     * 호출 측 트랜잭션(출퇴근 처리)과 분리하기 위해 별도 트랜잭션으로 실행
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void backfill(Long userId, Long workPolicyId) {
+        String tenantId = tenantKeyResolver.resolve();
+        if (assignmentRepository.insertIfAbsent(tenantId, userId, workPolicyId, LocalDateTime.now()) > 0) {
+            log.debug("근무 정책 할당 프로젝션 보충: tenant={}, userId={}, workPolicyId={}", tenantId, userId, workPolicyId);
+        }
+    }
+
+    /**
+     * 근무 정책 할당 변경 이벤트 반영
+     * 이미 반영한 이벤트보다 이전에 발생한 이벤트는 무시하고, 반영 후 모든 인스턴스의 사용자 근무 정책 캐시를 무효화한다.
+     * 사용자 삭제나 프로젝션에 없던 사용자(신규 생성)의 이벤트면 테넌트 전체 직원 수 캐시도 함께 무효화한다.
+     */
+    @Transactional
+    public void apply(UserWorkPolicyEvent event) {
+        String tenantId = event.getTenantId() != null ? event.getTenantId() : TenantKeyResolver.DEFAULT_TENANT;
+        Long userId = event.getUserId();
+        UserWorkPolicyAssignment assignment = assignmentRepository
+                .findById(new UserWorkPolicyAssignment.AssignmentId(tenantId, userId))
+                .orElse(null);
+
+        if (assignment != null && assignment.getSourceUpdatedAt() != null && event.getTimestamp() != null
+                && event.getTimestamp().isBefore(assignment.getSourceUpdatedAt())) {
+            log.debug("이전 근무 정책 할당 이벤트 무시: tenant={}, userId={}, eventAt={}, appliedAt={}",
+                    tenantId, userId, event.getTimestamp(), assignment.getSourceUpdatedAt());
+            return;
+        }
+
+        // 프로젝션에 없던 사용자는 신규 생성이거나 보충 전 기존 사용자이므로 직원 수를 다시 조회하게 함
+        boolean headcountChanged = event.isRemoved() || assignment == null;
+
+        if (event.isRemoved()) {
+            if (assignment != null) {
+                assignmentRepository.delete(assignment);
+            }
+        } else {
+            if (assignment == null) {
+                assignment = UserWorkPolicyAssignment.builder().tenantId(tenantId).userId(userId).build();
+            }
+            assignment.setWorkPolicyId(event.getWorkPolicyId());
+            assignment.setSourceUpdatedAt(event.getTimestamp());
+            assignmentRepository.save(assignment);
+        }
+
+        cacheInvalidationPublisher.publish(CacheInvalidationEvent.of(tenantId, CacheNames.USER_WORK_POLICY, userId));
+        if (headcountChanged) {
+            cacheInvalidationPublisher.publish(CacheInvalidationEvent.all(tenantId, CacheNames.USER_HEADCOUNT));
+        }
+        log.info("근무 정책 할당 프로젝션 갱신: tenant={}, userId={}, workPolicyId={}, removed={}",
+                tenantId, userId, event.getWorkPolicyId(), event.isRemoved());
+    }
+
+    /**
+     * User Service 조회 결과 한 페이지와 프로젝션 대조
+     * 할당이 다른 행만 조회 결과로 고치고 캐시를 무효화하며, 조회 시각 이후 이벤트로 갱신된 행은 유지한다.
+     * 프로젝션에 없는 사용자는 조회 시 보충되므로 추가하지 않는다.
+     *
+     * @param workPolicyIds 사용자 ID별 근무 정책 ID (미할당이면 null)
+     * @param observedAt User Service 조회 직전 시각
+     * @return 보정한 사용자 수
+     */
+    @Transactional
+    public int reconcile(String tenantId, Map<Long, Long> workPolicyIds, LocalDateTime observedAt) {
+        if (workPolicyIds.isEmpty()) {
+            return 0;
+        }
+        List<Long> corrected = new ArrayList<>();
+        for (UserWorkPolicyAssignment assignment : assignmentRepository.findByTenantIdAndUserIdIn(tenantId, workPolicyIds.keySet())) {
+            Long userId = assignment.getUserId();
+            Long workPolicyId = workPolicyIds.get(userId);
+            if (!Objects.equals(assignment.getWorkPolicyId(), workPolicyId)
+                    && assignmentRepository.correctWorkPolicy(tenantId, userId, workPolicyId, observedAt) > 0) {
+                log.warn("근무 정책 할당 프로젝션 보정: tenant={}, userId={}, workPolicyId={} -> {}",
+                        tenantId, userId, assignment.getWorkPolicyId(), workPolicyId);
+                corrected.add(userId);
+            }
+        }
+        assignmentRepository.markVerified(tenantId, workPolicyIds.keySet(), observedAt);
+
+        for (Long userId : corrected) {
+            cacheInvalidationPublisher.publish(CacheInvalidationEvent.of(tenantId, CacheNames.USER_WORK_POLICY, userId));
+        }
+        return corrected.size();
+    }
+
+    /**
+     * 전체 대조를 마친 뒤 그동안 확인되지 않은 행(삭제 이벤트가 유실된 사용자) 삭제
+     *
+     * @param sweptFrom 전체 대조 시작 시각
+     * @return 삭제한 행 수
+     */
+    @Transactional
+    public int removeUnverified(String tenantId, LocalDateTime sweptFrom) {
+        int removed = assignmentRepository.deleteUnverified(tenantId, sweptFrom);
+        if (removed > 0) {
+            cacheInvalidationPublisher.publish(CacheInvalidationEvent.all(tenantId, CacheNames.USER_WORK_POLICY));
+            cacheInvalidationPublisher.publish(CacheInvalidationEvent.all(tenantId, CacheNames.USER_HEADCOUNT));
+        }
+        return removed;
+    }
+}
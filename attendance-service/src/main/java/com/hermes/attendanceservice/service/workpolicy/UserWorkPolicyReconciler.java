@@ -0,0 +1,94 @@
+package com.hermes.attendanceservice.service.workpolicy;
+
+import com.hermes.attendanceservice.client.ScheduledServiceCalls;
+import com.hermes.attendanceservice.client.UserServiceClient;
+import com.hermes.attendanceservice.repository.workpolicy.UserWorkPolicyAssignmentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 사용자-근무정책 할당 프로젝션 주기 대조
+ * <p>
+ * 할당 변경 이벤트의 발행이나 수신이 실패하면 프로젝션 행은 다음 이벤트가 올 때까지 갱신되지 않는다.
+ * 프로젝션에 행이 있는 테넌트마다 User Service의 사용자 목록을 id 순으로 훑어 할당이 다른 행을 고치고,
+ * 목록에 없는 사용자(삭제 이벤트 유실)의 행을 지운다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserWorkPolicyReconciler {
+
+    private final UserServiceClient userServiceClient;
+    private final UserWorkPolicyAssignmentRepository assignmentRepository;
+    private final UserWorkPolicyProjectionService userWorkPolicyProjectionService;
+    private final ScheduledServiceCalls scheduledServiceCalls;
+
+    @Value("${attendance.projection.user-work-policy.page-size:500}")
+    private int pageSize;
+
+    @Scheduled(fixedDelayString = "${attendance.projection.user-work-policy.reconcile-interval:PT1H}",
+               initialDelayString = "${attendance.projection.user-work-policy.reconcile-interval:PT1H}")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void scheduleReconcile() {
+        for (String tenantId : assignmentRepository.findDistinctTenantIds()) {
+            try {
+                scheduledServiceCalls.run("reconcileUserWorkPolicy", tenantId, () -> reconcile(tenantId));
+            } catch (Exception e) {
+                log.error("근무 정책 할당 프로젝션 대조 실패: tenant={}", tenantId, e);
+            }
+        }
+    }
+
+    /**
+     * 테넌트의 프로젝션 전체를 User Service 조회 결과와 대조
+     * 중간에 실패하면 삭제 단계까지 가지 않으므로 일부만 확인된 상태로 행을 지우지 않는다.
+     */
+    public void reconcile(String tenantId) {
+        LocalDateTime sweptFrom = LocalDateTime.now();
+        long afterId = 0L;
+        int checked = 0;
+        int corrected = 0;
+
+        while (true) {
+            // 조회 이후 발생한 할당 변경은 이벤트가 반영하므로 조회 직전 시각을 대조 기준으로 사용
+            LocalDateTime observedAt = LocalDateTime.now();
+            List<Map<String, Object>> users = userServiceClient.getLeaveGrantTargets(afterId, pageSize);
+
+            Map<Long, Long> workPolicyIds = new HashMap<>(users.size() * 2);
+            for (Map<String, Object> user : users) {
+                Long userId = toLong(user.get("userId"));
+                if (userId != null) {
+                    workPolicyIds.put(userId, toLong(user.get("workPolicyId")));
+                    afterId = Math.max(afterId, userId);
+                }
+            }
+            if (workPolicyIds.isEmpty()) {
+                break;
+            }
+
+            checked += workPolicyIds.size();
+            corrected += userWorkPolicyProjectionService.reconcile(tenantId, workPolicyIds, observedAt);
+            if (users.size() < pageSize) {
+                break;
+            }
+        }
+
+        int removed = userWorkPolicyProjectionService.removeUnverified(tenantId, sweptFrom);
+        log.info("근무 정책 할당 프로젝션 대조 완료: tenant={}, 확인 {}명, 보정 {}명, 삭제 {}명",
+                tenantId, checked, corrected, removed);
+    }
+
+    private static Long toLong(Object value) {
+        return value != null ? Long.valueOf(value.toString()) : null;
+    }
+}
@@ -5,6 +5,8 @@ import com.hermes.attendanceservice.entity.workpolicy.AnnualLeave;
 import com.hermes.attendanceservice.entity.workpolicy.WorkPolicy;
 import com.hermes.attendanceservice.entity.workpolicy.WorkCycle;
 import com.hermes.attendanceservice.repository.workpolicy.WorkPolicyRepository;
+import com.hermes.cache.invalidation.CacheInvalidationPublisher;
+import com.hermes.events.cache.CacheNames;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -27,6 +29,7 @@ public class WorkPolicyServiceImpl implements WorkPolicyService {
     
     private final WorkPolicyRepository workPolicyRepository;
     private final AnnualLeaveService annualLeaveService;
+    private final CacheInvalidationPublisher cacheInvalidationPublisher;
     
     @Override
     public WorkPolicyResponseDto createWorkPolicy(WorkPolicyRequestDto requestDto) {
@@ -189,6 +192,7 @@ public class WorkPolicyServiceImpl implements WorkPolicyService {
         
         WorkPolicy updatedPolicy = workPolicyRepository.save(workPolicy);
         log.info("근무 정책 수정 완료: ID={}, 이름={}", id, updatedPolicy.getName());
+        invalidateWorkPolicyCaches(id);
         
         return convertToResponseDto(updatedPolicy);
     }
@@ -200,6 +204,16 @@ public class WorkPolicyServiceImpl implements WorkPolicyService {
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 근무 정책입니다: " + id));
         workPolicyRepository.delete(workPolicy);
         log.info("근무 정책 삭제 완료: ID={}, 이름={}", id, workPolicy.getName());
+        invalidateWorkPolicyCaches(id);
+    }
+
+    /**
+     * 근무 정책 변경 시 캐시 무효화
+     * 사용자별 캐시는 정책 ID로 역조회할 수 없으므로 테넌트 단위로 전체 무효화
+     */
+    private void invalidateWorkPolicyCaches(Long workPolicyId) {
+        cacheInvalidationPublisher.invalidate(CacheNames.WORK_POLICY, workPolicyId);
+        cacheInvalidationPublisher.invalidateAll(CacheNames.USER_WORK_POLICY);
     }
     
     @Override
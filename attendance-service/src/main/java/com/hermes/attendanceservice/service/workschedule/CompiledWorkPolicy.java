@@ -0,0 +1,415 @@
+package com.hermes.attendanceservice.service.workschedule;
+
+import com.hermes.attendanceservice.dto.workschedule.WorkPolicyDto;
+import com.hermes.attendanceservice.entity.workschedule.Schedule;
+import com.hermes.attendanceservice.entity.workschedule.ScheduleType;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * 근무 정책을 스케줄 규칙으로 컴파일한 불변 객체
+ * <p>
+ * 근무/휴일 요일은 비트마스크, 공휴일은 날짜 Set으로 보관하고
+ * 조회 구간에 대해서만 일별 스케줄을 전개한다. 전개된 Schedule은 저장되지 않으며 id가 없다.
+ * 사용자가 조정한 항목(예외)만 schedules 테이블에 저장되고, 같은 날짜/고정 사유의 규칙 항목을 대체한다.
+ */
+@Slf4j
+public final class CompiledWorkPolicy {
+
+    static final int MAX_EXPANSION_DAYS = 366;
+
+    private static final int DEFAULT_WORK_DAY_MASK = maskOf(List.of("MONDAY", "TUESDAY", "WEDNESDAY", "THURSDAY", "FRIDAY"));
+    private static final LocalTime LAST_MINUTE = LocalTime.of(23, 59);
+
+    private final Long workPolicyId;
+    private final String type;
+    private final int workDayMask;
+    private final int holidayDayMask;
+    private final Set<LocalDate> holidays;
+
+    private final LocalTime startTime;
+    private final LocalTime startTimeEnd;
+    private final LocalTime endTime;
+    private final int workHours;
+    private final LocalTime breakStartTime;
+    private final LocalTime breakEndTime;
+    private final int breakMinutes;
+    private final LocalTime coreTimeStart;
+    private final LocalTime coreTimeEnd;
+
+    private CompiledWorkPolicy(Long workPolicyId, WorkPolicyDto policy) {
+        this.workPolicyId = workPolicyId;
+        this.type = policy.getType() != null ? policy.getType() : "FIXED";
+
+        int mask = maskOf(policy.getWorkDays());
+        // 선택근무를 제외한 유형은 근무 요일 미설정 시 월~금 기본값 사용
+        this.workDayMask = mask == 0 && !"OPTIONAL".equals(type) ? DEFAULT_WORK_DAY_MASK : mask;
+        this.holidayDayMask = maskOf(policy.getHolidayDays());
+        this.holidays = parseHolidays(policy.getHolidays());
+
+        this.workHours = policy.getWorkHours() != null ? policy.getWorkHours() : 8;
+        this.breakMinutes = policy.getBreakMinutes() != null && policy.getBreakMinutes() > 0 ? policy.getBreakMinutes() : 60;
+        this.breakStartTime = policy.getBreakStartTime();
+        this.breakEndTime = policy.getBreakEndTime();
+
+        switch (type) {
+            case "FLEXIBLE" -> {
+                // 출근 가능 시간대 미설정 또는 역전 시 07:00 ~ 10:00
+                LocalTime windowStart = policy.getStartTime();
+                LocalTime windowEnd = policy.getStartTimeEnd();
+                if (windowStart == null || windowEnd == null || !windowEnd.isAfter(windowStart)) {
+                    windowStart = LocalTime.of(7, 0);
+                    windowEnd = LocalTime.of(10, 0);
+                }
+                this.startTime = windowStart;
+                this.startTimeEnd = windowEnd;
+                this.endTime = null;
+            }
+            case "SHIFT" -> {
+                this.startTime = policy.getStartTime() != null ? policy.getStartTime() : LocalTime.of(9, 0);
+                this.startTimeEnd = null;
+                this.endTime = null;
+            }
+            default -> {
+                LocalTime start = policy.getStartTime() != null ? policy.getStartTime() : LocalTime.of(9, 0);
+                LocalTime end = policy.getEndTime();
+                if (end == null) {
+                    end = policy.getWorkHours() != null && policy.getWorkMinutes() != null
+                            ? start.plusHours(policy.getWorkHours()).plusMinutes(policy.getWorkMinutes())
+                            : start.plusHours(8);
+                }
+                this.startTime = start;
+                this.startTimeEnd = policy.getStartTimeEnd();
+                this.endTime = end;
+            }
+        }
+
+        if (policy.getCoreTimeStart() != null && policy.getCoreTimeEnd() != null) {
+            this.coreTimeStart = policy.getCoreTimeStart();
+            this.coreTimeEnd = policy.getCoreTimeEnd();
+        } else {
+            // 선택근무 코어타임 미설정 시 10:00 ~ 15:00
+            this.coreTimeStart = LocalTime.of(10, 0);
+            this.coreTimeEnd = LocalTime.of(15, 0);
+        }
+    }
+
+    public static CompiledWorkPolicy compile(Long workPolicyId, WorkPolicyDto policy) {
+        return new CompiledWorkPolicy(workPolicyId, policy);
+    }
+
+    public Long getWorkPolicyId() {
+        return workPolicyId;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public boolean isWorkDay(LocalDate date) {
+        return (workDayMask & bitOf(date.getDayOfWeek())) != 0;
+    }
+
+    public boolean isHoliday(LocalDate date) {
+        return (holidayDayMask & bitOf(date.getDayOfWeek())) != 0 || holidays.contains(date);
+    }
+
+    /**
+     * 기간 내 규칙 스케줄 전개 (저장된 예외 미반영)
+     */
+    public List<Schedule> expand(Long userId, LocalDate startDate, LocalDate endDate) {
+        validateRange(startDate, endDate);
+
+        List<Schedule> schedules = new ArrayList<>();
+        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+            expandDay(userId, date, schedules);
+        }
+        return schedules;
+    }
+
+    /**
+     * 기간 내 규칙 스케줄과 저장된 스케줄 병합
+     * 저장된 고정 스케줄이 있는 날짜/고정 사유의 규칙 항목은 저장된 항목으로 대체
+     */
+    public List<Schedule> merge(Long userId, LocalDate startDate, LocalDate endDate, Collection<Schedule> storedSchedules) {
+        Set<String> overridden = new HashSet<>();
+        for (Schedule stored : storedSchedules) {
+            if (Boolean.TRUE.equals(stored.getIsFixed()) && stored.getFixedReason() != null) {
+                overridden.add(occurrenceKey(stored.getStartDate(), stored.getFixedReason()));
+            }
+        }
+
+        List<Schedule> merged = new ArrayList<>(storedSchedules);
+        for (Schedule occurrence : expand(userId, startDate, endDate)) {
+            if (!overridden.contains(occurrenceKey(occurrence.getStartDate(), occurrence.getFixedReason()))) {
+                merged.add(occurrence);
+            }
+        }
+        merged.sort(Comparator.comparing(Schedule::getStartDate).thenComparing(Schedule::getStartTime));
+        return merged;
+    }
+
+    /**
+     * 특정 날짜의 규칙 근무 블록 조회 (근무 블록이 없는 날은 null)
+     */
+    public Schedule findWorkBlock(Long userId, LocalDate date) {
+        List<Schedule> daySchedules = new ArrayList<>();
+        expandDay(userId, date, daySchedules);
+        return daySchedules.stream()
+                .filter(schedule -> schedule.getScheduleType() == ScheduleType.WORK)
+                .findFirst()
+                .orElse(null);
+    }
+
+    /**
+     * 특정 날짜/고정 사유의 규칙 항목 조회
+     */
+    public Schedule findOccurrence(Long userId, LocalDate date, String fixedReason) {
+        List<Schedule> daySchedules = new ArrayList<>();
+        expandDay(userId, date, daySchedules);
+        return daySchedules.stream()
+                .filter(schedule -> schedule.getFixedReason().equals(fixedReason))
+                .findFirst()
+                .orElse(null);
+    }
+
+    static String occurrenceKey(LocalDate date, String fixedReason) {
+        return date + "|" + fixedReason;
+    }
+
+    private void expandDay(Long userId, LocalDate date, List<Schedule> out) {
+        if (isWorkDay(date)) {
+            switch (type) {
+                case "FLEXIBLE" -> expandFlexibleDay(userId, date, out);
+                case "OPTIONAL" -> out.add(occurrence(userId, date, coreTimeStart, coreTimeEnd)
+                        .title(ScheduleType.CORETIME.getDescription())
+                        .description(String.format("필수 근무시간: %s ~ %s (근무정책: %s)", coreTimeStart, coreTimeEnd, type))
+                        .scheduleType(ScheduleType.CORETIME)
+                        .color("#28a745")
+                        .priority(3)
+                        .isEditable(false)
+                        .fixedReason("CORE_TIME")
+                        .build());
+                case "SHIFT" -> expandShiftDay(userId, date, out);
+                default -> expandFixedDay(userId, date, out);
+            }
+        }
+
+        if (isHoliday(date)) {
+            boolean isPublicHoliday = holidays.contains(date);
+            out.add(occurrence(userId, date, LocalTime.MIDNIGHT, LAST_MINUTE)
+                    .title(isPublicHoliday ? "공휴일" : "주말 휴일")
+                    .description(isPublicHoliday ? "법정 공휴일" : "주말 휴일")
+                    .scheduleType(ScheduleType.VACATION) // HOLIDAY는 VACATION으로 처리
+                    .color("#dc3545")
+                    .isAllDay(true)
+                    .priority(1)
+                    .isEditable(false)
+                    .fixedReason("HOLIDAY")
+                    .build());
+        }
+    }
+
+    /**
+     * 고정근무: 정책 출퇴근 시간 + 휴게시간
+     */
+    private void expandFixedDay(Long userId, LocalDate date, List<Schedule> out) {
+        out.add(occurrence(userId, date, startTime, endTime)
+                .title(ScheduleType.WORK.getDescription())
+                .description(String.format("출근: %s, 퇴근: %s", startTime, endTime))
+                .scheduleType(ScheduleType.WORK)
+                .color("#007bff")
+                .priority(1)
+                .isEditable(false)
+                .fixedReason("WORK_POLICY")
+                .build());
+
+        if (breakStartTime != null && breakEndTime != null) {
+            out.add(occurrence(userId, date, breakStartTime, breakEndTime)
+                    .title(ScheduleType.RESTTIME.getDescription())
+                    .description(String.format("휴게시간: %s ~ %s", breakStartTime, breakEndTime))
+                    .scheduleType(ScheduleType.RESTTIME)
+                    .color("#ffc107")
+                    .priority(2)
+                    .isEditable(false)
+                    .fixedReason("BREAK_TIME")
+                    .build());
+        }
+    }
+
+    /**
+     * 시차근무: 출근 가능 시간대 내 날짜별 고정 시드 위치에 근무 블록 + 가운데 휴게시간
+     */
+    private void expandFlexibleDay(Long userId, LocalDate date, List<Schedule> out) {
+        Random dayRandom = new Random(date.toEpochDay());
+        long windowStart = startTime.toSecondOfDay() / 60;
+        long windowEnd = startTimeEnd.toSecondOfDay() / 60;
+        LocalTime workStart = LocalTime.ofSecondOfDay((windowStart + dayRandom.nextLong(windowEnd - windowStart + 1)) * 60);
+        LocalTime[] block = fitInDay(workStart);
+
+        out.add(occurrence(userId, date, block[0], block[1])
+                .title(ScheduleType.WORK.getDescription())
+                .description(String.format("시차근무: %s ~ %s (자율 출근)", block[0], block[1]))
+                .scheduleType(ScheduleType.WORK)
+                .color("#28a745")
+                .priority(1)
+                .isEditable(true) // 시차근무는 시간 조정 가능
+                .fixedReason("FLEXIBLE_WORK_TIME")
+                .build());
+
+        LocalTime[] rest = middleBreak(block[0], block[1]);
+        out.add(occurrence(userId, date, rest[0], rest[1])
+                .title(ScheduleType.RESTTIME.getDescription())
+                .description(String.format("시차근무 휴게시간: %s ~ %s", rest[0], rest[1]))
+                .scheduleType(ScheduleType.RESTTIME)
+                .color("#ffc107")
+                .priority(2)
+                .isEditable(false)
+                .fixedReason("FLEXIBLE_BREAK_TIME")
+                .build());
+    }
+
+    /**
+     * 교대근무: 기준 출근 시간 ±3시간 범위의 사용자/날짜별 고정 시드 위치에 근무 블록 + 가운데 휴게시간
+     */
+    private void expandShiftDay(Long userId, LocalDate date, List<Schedule> out) {
+        Random dayRandom = new Random(date.toEpochDay() * 31 + (userId != null ? userId : 0));
+        int hourOffset = dayRandom.nextInt(7) - 3;    // -3 ~ +3 시간
+        int minuteOffset = dayRandom.nextInt(121) - 60; // -60 ~ +60 분
+
+        long startMinutes = startTime.toSecondOfDay() / 60 + hourOffset * 60L + minuteOffset;
+        // 06:00 ~ 22:00 사이로 제한
+        startMinutes = Math.max(6 * 60, Math.min(22 * 60, startMinutes));
+        LocalTime[] block = fitInDay(LocalTime.ofSecondOfDay(startMinutes * 60));
+
+        out.add(occurrence(userId, date, block[0], block[1])
+                .title(ScheduleType.WORK.getDescription())
+                .description(String.format("교대근무: %s ~ %s (랜덤 배치)", block[0], block[1]))
+                .scheduleType(ScheduleType.WORK)
+                .color("#007bff")
+                .priority(1)
+                .isEditable(true) // 교대근무는 자유 이동 가능
+                .fixedReason("SHIFT_WORK_RANDOM")
+                .build());
+
+        LocalTime[] rest = middleBreak(block[0], block[1]);
+        out.add(occurrence(userId, date, rest[0], rest[1])
+                .title(ScheduleType.RESTTIME.getDescription())
+                .description(String.format("교대근무 휴게시간: %s ~ %s", rest[0], rest[1]))
+                .scheduleType(ScheduleType.RESTTIME)
+                .color("#ffc107")
+                .priority(2)
+                .isEditable(false)
+                .fixedReason("SHIFT_BREAK_TIME")
+                .build());
+    }
+
+    /**
+     * 근무 블록이 자정을 넘지 않도록 조정
+     */
+    private LocalTime[] fitInDay(LocalTime workStart) {
+        long startMinutes = workStart.toSecondOfDay() / 60;
+        long lastMinute = LAST_MINUTE.toSecondOfDay() / 60;
+        if (startMinutes + workHours * 60L > lastMinute) {
+            startMinutes = Math.max(0, lastMinute - workHours * 60L);
+            return new LocalTime[]{LocalTime.ofSecondOfDay(startMinutes * 60), LAST_MINUTE};
+        }
+        return new LocalTime[]{workStart, workStart.plusHours(workHours)};
+    }
+
+    /**
+     * 근무 블록 가운데에 휴게시간 배치 (근무 블록을 벗어나면 시작/종료 30분 안쪽으로 조정)
+     */
+    private LocalTime[] middleBreak(LocalTime workStart, LocalTime workEnd) {
+        long halfWorkMinutes = Duration.between(workStart, workEnd).toMinutes() / 2;
+        LocalTime restStart = workStart.plusMinutes(halfWorkMinutes - (breakMinutes / 2));
+        LocalTime restEnd = restStart.plusMinutes(breakMinutes);
+
+        if (restStart.isBefore(workStart)) {
+            restStart = workStart.plusMinutes(30);
+            restEnd = restStart.plusMinutes(breakMinutes);
+        }
+        if (restEnd.isAfter(workEnd)) {
+            restEnd = workEnd.minusMinutes(30);
+            restStart = restEnd.minusMinutes(breakMinutes);
+        }
+        return new LocalTime[]{restStart, restEnd};
+    }
+
+    private Schedule.ScheduleBuilder occurrence(Long userId, LocalDate date, LocalTime start, LocalTime end) {
+        return Schedule.builder()
+                .userId(userId)
+                .startDate(date)
+                .endDate(date)
+                .startTime(start)
+                .endTime(end)
+                .isAllDay(false)
+                .isRecurring(false)
+                .workPolicyId(workPolicyId)
+                .isFixed(true)
+                .status("ACTIVE");
+    }
+
+    private static void validateRange(LocalDate startDate, LocalDate endDate) {
+        if (startDate == null || endDate == null || endDate.isBefore(startDate)) {
+            throw new IllegalArgumentException("조회 기간이 올바르지 않습니다: " + startDate + " ~ " + endDate);
+        }
+        if (ChronoUnit.DAYS.between(startDate, endDate) >= MAX_EXPANSION_DAYS) {
+            throw new IllegalArgumentException("스케줄 조회 기간은 최대 " + MAX_EXPANSION_DAYS + "일입니다.");
+        }
+    }
+
+    private static int bitOf(DayOfWeek dayOfWeek) {
+        return 1 << (dayOfWeek.getValue() - 1);
+    }
+
+    private static int maskOf(List<String> days) {
+        int mask = 0;
+        if (days == null) {
+            return mask;
+        }
+        for (String day : days) {
+            if (day == null) {
+                continue;
+            }
+            try {
+                mask |= bitOf(DayOfWeek.valueOf(day.trim().toUpperCase(Locale.ENGLISH)));
+            } catch (IllegalArgumentException e) {
+                log.warn("알 수 없는 요일 값 무시: {}", day);
+            }
+        }
+        return mask;
+    }
+
+    private static Set<LocalDate> parseHolidays(List<String> values) {
+        if (values == null || values.isEmpty()) {
+            return Set.of();
+        }
+        Set<LocalDate> parsed = new HashSet<>();
+        for (String value : values) {
+            if (value == null) {
+                continue;
+            }
+            try {
+                parsed.add(LocalDate.parse(value.trim()));
+            } catch (DateTimeParseException e) {
+                log.warn("알 수 없는 공휴일 값 무시: {}", value);
+            }
+        }
+        return Set.copyOf(parsed);
+    }
+}
@@ -0,0 +1,10 @@
+-- Local projection of user -> work policy assignment (fed by user-service events)
+CREATE TABLE IF NOT EXISTS user_work_policy_assignment (
+  user_id BIGINT PRIMARY KEY,
+  work_policy_id BIGINT,
+  source_updated_at TIMESTAMP,
+  updated_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT now()
+);
+
+CREATE INDEX IF NOT EXISTS idx_user_work_policy_assignment_policy
+  ON user_work_policy_assignment (work_policy_id);
@@ -0,0 +1,14 @@
+-- Optimistic locking version for employee_leave_balance
+ALTER TABLE employee_leave_balance
+  ADD COLUMN IF NOT EXISTS version BIGINT;
+
+-- Backfill rows even when ddl-auto added the column first
+UPDATE employee_leave_balance SET version = 0 WHERE version IS NULL;
+
+ALTER TABLE employee_leave_balance
+  ALTER COLUMN version SET DEFAULT 0,
+  ALTER COLUMN version SET NOT NULL;
+
+-- Conditional deduct/restore updates look up the row by (employee_id, leave_type)
+CREATE INDEX IF NOT EXISTS idx_employee_leave_balance_employee_type
+  ON employee_leave_balance (employee_id, leave_type);
@@ -0,0 +1,41 @@
+-- Merge duplicate (employee_id, leave_type) balances so that grants can be upserted per leave type
+WITH merged AS (
+  SELECT employee_id, leave_type, MIN(id) AS keep_id,
+         SUM(total_leave_days) AS total_leave_days,
+         SUM(used_leave_days) AS used_leave_days,
+         SUM(remaining_days) AS remaining_days
+    FROM employee_leave_balance
+   GROUP BY employee_id, leave_type
+  HAVING COUNT(*) > 1
+)
+UPDATE employee_leave_balance b
+   SET total_leave_days = m.total_leave_days,
+       used_leave_days = m.used_leave_days,
+       remaining_days = m.remaining_days
+  FROM merged m
+ WHERE b.id = m.keep_id;
+
+DELETE FROM employee_leave_balance b
+ USING employee_leave_balance k
+ WHERE b.employee_id = k.employee_id
+   AND b.leave_type = k.leave_type
+   AND b.id > k.id;
+
+DROP INDEX IF EXISTS idx_employee_leave_balance_employee_type;
+CREATE UNIQUE INDEX IF NOT EXISTS uk_employee_leave_balance_employee_type
+  ON employee_leave_balance (employee_id, leave_type);
+
+-- Checkpoint of the chunked annual leave grant run (one row per grant date)
+CREATE TABLE IF NOT EXISTS annual_leave_grant_run (
+  id BIGSERIAL PRIMARY KEY,
+  grant_date DATE NOT NULL,
+  status VARCHAR(20) NOT NULL,
+  last_employee_id BIGINT NOT NULL DEFAULT 0,
+  processed_count INTEGER NOT NULL DEFAULT 0,
+  granted_count INTEGER NOT NULL DEFAULT 0,
+  skipped_count INTEGER NOT NULL DEFAULT 0,
+  started_at TIMESTAMP WITH TIME ZONE,
+  heartbeat_at TIMESTAMP WITH TIME ZONE,
+  completed_at TIMESTAMP WITH TIME ZONE,
+  CONSTRAINT uk_annual_leave_grant_run_date UNIQUE (grant_date)
+);
@@ -0,0 +1,21 @@
+-- Range-typed periods for overlap probes (a && b) backed by GiST indexes.
+-- The ranges are index/constraint expressions rather than stored columns, so tables created
+-- by ddl-auto keep working; queries must use the same daterange(start_date, end_date, '[]') expression.
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+-- leave_requests: at most one pending (REQUESTED) request per employee for any given day.
+-- The constraint's GiST index also serves the per-employee overlap probe.
+-- Fails if overlapping pending requests already exist; resolve them before applying.
+DO $$
+BEGIN
+  IF NOT EXISTS (SELECT 1 FROM pg_constraint WHERE conname = 'ex_leave_requests_requested_overlap') THEN
+    ALTER TABLE leave_requests
+      ADD CONSTRAINT ex_leave_requests_requested_overlap
+      EXCLUDE USING gist (employee_id WITH =, daterange(start_date, end_date, '[]') WITH &&)
+      WHERE (status = 'REQUESTED');
+  END IF;
+END $$;
+
+-- schedules: per-user date range (status and times are checked on the few rows the probe returns)
+CREATE INDEX IF NOT EXISTS idx_schedules_user_period
+  ON schedules USING gist (user_id, daterange(start_date, end_date, '[]'));
@@ -0,0 +1,6 @@
+-- Daily "on leave" headcount for the work monitor: COUNT over approved requests whose
+-- daterange(start_date, end_date, '[]') contains the day (same expression as the query).
+-- Partial on APPROVED so pending/rejected history does not widen the scan.
+CREATE INDEX IF NOT EXISTS idx_leave_requests_approved_period
+  ON leave_requests USING gist (daterange(start_date, end_date, '[]'))
+  WHERE status = 'APPROVED';
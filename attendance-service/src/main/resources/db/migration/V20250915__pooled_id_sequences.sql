@@ -0,0 +1,29 @@
+-- Bulk-written entities (Schedule, EmployeeLeaveBalance) now take ids from "<table>_id_seq"
+-- through Hibernate's pooled-lo optimizer (allocationSize = 50), so INSERTs can be JDBC-batched;
+-- the annual grant UPSERT binds ids from the same kind of blocks.
+-- Each nextval reserves [v, v + 49]; the sequence increment has to match allocationSize.
+-- Identity columns keep their (now unused by Hibernate) default, which stays collision-free
+-- because a plain nextval also consumes a whole block.
+DO $$
+DECLARE
+  t   text;
+  seq text;
+BEGIN
+  FOREACH t IN ARRAY ARRAY['schedules', 'employee_leave_balance'] LOOP
+    CONTINUE WHEN to_regclass(t) IS NULL;
+
+    IF (SELECT attidentity FROM pg_attribute
+         WHERE attrelid = to_regclass(t) AND attname = 'id') <> '' THEN
+      EXECUTE format('ALTER TABLE %I ALTER COLUMN id SET INCREMENT BY 50', t);
+    ELSE
+      seq := pg_get_serial_sequence(t, 'id');
+      IF seq IS NOT NULL THEN
+        EXECUTE format('ALTER SEQUENCE %s INCREMENT BY 50', seq);
+      ELSE
+        EXECUTE format('CREATE SEQUENCE IF NOT EXISTS %I INCREMENT BY 50', t || '_id_seq');
+        EXECUTE format('SELECT setval(%L, COALESCE((SELECT max(id) FROM %I), 0) + 1, false)',
+                       t || '_id_seq', t);
+      END IF;
+    END IF;
+  END LOOP;
+END $$;
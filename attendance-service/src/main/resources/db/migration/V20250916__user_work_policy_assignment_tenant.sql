@@ -0,0 +1,8 @@
+-- user-service is schema-per-tenant, so user ids repeat across tenants: key the projection by (tenant_id, user_id).
+-- Existing rows carry no tenant and may already mix tenants; they are dropped and refilled from
+-- user.work-policy.* events and the user-service fallback on the next lookup.
+DELETE FROM user_work_policy_assignment;
+
+ALTER TABLE user_work_policy_assignment DROP CONSTRAINT IF EXISTS user_work_policy_assignment_pkey;
+ALTER TABLE user_work_policy_assignment ADD COLUMN tenant_id VARCHAR(100) NOT NULL;
+ALTER TABLE user_work_policy_assignment ADD PRIMARY KEY (tenant_id, user_id);
@@ -0,0 +1,3 @@
+-- Last time a projection row was compared with (or backfilled from) user-service.
+-- The periodic reconciliation uses it to find rows whose user no longer exists.
+ALTER TABLE user_work_policy_assignment ADD COLUMN IF NOT EXISTS verified_at TIMESTAMP;
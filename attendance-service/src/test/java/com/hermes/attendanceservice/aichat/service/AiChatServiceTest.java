@@ -0,0 +1,282 @@
+package com.hermes.attendanceservice.aichat.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hermes.attendanceservice.aichat.client.ChatCompletionClient;
+import com.hermes.attendanceservice.aichat.config.AiChatProperties;
+import com.hermes.attendanceservice.aichat.dto.ChatMessage;
+import com.hermes.attendanceservice.aichat.dto.ChatRequest;
+import com.hermes.attendanceservice.aichat.dto.ChatResponse;
+import com.hermes.cache.TenantCacheManager;
+import com.hermes.cache.config.CacheProperties;
+import com.hermes.cache.tenant.SecurityContextTenantKeyResolver;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * AI 채팅 LLM 호출 경로 테스트 (로컬 스텁 completions 서버 대상)
+ * <p>
+ * 같은 입력은 응답 캐시에서 답하고 동시에 들어와도 원격 호출을 한 번만 하는지,
+ * 스트리밍 응답 조각이 빠짐없이 전달되는지, 동시 호출 상한을 넘은 요청이 혼잡 응답을 받고 캐시되지 않는지 확인한다.
+ */
+class AiChatServiceTest {
+
+    private static final String REPLY = "네, 내일 하루 연차를 신청할 수 있어요. 휴가 신청 화면에서 날짜를 선택해 주세요.";
+    private static final String BUSY_REPLY = "요청이 많아 지금은 처리할 수 없어요. 잠시 후 다시 시도해 주세요.";
+    private static final int STREAM_CHUNKS = 8;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<AiChatService> services = new ArrayList<>();
+
+    private StubCompletionsServer server;
+    private String content;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        content = objectMapper.writeValueAsString(Map.of("type", "reply", "reply", REPLY));
+        server = new StubCompletionsServer(content, STREAM_CHUNKS);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        services.forEach(AiChatService::shutdown);
+        server.close();
+    }
+
+    @Test
+    void repeatedPromptIsServedFromCache() {
+        AiChatService service = service(props(8, Duration.ofSeconds(5)));
+
+        ChatResponse first = service.chat(request("내일 연차 쓸 수 있어?"));
+        ChatResponse second = service.chat(request("내일 연차 쓸 수 있어?"));
+
+        assertThat(first.getReply()).isEqualTo(REPLY);
+        assertThat(second.getReply()).isEqualTo(REPLY);
+        assertThat(server.requestCount()).isEqualTo(1);
+        assertThat(cacheCount("miss")).isEqualTo(1);
+        assertThat(cacheCount("hit")).isEqualTo(1);
+    }
+
+    @Test
+    void differentPromptsMissCache() {
+        AiChatService service = service(props(8, Duration.ofSeconds(5)));
+
+        service.chat(request("내일 연차 쓸 수 있어?"));
+        service.chat(request("모레 연차 쓸 수 있어?"));
+
+        assertThat(server.requestCount()).isEqualTo(2);
+        assertThat(cacheCount("miss")).isEqualTo(2);
+        assertThat(cacheCount("hit")).isZero();
+    }
+
+    @Test
+    void concurrentIdenticalPromptsCallUpstreamOnce() throws Exception {
+        AiChatService service = service(props(8, Duration.ofSeconds(5)));
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            server.hold();
+            List<Future<ChatResponse>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> service.chat(request("내일 연차 쓸 수 있어?"))));
+            }
+            awaitRequests(1);
+            server.release();
+
+            for (Future<ChatResponse> future : futures) {
+                assertThat(future.get(10, TimeUnit.SECONDS).getReply()).isEqualTo(REPLY);
+            }
+        } finally {
+            server.release();
+            executor.shutdownNow();
+        }
+        assertThat(server.requestCount()).isEqualTo(1);
+    }
+
+    @Test
+    void streamDeliversEveryChunkAndFullContent() {
+        AiChatProperties props = props(8, Duration.ofSeconds(5));
+        ChatCompletionClient client = new ChatCompletionClient(props, objectMapper, meterRegistry);
+        List<String> deltas = new ArrayList<>();
+
+        String streamed = client.stream(List.of(Map.of("role", "user", "content", "내일 연차 쓸 수 있어?")), deltas::add);
+
+        assertThat(streamed).isEqualTo(content);
+        assertThat(String.join("", deltas)).isEqualTo(content);
+        assertThat(deltas).hasSizeGreaterThan(1);
+    }
+
+    @Test
+    void requestOverConcurrencyLimitGetsBusyReplyAndIsNotCached() throws Exception {
+        AiChatService service = service(props(1, Duration.ofMillis(50)));
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            server.hold();
+            Future<ChatResponse> inFlight = executor.submit(() -> service.chat(request("내일 연차 쓸 수 있어?")));
+            awaitRequests(1);
+
+            ChatResponse rejected = service.chat(request("모레 연차 쓸 수 있어?"));
+
+            assertThat(rejected.getReply()).isEqualTo(BUSY_REPLY);
+            assertThat(meterRegistry.counter("attendance.aichat.rejected").count()).isEqualTo(1);
+            assertThat(server.requestCount()).isEqualTo(1);
+
+            server.release();
+            assertThat(inFlight.get(10, TimeUnit.SECONDS).getReply()).isEqualTo(REPLY);
+        } finally {
+            server.release();
+            executor.shutdownNow();
+        }
+
+        // 혼잡 응답은 캐시되지 않으므로 같은 질문을 다시 보내면 원격 호출
+        assertThat(service.chat(request("모레 연차 쓸 수 있어?")).getReply()).isEqualTo(REPLY);
+        assertThat(server.requestCount()).isEqualTo(2);
+    }
+
+    private AiChatService service(AiChatProperties props) {
+        TenantCacheManager tenantCacheManager = new TenantCacheManager(new CacheProperties(), new SecurityContextTenantKeyResolver());
+        ChatCompletionClient client = new ChatCompletionClient(props, objectMapper, meterRegistry);
+        AiChatService service = new AiChatService(props, client, tenantCacheManager, meterRegistry);
+        services.add(service);
+        return service;
+    }
+
+    private AiChatProperties props(int maxConcurrent, Duration acquireTimeout) {
+        AiChatProperties props = new AiChatProperties();
+        props.setBaseUrl(server.baseUrl());
+        props.setApiKey("stub");
+        props.setMaxConcurrent(maxConcurrent);
+        props.setAcquireTimeout(acquireTimeout);
+        return props;
+    }
+
+    private ChatRequest request(String prompt) {
+        ChatRequest request = new ChatRequest();
+        request.setMessages(List.of(ChatMessage.builder().role("user").content(prompt).build()));
+        return request;
+    }
+
+    private double cacheCount(String result) {
+        return meterRegistry.counter("attendance.aichat.cache", "result", result).count();
+    }
+
+    private void awaitRequests(int count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (server.requestCount() < count) {
+            assertThat(System.nanoTime()).as("스텁 서버 요청 %d건 대기", count).isLessThan(deadline);
+            Thread.sleep(5);
+        }
+    }
+
+    /**
+     * 고정 내용을 돌려주는 OpenAI 호환 /v1/chat/completions 스텁
+     * "stream":true 요청은 SSE 청크로 나눠 보내며, hold() 이후 받은 요청은 release()까지 응답하지 않는다.
+     */
+    private static final class StubCompletionsServer implements AutoCloseable {
+
+        private final ObjectMapper objectMapper = new ObjectMapper();
+        private final AtomicInteger requests = new AtomicInteger();
+        private final ExecutorService executor = Executors.newCachedThreadPool();
+        private final HttpServer server;
+        private final String content;
+        private final int streamChunks;
+        private volatile CountDownLatch gate = new CountDownLatch(0);
+
+        private StubCompletionsServer(String content, int streamChunks) throws IOException {
+            this.content = content;
+            this.streamChunks = streamChunks;
+            this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+            this.server.createContext("/v1/chat/completions", this::handle);
+            this.server.setExecutor(executor);
+            this.server.start();
+        }
+
+        private String baseUrl() {
+            return "http://127.0.0.1:" + server.getAddress().getPort() + "/v1";
+        }
+
+        private int requestCount() {
+            return requests.get();
+        }
+
+        private void hold() {
+            gate = new CountDownLatch(1);
+        }
+
+        private void release() {
+            gate.countDown();
+        }
+
+        @Override
+        public void close() {
+            release();
+            server.stop(0);
+            executor.shutdownNow();
+        }
+
+        private void handle(HttpExchange exchange) throws IOException {
+            boolean stream;
+            try (InputStream body = exchange.getRequestBody()) {
+                stream = Boolean.TRUE.equals(objectMapper.readValue(body, Map.class).get("stream"));
+            }
+            requests.incrementAndGet();
+
+            try {
+                gate.await(10, TimeUnit.SECONDS);
+                if (stream) {
+                    writeStream(exchange);
+                } else {
+                    byte[] payload = objectMapper.writeValueAsBytes(Map.of("choices", List.of(
+                            Map.of("index", 0, "message", Map.of("role", "assistant", "content", content)))));
+                    exchange.getResponseHeaders().set("Content-Type", "application/json");
+                    exchange.sendResponseHeaders(200, payload.length);
+                    exchange.getResponseBody().write(payload);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                exchange.close();
+            }
+        }
+
+        private void writeStream(HttpExchange exchange) throws IOException {
+            exchange.getResponseHeaders().set("Content-Type", "text/event-stream");
+            exchange.sendResponseHeaders(200, 0);
+            OutputStream out = exchange.getResponseBody();
+
+            int chunkSize = (content.length() + streamChunks - 1) / streamChunks;
+            for (int start = 0; start < content.length(); start += chunkSize) {
+                String piece = content.substring(start, Math.min(content.length(), start + chunkSize));
+                String event = objectMapper.writeValueAsString(Map.of("choices", List.of(
+                        Map.of("index", 0, "delta", Map.of("content", piece)))));
+                out.write(("data: " + event + "\n\n").getBytes(StandardCharsets.UTF_8));
+                out.flush();
+            }
+            out.write("data: [DONE]\n\n".getBytes(StandardCharsets.UTF_8));
+            out.flush();
+        }
+    }
+}
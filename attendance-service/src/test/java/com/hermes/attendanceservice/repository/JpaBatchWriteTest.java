@@ -0,0 +1,107 @@
+package com.hermes.attendanceservice.repository;
+
+import com.hermes.attendanceservice.entity.leave.EmployeeLeaveBalance;
+import com.hermes.attendanceservice.entity.leave.LeaveType;
+import com.hermes.attendanceservice.entity.workschedule.Schedule;
+import com.hermes.attendanceservice.entity.workschedule.ScheduleType;
+import com.hermes.attendanceservice.repository.leave.EmployeeLeaveBalanceRepository;
+import com.hermes.attendanceservice.repository.workschedule.ScheduleRepository;
+import com.hermes.jpa.batch.config.JpaBatchAutoConfiguration;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 대량 저장 경로 JDBC 배치 적용 테스트
+ * jpa-batch-starter 설정과 pooled-lo 시퀀스(allocationSize 50)로 저장하면 행마다 INSERT/nextval을 보내지 않고
+ * 100행 배치와 50행 블록 단위로만 문장을 준비하는지 Hibernate 통계로 확인한다.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ImportAutoConfiguration(JpaBatchAutoConfiguration.class)
+class JpaBatchWriteTest {
+
+    private static final int ROWS = 1_000;
+
+    // 배치가 적용되면 행당 약 0.03문장(INSERT 배치 + nextval), 적용되지 않으면 행당 1문장 이상
+    private static final double MAX_STATEMENTS_PER_ROW = 0.1;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+
+    @Autowired
+    private EmployeeLeaveBalanceRepository employeeLeaveBalanceRepository;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void schedulesAreInsertedInJdbcBatches() {
+        statistics.clear();
+        scheduleRepository.saveAll(LongStream.rangeClosed(1, ROWS).mapToObj(JpaBatchWriteTest::schedule).toList());
+        entityManager.flush();
+
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo((long) (ROWS * MAX_STATEMENTS_PER_ROW));
+        assertThat(scheduleRepository.count()).isEqualTo(ROWS);
+    }
+
+    @Test
+    void leaveBalancesAreInsertedInJdbcBatches() {
+        statistics.clear();
+        employeeLeaveBalanceRepository.saveAll(
+                LongStream.rangeClosed(1, ROWS).mapToObj(JpaBatchWriteTest::leaveBalance).toList());
+        entityManager.flush();
+
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo((long) (ROWS * MAX_STATEMENTS_PER_ROW));
+        assertThat(employeeLeaveBalanceRepository.count()).isEqualTo(ROWS);
+    }
+
+    private static Schedule schedule(long seq) {
+        LocalDate date = LocalDate.of(2025, 1, 1).plusDays(seq % 365);
+        return Schedule.builder()
+                .userId(seq % 100 + 1)
+                .title("근무")
+                .startDate(date)
+                .endDate(date)
+                .startTime(LocalTime.of(9, 0))
+                .endTime(LocalTime.of(18, 0))
+                .scheduleType(ScheduleType.WORK)
+                .isFixed(true)
+                .isEditable(false)
+                .fixedReason("WORK_POLICY")
+                .build();
+    }
+
+    private static EmployeeLeaveBalance leaveBalance(long employeeId) {
+        return EmployeeLeaveBalance.builder()
+                .employeeId(employeeId)
+                .leaveType(LeaveType.BASIC_ANNUAL)
+                .totalLeaveDays(15)
+                .remainingDays(15)
+                .workYears(1)
+                .workPolicyId(1L)
+                .build();
+    }
+}
@@ -0,0 +1,99 @@
+package com.hermes.attendanceservice.service.leave;
+
+import com.hermes.attendanceservice.entity.leave.EmployeeLeaveBalance;
+import com.hermes.attendanceservice.entity.leave.LeaveType;
+import com.hermes.attendanceservice.entity.workpolicy.AnnualLeave;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * 근무년수 계산과 연차 규정별 부여량 계산 테스트
+ */
+class AnnualLeaveGrantCalculatorTest {
+
+    private static final Long EMPLOYEE_ID = 7L;
+    private static final Long WORK_POLICY_ID = 10L;
+
+    @Test
+    void workYearsIncreaseEvery365DaysFromJoinDate() {
+        LocalDate joinDate = LocalDate.of(2023, 1, 1);
+
+        assertThat(AnnualLeaveGrantCalculator.calculateWorkYears(joinDate, null, LocalDate.of(2023, 12, 31))).isZero();
+        assertThat(AnnualLeaveGrantCalculator.calculateWorkYears(joinDate, null, LocalDate.of(2024, 1, 1))).isEqualTo(1);
+        assertThat(AnnualLeaveGrantCalculator.calculateWorkYears(LocalDate.of(2020, 3, 1), null, LocalDate.of(2025, 1, 1)))
+                .isEqualTo(4);
+    }
+
+    @Test
+    void joinDateTakesPrecedenceOverStoredWorkYears() {
+        assertThat(AnnualLeaveGrantCalculator.calculateWorkYears(LocalDate.of(2024, 1, 1), 9, LocalDate.of(2025, 1, 1)))
+                .isEqualTo(1);
+    }
+
+    @Test
+    void storedWorkYearsAreUsedWithoutJoinDate() {
+        assertThat(AnnualLeaveGrantCalculator.calculateWorkYears(null, 3, LocalDate.of(2025, 1, 1))).isEqualTo(3);
+        assertThat(AnnualLeaveGrantCalculator.calculateWorkYears(null, null, LocalDate.of(2025, 1, 1))).isZero();
+    }
+
+    @Test
+    void joinDateAfterGrantDateCountsAsZeroYears() {
+        assertThat(AnnualLeaveGrantCalculator.calculateWorkYears(LocalDate.of(2025, 3, 1), null, LocalDate.of(2025, 1, 1)))
+                .isZero();
+    }
+
+    @Test
+    void onlyRulesCoveringWorkYearsAreGrantedAndSameTypesAreSummed() {
+        List<AnnualLeave> rules = List.of(
+                rule("기본 연차", 0, 2, 15),
+                rule("기본 연차", 3, 99, 20),
+                rule("근속 보상 휴가", 3, 99, 2),
+                rule("장기근속 보상 휴가", 3, 99, 3),
+                rule("특별 휴가", 5, 99, 1));
+
+        List<EmployeeLeaveBalance> balances =
+                AnnualLeaveGrantCalculator.buildLeaveBalances(EMPLOYEE_ID, rules, 4, WORK_POLICY_ID);
+
+        assertThat(balances)
+                .extracting(EmployeeLeaveBalance::getLeaveType, EmployeeLeaveBalance::getTotalLeaveDays,
+                        EmployeeLeaveBalance::getRemainingDays, EmployeeLeaveBalance::getUsedLeaveDays)
+                .containsExactlyInAnyOrder(
+                        tuple(LeaveType.BASIC_ANNUAL, 20, 20, 0),
+                        tuple(LeaveType.COMPENSATION_ANNUAL, 5, 5, 0));
+        assertThat(balances).allSatisfy(balance -> {
+            assertThat(balance.getEmployeeId()).isEqualTo(EMPLOYEE_ID);
+            assertThat(balance.getWorkYears()).isEqualTo(4);
+            assertThat(balance.getWorkPolicyId()).isEqualTo(WORK_POLICY_ID);
+        });
+    }
+
+    @Test
+    void noBalancesWhenNoRuleCoversWorkYears() {
+        List<AnnualLeave> rules = List.of(rule("기본 연차", 1, 99, 15));
+
+        assertThat(AnnualLeaveGrantCalculator.buildLeaveBalances(EMPLOYEE_ID, rules, 0, WORK_POLICY_ID)).isEmpty();
+    }
+
+    @Test
+    void unknownRuleNamesMapToBasicAnnualLeave() {
+        assertThat(AnnualLeaveGrantCalculator.mapToLeaveType("일반 연차")).isEqualTo(LeaveType.BASIC_ANNUAL);
+        assertThat(AnnualLeaveGrantCalculator.mapToLeaveType("보상 휴가")).isEqualTo(LeaveType.COMPENSATION_ANNUAL);
+        assertThat(AnnualLeaveGrantCalculator.mapToLeaveType("특별 휴가")).isEqualTo(LeaveType.SPECIAL_ANNUAL);
+        assertThat(AnnualLeaveGrantCalculator.mapToLeaveType("리프레시 휴가")).isEqualTo(LeaveType.BASIC_ANNUAL);
+    }
+
+    private static AnnualLeave rule(String name, int minYears, int maxYears, int leaveDays) {
+        return AnnualLeave.builder()
+                .name(name)
+                .minYears(minYears)
+                .maxYears(maxYears)
+                .leaveDays(leaveDays)
+                .holidayDays(0)
+                .build();
+    }
+}
@@ -0,0 +1,265 @@
+package com.hermes.attendanceservice.service.leave;
+
+import com.hermes.attendanceservice.client.UserServiceClient;
+import com.hermes.attendanceservice.entity.leave.AnnualLeaveGrantRun;
+import com.hermes.attendanceservice.entity.leave.EmployeeLeaveBalance;
+import com.hermes.attendanceservice.entity.workpolicy.AnnualLeave;
+import com.hermes.attendanceservice.repository.leave.AnnualLeaveGrantRunRepository;
+import com.hermes.attendanceservice.repository.leave.EmployeeLeaveBalanceBulkRepository;
+import com.hermes.attendanceservice.repository.workpolicy.AnnualLeaveRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * 연차 일괄 부여 파이프라인 테스트
+ * <p>
+ * 체크포인트(annual_leave_grant_run)는 H2에 실제로 커밋하고, User Service 조회와 PostgreSQL 전용 배치 UPSERT는 대역으로 대신한다.
+ * 청크 크기 2로 중단 후 재개, 실행 점유, 오래된 하트비트 회수, 입사일 직렬화 형식을 확인한다.
+ */
+@DataJpaTest(properties = {
+        "attendance.leave-grant.chunk-size=2",
+        "attendance.leave-grant.stale-after=PT5M",
+        "attendance.leave-balance.retry.backoff-millis=1"
+})
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({AnnualLeaveGrantPipeline.class, LeaveBalanceRetryPolicy.class, AnnualLeaveGrantPipelineTest.Metrics.class})
+class AnnualLeaveGrantPipelineTest {
+
+    private static final int CHUNK_SIZE = 2;
+    private static final Long WORK_POLICY_ID = 10L;
+    private static final LocalDate GRANT_DATE = LocalDate.of(2025, 1, 1);
+
+    @MockitoBean
+    private UserServiceClient userServiceClient;
+
+    @MockitoBean
+    private AnnualLeaveRepository annualLeaveRepository;
+
+    @MockitoBean
+    private EmployeeLeaveBalanceBulkRepository employeeLeaveBalanceBulkRepository;
+
+    @Autowired
+    private AnnualLeaveGrantPipeline pipeline;
+
+    @Autowired
+    private AnnualLeaveGrantRunRepository annualLeaveGrantRunRepository;
+
+    @BeforeEach
+    void setUp() {
+        when(annualLeaveRepository.findByWorkPolicyId(WORK_POLICY_ID)).thenReturn(List.of(AnnualLeave.builder()
+                .name("기본 연차")
+                .minYears(0)
+                .maxYears(99)
+                .leaveDays(15)
+                .holidayDays(0)
+                .build()));
+        when(employeeLeaveBalanceBulkRepository.upsertGrants(anyList()))
+                .thenAnswer(invocation -> invocation.<List<?>>getArgument(0).size());
+    }
+
+    @AfterEach
+    void tearDown() {
+        annualLeaveGrantRunRepository.deleteAll();
+    }
+
+    @Test
+    void interruptedRunResumesAfterLastCommittedChunk() {
+        when(userServiceClient.getLeaveGrantTargets(0L, CHUNK_SIZE)).thenReturn(List.of(target(1), target(2)));
+        when(userServiceClient.getLeaveGrantTargets(2L, CHUNK_SIZE))
+                .thenThrow(new IllegalStateException("user-service unavailable"))
+                .thenReturn(List.of(target(3), target(4)));
+        when(userServiceClient.getLeaveGrantTargets(4L, CHUNK_SIZE)).thenReturn(List.of(target(5)));
+
+        assertThatThrownBy(() -> pipeline.run(GRANT_DATE)).hasMessage("user-service unavailable");
+
+        AnnualLeaveGrantRun failed = currentRun();
+        assertThat(failed.getStatus()).isEqualTo(AnnualLeaveGrantRun.Status.FAILED);
+        assertThat(failed.getLastEmployeeId()).isEqualTo(2L);
+        assertThat(failed.getProcessedCount()).isEqualTo(2);
+
+        pipeline.resumeIfIncomplete(GRANT_DATE);
+
+        AnnualLeaveGrantRun completed = currentRun();
+        assertThat(completed.getStatus()).isEqualTo(AnnualLeaveGrantRun.Status.COMPLETED);
+        assertThat(completed.getLastEmployeeId()).isEqualTo(5L);
+        assertThat(completed.getProcessedCount()).isEqualTo(5);
+        assertThat(completed.getGrantedCount()).isEqualTo(5);
+        assertThat(completed.getCompletedAt()).isNotNull();
+        // 커밋된 첫 청크는 다시 조회하거나 저장하지 않음
+        verify(userServiceClient, times(1)).getLeaveGrantTargets(0L, CHUNK_SIZE);
+        assertThat(grantedEmployeeIds()).containsExactly(1L, 2L, 3L, 4L, 5L);
+    }
+
+    @Test
+    void completedRunIsNotExecutedAgain() {
+        annualLeaveGrantRunRepository.save(AnnualLeaveGrantRun.builder()
+                .grantDate(GRANT_DATE)
+                .status(AnnualLeaveGrantRun.Status.COMPLETED)
+                .lastEmployeeId(5L)
+                .build());
+
+        pipeline.run(GRANT_DATE);
+        pipeline.resumeIfIncomplete(GRANT_DATE);
+
+        verifyNoInteractions(userServiceClient, employeeLeaveBalanceBulkRepository);
+    }
+
+    @Test
+    void runningRunWithFreshHeartbeatIsNotClaimed() {
+        Instant heartbeat = Instant.now().minus(Duration.ofMinutes(1));
+        annualLeaveGrantRunRepository.save(AnnualLeaveGrantRun.builder()
+                .grantDate(GRANT_DATE)
+                .status(AnnualLeaveGrantRun.Status.RUNNING)
+                .lastEmployeeId(2L)
+                .startedAt(heartbeat)
+                .heartbeatAt(heartbeat)
+                .build());
+
+        pipeline.run(GRANT_DATE);
+
+        verifyNoInteractions(userServiceClient, employeeLeaveBalanceBulkRepository);
+        AnnualLeaveGrantRun run = currentRun();
+        assertThat(run.getStatus()).isEqualTo(AnnualLeaveGrantRun.Status.RUNNING);
+        assertThat(run.getLastEmployeeId()).isEqualTo(2L);
+    }
+
+    @Test
+    void runningRunWithStaleHeartbeatIsClaimedAndResumed() {
+        Instant heartbeat = Instant.now().minus(Duration.ofMinutes(10));
+        annualLeaveGrantRunRepository.save(AnnualLeaveGrantRun.builder()
+                .grantDate(GRANT_DATE)
+                .status(AnnualLeaveGrantRun.Status.RUNNING)
+                .lastEmployeeId(2L)
+                .processedCount(2)
+                .startedAt(heartbeat)
+                .heartbeatAt(heartbeat)
+                .build());
+        when(userServiceClient.getLeaveGrantTargets(2L, CHUNK_SIZE)).thenReturn(List.of(target(3)));
+
+        pipeline.run(GRANT_DATE);
+
+        verify(userServiceClient, never()).getLeaveGrantTargets(eq(0L), eq(CHUNK_SIZE));
+        AnnualLeaveGrantRun run = currentRun();
+        assertThat(run.getStatus()).isEqualTo(AnnualLeaveGrantRun.Status.COMPLETED);
+        assertThat(run.getLastEmployeeId()).isEqualTo(3L);
+        assertThat(run.getProcessedCount()).isEqualTo(3);
+        assertThat(run.getHeartbeatAt()).isAfter(heartbeat);
+    }
+
+    @Test
+    void restartDiscardsCheckpointAndStartsFromFirstEmployee() {
+        annualLeaveGrantRunRepository.save(AnnualLeaveGrantRun.builder()
+                .grantDate(GRANT_DATE)
+                .status(AnnualLeaveGrantRun.Status.COMPLETED)
+                .lastEmployeeId(5L)
+                .processedCount(5)
+                .build());
+        when(userServiceClient.getLeaveGrantTargets(0L, CHUNK_SIZE)).thenReturn(List.of(target(1)));
+
+        pipeline.restart(GRANT_DATE);
+
+        AnnualLeaveGrantRun run = currentRun();
+        assertThat(run.getStatus()).isEqualTo(AnnualLeaveGrantRun.Status.COMPLETED);
+        assertThat(run.getLastEmployeeId()).isEqualTo(1L);
+        assertThat(run.getProcessedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void joinDateIsReadFromIsoStringOrDateArray() {
+        Map<String, Object> isoJoinDate = target(1);
+        isoJoinDate.put("joinDate", "2020-03-01");
+        Map<String, Object> arrayJoinDate = target(2);
+        arrayJoinDate.put("joinDate", List.of(2020, 3, 1));
+        Map<String, Object> timestampArrayJoinDate = target(3);
+        timestampArrayJoinDate.put("joinDate", List.of(2020, 3, 1, 9, 30));
+        Map<String, Object> storedWorkYearsOnly = target(4);
+        storedWorkYearsOnly.put("workYears", 2);
+        Map<String, Object> withoutWorkPolicy = target(5);
+        withoutWorkPolicy.remove("workPolicyId");
+
+        when(userServiceClient.getLeaveGrantTargets(0L, CHUNK_SIZE)).thenReturn(List.of(isoJoinDate, arrayJoinDate));
+        when(userServiceClient.getLeaveGrantTargets(2L, CHUNK_SIZE))
+                .thenReturn(List.of(timestampArrayJoinDate, storedWorkYearsOnly));
+        when(userServiceClient.getLeaveGrantTargets(4L, CHUNK_SIZE)).thenReturn(List.of(withoutWorkPolicy));
+
+        pipeline.run(GRANT_DATE);
+
+        Map<Long, Integer> workYearsByEmployee = new HashMap<>();
+        for (EmployeeLeaveBalance grant : grants()) {
+            workYearsByEmployee.put(grant.getEmployeeId(), grant.getWorkYears());
+        }
+        assertThat(workYearsByEmployee).containsExactlyInAnyOrderEntriesOf(Map.of(1L, 4, 2L, 4, 3L, 4, 4L, 2));
+        assertThat(currentRun().getSkippedCount()).isEqualTo(1);
+    }
+
+    private AnnualLeaveGrantRun currentRun() {
+        return annualLeaveGrantRunRepository.findByGrantDate(GRANT_DATE).orElseThrow();
+    }
+
+    private List<EmployeeLeaveBalance> grants() {
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<EmployeeLeaveBalance>> captor = ArgumentCaptor.forClass(List.class);
+        verify(employeeLeaveBalanceBulkRepository, atLeastOnce()).upsertGrants(captor.capture());
+        List<EmployeeLeaveBalance> grants = new ArrayList<>();
+        captor.getAllValues().forEach(grants::addAll);
+        return grants;
+    }
+
+    private List<Long> grantedEmployeeIds() {
+        return grants().stream().map(EmployeeLeaveBalance::getEmployeeId).toList();
+    }
+
+    /**
+     * User Service 응답 형태의 부여 대상 (JSON 숫자는 Integer로 역직렬화됨)
+     */
+    private static Map<String, Object> target(int userId) {
+        Map<String, Object> target = new HashMap<>();
+        target.put("userId", userId);
+        target.put("workPolicyId", WORK_POLICY_ID.intValue());
+        return target;
+    }
+
+    @TestConfiguration
+    static class Metrics {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
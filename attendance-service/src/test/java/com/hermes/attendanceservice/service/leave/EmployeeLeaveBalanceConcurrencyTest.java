@@ -0,0 +1,162 @@
+package com.hermes.attendanceservice.service.leave;
+
+import com.hermes.attendanceservice.client.ScheduledServiceCalls;
+import com.hermes.attendanceservice.client.UserServiceClient;
+import com.hermes.attendanceservice.entity.leave.EmployeeLeaveBalance;
+import com.hermes.attendanceservice.entity.leave.LeaveType;
+import com.hermes.attendanceservice.repository.leave.EmployeeLeaveBalanceRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 동시 연차 차감/복구 테스트
+ * <p>
+ * 여러 스레드가 같은 잔액 행을 조건부 UPDATE로 차감/복구해도 잔여 일수가 0 아래로 내려가지 않고,
+ * 성공한 차감/복구 횟수와 행의 사용 일수가 정확히 맞는지(갱신 유실 없음) 확인한다.
+ */
+@DataJpaTest(properties = {
+        "attendance.leave-balance.retry.max-attempts=20",
+        "attendance.leave-balance.retry.backoff-millis=1"
+})
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({EmployeeLeaveBalanceServiceImpl.class, LeaveBalanceRetryPolicy.class})
+class EmployeeLeaveBalanceConcurrencyTest {
+
+    private static final LeaveType LEAVE_TYPE = LeaveType.BASIC_ANNUAL;
+    private static final int THREADS = 16;
+
+    @MockitoBean
+    private UserServiceClient userServiceClient;
+
+    @MockitoBean
+    private AnnualLeaveGrantPipeline annualLeaveGrantPipeline;
+
+    @MockitoBean
+    private ScheduledServiceCalls scheduledServiceCalls;
+
+    @Autowired
+    private EmployeeLeaveBalanceService employeeLeaveBalanceService;
+
+    @Autowired
+    private EmployeeLeaveBalanceRepository employeeLeaveBalanceRepository;
+
+    @Test
+    void concurrentDeductionsNeverOverdraw() throws Exception {
+        long employeeId = 1L;
+        int totalDays = 40;
+        seed(employeeId, totalDays);
+        AtomicInteger deducted = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+
+        runConcurrently(20, () -> {
+            try {
+                employeeLeaveBalanceService.useLeave(employeeId, LEAVE_TYPE, 1);
+                deducted.incrementAndGet();
+            } catch (IllegalArgumentException e) {
+                rejected.incrementAndGet();
+            }
+        });
+
+        EmployeeLeaveBalance balance = reload(employeeId);
+        assertThat(deducted.get()).isEqualTo(totalDays);
+        assertThat(rejected.get()).isEqualTo(THREADS * 20 - totalDays);
+        assertThat(balance.getRemainingDays()).isZero();
+        assertThat(balance.getUsedLeaveDays()).isEqualTo(totalDays);
+    }
+
+    @Test
+    void concurrentDeductAndRestoreKeepsBalanceConsistent() throws Exception {
+        long employeeId = 2L;
+        int totalDays = 15;
+        seed(employeeId, totalDays);
+        AtomicInteger deducted = new AtomicInteger();
+        AtomicInteger restored = new AtomicInteger();
+
+        // 차감 3 : 복구 1 비율로 섞어 잔여 0 근처와 사용 0 근처를 모두 오가게 한다
+        runConcurrently(50, () -> {
+            int days = ThreadLocalRandom.current().nextInt(1, 3);
+            try {
+                if (ThreadLocalRandom.current().nextInt(4) == 0) {
+                    employeeLeaveBalanceService.restoreLeave(employeeId, LEAVE_TYPE, days);
+                    restored.addAndGet(days);
+                } else {
+                    employeeLeaveBalanceService.useLeave(employeeId, LEAVE_TYPE, days);
+                    deducted.addAndGet(days);
+                }
+            } catch (IllegalArgumentException e) {
+                // 잔여 부족/복구 초과 거절은 정상
+            }
+        });
+
+        EmployeeLeaveBalance balance = reload(employeeId);
+        assertThat(balance.getRemainingDays()).isGreaterThanOrEqualTo(0);
+        assertThat(balance.getUsedLeaveDays()).isGreaterThanOrEqualTo(0);
+        assertThat(balance.getUsedLeaveDays() + balance.getRemainingDays()).isEqualTo(totalDays);
+        assertThat(balance.getUsedLeaveDays()).isEqualTo(deducted.get() - restored.get());
+    }
+
+    /**
+     * THREADS개 스레드가 동시에 출발해 각각 action을 repetitions번 실행한다 (예상 밖 예외는 테스트 실패)
+     */
+    private void runConcurrently(int repetitions, Runnable action) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Void>> results = new ArrayList<>();
+        try {
+            for (int thread = 0; thread < THREADS; thread++) {
+                Callable<Void> task = () -> {
+                    start.await();
+                    for (int i = 0; i < repetitions; i++) {
+                        action.run();
+                    }
+                    return null;
+                };
+                results.add(executor.submit(task));
+            }
+            start.countDown();
+            for (Future<Void> result : results) {
+                result.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void seed(long employeeId, int totalDays) {
+        employeeLeaveBalanceRepository.saveAndFlush(EmployeeLeaveBalance.builder()
+                .employeeId(employeeId)
+                .leaveType(LEAVE_TYPE)
+                .totalLeaveDays(totalDays)
+                .usedLeaveDays(0)
+                .remainingDays(totalDays)
+                .workYears(1)
+                .workPolicyId(1L)
+                .build());
+    }
+
+    private EmployeeLeaveBalance reload(long employeeId) {
+        return employeeLeaveBalanceRepository.findByEmployeeIdAndLeaveType(employeeId, LEAVE_TYPE).orElseThrow();
+    }
+}
@@ -0,0 +1,451 @@
+package com.hermes.attendanceservice.service.workschedule;
+
+import com.hermes.attendanceservice.dto.workschedule.WorkPolicyDto;
+import com.hermes.attendanceservice.entity.workschedule.Schedule;
+import com.hermes.attendanceservice.entity.workschedule.ScheduleType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * 근무 정책 규칙 전개 테스트
+ * 근무 유형별로 조회 구간(월/연 경계, 윤일, 1년 전체)에서 전개한 항목이 일별 행을 저장하던 기존 생성기의 결과와 같은지,
+ * 저장된 예외 행이 같은 날짜/고정 사유의 규칙 항목을 대체하는지 확인한다.
+ */
+class CompiledWorkPolicyTest {
+
+    private static final Long USER_ID = 7L;
+    private static final Long WORK_POLICY_ID = 10L;
+    private static final List<String> WEEKDAYS = List.of("MONDAY", "TUESDAY", "WEDNESDAY", "THURSDAY", "FRIDAY");
+    private static final List<String> WEEKEND = List.of("SATURDAY", "SUNDAY");
+    private static final List<String> HOLIDAYS = List.of("2024-12-25", "2025-01-01", "2024-02-29");
+
+    private static final List<LocalDate[]> WINDOWS = List.of(
+            window(LocalDate.of(2025, 1, 27), LocalDate.of(2025, 2, 3)),   // 월 경계
+            window(LocalDate.of(2024, 12, 28), LocalDate.of(2025, 1, 4)),  // 연 경계
+            window(LocalDate.of(2024, 2, 26), LocalDate.of(2024, 3, 3)),   // 윤일
+            window(LocalDate.of(2025, 3, 31), LocalDate.of(2025, 3, 31)),  // 하루
+            window(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31))); // 최대 구간 (366일)
+
+    static Stream<Arguments> deterministicPolicies() {
+        return Stream.of(
+                Arguments.of("고정근무", policy("FIXED")
+                        .startTime(LocalTime.of(9, 0)).endTime(LocalTime.of(18, 0))
+                        .breakStartTime(LocalTime.of(12, 0)).breakEndTime(LocalTime.of(13, 0))
+                        .build()),
+                Arguments.of("고정근무 (퇴근 시간 계산, 휴게 없음)", policy("FIXED")
+                        .startTime(LocalTime.of(8, 30)).workHours(8).workMinutes(30)
+                        .build()),
+                Arguments.of("고정근무 (근무 요일 미설정)", policy("FIXED").workDays(null)
+                        .startTime(LocalTime.of(10, 0)).endTime(LocalTime.of(19, 0))
+                        .build()),
+                Arguments.of("시차근무", policy("FLEXIBLE").workDays(List.of("MONDAY", "TUESDAY", "WEDNESDAY", "THURSDAY"))
+                        .startTime(LocalTime.of(8, 0)).startTimeEnd(LocalTime.of(10, 30)).workHours(8).breakMinutes(45)
+                        .build()),
+                Arguments.of("시차근무 (출근 가능 시간대 역전)", policy("FLEXIBLE")
+                        .startTime(LocalTime.of(10, 0)).startTimeEnd(LocalTime.of(8, 0))
+                        .build()),
+                Arguments.of("선택근무", policy("OPTIONAL")
+                        .coreTimeStart(LocalTime.of(11, 0)).coreTimeEnd(LocalTime.of(16, 0))
+                        .build()),
+                Arguments.of("선택근무 (코어타임 미설정)", policy("OPTIONAL").build()),
+                Arguments.of("선택근무 (근무 요일 미설정)", policy("OPTIONAL").workDays(null).build()));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("deterministicPolicies")
+    void expandedOccurrencesMatchPerDayGenerator(String name, WorkPolicyDto policy) {
+        CompiledWorkPolicy compiled = CompiledWorkPolicy.compile(WORK_POLICY_ID, policy);
+
+        for (LocalDate[] window : WINDOWS) {
+            List<Occurrence> expanded = occurrences(compiled.expand(USER_ID, window[0], window[1]));
+            List<Occurrence> generated = occurrences(LegacyGenerator.generate(copy(policy), window[0], window[1]));
+
+            assertThat(expanded).as("%s ~ %s", window[0], window[1]).containsExactlyInAnyOrderElementsOf(generated);
+        }
+    }
+
+    /**
+     * 기존 교대근무 생성기는 시드 없는 Random을 썼으므로 날짜/항목 구성과 배치 범위, 블록 가운데 휴게시간만 비교한다
+     */
+    @Test
+    void shiftOccurrencesMatchPerDayGeneratorShape() {
+        WorkPolicyDto policy = policy("SHIFT").startTime(LocalTime.of(9, 0)).workHours(8).breakMinutes(60).build();
+        CompiledWorkPolicy compiled = CompiledWorkPolicy.compile(WORK_POLICY_ID, policy);
+
+        for (LocalDate[] window : WINDOWS) {
+            List<Schedule> expanded = compiled.expand(USER_ID, window[0], window[1]);
+            List<Schedule> generated = LegacyGenerator.generate(copy(policy), window[0], window[1]);
+
+            assertThat(expanded).extracting(Schedule::getStartDate, Schedule::getFixedReason, Schedule::getScheduleType)
+                    .as("%s ~ %s", window[0], window[1])
+                    .containsExactlyInAnyOrderElementsOf(generated.stream()
+                            .map(schedule -> tuple(schedule.getStartDate(), schedule.getFixedReason(), schedule.getScheduleType()))
+                            .toList());
+
+            for (LocalDate date = window[0]; !date.isAfter(window[1]); date = date.plusDays(1)) {
+                Schedule work = compiled.findOccurrence(USER_ID, date, "SHIFT_WORK_RANDOM");
+                if (work == null) {
+                    continue;
+                }
+                assertThat(work.getStartTime()).isBetween(LocalTime.of(6, 0), LocalTime.of(13, 0));
+                assertThat(Duration.between(work.getStartTime(), work.getEndTime())).isEqualTo(Duration.ofHours(8));
+
+                Schedule rest = compiled.findOccurrence(USER_ID, date, "SHIFT_BREAK_TIME");
+                LocalTime[] expected = LegacyGenerator.middleBreak(work.getStartTime(), work.getEndTime(), 60);
+                assertThat(List.of(rest.getStartTime(), rest.getEndTime())).containsExactly(expected);
+            }
+        }
+    }
+
+    @Test
+    void shiftPlacementIsStablePerUserAndDate() {
+        CompiledWorkPolicy compiled = CompiledWorkPolicy.compile(WORK_POLICY_ID, policy("SHIFT").build());
+        LocalDate start = LocalDate.of(2025, 1, 1);
+        LocalDate end = LocalDate.of(2025, 3, 31);
+
+        assertThat(occurrences(compiled.expand(USER_ID, start, end)))
+                .containsExactlyElementsOf(occurrences(compiled.expand(USER_ID, start, end)));
+        assertThat(compiled.expand(USER_ID + 1, start, end)).extracting(Schedule::getStartTime)
+                .isNotEqualTo(compiled.expand(USER_ID, start, end).stream().map(Schedule::getStartTime).toList());
+    }
+
+    @Test
+    void storedFixedRowReplacesRuleOccurrenceOfSameDateAndReason() {
+        CompiledWorkPolicy compiled = CompiledWorkPolicy.compile(WORK_POLICY_ID, policy("SHIFT").build());
+        LocalDate start = LocalDate.of(2025, 1, 27);
+        LocalDate end = LocalDate.of(2025, 2, 2);
+        LocalDate adjusted = LocalDate.of(2025, 1, 31);
+        Schedule override = Schedule.builder()
+                .id(100L).userId(USER_ID).startDate(adjusted).endDate(adjusted)
+                .startTime(LocalTime.of(13, 0)).endTime(LocalTime.of(21, 0))
+                .scheduleType(ScheduleType.WORK).workPolicyId(WORK_POLICY_ID)
+                .isFixed(true).isEditable(true).fixedReason("SHIFT_WORK_RANDOM")
+                .build();
+
+        List<Schedule> rules = compiled.expand(USER_ID, start, end);
+        List<Schedule> merged = compiled.merge(USER_ID, start, end, List.of(override));
+
+        assertThat(merged).hasSameSizeAs(rules).contains(override);
+        assertThat(merged).filteredOn(schedule -> schedule.getStartDate().equals(adjusted)
+                        && "SHIFT_WORK_RANDOM".equals(schedule.getFixedReason()))
+                .containsExactly(override);
+        // 같은 날짜의 휴게시간과 다른 날짜의 근무 블록은 규칙 항목 그대로
+        assertThat(merged).filteredOn(schedule -> schedule.getId() == null)
+                .extracting(Occurrence::of)
+                .containsExactlyInAnyOrderElementsOf(occurrences(rules.stream()
+                        .filter(schedule -> !(schedule.getStartDate().equals(adjusted)
+                                && "SHIFT_WORK_RANDOM".equals(schedule.getFixedReason())))
+                        .toList()));
+    }
+
+    @Test
+    void userSchedulesAreAddedWithoutHidingRuleOccurrences() {
+        CompiledWorkPolicy compiled = CompiledWorkPolicy.compile(WORK_POLICY_ID, policy("FIXED")
+                .startTime(LocalTime.of(9, 0)).endTime(LocalTime.of(18, 0)).build());
+        LocalDate date = LocalDate.of(2025, 2, 3);
+        Schedule meeting = Schedule.builder()
+                .id(200L).userId(USER_ID).title("회의").startDate(date).endDate(date)
+                .startTime(LocalTime.of(8, 0)).endTime(LocalTime.of(8, 30))
+                .scheduleType(ScheduleType.WORK)
+                .build();
+        Schedule fixedWithoutReason = Schedule.builder()
+                .id(201L).userId(USER_ID).startDate(date).endDate(date)
+                .startTime(LocalTime.of(9, 0)).endTime(LocalTime.of(18, 0))
+                .scheduleType(ScheduleType.WORK).isFixed(true)
+                .build();
+
+        List<Schedule> merged = compiled.merge(USER_ID, date, date, List.of(fixedWithoutReason, meeting));
+
+        assertThat(merged).extracting(Schedule::getId).containsExactly(200L, 201L, null);
+        assertThat(merged.get(2).getFixedReason()).isEqualTo("WORK_POLICY");
+    }
+
+    @Test
+    void nullAndMalformedHolidaysAreIgnored() {
+        WorkPolicyDto policy = policy("FIXED")
+                .holidays(Arrays.asList(null, "2025/05/05", " 2025-05-06 ", "holiday"))
+                .build();
+
+        CompiledWorkPolicy compiled = CompiledWorkPolicy.compile(WORK_POLICY_ID, policy);
+
+        assertThat(compiled.isHoliday(LocalDate.of(2025, 5, 6))).isTrue();
+        assertThat(compiled.isHoliday(LocalDate.of(2025, 5, 5))).isFalse();
+        assertThat(compiled.isWorkDay(LocalDate.of(2025, 5, 5))).isTrue();
+    }
+
+    @Test
+    void expansionWindowIsLimited() {
+        CompiledWorkPolicy compiled = CompiledWorkPolicy.compile(WORK_POLICY_ID, policy("FIXED").build());
+
+        assertThatThrownBy(() -> compiled.expand(USER_ID, LocalDate.of(2024, 1, 1), LocalDate.of(2025, 1, 1)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> compiled.expand(USER_ID, LocalDate.of(2025, 1, 2), LocalDate.of(2025, 1, 1)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static WorkPolicyDto.WorkPolicyDtoBuilder policy(String type) {
+        return WorkPolicyDto.builder()
+                .id(WORK_POLICY_ID)
+                .type(type)
+                .workDays(WEEKDAYS)
+                .holidayDays(WEEKEND)
+                .holidays(HOLIDAYS);
+    }
+
+    /**
+     * 기존 생성기는 정책 DTO를 고쳐 쓰므로 사본을 넘긴다
+     */
+    private static WorkPolicyDto copy(WorkPolicyDto policy) {
+        return WorkPolicyDto.builder()
+                .id(policy.getId())
+                .type(policy.getType())
+                .workDays(policy.getWorkDays())
+                .holidayDays(policy.getHolidayDays())
+                .holidays(policy.getHolidays())
+                .startTime(policy.getStartTime())
+                .startTimeEnd(policy.getStartTimeEnd())
+                .endTime(policy.getEndTime())
+                .workHours(policy.getWorkHours())
+                .workMinutes(policy.getWorkMinutes())
+                .coreTimeStart(policy.getCoreTimeStart())
+                .coreTimeEnd(policy.getCoreTimeEnd())
+                .breakStartTime(policy.getBreakStartTime())
+                .breakEndTime(policy.getBreakEndTime())
+                .breakMinutes(policy.getBreakMinutes())
+                .build();
+    }
+
+    private static LocalDate[] window(LocalDate start, LocalDate end) {
+        return new LocalDate[]{start, end};
+    }
+
+    private static List<Occurrence> occurrences(List<Schedule> schedules) {
+        return schedules.stream().map(Occurrence::of).toList();
+    }
+
+    /**
+     * 저장 시 채워지는 id/시각을 뺀 스케줄 항목 값
+     */
+    private record Occurrence(Long userId, LocalDate startDate, LocalDate endDate, LocalTime startTime, LocalTime endTime,
+                              String title, String description, ScheduleType scheduleType, String color,
+                              Boolean isAllDay, Boolean isRecurring, Long workPolicyId, Integer priority,
+                              Boolean isFixed, Boolean isEditable, String fixedReason, String status) {
+
+        static Occurrence of(Schedule schedule) {
+            return new Occurrence(schedule.getUserId(), schedule.getStartDate(), schedule.getEndDate(),
+                    schedule.getStartTime(), schedule.getEndTime(), schedule.getTitle(), schedule.getDescription(),
+                    schedule.getScheduleType(), schedule.getColor(), schedule.getIsAllDay(), schedule.getIsRecurring(),
+                    schedule.getWorkPolicyId(), schedule.getPriority(), schedule.getIsFixed(), schedule.getIsEditable(),
+                    schedule.getFixedReason(), schedule.getStatus());
+        }
+    }
+
+    /**
+     * 규칙 전개 이전 applyWorkPolicyToSchedule의 일별 스케줄 생성 로직 (비교 기준)
+     */
+    private static final class LegacyGenerator {
+
+        static List<Schedule> generate(WorkPolicyDto policy, LocalDate startDate, LocalDate endDate) {
+            List<Schedule> schedules = new ArrayList<>();
+            switch (policy.getType()) {
+                case "FLEXIBLE" -> {
+                    defaultWorkDays(policy);
+                    schedules.addAll(flexibleWork(policy, startDate, endDate));
+                    schedules.addAll(flexibleBreak(policy, startDate, endDate));
+                }
+                case "OPTIONAL" -> schedules.addAll(coreTime(policy, startDate, endDate));
+                case "SHIFT" -> {
+                    // 시드 없는 Random 배치는 재현할 수 없으므로 근무 요일마다 근무/휴게 항목 구성만 만든다
+                    defaultWorkDays(policy);
+                    for (LocalDate date : workDates(policy, startDate, endDate)) {
+                        schedules.add(base(date, null, null).scheduleType(ScheduleType.WORK).fixedReason("SHIFT_WORK_RANDOM").build());
+                        schedules.add(base(date, null, null).scheduleType(ScheduleType.RESTTIME).fixedReason("SHIFT_BREAK_TIME").build());
+                    }
+                }
+                default -> {
+                    defaultWorkDays(policy);
+                    if (policy.getStartTime() == null) {
+                        policy.setStartTime(LocalTime.of(9, 0));
+                    }
+                    LocalTime start = policy.getStartTime();
+                    LocalTime end = policy.getEndTime();
+                    if (end == null) {
+                        end = policy.getWorkHours() != null && policy.getWorkMinutes() != null
+                                ? start.plusHours(policy.getWorkHours()).plusMinutes(policy.getWorkMinutes())
+                                : start.plusHours(8);
+                    }
+                    for (LocalDate date : workDates(policy, startDate, endDate)) {
+                        schedules.add(base(date, start, end)
+                                .title(ScheduleType.WORK.getDescription())
+                                .description(String.format("출근: %s, 퇴근: %s", start, end))
+                                .scheduleType(ScheduleType.WORK).color("#007bff").priority(1).isEditable(false)
+                                .fixedReason("WORK_POLICY").build());
+                    }
+                    if (policy.getBreakStartTime() != null && policy.getBreakEndTime() != null) {
+                        for (LocalDate date : workDates(policy, startDate, endDate)) {
+                            schedules.add(base(date, policy.getBreakStartTime(), policy.getBreakEndTime())
+                                    .title(ScheduleType.RESTTIME.getDescription())
+                                    .description(String.format("휴게시간: %s ~ %s", policy.getBreakStartTime(), policy.getBreakEndTime()))
+                                    .scheduleType(ScheduleType.RESTTIME).color("#ffc107").priority(2).isEditable(false)
+                                    .fixedReason("BREAK_TIME").build());
+                        }
+                    }
+                }
+            }
+            schedules.addAll(holidays(policy, startDate, endDate));
+            return schedules;
+        }
+
+        private static List<Schedule> flexibleWork(WorkPolicyDto policy, LocalDate startDate, LocalDate endDate) {
+            List<Schedule> schedules = new ArrayList<>();
+            for (LocalDate date : workDates(policy, startDate, endDate)) {
+                LocalTime[] block = flexibleBlock(policy, date);
+                schedules.add(base(date, block[0], block[1])
+                        .title(ScheduleType.WORK.getDescription())
+                        .description(String.format("시차근무: %s ~ %s (자율 출근)", block[0], block[1]))
+                        .scheduleType(ScheduleType.WORK).color("#28a745").priority(1).isEditable(true)
+                        .fixedReason("FLEXIBLE_WORK_TIME").build());
+            }
+            return schedules;
+        }
+
+        private static List<Schedule> flexibleBreak(WorkPolicyDto policy, LocalDate startDate, LocalDate endDate) {
+            List<Schedule> schedules = new ArrayList<>();
+            if (policy.getStartTime() == null || policy.getStartTimeEnd() == null) {
+                return schedules;
+            }
+            int breakMinutes = policy.getBreakMinutes() != null && policy.getBreakMinutes() > 0 ? policy.getBreakMinutes() : 60;
+            for (LocalDate date : workDates(policy, startDate, endDate)) {
+                LocalTime[] block = flexibleBlock(policy, date);
+                LocalTime[] rest = middleBreak(block[0], block[1], breakMinutes);
+                schedules.add(base(date, rest[0], rest[1])
+                        .title(ScheduleType.RESTTIME.getDescription())
+                        .description(String.format("시차근무 휴게시간: %s ~ %s", rest[0], rest[1]))
+                        .scheduleType(ScheduleType.RESTTIME).color("#ffc107").priority(2).isEditable(false)
+                        .fixedReason("FLEXIBLE_BREAK_TIME").build());
+            }
+            return schedules;
+        }
+
+        private static LocalTime[] flexibleBlock(WorkPolicyDto policy, LocalDate date) {
+            LocalTime windowStart = policy.getStartTime() != null ? policy.getStartTime() : LocalTime.of(7, 0);
+            LocalTime windowEnd = policy.getStartTimeEnd() != null ? policy.getStartTimeEnd() : LocalTime.of(10, 0);
+            int workHours = policy.getWorkHours() != null ? policy.getWorkHours() : 8;
+            long startMinutes = windowStart.toSecondOfDay() / 60;
+            long endMinutes = windowEnd.toSecondOfDay() / 60;
+            if (endMinutes <= startMinutes) {
+                startMinutes = 7 * 60;
+                endMinutes = 10 * 60;
+            }
+            Random dayRandom = new Random(date.toEpochDay());
+            LocalTime start = LocalTime.ofSecondOfDay((startMinutes + dayRandom.nextLong(endMinutes - startMinutes + 1)) * 60);
+            LocalTime end = start.plusHours(workHours);
+            if (end.isAfter(LocalTime.of(23, 59))) {
+                end = LocalTime.of(23, 59);
+                start = end.minusHours(workHours);
+            }
+            return new LocalTime[]{start, end};
+        }
+
+        static LocalTime[] middleBreak(LocalTime workStart, LocalTime workEnd, int breakMinutes) {
+            long halfWorkMinutes = Duration.between(workStart, workEnd).toMinutes() / 2;
+            LocalTime breakStart = workStart.plusMinutes(halfWorkMinutes - (breakMinutes / 2));
+            LocalTime breakEnd = breakStart.plusMinutes(breakMinutes);
+            if (breakStart.isBefore(workStart)) {
+                breakStart = workStart.plusMinutes(30);
+                breakEnd = breakStart.plusMinutes(breakMinutes);
+            }
+            if (breakEnd.isAfter(workEnd)) {
+                breakEnd = workEnd.minusMinutes(30);
+                breakStart = breakEnd.minusMinutes(breakMinutes);
+            }
+            return new LocalTime[]{breakStart, breakEnd};
+        }
+
+        private static List<Schedule> coreTime(WorkPolicyDto policy, LocalDate startDate, LocalDate endDate) {
+            List<Schedule> schedules = new ArrayList<>();
+            if (policy.getCoreTimeStart() == null || policy.getCoreTimeEnd() == null) {
+                policy.setCoreTimeStart(LocalTime.of(10, 0));
+                policy.setCoreTimeEnd(LocalTime.of(15, 0));
+            }
+            if (policy.getWorkDays() == null) {
+                return schedules;
+            }
+            for (LocalDate date : workDates(policy, startDate, endDate)) {
+                schedules.add(base(date, policy.getCoreTimeStart(), policy.getCoreTimeEnd())
+                        .title(ScheduleType.CORETIME.getDescription())
+                        .description(String.format("필수 근무시간: %s ~ %s (근무정책: %s)",
+                                policy.getCoreTimeStart(), policy.getCoreTimeEnd(), policy.getType()))
+                        .scheduleType(ScheduleType.CORETIME).color("#28a745").priority(3).isEditable(false)
+                        .fixedReason("CORE_TIME").build());
+            }
+            return schedules;
+        }
+
+        private static List<Schedule> holidays(WorkPolicyDto policy, LocalDate startDate, LocalDate endDate) {
+            List<Schedule> schedules = new ArrayList<>();
+            for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+                boolean weekendHoliday = policy.getHolidayDays() != null && policy.getHolidayDays().contains(dayName(date));
+                boolean publicHoliday = policy.getHolidays() != null && policy.getHolidays().contains(date.toString());
+                if (weekendHoliday || publicHoliday) {
+                    schedules.add(base(date, LocalTime.of(0, 0), LocalTime.of(23, 59))
+                            .title(publicHoliday ? "공휴일" : "주말 휴일")
+                            .description(publicHoliday ? "법정 공휴일" : "주말 휴일")
+                            .scheduleType(ScheduleType.VACATION).color("#dc3545").isAllDay(true).priority(1)
+                            .isEditable(false).fixedReason("HOLIDAY").build());
+                }
+            }
+            return schedules;
+        }
+
+        private static void defaultWorkDays(WorkPolicyDto policy) {
+            if (policy.getWorkDays() == null || policy.getWorkDays().isEmpty()) {
+                policy.setWorkDays(WEEKDAYS);
+            }
+        }
+
+        private static List<LocalDate> workDates(WorkPolicyDto policy, LocalDate startDate, LocalDate endDate) {
+            List<LocalDate> dates = new ArrayList<>();
+            for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+                if (policy.getWorkDays() != null && policy.getWorkDays().contains(dayName(date))) {
+                    dates.add(date);
+                }
+            }
+            return dates;
+        }
+
+        private static String dayName(LocalDate date) {
+            return date.getDayOfWeek().name().toUpperCase(Locale.ENGLISH);
+        }
+
+        private static Schedule.ScheduleBuilder base(LocalDate date, LocalTime start, LocalTime end) {
+            return Schedule.builder()
+                    .userId(USER_ID)
+                    .startDate(date)
+                    .endDate(date)
+                    .startTime(start)
+                    .endTime(end)
+                    .isAllDay(false)
+                    .isRecurring(false)
+                    .workPolicyId(WORK_POLICY_ID)
+                    .isFixed(true)
+                    .status("ACTIVE");
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.hermes.benchmarks.aichat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hermes.attendanceservice.aichat.client.ChatCompletionClient;
+import com.hermes.attendanceservice.aichat.config.AiChatProperties;
+import com.hermes.attendanceservice.aichat.dto.ChatMessage;
+import com.hermes.attendanceservice.aichat.dto.ChatRequest;
+import com.hermes.attendanceservice.aichat.dto.ChatResponse;
+import com.hermes.attendanceservice.aichat.service.AiChatService;
+import com.hermes.benchmarks.fixture.StubCompletionsServer;
+import com.hermes.cache.TenantCacheManager;
+import com.hermes.cache.config.CacheProperties;
+import com.hermes.cache.tenant.SecurityContextTenantKeyResolver;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * AI 채팅 LLM 호출 경로 지연 분포 (로컬 스텁 completions 서버 대상)
+ * <p>
+ * prompts=unique는 매 호출이 다른 질문이라 응답 캐시를 거치지 않고 공유 HttpClient로 스텁 서버를 호출하며,
+ * prompts=repeated는 적은 수의 질문이 반복되어 정규화 입력 해시 캐시에서 응답한다.
+ * stream은 SSE 청크를 끝까지 읽는 스트리밍 경로를 측정한다.
+ * 지연만 측정하며, 캐시 적중/동시 요청 합치기, 스트리밍 응답 내용, 동시 호출 상한 초과 시 혼잡 응답은
+ * attendance-service 테스트(AiChatServiceTest)에서 검증한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(8)
+public class AiChatBenchmark {
+
+    private static final String REPLY = "네, 내일 하루 연차를 신청할 수 있어요. 휴가 신청 화면에서 날짜를 선택해 주세요.";
+    private static final int REPEATED_PROMPTS = 16;
+
+    @Param({"unique", "repeated"})
+    public String prompts;
+
+    /** 스텁 서버 첫 바이트까지 기준 지연 (μs) */
+    @Param({"20000"})
+    public long upstreamLatencyMicros;
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    private StubCompletionsServer server;
+    private ChatCompletionClient completionClient;
+    private AiChatService aiChatService;
+    private TenantCacheManager tenantCacheManager;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+        String content = objectMapper.writeValueAsString(Map.of("type", "reply", "reply", REPLY));
+        server = StubCompletionsServer.start(content, upstreamLatencyMicros, 8);
+
+        AiChatProperties props = new AiChatProperties();
+        props.setBaseUrl(server.baseUrl());
+        props.setApiKey("stub");
+        props.setMaxConcurrent(8);
+        props.setAcquireTimeout(Duration.ofSeconds(30));
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        tenantCacheManager = new TenantCacheManager(new CacheProperties(), new SecurityContextTenantKeyResolver());
+        completionClient = new ChatCompletionClient(props, objectMapper, meterRegistry);
+        aiChatService = new AiChatService(props, completionClient, tenantCacheManager, meterRegistry);
+    }
+
+    @Setup(Level.Iteration)
+    public void resetIteration() {
+        tenantCacheManager.getCache(AiChatService.RESPONSE_CACHE).clear();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        aiChatService.shutdown();
+        server.close();
+    }
+
+    @Benchmark
+    public ChatResponse chat() {
+        return aiChatService.chat(request(nextPrompt()));
+    }
+
+    @Benchmark
+    public String stream(Blackhole blackhole) {
+        return completionClient.stream(
+                List.of(Map.of("role", "user", "content", nextPrompt())), blackhole::consume);
+    }
+
+    private String nextPrompt() {
+        long n = sequence.incrementAndGet();
+        return "내일 연차 쓸 수 있어? #" + ("repeated".equals(prompts) ? n % REPEATED_PROMPTS : n);
+    }
+
+    private ChatRequest request(String prompt) {
+        ChatRequest request = new ChatRequest();
+        request.setMessages(List.of(ChatMessage.builder().role("user").content(prompt).build()));
+        return request;
+    }
+}
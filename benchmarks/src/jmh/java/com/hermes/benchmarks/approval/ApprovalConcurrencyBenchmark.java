@@ -0,0 +1,186 @@
+package com.hermes.benchmarks.approval;
+
+import com.hermes.approvalservice.client.UserServiceClient;
+import com.hermes.approvalservice.dto.request.ApprovalActionRequest;
+import com.hermes.approvalservice.entity.ApprovalDocument;
+import com.hermes.approvalservice.repository.ApprovalDocumentRepository;
+import com.hermes.approvalservice.repository.ApprovalIdempotencyKeyRepository;
+import com.hermes.approvalservice.repository.ApprovalInboxRepository;
+import com.hermes.approvalservice.repository.DocumentActivityRepository;
+import com.hermes.approvalservice.service.ApprovalInboxService;
+import com.hermes.approvalservice.service.ApprovalProcessService;
+import com.hermes.approvalservice.service.ApprovalRetryPolicy;
+import com.hermes.approvalservice.service.DocumentActivityService;
+import com.hermes.approvalservice.service.DocumentPermissionService;
+import com.hermes.auth.enums.Role;
+import com.hermes.auth.principal.UserPrincipal;
+import com.hermes.benchmarks.fixture.JpaBenchmarkHarness;
+import com.hermes.benchmarks.fixture.Stubs;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 같은 문서 동시 승인 스트레스 및 처리량
+ * <p>
+ * {@link JpaBenchmarkHarness}로 실제 ApprovalProcessService와 JPA 리포지토리를 인메모리 H2(PostgreSQL 모드) 위에
+ * DB 왕복 지연 없이 띄우고, 8개 스레드가 같은 순서로 문서를 훑으며 승인한다. 각 문서는 1단계 병렬 승인자 4명과
+ * 2단계 승인자 1명을 가지며, 두 스레드가 같은 승인자로 같은 멱등성 키를 보내 중복 제출(더블 클릭, 클라이언트 재시도)을 모사한다.
+ * 처리량만 측정하며, 단계 완료 유실/중복 승인/멱등성 키 불일치가 없다는 불변식은
+ * approval-service 테스트(ApprovalProcessServiceConcurrencyTest)에서 검증한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(ApprovalConcurrencyBenchmark.THREADS)
+public class ApprovalConcurrencyBenchmark {
+
+    static final int THREADS = 8;
+    private static final int FIRST_STAGE_APPROVERS = 4;
+    private static final long SECOND_STAGE_APPROVER = 99L;
+    private static final long AUTHOR_ID = 1000L;
+    private static final int DOCUMENTS = 4_000;
+
+    private final AtomicInteger threadSequence = new AtomicInteger();
+    private final AtomicInteger iteration = new AtomicInteger();
+    private final ApprovalActionRequest request = new ApprovalActionRequest();
+
+    private JpaBenchmarkHarness harness;
+    private ApprovalProcessService processService;
+    private JdbcTemplate jdbcTemplate;
+    private volatile long firstDocumentId;
+
+    @State(Scope.Thread)
+    public static class Approver {
+
+        private UserPrincipal user;
+        private long cursor;
+
+        @Setup(Level.Trial)
+        public void setUp(ApprovalConcurrencyBenchmark benchmark) {
+            // 스레드 i와 i + 4가 같은 승인자: 같은 문서에 같은 키로 동시에 요청
+            long userId = benchmark.threadSequence.getAndIncrement() % FIRST_STAGE_APPROVERS + 1;
+            user = UserPrincipal.builder().id(userId).role(Role.USER).build();
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        harness = JpaBenchmarkHarness.builder("approval-concurrency")
+                .urlOption("LOCK_TIMEOUT=10000")
+                .entityPackageOf(ApprovalDocument.class)
+                .configurations(ApprovalServiceConfig.class)
+                .build();
+        processService = harness.bean(ApprovalProcessService.class);
+        jdbcTemplate = harness.jdbcTemplate();
+
+        jdbcTemplate.update("INSERT INTO document_template (id, title, use_body, use_attachment, allow_target_change, " +
+                "is_hidden, created_at, updated_at) VALUES (1, '지출 결의서', TRUE, 'OPTIONAL', FALSE, FALSE, " +
+                "CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)");
+    }
+
+    /**
+     * 반복마다 새 문서 묶음을 만든다. 문서 id가 n이면 단계 id는 2n-1, 2n이고 대상자 id는 5n-4 ~ 5n이다.
+     */
+    @Setup(Level.Iteration)
+    public void seedDocuments() {
+        long from = (long) iteration.getAndIncrement() * DOCUMENTS + 1;
+        long to = from + DOCUMENTS - 1;
+        String range = "FROM SYSTEM_RANGE(" + from + ", " + to + ")";
+
+        jdbcTemplate.update("INSERT INTO approval_document (id, content, status, author_id, current_stage, template_id, " +
+                "created_at, updated_at, submitted_at) " +
+                "SELECT X, '본문', 'IN_PROGRESS', " + AUTHOR_ID + ", 1, 1, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP " + range);
+        jdbcTemplate.update("INSERT INTO document_approval_stage (id, stage_order, stage_name, is_completed, document_id) " +
+                "SELECT 2 * D.X - 2 + S.X, S.X, S.X || '단계', FALSE, D.X " +
+                "FROM SYSTEM_RANGE(" + from + ", " + to + ") D CROSS JOIN SYSTEM_RANGE(1, 2) S");
+        jdbcTemplate.update("INSERT INTO document_approval_target (id, target_type, user_id, is_reference, approval_status, " +
+                "document_id, approval_stage_id) " +
+                "SELECT 5 * D.X - 5 + U.X, 'USER', CASE WHEN U.X <= " + FIRST_STAGE_APPROVERS + " THEN U.X ELSE " +
+                SECOND_STAGE_APPROVER + " END, FALSE, 'PENDING', D.X, " +
+                "CASE WHEN U.X <= " + FIRST_STAGE_APPROVERS + " THEN 2 * D.X - 1 ELSE 2 * D.X END " +
+                "FROM SYSTEM_RANGE(" + from + ", " + to + ") D CROSS JOIN SYSTEM_RANGE(1, " + (FIRST_STAGE_APPROVERS + 1) + ") U");
+
+        firstDocumentId = from;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        harness.close();
+    }
+
+    @Benchmark
+    public void approve(Approver approver, Blackhole blackhole) {
+        long documentId = firstDocumentId + approver.cursor++ % DOCUMENTS;
+        try {
+            processService.approveDocument(documentId, approver.user, request, "approve-" + documentId);
+        } catch (ConcurrencyFailureException e) {
+            // 재시도 한도를 넘은 충돌은 다음 바퀴에 같은 키로 다시 보낸다
+            blackhole.consume(e);
+        }
+    }
+
+    @Configuration
+    @EnableJpaRepositories(basePackageClasses = ApprovalDocumentRepository.class)
+    static class ApprovalServiceConfig {
+
+        @Bean
+        UserServiceClient userServiceClient() {
+            // 작성자 이름 조회 실패는 문서함에서 null로 처리되므로 원격 호출 없이 응답 없음으로 둔다
+            return Stubs.of(UserServiceClient.class, Map.of("getUserProfile", args -> null));
+        }
+
+        @Bean
+        DocumentPermissionService documentPermissionService() {
+            return new DocumentPermissionService();
+        }
+
+        @Bean
+        DocumentActivityService documentActivityService(DocumentActivityRepository activityRepository,
+                                                        UserServiceClient userServiceClient) {
+            return new DocumentActivityService(activityRepository, userServiceClient, null);
+        }
+
+        @Bean
+        ApprovalInboxService approvalInboxService(ApprovalInboxRepository inboxRepository,
+                                                  ApprovalDocumentRepository documentRepository,
+                                                  UserServiceClient userServiceClient,
+                                                  DocumentPermissionService permissionService) {
+            return new ApprovalInboxService(inboxRepository, documentRepository, userServiceClient, permissionService);
+        }
+
+        @Bean
+        ApprovalRetryPolicy approvalRetryPolicy(PlatformTransactionManager transactionManager) {
+            return new ApprovalRetryPolicy(transactionManager, 5, 1);
+        }
+
+        @Bean
+        ApprovalProcessService approvalProcessService(ApprovalDocumentRepository documentRepository,
+                                                      ApprovalIdempotencyKeyRepository idempotencyKeyRepository,
+                                                      DocumentPermissionService permissionService,
+                                                      DocumentActivityService activityService,
+                                                      ApprovalInboxService inboxService,
+                                                      ApprovalRetryPolicy retryPolicy) {
+            return new ApprovalProcessService(documentRepository, idempotencyKeyRepository, permissionService,
+                    activityService, inboxService, retryPolicy);
+        }
+    }
+}
@@ -0,0 +1,255 @@
+package com.hermes.benchmarks.approval;
+
+import com.hermes.approvalservice.entity.ApprovalDocument;
+import com.hermes.approvalservice.entity.DocumentActivity;
+import com.hermes.approvalservice.entity.DocumentApprovalStage;
+import com.hermes.approvalservice.entity.DocumentApprovalTarget;
+import com.hermes.approvalservice.entity.DocumentComment;
+import com.hermes.approvalservice.entity.DocumentFieldValue;
+import com.hermes.approvalservice.entity.DocumentTemplate;
+import com.hermes.approvalservice.entity.TemplateApprovalStage;
+import com.hermes.approvalservice.entity.TemplateApprovalTarget;
+import com.hermes.approvalservice.entity.TemplateCategory;
+import com.hermes.approvalservice.entity.TemplateField;
+import com.hermes.approvalservice.enums.ActivityType;
+import com.hermes.approvalservice.enums.DocumentStatus;
+import com.hermes.approvalservice.enums.FieldType;
+import com.hermes.approvalservice.enums.TargetType;
+import com.hermes.approvalservice.repository.ApprovalDocumentRepository;
+import com.hermes.approvalservice.repository.DocumentApprovalStageRepository;
+import com.hermes.approvalservice.repository.DocumentTemplateRepository;
+import com.hermes.approvalservice.repository.TemplateApprovalStageRepository;
+import com.hermes.approvalservice.service.ApprovalDocumentDetailLoader;
+import com.hermes.attachment.entity.AttachmentInfo;
+import com.hermes.benchmarks.fixture.JpaBenchmarkHarness;
+import com.hermes.benchmarks.fixture.RoundTripDataSource;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 결재 문서 상세 애그리거트 적재 지연
+ * <p>
+ * 실제 엔티티 매핑과 JPA 리포지토리를 {@link JpaBenchmarkHarness} 위에 띄우고, {@link RoundTripDataSource}로
+ * 문장마다 DB 왕복 지연을 더한다. stages 단계마다 결재 대상자 3명을 둔 문서(필드 값, 참조 대상, 첨부, 활동/댓글 포함)를
+ * 상세 응답이 읽는 순서대로 모두 훑는다.
+ * <ul>
+ *   <li>lazyWalk: findById 후 지연 로딩 (단계별 대상자, 템플릿 단계별 대상자마다 추가 쿼리)</li>
+ *   <li>detailLoader: 컬렉션별 fetch join 쿼리 (ApprovalDocumentDetailLoader, 이력 포함)</li>
+ *   <li>detailLoaderWithoutHistory: 활동/댓글을 제외하고 적재 (이력은 구간 API로 페이지 조회)</li>
+ * </ul>
+ * 쿼리 수 상한과 컬렉션 크기 검증은 approval-service의 ApprovalDocumentDetailLoaderTest가 담당하고, 여기서는 지연만 잰다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ApprovalDocumentDetailBenchmark {
+
+    private static final long AUTHOR_ID = 1L;
+    private static final int DOCUMENTS = 50;
+    private static final int FIELDS = 6;
+    private static final int TARGETS_PER_STAGE = 3;
+    private static final int ATTACHMENTS = 2;
+
+    /** 결재 단계 수 (문서/템플릿 공통) */
+    @Param({"2", "8"})
+    public int stages;
+
+    /** 문서당 활동/댓글 수 */
+    @Param({"20"})
+    public int historySize;
+
+    /** 문장 실행/커밋 1회당 DB 왕복 지연 (μs) */
+    @Param({"200"})
+    public long dbRoundTripMicros;
+
+    private JpaBenchmarkHarness harness;
+    private EntityManager entityManager;
+    private TransactionTemplate readOnly;
+    private ApprovalDocumentRepository documentRepository;
+    private ApprovalDocumentDetailLoader detailLoader;
+    private long firstDocumentId;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        harness = JpaBenchmarkHarness.builder("approval-detail")
+                .dbRoundTripMicros(dbRoundTripMicros)
+                .entityPackageOf(ApprovalDocument.class)
+                .configurations(DetailConfig.class)
+                .build();
+        entityManager = harness.entityManager();
+        documentRepository = harness.bean(ApprovalDocumentRepository.class);
+        detailLoader = harness.bean(ApprovalDocumentDetailLoader.class);
+
+        TransactionTemplate writable = new TransactionTemplate(harness.transactionManager());
+        readOnly = new TransactionTemplate(harness.transactionManager());
+        readOnly.setReadOnly(true);
+
+        firstDocumentId = writable.execute(status -> seed());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        harness.close();
+    }
+
+    @Benchmark
+    public int lazyWalk() {
+        long documentId = nextDocumentId();
+        return readOnly.execute(status -> walk(documentRepository.findById(documentId).orElseThrow(), true));
+    }
+
+    @Benchmark
+    public int detailLoader() {
+        long documentId = nextDocumentId();
+        return readOnly.execute(status -> walk(detailLoader.loadDocument(documentId, true).orElseThrow(), true));
+    }
+
+    @Benchmark
+    public int detailLoaderWithoutHistory() {
+        long documentId = nextDocumentId();
+        return readOnly.execute(status -> walk(detailLoader.loadDocument(documentId, false).orElseThrow(), false));
+    }
+
+    private long nextDocumentId() {
+        long documentId = firstDocumentId + cursor;
+        cursor = (cursor + 1) % DOCUMENTS;
+        return documentId;
+    }
+
+    /**
+     * 상세 응답이 읽는 모든 연관을 훑고 원소 수를 센다 (fetch join으로 bag이 중복 적재되면 값이 달라진다)
+     */
+    private static int walk(ApprovalDocument document, boolean includeHistory) {
+        DocumentTemplate template = document.getTemplate();
+        int elements = template.getCategory().getName().isEmpty() ? 0 : 1;
+        elements += template.getFields().size();
+        elements += template.getReferenceFiles().size();
+        for (TemplateApprovalStage stage : template.getApprovalStages()) {
+            elements += 1 + stage.getApprovalTargets().size();
+        }
+        elements += template.getReferenceTargets().size();
+
+        elements += document.getFieldValues().size();
+        for (DocumentApprovalStage stage : document.getApprovalStages()) {
+            elements += 1 + stage.getApprovalTargets().size();
+        }
+        elements += document.getReferenceTargets().size();
+        elements += document.getAttachments().size();
+        if (includeHistory) {
+            elements += document.getActivities().size();
+            elements += document.getComments().size();
+        }
+        return elements;
+    }
+
+    private long seed() {
+        TemplateCategory category = TemplateCategory.builder().name("재무").build();
+        entityManager.persist(category);
+
+        DocumentTemplate template = DocumentTemplate.builder().title("지출 결의서").category(category).build();
+        for (int order = 1; order <= FIELDS; order++) {
+            template.getFields().add(TemplateField.builder()
+                    .name("항목" + order).fieldType(FieldType.TEXT).fieldOrder(order).template(template).build());
+        }
+        for (int i = 1; i <= ATTACHMENTS; i++) {
+            template.getReferenceFiles().add(attachment("template-" + i));
+        }
+        for (int order = 1; order <= stages; order++) {
+            TemplateApprovalStage stage = TemplateApprovalStage.builder()
+                    .stageOrder(order).stageName(order + "단계").template(template).build();
+            for (int i = 1; i <= TARGETS_PER_STAGE; i++) {
+                TemplateApprovalTarget target = TemplateApprovalTarget.builder()
+                        .targetType(TargetType.USER).userId(100L + order * 10 + i)
+                        .template(template).approvalStage(stage).build();
+                stage.getApprovalTargets().add(target);
+            }
+            template.getApprovalStages().add(stage);
+        }
+        template.getReferenceTargets().add(TemplateApprovalTarget.builder()
+                .targetType(TargetType.USER).userId(99L).isReference(true).template(template).build());
+        entityManager.persist(template);
+
+        Long firstId = null;
+        for (int n = 0; n < DOCUMENTS; n++) {
+            ApprovalDocument document = document(template);
+            entityManager.persist(document);
+            if (firstId == null) {
+                firstId = document.getId();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return firstId;
+    }
+
+    private ApprovalDocument document(DocumentTemplate template) {
+        ApprovalDocument document = ApprovalDocument.builder()
+                .content("본문")
+                .status(DocumentStatus.IN_PROGRESS)
+                .authorId(AUTHOR_ID)
+                .currentStage(1)
+                .template(template)
+                .build();
+        for (int order = 1; order <= FIELDS; order++) {
+            document.getFieldValues().add(DocumentFieldValue.builder()
+                    .fieldName("항목" + order).fieldType(FieldType.TEXT).fieldValue("값" + order).document(document).build());
+        }
+        for (int order = 1; order <= stages; order++) {
+            DocumentApprovalStage stage = DocumentApprovalStage.builder()
+                    .stageOrder(order).stageName(order + "단계").document(document).build();
+            for (int i = 1; i <= TARGETS_PER_STAGE; i++) {
+                stage.getApprovalTargets().add(DocumentApprovalTarget.builder()
+                        .targetType(TargetType.USER).userId(100L + order * 10 + i)
+                        .document(document).approvalStage(stage).build());
+            }
+            document.getApprovalStages().add(stage);
+        }
+        document.getReferenceTargets().add(DocumentApprovalTarget.builder()
+                .targetType(TargetType.USER).userId(99L).isReference(true).document(document).build());
+        for (int i = 1; i <= ATTACHMENTS; i++) {
+            document.getAttachments().add(attachment("document-" + i));
+        }
+        for (int i = 0; i < historySize; i++) {
+            document.getActivities().add(DocumentActivity.builder()
+                    .activityType(ActivityType.UPDATE).userId(AUTHOR_ID).description("수정 " + i).document(document).build());
+            document.getComments().add(DocumentComment.builder()
+                    .content("댓글 " + i).authorId(100L + i % 10).document(document).build());
+        }
+        return document;
+    }
+
+    private static AttachmentInfo attachment(String fileId) {
+        return AttachmentInfo.builder()
+                .fileId(fileId).fileName(fileId + ".pdf").fileSize(1_024L).contentType("application/pdf").build();
+    }
+
+    @Configuration
+    @EnableJpaRepositories(basePackageClasses = ApprovalDocumentRepository.class)
+    static class DetailConfig {
+
+        @Bean
+        ApprovalDocumentDetailLoader approvalDocumentDetailLoader(ApprovalDocumentRepository documentRepository,
+                                                                  DocumentApprovalStageRepository documentStageRepository,
+                                                                  DocumentTemplateRepository templateRepository,
+                                                                  TemplateApprovalStageRepository templateStageRepository) {
+            return new ApprovalDocumentDetailLoader(documentRepository, documentStageRepository,
+                    templateRepository, templateStageRepository);
+        }
+    }
+}
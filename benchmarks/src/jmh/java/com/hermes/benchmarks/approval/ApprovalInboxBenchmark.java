@@ -0,0 +1,225 @@
+package com.hermes.benchmarks.approval;
+
+import com.hermes.approvalservice.entity.ApprovalDocument;
+import com.hermes.approvalservice.entity.ApprovalInboxEntry;
+import com.hermes.approvalservice.entity.DocumentApprovalStage;
+import com.hermes.approvalservice.repository.ApprovalDocumentRepository;
+import com.hermes.approvalservice.repository.ApprovalInboxRepository;
+import com.hermes.benchmarks.fixture.JpaBenchmarkHarness;
+import com.hermes.benchmarks.fixture.RoundTripDataSource;
+import com.hermes.benchmarks.fixture.Stubs;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.query.Query;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.lang.reflect.Method;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 결재 문서 목록 한 페이지 조회 지연 (기존 문서 목록 vs 문서함 읽기 모델)
+ * <p>
+ * {@link JpaBenchmarkHarness}로 실제 엔티티 매핑을 인메모리 H2(PostgreSQL 모드) 위에 띄워 리포지토리의 {@code @Query} 문자열을 실행하고,
+ * {@link RoundTripDataSource}로 문장 실행과 커밋마다 DB 왕복 지연을 더한다. 한 사용자가 관련된 문서 1만 건(전체 2만 건)을 둔다.
+ * <ul>
+ *   <li>documents: 검색어가 있으면 user-service 이름 검색, EXISTS + LIKE + OFFSET 목록 쿼리와 count 쿼리,
+ *       작성자 프로필 일괄 조회, 요약 변환 시 템플릿/단계/대상자 지연 로딩 (ApprovalDocumentService.getDocumentsForUser)</li>
+ *   <li>inbox: approval_inbox의 (user_id, last_activity_at, document_id) keyset 쿼리 한 번 (ApprovalInboxService.getInbox)</li>
+ * </ul>
+ * page는 조회할 페이지 번호(20건 단위)이며, inbox는 같은 위치의 커서를 미리 구해 이어서 읽는다.
+ * 지연만 측정하며, 두 경로가 같은 문서를 같은 순서로 돌려주고 문서함 페이지가 쿼리 한 번으로 끝나는지는
+ * approval-service 테스트(ApprovalInboxServiceTest)에서 검증한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ApprovalInboxBenchmark {
+
+    private static final long USER_ID = 1L;
+    private static final int DOCUMENTS = 20_000;
+    private static final int TEMPLATES = 20;
+    private static final int PAGE_SIZE = 20;
+
+    /** 조회할 페이지 번호 (0 = 첫 페이지) */
+    @Param({"0", "100"})
+    public int page;
+
+    /** 검색어 (빈 값이면 검색 없음) */
+    @Param({"", "휴가"})
+    public String search;
+
+    /** 문장 실행/커밋 1회당 DB 왕복 지연 (μs) */
+    @Param({"200"})
+    public long dbRoundTripMicros;
+
+    /** user-service 호출 1회 지연 (μs) */
+    @Param({"2000"})
+    public long remoteLatencyMicros;
+
+    private JpaBenchmarkHarness harness;
+    private SessionFactory sessionFactory;
+    private String documentQuery;
+    private String documentCountQuery;
+    private String inboxQuery;
+    private String inboxAfterQuery;
+    private String searchPattern;
+    private LocalDateTime cursorAt;
+    private Long cursorDocumentId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        harness = JpaBenchmarkHarness.builder("approval-inbox")
+                .dbRoundTripMicros(dbRoundTripMicros)
+                .entityPackageOf(ApprovalDocument.class)
+                .build();
+        sessionFactory = harness.sessionFactory();
+        seed(harness.jdbcTemplate());
+
+        documentQuery = queryOf(ApprovalDocumentRepository.class, "findDocumentsForUserWithFilters");
+        documentCountQuery = documentQuery
+                .replaceFirst("SELECT d FROM", "SELECT COUNT(d) FROM")
+                .replaceFirst("ORDER BY d\\.createdAt DESC", "");
+        inboxQuery = queryOf(ApprovalInboxRepository.class, "findInboxPage");
+        inboxAfterQuery = queryOf(ApprovalInboxRepository.class, "findInboxPageAfter");
+        searchPattern = search.isEmpty() ? null : "%" + search.toLowerCase(Locale.ROOT) + "%";
+
+        if (page > 0) {
+            ApprovalInboxEntry anchor = sessionFactory.fromSession(session -> inboxQuery(session, inboxQuery)
+                    .setFirstResult(page * PAGE_SIZE - 1)
+                    .setMaxResults(1)
+                    .getSingleResult());
+            cursorAt = anchor.getLastActivityAt();
+            cursorDocumentId = anchor.getDocumentId();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        harness.close();
+    }
+
+    /** 기존 문서 목록 (ApprovalDocumentService.getDocumentsForUser + convertToSummaryResponse) */
+    @Benchmark
+    public int documents() {
+        if (!search.isEmpty()) {
+            Stubs.delay(remoteLatencyMicros); // userServiceClient.searchUserIds
+        }
+        return sessionFactory.fromTransaction(session -> {
+            List<ApprovalDocument> documents = documentPage(session);
+            long total = documentQuery(session, documentCountQuery, Long.class).getSingleResult();
+
+            Stubs.delay(remoteLatencyMicros); // userProfileCollector.prefetch
+            int loaded = (int) total;
+            for (ApprovalDocument document : documents) {
+                loaded += document.getTemplate().getTitle().length();
+                for (DocumentApprovalStage stage : document.getApprovalStages()) {
+                    loaded += stage.getApprovalTargets().size();
+                }
+                loaded += document.getReferenceTargets().size();
+            }
+            return loaded;
+        });
+    }
+
+    /** 문서함 (ApprovalInboxService.getInbox) */
+    @Benchmark
+    public int inbox() {
+        return sessionFactory.fromTransaction(session -> inboxPage(session).size());
+    }
+
+    private List<ApprovalDocument> documentPage(Session session) {
+        return documentQuery(session, documentQuery, ApprovalDocument.class)
+                .setFirstResult(page * PAGE_SIZE)
+                .setMaxResults(PAGE_SIZE)
+                .getResultList();
+    }
+
+    private <T> Query<T> documentQuery(Session session, String hql, Class<T> type) {
+        return session.createQuery(hql, type)
+                .setParameter("userId", USER_ID)
+                .setParameter("statuses", null)
+                .setParameter("search", search.isEmpty() ? null : search)
+                .setParameter("authorIds", search.isEmpty() ? null : List.<Long>of())
+                .setParameter("startDateTime", null)
+                .setParameter("endDateTime", null);
+    }
+
+    private List<ApprovalInboxEntry> inboxPage(Session session) {
+        Query<ApprovalInboxEntry> query = page == 0
+                ? inboxQuery(session, inboxQuery)
+                : inboxQuery(session, inboxAfterQuery)
+                        .setParameter("cursorAt", cursorAt)
+                        .setParameter("cursorDocumentId", cursorDocumentId);
+        return query.setMaxResults(PAGE_SIZE).getResultList();
+    }
+
+    private Query<ApprovalInboxEntry> inboxQuery(Session session, String hql) {
+        return session.createQuery(hql, ApprovalInboxEntry.class)
+                .setParameter("userId", USER_ID)
+                .setParameter("statuses", null)
+                .setParameter("searchPattern", searchPattern)
+                .setParameter("startDateTime", null)
+                .setParameter("endDateTime", null);
+    }
+
+    /**
+     * 문서 id가 홀수면 사용자 1이 1단계 승인자, 20으로 나눈 나머지가 1이면 작성자이기도 하다.
+     * 생성/수정 시각은 id 순으로 1초씩 증가시켜 두 경로의 정렬 순서가 같도록 한다.
+     */
+    private static void seed(JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.execute("INSERT INTO document_template (id, title, icon, color, use_body, use_attachment, " +
+                "allow_target_change, is_hidden, created_at, updated_at) " +
+                "SELECT X, CASE WHEN MOD(X, 4) = 0 THEN '휴가 신청서 ' ELSE '지출 결의서 ' END || X, 'document', '#3366FF', " +
+                "TRUE, 'OPTIONAL', FALSE, FALSE, TIMESTAMP '2025-01-01 00:00:00', TIMESTAMP '2025-01-01 00:00:00' " +
+                "FROM SYSTEM_RANGE(1, " + TEMPLATES + ")");
+        jdbcTemplate.execute("INSERT INTO approval_document (id, content, status, author_id, current_stage, template_id, " +
+                "created_at, updated_at, submitted_at) " +
+                "SELECT X, '본문', 'IN_PROGRESS', CASE WHEN MOD(X, 20) = 1 THEN " + USER_ID + " ELSE 2 + MOD(X, 200) END, 1, " +
+                "1 + MOD(X, " + TEMPLATES + "), DATEADD('SECOND', X, TIMESTAMP '2025-01-01 00:00:00'), " +
+                "DATEADD('SECOND', X, TIMESTAMP '2025-01-01 00:00:00'), DATEADD('SECOND', X, TIMESTAMP '2025-01-01 00:00:00') " +
+                "FROM SYSTEM_RANGE(1, " + DOCUMENTS + ")");
+        jdbcTemplate.execute("INSERT INTO document_approval_stage (id, stage_order, stage_name, is_completed, document_id) " +
+                "SELECT X, 1, '1단계', FALSE, X FROM SYSTEM_RANGE(1, " + DOCUMENTS + ")");
+        jdbcTemplate.execute("INSERT INTO document_approval_target (id, target_type, user_id, is_reference, approval_status, " +
+                "document_id, approval_stage_id) " +
+                "SELECT X, 'USER', CASE WHEN MOD(X, 2) = 1 THEN " + USER_ID + " ELSE 500 + MOD(X, 300) END, FALSE, 'PENDING', X, X " +
+                "FROM SYSTEM_RANGE(1, " + DOCUMENTS + ")");
+
+        String inboxColumns = "INSERT INTO approval_inbox (user_id, document_id, role, author_id, author_name, template_id, " +
+                "template_title, template_icon, template_color, status, current_stage, total_stages, action_required, " +
+                "document_created_at, submitted_at, last_activity_at) ";
+        jdbcTemplate.execute(inboxColumns +
+                "SELECT d.author_id, d.id, 'AUTHOR', d.author_id, '사용자' || d.author_id, t.id, t.title, t.icon, t.color, " +
+                "d.status, d.current_stage, 1, FALSE, d.created_at, d.submitted_at, d.updated_at " +
+                "FROM approval_document d JOIN document_template t ON t.id = d.template_id");
+        jdbcTemplate.execute(inboxColumns +
+                "SELECT g.user_id, d.id, 'APPROVER', d.author_id, '사용자' || d.author_id, t.id, t.title, t.icon, t.color, " +
+                "d.status, d.current_stage, 1, TRUE, d.created_at, d.submitted_at, d.updated_at " +
+                "FROM document_approval_target g JOIN approval_document d ON d.id = g.document_id " +
+                "JOIN document_template t ON t.id = d.template_id WHERE g.user_id <> d.author_id");
+    }
+
+    private static String queryOf(Class<?> repository, String methodName) {
+        for (Method method : repository.getMethods()) {
+            org.springframework.data.jpa.repository.Query query =
+                    method.getAnnotation(org.springframework.data.jpa.repository.Query.class);
+            if (method.getName().equals(methodName) && query != null) {
+                return query.value();
+            }
+        }
+        throw new IllegalStateException(repository.getSimpleName() + "." + methodName + " @Query 없음");
+    }
+}
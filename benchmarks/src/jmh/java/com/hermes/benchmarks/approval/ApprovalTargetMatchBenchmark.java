@@ -0,0 +1,233 @@
+package com.hermes.benchmarks.approval;
+
+import com.hermes.api.common.ApiResult;
+import com.hermes.approvalservice.client.OrganizationServiceClient;
+import com.hermes.approvalservice.client.dto.OrganizationAssignment;
+import com.hermes.approvalservice.client.dto.OrganizationInfo;
+import com.hermes.approvalservice.entity.ApprovalDocument;
+import com.hermes.approvalservice.entity.DocumentApprovalStage;
+import com.hermes.approvalservice.entity.DocumentApprovalTarget;
+import com.hermes.approvalservice.enums.DocumentStatus;
+import com.hermes.approvalservice.enums.TargetType;
+import com.hermes.approvalservice.service.ApprovalTargetResolver;
+import com.hermes.approvalservice.service.DocumentPermissionService;
+import com.hermes.approvalservice.service.OrganizationDirectory;
+import com.hermes.approvalservice.service.OrganizationGraph;
+import com.hermes.auth.enums.Role;
+import com.hermes.auth.principal.UserPrincipal;
+import com.hermes.benchmarks.fixture.Stubs;
+import com.hermes.cache.TenantCacheManager;
+import com.hermes.cache.config.CacheProperties;
+import com.hermes.cache.tenant.SecurityContextTenantKeyResolver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 결재 문서 조회 권한 확인 지연 (조직/n차 조직장 대상 포함)
+ * <p>
+ * 조직 500개(4갈래 트리), 직원 5천 명(10%는 겸직)의 고정 시드 조직도를 org-service 스텁으로 제공하고,
+ * stages 단계마다 사용자/조직/1차 조직장/2차 조직장 대상을 둔 문서에 참조 조직 하나를 더해 직원별 조회 권한을 확인한다.
+ * <ul>
+ *   <li>remote: 확인할 때마다 org-service에서 조직도를 받아 대상을 풀며 스캔</li>
+ *   <li>cachedGraph: 로컬 조직 그래프 캐시(OrganizationDirectory)로 확인할 때마다 대상을 풀며 스캔</li>
+ *   <li>precomputed: 제출 시 확정된 대상자 집합 조회 (ApprovalTargetResolver + DocumentPermissionService.canViewDocument)</li>
+ * </ul>
+ * 지연만 측정하며, 확정한 대상자로 판단한 권한이 스캔 결과와 같은지는 approval-service의 ApprovalTargetResolverTest가 확인한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ApprovalTargetMatchBenchmark {
+
+    private static final int ORGANIZATIONS = 500;
+    private static final int EMPLOYEES = 5_000;
+    private static final int BRANCHES = 4;
+    private static final long AUTHOR_ID = 4_321L;
+
+    /** 결재 단계 수 */
+    @Param({"2", "5"})
+    public int stages;
+
+    /** org-service 조회 1회 기준 지연 (μs) */
+    @Param({"2000"})
+    public long remoteLatencyMicros;
+
+    private OrganizationServiceClient organizationServiceClient;
+    private OrganizationDirectory organizationDirectory;
+    private DocumentPermissionService permissionService;
+    private ApprovalDocument draft;
+    private ApprovalDocument submitted;
+    private List<UserPrincipal> users;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<OrganizationInfo> organizations = organizations();
+        List<OrganizationAssignment> assignments = assignments();
+        long remote = remoteLatencyMicros;
+        organizationServiceClient = Stubs.of(OrganizationServiceClient.class, Map.of(
+                "getAllOrganizations", args -> {
+                    Stubs.delay(remote);
+                    return ApiResult.success(organizations);
+                },
+                "getAllAssignments", args -> {
+                    Stubs.delay(remote);
+                    return ApiResult.success(assignments);
+                }));
+
+        TenantCacheManager tenantCacheManager = new TenantCacheManager(new CacheProperties(), new SecurityContextTenantKeyResolver());
+        organizationDirectory = new OrganizationDirectory(organizationServiceClient, tenantCacheManager);
+        permissionService = new DocumentPermissionService();
+
+        draft = document();
+        submitted = document();
+        new ApprovalTargetResolver(organizationDirectory).resolve(submitted);
+
+        users = new ArrayList<>(EMPLOYEES);
+        for (long userId = 1; userId <= EMPLOYEES; userId++) {
+            users.add(UserPrincipal.builder().id(userId).role(Role.USER).build());
+        }
+    }
+
+    @Benchmark
+    public boolean remote() {
+        OrganizationGraph graph = OrganizationGraph.of(
+                organizationServiceClient.getAllOrganizations().getData(),
+                organizationServiceClient.getAllAssignments().getData());
+        return canViewByScan(graph, nextUser().getId());
+    }
+
+    @Benchmark
+    public boolean cachedGraph() {
+        return canViewByScan(organizationDirectory.getGraph(), nextUser().getId());
+    }
+
+    @Benchmark
+    public boolean precomputed() {
+        return permissionService.canViewDocument(submitted, nextUser());
+    }
+
+    private UserPrincipal nextUser() {
+        UserPrincipal user = users.get(cursor);
+        cursor = (cursor + 1) % users.size();
+        return user;
+    }
+
+    /**
+     * 대상을 매번 풀면서 스캔하는 방식 (사전 확정 이전의 권한 확인 모델)
+     */
+    private boolean canViewByScan(OrganizationGraph graph, Long userId) {
+        if (draft.getAuthorId().equals(userId)) {
+            return true;
+        }
+        for (DocumentApprovalStage stage : draft.getApprovalStages()) {
+            for (DocumentApprovalTarget target : stage.getApprovalTargets()) {
+                if (usersOf(graph, target).contains(userId)) {
+                    return true;
+                }
+            }
+        }
+        for (DocumentApprovalTarget target : draft.getReferenceTargets()) {
+            if (usersOf(graph, target).contains(userId)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Set<Long> usersOf(OrganizationGraph graph, DocumentApprovalTarget target) {
+        return switch (target.getTargetType()) {
+            case USER -> Set.of(target.getUserId());
+            case ORGANIZATION -> graph.membersOf(target.getOrganizationId());
+            case N_LEVEL_MANAGER -> graph.managersOf(AUTHOR_ID, target.getManagerLevel());
+        };
+    }
+
+    private ApprovalDocument document() {
+        ApprovalDocument document = ApprovalDocument.builder()
+                .id(1L)
+                .authorId(AUTHOR_ID)
+                .status(DocumentStatus.DRAFT)
+                .build();
+
+        Random random = new Random(42);
+        for (int order = 1; order <= stages; order++) {
+            DocumentApprovalStage stage = DocumentApprovalStage.builder()
+                    .stageOrder(order)
+                    .stageName(order + "단계")
+                    .document(document)
+                    .build();
+            stage.getApprovalTargets().add(target(document, stage, TargetType.USER, 1L + random.nextInt(EMPLOYEES), null, null));
+            stage.getApprovalTargets().add(target(document, stage, TargetType.ORGANIZATION, null, 1L + random.nextInt(ORGANIZATIONS), null));
+            stage.getApprovalTargets().add(target(document, stage, TargetType.N_LEVEL_MANAGER, null, null, 1));
+            stage.getApprovalTargets().add(target(document, stage, TargetType.N_LEVEL_MANAGER, null, null, 2));
+            document.getApprovalStages().add(stage);
+        }
+        document.getReferenceTargets().add(target(document, null, TargetType.ORGANIZATION, null, 1L + random.nextInt(ORGANIZATIONS), null));
+        return document;
+    }
+
+    private static DocumentApprovalTarget target(ApprovalDocument document, DocumentApprovalStage stage, TargetType type,
+                                                 Long userId, Long organizationId, Integer managerLevel) {
+        return DocumentApprovalTarget.builder()
+                .targetType(type)
+                .userId(userId)
+                .organizationId(organizationId)
+                .managerLevel(managerLevel)
+                .document(document)
+                .approvalStage(stage)
+                .build();
+    }
+
+    /**
+     * 조직 i의 상위 조직은 (i - 2) / BRANCHES + 1 (1번이 최상위)
+     */
+    private static List<OrganizationInfo> organizations() {
+        List<OrganizationInfo> organizations = new ArrayList<>(ORGANIZATIONS);
+        for (long id = 1; id <= ORGANIZATIONS; id++) {
+            Long parentId = id == 1 ? null : (id - 2) / BRANCHES + 1;
+            organizations.add(OrganizationInfo.builder().organizationId(id).name("조직" + id).parentId(parentId).build());
+        }
+        return organizations;
+    }
+
+    /**
+     * 직원 e의 주 소속은 (e - 1) % ORGANIZATIONS + 1이며, 조직마다 첫 직원이 조직장
+     */
+    private static List<OrganizationAssignment> assignments() {
+        Random random = new Random(7);
+        List<OrganizationAssignment> assignments = new ArrayList<>();
+        for (long employeeId = 1; employeeId <= EMPLOYEES; employeeId++) {
+            long organizationId = (employeeId - 1) % ORGANIZATIONS + 1;
+            assignments.add(OrganizationAssignment.builder()
+                    .employeeId(employeeId)
+                    .organizationId(organizationId)
+                    .isPrimary(true)
+                    .isLeader(employeeId <= ORGANIZATIONS)
+                    .build());
+            if (random.nextInt(10) == 0) {
+                assignments.add(OrganizationAssignment.builder()
+                        .employeeId(employeeId)
+                        .organizationId(1L + random.nextInt(ORGANIZATIONS))
+                        .isPrimary(false)
+                        .isLeader(false)
+                        .build());
+            }
+        }
+        return assignments;
+    }
+}
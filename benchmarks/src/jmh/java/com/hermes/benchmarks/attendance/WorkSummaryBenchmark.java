@@ -0,0 +1,71 @@
+package com.hermes.benchmarks.attendance;
+
+import com.hermes.attendanceservice.dto.attendance.WeeklyWorkSummary;
+import com.hermes.attendanceservice.service.attendance.AttendanceServiceImpl;
+import com.hermes.benchmarks.fixture.InMemoryAttendanceRepository;
+import com.hermes.benchmarks.fixture.SyntheticData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주간/월간 근무 요약 집계 성능
+ * <p>
+ * 월간 요약 API가 없으므로 월간 집계는 해당 월을 덮는 주 단위 getWeekSummary 호출의 합으로 측정한다.
+ * recordsPerDay를 늘리면 createDailySummaries의 일자별 필터링 비용이 드러난다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class WorkSummaryBenchmark {
+
+    private static final Long USER_ID = 1001L;
+
+    @Param({"1", "4"})
+    public int recordsPerDay;
+
+    private AttendanceServiceImpl attendanceService;
+    private LocalDate weekStart;
+    private LocalDate monthStart;
+    private LocalDate monthEnd;
+
+    @Setup
+    public void setUp() {
+        LocalDate start = SyntheticData.BASE_DATE.minusWeeks(1);
+        LocalDate end = SyntheticData.BASE_DATE.plusMonths(2);
+        attendanceService = new AttendanceServiceImpl(
+                InMemoryAttendanceRepository.of(SyntheticData.attendances(USER_ID, start, end, recordsPerDay)),
+                null,
+                null,
+                null);
+
+        weekStart = SyntheticData.BASE_DATE.with(TemporalAdjusters.previousOrSame(DayOfWeek.SUNDAY));
+        monthStart = SyntheticData.BASE_DATE.withDayOfMonth(1);
+        monthEnd = monthStart.with(TemporalAdjusters.lastDayOfMonth());
+    }
+
+    @Benchmark
+    public WeeklyWorkSummary weeklySummary() {
+        return attendanceService.getWeekSummary(USER_ID, weekStart);
+    }
+
+    @Benchmark
+    public void monthlySummary(Blackhole blackhole) {
+        for (LocalDate week = monthStart.with(TemporalAdjusters.previousOrSame(DayOfWeek.SUNDAY));
+             !week.isAfter(monthEnd);
+             week = week.plusWeeks(1)) {
+            blackhole.consume(attendanceService.getWeekSummary(USER_ID, week));
+        }
+    }
+}
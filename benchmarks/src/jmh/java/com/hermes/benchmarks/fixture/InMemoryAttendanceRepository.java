@@ -0,0 +1,45 @@
+package com.hermes.benchmarks.fixture;
+
+import com.hermes.attendanceservice.entity.attendance.Attendance;
+import com.hermes.attendanceservice.repository.attendance.AttendanceRepository;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * 조회 메서드만 메모리에서 응답하는 AttendanceRepository 스텁
+ * <p>
+ * DB 왕복을 제외한 집계 로직만 측정하기 위해 사용한다.
+ * findAllByUserIdAndDateBetween 외의 메서드는 호출 시 UnsupportedOperationException을 던진다.
+ */
+public final class InMemoryAttendanceRepository {
+
+    private InMemoryAttendanceRepository() {
+    }
+
+    public static AttendanceRepository of(Collection<Attendance> records) {
+        NavigableMap<LocalDate, List<Attendance>> byDate = new TreeMap<>();
+        for (Attendance record : records) {
+            byDate.computeIfAbsent(record.getDate(), d -> new ArrayList<>()).add(record);
+        }
+
+        return Stubs.of(AttendanceRepository.class, Map.of(
+                "findAllByUserIdAndDateBetween", args -> {
+                    Long userId = (Long) args[0];
+                    List<Attendance> result = new ArrayList<>();
+                    for (List<Attendance> daily : byDate.subMap((LocalDate) args[1], true, (LocalDate) args[2], true).values()) {
+                        for (Attendance record : daily) {
+                            if (record.getUserId().equals(userId)) {
+                                result.add(record);
+                            }
+                        }
+                    }
+                    return result;
+                }));
+    }
+}
@@ -0,0 +1,220 @@
+package com.hermes.benchmarks.fixture;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.h2.jdbcx.JdbcDataSource;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.orm.jpa.persistenceunit.PersistenceManagedTypes;
+import org.springframework.orm.jpa.persistenceunit.PersistenceManagedTypesScanner;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 실제 엔티티 매핑을 인메모리 H2(PostgreSQL 모드) 위에 띄우는 JPA 벤치마크 공통 구성
+ * <p>
+ * 벤치마크마다 별도 DB를 열고, {@link RoundTripDataSource}로 문장 실행과 커밋마다 DB 왕복 지연을 더한 DataSource 위에
+ * EntityManagerFactory(create-drop, 서비스와 같은 CamelCaseToUnderscores 명명), JpaTransactionManager, JdbcTemplate을 둔다.
+ * 리포지토리와 서비스 빈은 벤치마크가 넘긴 구성 클래스가 등록한다.
+ * 쿼리 수 상한이나 결과 일치 같은 정확성 검증은 각 서비스 테스트가 담당하고, 여기서 띄운 구성은 지연/처리량 측정에만 쓴다.
+ */
+public final class JpaBenchmarkHarness implements AutoCloseable {
+
+    private final AnnotationConfigApplicationContext context;
+
+    private JpaBenchmarkHarness(Builder builder) {
+        JdbcDataSource h2 = new JdbcDataSource();
+        StringBuilder url = new StringBuilder("jdbc:h2:mem:")
+                .append(builder.name).append('-').append(System.nanoTime())
+                .append(";MODE=PostgreSQL;DB_CLOSE_DELAY=-1");
+        builder.urlOptions.forEach(option -> url.append(';').append(option));
+        h2.setURL(url.toString());
+
+        PersistenceSettings persistenceSettings = new PersistenceSettings(managedTypes(builder),
+                List.copyOf(builder.mappingResources), Map.copyOf(builder.jpaProperties));
+
+        context = new AnnotationConfigApplicationContext();
+        context.registerBean(RoundTripDataSource.class, () -> new RoundTripDataSource(h2, builder.dbRoundTripMicros));
+        context.registerBean(PersistenceSettings.class, () -> persistenceSettings);
+        context.register(HarnessJpaConfig.class);
+        if (!builder.configurations.isEmpty()) {
+            context.register(builder.configurations.toArray(Class<?>[]::new));
+        }
+        context.refresh();
+    }
+
+    public static Builder builder(String name) {
+        return new Builder(name);
+    }
+
+    public <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    public JdbcTemplate jdbcTemplate() {
+        return context.getBean(JdbcTemplate.class);
+    }
+
+    public PlatformTransactionManager transactionManager() {
+        return context.getBean(PlatformTransactionManager.class);
+    }
+
+    /**
+     * 현재 트랜잭션에 묶이는 공유 EntityManager
+     */
+    public EntityManager entityManager() {
+        return SharedEntityManagerCreator.createSharedEntityManager(context.getBean(EntityManagerFactory.class));
+    }
+
+    /**
+     * 리포지토리 @Query 문자열을 세션에서 직접 실행하는 벤치마크용 Hibernate SessionFactory
+     */
+    public SessionFactory sessionFactory() {
+        return context.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class);
+    }
+
+    @Override
+    public void close() {
+        context.close();
+    }
+
+    private static PersistenceManagedTypes managedTypes(Builder builder) {
+        List<String> classNames = new ArrayList<>(builder.entityClassNames);
+        if (!builder.entityPackages.isEmpty()) {
+            classNames.addAll(new PersistenceManagedTypesScanner(new DefaultResourceLoader())
+                    .scan(builder.entityPackages.toArray(String[]::new))
+                    .getManagedClassNames());
+        }
+        return PersistenceManagedTypes.of(classNames.stream().distinct().toArray(String[]::new));
+    }
+
+    public static final class Builder {
+
+        private final String name;
+        private long dbRoundTripMicros;
+        private final List<String> urlOptions = new ArrayList<>();
+        private final List<String> entityClassNames = new ArrayList<>();
+        private final List<String> entityPackages = new ArrayList<>();
+        private final List<String> mappingResources = new ArrayList<>();
+        private final Map<String, Object> jpaProperties = new HashMap<>();
+        private final List<Class<?>> configurations = new ArrayList<>();
+
+        private Builder(String name) {
+            this.name = name;
+        }
+
+        /**
+         * 문장 실행/커밋 1회당 DB 왕복 지연 (μs, 0이면 지연 없이 횟수만 센다)
+         */
+        public Builder dbRoundTripMicros(long dbRoundTripMicros) {
+            this.dbRoundTripMicros = dbRoundTripMicros;
+            return this;
+        }
+
+        /**
+         * H2 URL 추가 옵션 (예: DATABASE_TO_LOWER=TRUE, LOCK_TIMEOUT=10000)
+         */
+        public Builder urlOption(String option) {
+            urlOptions.add(option);
+            return this;
+        }
+
+        public Builder entities(Class<?>... entities) {
+            for (Class<?> entity : entities) {
+                entityClassNames.add(entity.getName());
+            }
+            return this;
+        }
+
+        /**
+         * anchor와 같은 패키지(하위 포함)의 엔티티 전체
+         */
+        public Builder entityPackageOf(Class<?> anchor) {
+            entityPackages.add(anchor.getPackageName());
+            return this;
+        }
+
+        /**
+         * 어노테이션 매핑을 덮어쓰는 orm.xml (클래스패스 경로)
+         */
+        public Builder mappingResource(String resource) {
+            mappingResources.add(resource);
+            return this;
+        }
+
+        public Builder jpaProperties(Map<String, ?> properties) {
+            jpaProperties.putAll(properties);
+            return this;
+        }
+
+        /**
+         * 리포지토리/서비스 빈을 등록하는 구성 클래스 (EntityManagerFactory, 트랜잭션 관리자, JdbcTemplate은 주입 가능)
+         */
+        public Builder configurations(Class<?>... configurations) {
+            this.configurations.addAll(List.of(configurations));
+            return this;
+        }
+
+        public JpaBenchmarkHarness build() {
+            return new JpaBenchmarkHarness(this);
+        }
+    }
+
+    record PersistenceSettings(PersistenceManagedTypes managedTypes, List<String> mappingResources,
+                               Map<String, Object> jpaProperties) {
+    }
+
+    @Configuration
+    @EnableTransactionManagement
+    static class HarnessJpaConfig {
+
+        @Bean
+        DataSource dataSource(RoundTripDataSource roundTripDataSource) {
+            return roundTripDataSource.dataSource();
+        }
+
+        @Bean
+        LocalContainerEntityManagerFactoryBean entityManagerFactory(DataSource dataSource, PersistenceSettings persistenceSettings) {
+            LocalContainerEntityManagerFactoryBean factory = new LocalContainerEntityManagerFactoryBean();
+            factory.setDataSource(dataSource);
+            factory.setManagedTypes(persistenceSettings.managedTypes());
+            if (!persistenceSettings.mappingResources().isEmpty()) {
+                factory.setMappingResources(persistenceSettings.mappingResources().toArray(String[]::new));
+            }
+            factory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+
+            Map<String, Object> properties = new HashMap<>();
+            properties.put(AvailableSettings.HBM2DDL_AUTO, "create-drop");
+            properties.put(AvailableSettings.PHYSICAL_NAMING_STRATEGY, CamelCaseToUnderscoresNamingStrategy.class.getName());
+            properties.putAll(persistenceSettings.jpaProperties());
+            factory.setJpaPropertyMap(properties);
+            return factory;
+        }
+
+        @Bean
+        JpaTransactionManager transactionManager(EntityManagerFactory entityManagerFactory) {
+            return new JpaTransactionManager(entityManagerFactory);
+        }
+
+        @Bean
+        JdbcTemplate jdbcTemplate(DataSource dataSource) {
+            return new JdbcTemplate(dataSource);
+        }
+    }
+}
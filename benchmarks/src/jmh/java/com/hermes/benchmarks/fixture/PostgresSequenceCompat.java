@@ -0,0 +1,21 @@
+package com.hermes.benchmarks.fixture;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * H2(PostgreSQL 모드)에서 SequenceIdAllocator의 PostgreSQL 전용 시퀀스 조회를 실행할 수 있게 하는 호환 객체
+ * <p>
+ * regclass 캐스트는 문자열 도메인으로, pg_sequence는 INFORMATION_SCHEMA.SEQUENCES 뷰로 대신한다.
+ * nextval과 generate_series는 H2가 PostgreSQL 호환 함수로 제공한다. 시퀀스 이름 비교를 위해 DATABASE_TO_LOWER=TRUE로 연다.
+ */
+public final class PostgresSequenceCompat {
+
+    private PostgresSequenceCompat() {
+    }
+
+    public static void install(JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.execute("CREATE DOMAIN IF NOT EXISTS regclass AS VARCHAR(255)");
+        jdbcTemplate.execute("CREATE VIEW IF NOT EXISTS pg_sequence AS " +
+                "SELECT sequence_name AS seqrelid, CAST(increment AS BIGINT) AS seqincrement FROM information_schema.sequences");
+    }
+}
@@ -0,0 +1,73 @@
+package com.hermes.benchmarks.fixture;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * DB 왕복 지연을 모사하는 DataSource 래퍼
+ * <p>
+ * 인메모리 DB 앞에서 문장 실행(execute*, executeBatch)과 commit/rollback마다 한 번의 왕복 지연을 더하고 횟수를 센다.
+ * 배치 실행은 행 수와 관계없이 한 번의 왕복으로 계산한다 (PostgreSQL 드라이버의 reWriteBatchedInserts 적용 상태에 해당).
+ */
+public final class RoundTripDataSource {
+
+    private static final Set<String> ROUND_TRIP_METHODS = Set.of(
+            "execute", "executeQuery", "executeUpdate", "executeLargeUpdate",
+            "executeBatch", "executeLargeBatch", "commit", "rollback");
+
+    private final DataSource target;
+    private final long roundTripMicros;
+    private final LongAdder roundTrips = new LongAdder();
+    private final DataSource dataSource;
+
+    public RoundTripDataSource(DataSource target, long roundTripMicros) {
+        this.target = target;
+        this.roundTripMicros = roundTripMicros;
+        this.dataSource = (DataSource) Proxy.newProxyInstance(DataSource.class.getClassLoader(),
+                new Class<?>[]{DataSource.class}, (proxy, method, args) -> {
+                    Object result = invoke(this.target, method, args);
+                    return result instanceof Connection connection ? wrap(Connection.class, connection) : result;
+                });
+    }
+
+    public DataSource dataSource() {
+        return dataSource;
+    }
+
+    public long roundTrips() {
+        return roundTrips.sum();
+    }
+
+    public void resetRoundTrips() {
+        roundTrips.reset();
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T wrap(Class<T> type, T delegate) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            if (ROUND_TRIP_METHODS.contains(method.getName())) {
+                roundTrips.increment();
+                Stubs.delay(roundTripMicros);
+            }
+            Object result = invoke(delegate, method, args);
+            if (result instanceof Statement statement && Statement.class.isAssignableFrom(method.getReturnType())) {
+                return wrap((Class<Statement>) method.getReturnType(), statement);
+            }
+            return result;
+        });
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.hermes.benchmarks.fixture;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 로컬 OpenAI 호환 /v1/chat/completions 스텁 서버
+ * <p>
+ * 요청 본문의 "stream":true 여부에 따라 단일 JSON 응답 또는 SSE 청크(data: ...) 스트림으로 고정 내용을 돌려준다.
+ * 응답 전 지연은 {@link Stubs#delay(long)}로 모사한다.
+ */
+public final class StubCompletionsServer implements AutoCloseable {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final String content;
+    private final long latencyMicros;
+    private final int streamChunks;
+
+    private StubCompletionsServer(String content, long latencyMicros, int streamChunks, int workers) throws IOException {
+        this.content = content;
+        this.latencyMicros = latencyMicros;
+        this.streamChunks = Math.max(1, streamChunks);
+        this.executor = Executors.newFixedThreadPool(workers);
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        this.server.createContext("/v1/chat/completions", this::handle);
+        this.server.setExecutor(executor);
+        this.server.start();
+    }
+
+    /**
+     * @param content       assistant 메시지 내용
+     * @param latencyMicros 첫 바이트까지의 기준 지연 (μs)
+     * @param streamChunks  스트림 응답을 나눌 청크 수
+     */
+    public static StubCompletionsServer start(String content, long latencyMicros, int streamChunks) {
+        try {
+            return new StubCompletionsServer(content, latencyMicros, streamChunks, 64);
+        } catch (IOException e) {
+            throw new IllegalStateException("스텁 서버 시작 실패", e);
+        }
+    }
+
+    public String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + "/v1";
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        boolean stream;
+        try (var body = exchange.getRequestBody()) {
+            stream = Boolean.TRUE.equals(objectMapper.readValue(body, Map.class).get("stream"));
+        }
+        Stubs.delay(latencyMicros);
+
+        try {
+            if (stream) {
+                writeStream(exchange);
+            } else {
+                byte[] payload = objectMapper.writeValueAsBytes(Map.of("choices", List.of(
+                        Map.of("index", 0, "message", Map.of("role", "assistant", "content", content)))));
+                exchange.getResponseHeaders().set("Content-Type", "application/json");
+                exchange.sendResponseHeaders(200, payload.length);
+                exchange.getResponseBody().write(payload);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void writeStream(HttpExchange exchange) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "text/event-stream");
+        exchange.sendResponseHeaders(200, 0);
+        OutputStream out = exchange.getResponseBody();
+
+        int chunkSize = Math.max(1, (content.length() + streamChunks - 1) / streamChunks);
+        for (int start = 0; start < content.length(); start += chunkSize) {
+            String piece = content.substring(start, Math.min(content.length(), start + chunkSize));
+            String event = objectMapper.writeValueAsString(Map.of("choices", List.of(
+                    Map.of("index", 0, "delta", Map.of("content", piece)))));
+            out.write(("data: " + event + "\n\n").getBytes(StandardCharsets.UTF_8));
+            out.flush();
+        }
+        out.write("data: [DONE]\n\n".getBytes(StandardCharsets.UTF_8));
+        out.flush();
+    }
+}
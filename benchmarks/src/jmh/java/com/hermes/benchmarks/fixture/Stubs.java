@@ -0,0 +1,51 @@
+package com.hermes.benchmarks.fixture;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+
+/**
+ * 인터페이스 스텁 생성 및 지연 모사 유틸리티
+ * <p>
+ * 지정한 메서드만 응답하고, 그 외 메서드는 호출 시 UnsupportedOperationException을 던진다.
+ */
+public final class Stubs {
+
+    private Stubs() {
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> T of(Class<T> type, Map<String, Function<Object[], Object>> answers) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            if (method.isDefault()) {
+                // Feign 클라이언트의 default 메서드는 실제 구현처럼 추상 메서드로 위임
+                return InvocationHandler.invokeDefault(proxy, method, args);
+            }
+            Function<Object[], Object> answer = answers.get(method.getName());
+            if (answer != null) {
+                return answer.apply(args);
+            }
+            return switch (method.getName()) {
+                case "hashCode" -> System.identityHashCode(proxy);
+                case "equals" -> proxy == args[0];
+                case "toString" -> type.getSimpleName() + "Stub";
+                default -> throw new UnsupportedOperationException(type.getSimpleName() + "." + method.getName());
+            };
+        });
+    }
+
+    /**
+     * 기준 지연에 최대 50% 지터를 더해 대기 (원격/DB 왕복 모사)
+     */
+    public static void delay(long baseMicros) {
+        if (baseMicros <= 0) {
+            return;
+        }
+        long jitter = ThreadLocalRandom.current().nextLong(baseMicros / 2 + 1);
+        LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(baseMicros + jitter));
+    }
+}
@@ -0,0 +1,139 @@
+package com.hermes.benchmarks.fixture;
+
+import com.hermes.attendanceservice.dto.workpolicy.WorkPolicyRequestDto;
+import com.hermes.attendanceservice.dto.workschedule.WorkPolicyDto;
+import com.hermes.attendanceservice.entity.attendance.Attendance;
+import com.hermes.attendanceservice.entity.attendance.AttendanceStatus;
+import com.hermes.attendanceservice.entity.attendance.WorkStatus;
+import com.hermes.attendanceservice.entity.workpolicy.WorkCycle;
+import com.hermes.attendanceservice.entity.workpolicy.WorkType;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 벤치마크용 고정 합성 데이터 생성기
+ * <p>
+ * 모든 데이터는 고정 시드로 생성되므로 실행마다 동일한 입력이 보장된다.
+ */
+public final class SyntheticData {
+
+    public static final long SEED = 20240101L;
+    public static final LocalDate BASE_DATE = LocalDate.of(2024, 1, 1);
+    public static final ZoneId ZONE_SEOUL = ZoneId.of("Asia/Seoul");
+
+    private static final List<String> WEEKDAYS = List.of("MONDAY", "TUESDAY", "WEDNESDAY", "THURSDAY", "FRIDAY");
+    private static final List<String> WEEKEND = List.of("SATURDAY", "SUNDAY");
+    private static final List<String> PUBLIC_HOLIDAYS_2024 = List.of(
+            "2024-01-01", "2024-02-09", "2024-02-10", "2024-02-11", "2024-02-12", "2024-03-01",
+            "2024-04-10", "2024-05-05", "2024-05-06", "2024-05-15", "2024-06-06", "2024-08-15",
+            "2024-09-16", "2024-09-17", "2024-09-18", "2024-10-01", "2024-10-03", "2024-10-09", "2024-12-25");
+
+    private SyntheticData() {
+    }
+
+    /**
+     * 근무 유형별 근무 정책 (FIXED, FLEXIBLE, OPTIONAL, SHIFT)
+     */
+    public static WorkPolicyDto workPolicy(String type) {
+        WorkPolicyDto.WorkPolicyDtoBuilder builder = WorkPolicyDto.builder()
+                .id(1L)
+                .name(type + " 정책")
+                .type(type)
+                .workCycle("ONE_WEEK")
+                .startDayOfWeek("MONDAY")
+                .workDays(WEEKDAYS)
+                .holidayDays(WEEKEND)
+                .holidays(PUBLIC_HOLIDAYS_2024)
+                .workHours(8)
+                .workMinutes(0)
+                .breakStartTime(LocalTime.of(12, 0))
+                .breakEndTime(LocalTime.of(13, 0))
+                .breakMinutes(60)
+                .totalRequiredMinutes(2400);
+
+        switch (type) {
+            case "FLEXIBLE" -> builder.startTime(LocalTime.of(7, 0)).startTimeEnd(LocalTime.of(10, 0));
+            case "OPTIONAL" -> builder.workDays(List.of())
+                    .coreTimeStart(LocalTime.of(10, 0))
+                    .coreTimeEnd(LocalTime.of(15, 0));
+            case "SHIFT" -> builder.startTime(LocalTime.of(6, 0)).weeklyWorkingDays(5);
+            default -> builder.startTime(LocalTime.of(9, 0)).endTime(LocalTime.of(18, 0));
+        }
+        return builder.build();
+    }
+
+    /**
+     * 기간 내 근태 기록 생성
+     * 평일마다 recordsPerDay건(외근/재택 분할 기록 가정)을 만들고, 일부는 지각/휴가/미퇴근으로 분포시킨다.
+     */
+    public static List<Attendance> attendances(Long userId, LocalDate startDate, LocalDate endDate, int recordsPerDay) {
+        Random random = new Random(SEED ^ userId);
+        List<Attendance> records = new ArrayList<>();
+        long id = 1L;
+
+        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+            if (date.getDayOfWeek() == DayOfWeek.SATURDAY || date.getDayOfWeek() == DayOfWeek.SUNDAY) {
+                continue;
+            }
+            int slotMinutes = 540 / recordsPerDay;
+            for (int slot = 0; slot < recordsPerDay; slot++) {
+                int roll = random.nextInt(100);
+                LocalTime checkIn = LocalTime.of(9, 0).plusMinutes((long) slot * slotMinutes + random.nextInt(20));
+                LocalTime checkOut = checkIn.plusMinutes(slotMinutes - 10L);
+
+                records.add(Attendance.builder()
+                        .id(id++)
+                        .userId(userId)
+                        .date(date)
+                        .checkIn(date.atTime(checkIn).atZone(ZONE_SEOUL).toInstant())
+                        // 약 3%는 퇴근 미기록
+                        .checkOut(roll < 3 ? null : date.atTime(checkOut).atZone(ZONE_SEOUL).toInstant())
+                        .attendanceStatus(roll < 10 ? AttendanceStatus.LATE : AttendanceStatus.REGULAR)
+                        .workStatus(roll >= 95 ? WorkStatus.VACATION : WorkStatus.OFFICE)
+                        .build());
+            }
+        }
+        return records;
+    }
+
+    /**
+     * 노동법 검증 요청 (근무 주기/총 근무시간을 고르게 분포)
+     */
+    public static List<WorkPolicyRequestDto> workPolicyRequests(int count) {
+        Random random = new Random(SEED);
+        WorkCycle[] cycles = WorkCycle.values();
+        WorkType[] types = WorkType.values();
+        List<WorkPolicyRequestDto> requests = new ArrayList<>(count);
+
+        for (int i = 0; i < count; i++) {
+            WorkCycle cycle = cycles[random.nextInt(cycles.length)];
+            int limit = cycle == WorkCycle.ONE_MONTH ? 9600 : 2400;
+            requests.add(WorkPolicyRequestDto.builder()
+                    .name("정책-" + i)
+                    .type(types[random.nextInt(types.length)])
+                    .workCycle(cycle)
+                    // 기준 전후 ±20% 범위
+                    .totalRequiredMinutes(limit * 8 / 10 + random.nextInt(limit * 4 / 10))
+                    .build());
+        }
+        return requests;
+    }
+
+    /**
+     * 입사일 목록 (BASE_DATE 기준 최근 30년 내 분포)
+     */
+    public static LocalDate[] joinDates(int count) {
+        Random random = new Random(SEED);
+        LocalDate[] dates = new LocalDate[count];
+        for (int i = 0; i < count; i++) {
+            dates[i] = BASE_DATE.minusDays(random.nextInt(365 * 30));
+        }
+        return dates;
+    }
+}
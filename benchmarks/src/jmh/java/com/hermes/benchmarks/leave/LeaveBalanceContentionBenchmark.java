@@ -0,0 +1,153 @@
+package com.hermes.benchmarks.leave;
+
+import com.hermes.attendanceservice.entity.leave.EmployeeLeaveBalance;
+import com.hermes.attendanceservice.entity.leave.LeaveType;
+import com.hermes.attendanceservice.repository.leave.EmployeeLeaveBalanceRepository;
+import com.hermes.attendanceservice.service.leave.EmployeeLeaveBalanceServiceImpl;
+import com.hermes.attendanceservice.service.leave.LeaveBalanceRetryPolicy;
+import com.hermes.benchmarks.fixture.Stubs;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 동시 연차 차감/복구 처리량
+ * <p>
+ * 연차 차감 12개 스레드와 복구 4개 스레드가 같은 잔액 행들을 동시에 갱신한다.
+ * 저장소 스텁은 조건부 UPDATE를 행 잠금처럼 행 단위로 직렬화해 처리한다.
+ * 처리량만 측정하며, 초과 차감이나 갱신 유실이 없다는 불변식은
+ * attendance-service 테스트(EmployeeLeaveBalanceConcurrencyTest)에서 검증한다.
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class LeaveBalanceContentionBenchmark {
+
+    private static final LeaveType LEAVE_TYPE = LeaveType.BASIC_ANNUAL;
+    private static final int TOTAL_DAYS = 10_000_000;
+
+    /** 경합 대상 직원 수 (1이면 단일 행에 모든 스레드가 몰림) */
+    @Param({"1", "64"})
+    public int employees;
+
+    /** 조건부 UPDATE가 행 잠금을 잡고 있는 시간 (μs) */
+    @Param({"0", "50"})
+    public long rowLockMicros;
+
+    private final Map<Long, Row> rows = new ConcurrentHashMap<>();
+
+    private EmployeeLeaveBalanceServiceImpl employeeLeaveBalanceService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        long lockMicros = rowLockMicros;
+
+        EmployeeLeaveBalanceRepository repository = Stubs.of(EmployeeLeaveBalanceRepository.class, Map.of(
+                "deductLeave", args -> update((Long) args[0], (Integer) args[2], lockMicros),
+                "restoreLeave", args -> update((Long) args[0], -((Integer) args[2]), lockMicros),
+                "findByEmployeeIdAndLeaveType", args -> Optional.ofNullable(rows.get((Long) args[0]))
+                        .map(row -> row.snapshot((Long) args[0]))));
+
+        PlatformTransactionManager transactionManager = Stubs.of(PlatformTransactionManager.class, Map.of(
+                "getTransaction", args -> new SimpleTransactionStatus(),
+                "commit", args -> null,
+                "rollback", args -> null));
+
+        employeeLeaveBalanceService = new EmployeeLeaveBalanceServiceImpl(
+                repository, null, null, new LeaveBalanceRetryPolicy(transactionManager, 3, 0), null, null);
+    }
+
+    @Setup(Level.Iteration)
+    public void resetBalances() {
+        rows.clear();
+        for (long employeeId = 1; employeeId <= employees; employeeId++) {
+            rows.put(employeeId, new Row(TOTAL_DAYS));
+        }
+    }
+
+    @Benchmark
+    @Group("balance")
+    @GroupThreads(12)
+    public void useLeave(Blackhole blackhole) {
+        Long employeeId = pickEmployee();
+        try {
+            employeeLeaveBalanceService.useLeave(employeeId, LEAVE_TYPE, 1);
+        } catch (IllegalArgumentException e) {
+            blackhole.consume(e);
+        }
+    }
+
+    @Benchmark
+    @Group("balance")
+    @GroupThreads(4)
+    public void restoreLeave(Blackhole blackhole) {
+        Long employeeId = pickEmployee();
+        try {
+            employeeLeaveBalanceService.restoreLeave(employeeId, LEAVE_TYPE, 1);
+        } catch (IllegalArgumentException e) {
+            blackhole.consume(e);
+        }
+    }
+
+    private Long pickEmployee() {
+        return (long) ThreadLocalRandom.current().nextInt(employees) + 1;
+    }
+
+    /**
+     * 조건부 UPDATE 모사: 양수는 차감(remaining >= days), 음수는 복구(used >= days) 조건으로 반영
+     */
+    private int update(Long employeeId, int delta, long lockMicros) {
+        Row row = rows.get(employeeId);
+        if (row == null) {
+            return 0;
+        }
+        synchronized (row) {
+            Stubs.delay(lockMicros);
+            if (delta > 0 ? row.remaining < delta : row.used < -delta) {
+                return 0;
+            }
+            row.used += delta;
+            row.remaining -= delta;
+            return 1;
+        }
+    }
+
+    private static final class Row {
+
+        private final int total;
+        private int used;
+        private int remaining;
+
+        private Row(int total) {
+            this.total = total;
+            this.remaining = total;
+        }
+
+        private synchronized EmployeeLeaveBalance snapshot(Long employeeId) {
+            return EmployeeLeaveBalance.builder()
+                    .employeeId(employeeId)
+                    .leaveType(LEAVE_TYPE)
+                    .totalLeaveDays(total)
+                    .usedLeaveDays(used)
+                    .remainingDays(remaining)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.hermes.benchmarks.notification;
+
+import com.hermes.notification.enums.AudienceType;
+import com.hermes.notification.enums.NotificationType;
+import com.hermes.notification.event.AudienceNotificationEvent;
+import com.hermes.notification.event.NotificationEvent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+
+/**
+ * 전사원 공지 알림 발행→전달 소요 시간 (수신자 1만 명)
+ * <p>
+ * 공지 하나를 발행해 수신자 전원의 알림이 저장되고 실시간 알림이 전송될 때까지의 시간을 잰다.
+ * <ul>
+ *   <li>perRecipient: 수신자마다 notification.create 메시지 한 건, 단건 Listener가 행마다 저장 트랜잭션 하나와
+ *       공지 브로드캐스트 한 번 (기존 AnnouncementService 경로)</li>
+ *   <li>audience: notification.audience 메시지 한 건, 대상자 Listener가 1000행 단위 JDBC batch로 저장하고
+ *       브로드캐스트 한 번 (NotificationPublisher.publishToAudience 경로)</li>
+ * </ul>
+ * 구성과 한계는 {@link NotificationConsumerHarness} 참고.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class AudienceNotificationBenchmark {
+
+    private static final int RECIPIENTS = 10_000;
+    private static final String CONTENT = "새 공지사항이 등록되었습니다.";
+
+    @Param({"perRecipient", "audience"})
+    public String delivery;
+
+    /** 문장 실행/커밋 1회당 DB 왕복 지연 (μs) */
+    @Param({"200"})
+    public long dbRoundTripMicros;
+
+    private final AtomicLong announcementId = new AtomicLong();
+
+    private NotificationConsumerHarness harness;
+    private List<Long> userIds;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        harness = new NotificationConsumerHarness("audience-" + delivery, dbRoundTripMicros);
+        userIds = LongStream.rangeClosed(1, RECIPIENTS).boxed().toList();
+
+        publishToDelivered();
+        harness.requireDelivered(RECIPIENTS, 1);
+    }
+
+    @Setup(Level.Iteration)
+    public void resetIteration() {
+        harness.reset();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        harness.close();
+    }
+
+    @Benchmark
+    public void publishToDelivered() {
+        long referenceId = announcementId.incrementAndGet();
+        LocalDateTime createdAt = LocalDateTime.now();
+
+        if ("audience".equals(delivery)) {
+            harness.listener().handleAudienceNotificationEvent(harness.transfer(AudienceNotificationEvent.builder()
+                    .audienceType(AudienceType.ALL)
+                    .userIds(userIds)
+                    .type(NotificationType.ANNOUNCEMENT)
+                    .content(CONTENT)
+                    .referenceId(referenceId)
+                    .createdAt(createdAt)
+                    .publishedAt(Instant.now())
+                    .build()));
+            return;
+        }
+
+        for (Long userId : userIds) {
+            harness.listener().handleNotificationEvent(harness.transfer(NotificationEvent.builder()
+                    .userId(userId)
+                    .type(NotificationType.ANNOUNCEMENT)
+                    .content(CONTENT)
+                    .referenceId(referenceId)
+                    .createdAt(createdAt)
+                    .build()));
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.hermes.benchmarks.notification;
+
+import com.hermes.notification.enums.NotificationType;
+import com.hermes.notification.event.NotificationEvent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * notification.create 큐 소비 처리량 (단건 Listener vs 묶음 Listener)
+ * <p>
+ * 결재 알림 1000건을 소비해 저장하고 실시간 알림을 전송하는 초당 메시지 수를 잰다.
+ * <ul>
+ *   <li>single: 메시지마다 저장 트랜잭션 하나와 WebSocket 전송 한 번 (NotificationEventListener)</li>
+ *   <li>batch: hermes.notification.batch.size 기본값(100)건 묶음마다 JDBC batch 저장 트랜잭션 하나,
+ *       같은 사용자의 같은 (type, referenceId) 전송은 최신 하나로 합침 (NotificationBatchEventListener)</li>
+ * </ul>
+ * 묶음 Listener도 브로커에서는 메시지를 한 건씩 받으므로 변환은 두 경우 모두 메시지마다 수행한다.
+ * 구성과 한계는 {@link NotificationConsumerHarness} 참고.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class NotificationBatchListenerBenchmark {
+
+    private static final int MESSAGES = 1_000;
+    private static final int BATCH_SIZE = 100;
+    private static final int USERS = 200;
+
+    // 문서 하나당 같은 사용자에게 이어지는 알림 수 (단계별 결재 요청 3건 + 최종 승인 1건)
+    private static final int EVENTS_PER_DOCUMENT = 4;
+
+    @Param({"single", "batch"})
+    public String listener;
+
+    /** 문장 실행/커밋 1회당 DB 왕복 지연 (μs) */
+    @Param({"200"})
+    public long dbRoundTripMicros;
+
+    private NotificationConsumerHarness harness;
+    private List<NotificationEvent> events;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        harness = new NotificationConsumerHarness("batch-" + listener, dbRoundTripMicros);
+
+        LocalDateTime createdAt = LocalDateTime.of(2025, 1, 1, 9, 0);
+        events = new ArrayList<>(MESSAGES);
+        for (int i = 0; i < MESSAGES; i++) {
+            long documentId = i / EVENTS_PER_DOCUMENT + 1;
+            events.add(NotificationEvent.builder()
+                    .userId(documentId % USERS + 1)
+                    .type(i % EVENTS_PER_DOCUMENT == EVENTS_PER_DOCUMENT - 1
+                            ? NotificationType.APPROVAL_APPROVED : NotificationType.APPROVAL_REQUEST)
+                    .content("결재 문서 " + documentId)
+                    .referenceId(documentId)
+                    .createdAt(createdAt)
+                    .build());
+        }
+
+        consume();
+        harness.requireDelivered(MESSAGES, expectedDeliveries());
+    }
+
+    @Setup(Level.Iteration)
+    public void resetIteration() {
+        harness.reset();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        harness.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MESSAGES)
+    public void consume() {
+        if ("batch".equals(listener)) {
+            for (int from = 0; from < MESSAGES; from += BATCH_SIZE) {
+                List<NotificationEvent> batch = new ArrayList<>(BATCH_SIZE);
+                for (NotificationEvent event : events.subList(from, Math.min(MESSAGES, from + BATCH_SIZE))) {
+                    batch.add(harness.transfer(event));
+                }
+                harness.batchListener().handleNotificationEvents(batch);
+            }
+            return;
+        }
+
+        for (NotificationEvent event : events) {
+            harness.listener().handleNotificationEvent(harness.transfer(event));
+        }
+    }
+
+    /**
+     * 단건은 메시지마다, 묶음은 묶음 안의 (사용자, type, referenceId)마다 한 번 전송
+     */
+    private long expectedDeliveries() {
+        if (!"batch".equals(listener)) {
+            return MESSAGES;
+        }
+        Set<String> keys = new HashSet<>();
+        for (int i = 0; i < MESSAGES; i++) {
+            NotificationEvent event = events.get(i);
+            keys.add(i / BATCH_SIZE + ":" + event.getUserId() + ":" + event.getType() + ":" + event.getReferenceId());
+        }
+        return keys.size();
+    }
+}
@@ -0,0 +1,159 @@
+package com.hermes.benchmarks.notification;
+
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.hermes.benchmarks.fixture.JpaBenchmarkHarness;
+import com.hermes.benchmarks.fixture.PostgresSequenceCompat;
+import com.hermes.benchmarks.fixture.RoundTripDataSource;
+import com.hermes.communicationservice.notification.entity.Notification;
+import com.hermes.communicationservice.notification.listener.NotificationBatchEventListener;
+import com.hermes.communicationservice.notification.listener.NotificationEventListener;
+import com.hermes.communicationservice.notification.repository.NotificationBatchRepository;
+import com.hermes.communicationservice.notification.repository.NotificationRepository;
+import com.hermes.communicationservice.notification.service.NotificationService;
+import com.hermes.communicationservice.websocket.service.WebSocketNotificationService;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 알림 소비 경로 벤치마크 공통 구성
+ * <p>
+ * {@link JpaBenchmarkHarness}로 실제 NotificationService, NotificationBatchRepository와 두 Listener를 인메모리 H2(PostgreSQL 모드)
+ * 위에 띄우고, {@link RoundTripDataSource}로 문장 실행과 커밋마다 DB 왕복 지연을 더한다.
+ * 브로커 구간은 발행/소비 양쪽이 쓰는 Jackson2JsonMessageConverter로 메시지를 직렬화/역직렬화하는 비용만 포함하고
+ * 네트워크 왕복과 큐 대기는 포함하지 않으므로, 메시지 수가 많은 쪽이 실제보다 유리하게 나온다.
+ * WebSocket 전송은 STOMP 페이로드 변환까지 수행한 뒤 전달 건수만 센다.
+ */
+final class NotificationConsumerHarness implements AutoCloseable {
+
+    private final JpaBenchmarkHarness harness;
+    private final Jackson2JsonMessageConverter messageConverter = new Jackson2JsonMessageConverter();
+    private final DeliveryChannel deliveries;
+    private final JdbcTemplate jdbcTemplate;
+
+    NotificationConsumerHarness(String name, long dbRoundTripMicros) {
+        // PostgresSequenceCompat의 시퀀스 이름 비교를 위해 소문자 식별자로 연다
+        harness = JpaBenchmarkHarness.builder("notification-" + name)
+                .dbRoundTripMicros(dbRoundTripMicros)
+                .urlOption("DATABASE_TO_LOWER=TRUE")
+                .entityPackageOf(Notification.class)
+                .configurations(NotificationConfig.class)
+                .build();
+
+        deliveries = harness.bean(DeliveryChannel.class);
+        jdbcTemplate = harness.jdbcTemplate();
+        PostgresSequenceCompat.install(jdbcTemplate);
+    }
+
+    NotificationEventListener listener() {
+        return harness.bean(NotificationEventListener.class);
+    }
+
+    NotificationBatchEventListener batchListener() {
+        return harness.bean(NotificationBatchEventListener.class);
+    }
+
+    /**
+     * 발행 측 변환 후 소비 측 변환 (브로커를 거치는 메시지 한 건의 직렬화 비용)
+     */
+    @SuppressWarnings("unchecked")
+    <T> T transfer(T event) {
+        Message message = messageConverter.toMessage(event, new MessageProperties());
+        return (T) messageConverter.fromMessage(message);
+    }
+
+    long storedNotifications() {
+        Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM notifications", Long.class);
+        return count == null ? 0 : count;
+    }
+
+    long deliveries() {
+        return deliveries.count.sum();
+    }
+
+    void reset() {
+        jdbcTemplate.update("DELETE FROM notifications");
+        deliveries.count.reset();
+    }
+
+    @Override
+    public void close() {
+        harness.close();
+    }
+
+    /**
+     * 측정 경로가 실제로 저장/전송하는지 준비 단계에서 확인 (Listener는 실패를 로그로만 남기므로)
+     */
+    void requireDelivered(long stored, long delivered) {
+        if (storedNotifications() != stored || deliveries() != delivered) {
+            throw new IllegalStateException("알림 소비 경로 준비 실패: 저장 " + storedNotifications() + "/" + stored
+                    + "건, 전송 " + deliveries() + "/" + delivered + "건");
+        }
+    }
+
+    /**
+     * 클라이언트 세션 대신 전달 건수만 세는 채널
+     */
+    static final class DeliveryChannel implements MessageChannel {
+
+        private final LongAdder count = new LongAdder();
+
+        @Override
+        public boolean send(org.springframework.messaging.Message<?> message, long timeout) {
+            count.increment();
+            return true;
+        }
+    }
+
+    @Configuration
+    @EnableJpaRepositories(basePackageClasses = NotificationRepository.class)
+    static class NotificationConfig {
+
+        @Bean
+        NotificationBatchRepository notificationBatchRepository(JdbcTemplate jdbcTemplate) {
+            return new NotificationBatchRepository(jdbcTemplate);
+        }
+
+        @Bean
+        NotificationService notificationService(NotificationRepository notificationRepository,
+                                                NotificationBatchRepository notificationBatchRepository) {
+            return new NotificationService(notificationRepository, notificationBatchRepository);
+        }
+
+        @Bean
+        DeliveryChannel deliveryChannel() {
+            return new DeliveryChannel();
+        }
+
+        @Bean
+        WebSocketNotificationService webSocketNotificationService(DeliveryChannel deliveryChannel) {
+            // 서비스의 STOMP 메시지 변환기처럼 java.time 타입을 ISO 문자열로 직렬화
+            MappingJackson2MessageConverter converter = new MappingJackson2MessageConverter();
+            converter.setObjectMapper(JsonMapper.builder().findAndAddModules().build());
+            SimpMessagingTemplate messagingTemplate = new SimpMessagingTemplate(deliveryChannel);
+            messagingTemplate.setMessageConverter(converter);
+            return new WebSocketNotificationService(messagingTemplate);
+        }
+
+        @Bean
+        NotificationEventListener notificationEventListener(NotificationService notificationService,
+                                                            WebSocketNotificationService webSocketNotificationService) {
+            return new NotificationEventListener(notificationService, webSocketNotificationService);
+        }
+
+        @Bean
+        NotificationBatchEventListener notificationBatchEventListener(NotificationService notificationService,
+                                                                      WebSocketNotificationService webSocketNotificationService) {
+            return new NotificationBatchEventListener(notificationService, webSocketNotificationService);
+        }
+    }
+}
@@ -0,0 +1,258 @@
+package com.hermes.benchmarks.persistence;
+
+import com.hermes.attendanceservice.entity.leave.EmployeeLeaveBalance;
+import com.hermes.attendanceservice.entity.leave.LeaveType;
+import com.hermes.attendanceservice.entity.workschedule.Schedule;
+import com.hermes.attendanceservice.entity.workschedule.ScheduleType;
+import com.hermes.benchmarks.fixture.JpaBenchmarkHarness;
+import com.hermes.benchmarks.fixture.RoundTripDataSource;
+import com.hermes.benchmarks.fixture.Stubs;
+import com.hermes.communicationservice.notification.entity.Notification;
+import com.hermes.jpa.batch.config.JpaBatchAutoConfiguration;
+import com.hermes.jpa.batch.config.JpaBatchProperties;
+import com.hermes.notification.enums.NotificationType;
+import com.hermes.userservice.entity.EmploymentType;
+import com.hermes.userservice.entity.Job;
+import com.hermes.userservice.entity.Position;
+import com.hermes.userservice.entity.Rank;
+import com.hermes.userservice.entity.User;
+import com.hermes.userservice.entity.UserOrganization;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 대량 저장 경로의 초당 저장 행 수 (JPA 배치 튜닝 전/후)
+ * <p>
+ * {@link JpaBenchmarkHarness}로 실제 엔티티 매핑을 인메모리 H2(PostgreSQL 모드) 위에 띄우고, {@link RoundTripDataSource}로
+ * 문장 실행과 커밋마다 DB 왕복 지연을 더해 네트워크 너머 PostgreSQL에 쓰는 상황을 모사한다.
+ * <ul>
+ *   <li>tuning=before: IDENTITY 생성(orm.xml 재정의), JDBC 배치 미설정 - 행마다 INSERT 한 번씩 왕복</li>
+ *   <li>tuning=after: pooled-lo 시퀀스(allocationSize 50)와 jpa-batch-starter 설정 - 50행당 nextval 한 번, 100행 배치</li>
+ * </ul>
+ * 조직 동기화는 before에서 사용자마다 org-service 조회 + 삭제/저장 트랜잭션을, after에서 전체 배정 1회 조회 +
+ * 500명 단위 일괄 삭제/저장을 수행한다 (OrganizationSyncService의 문장 패턴).
+ * 드라이버의 reWriteBatchedInserts 효과(다중 VALUES 재작성)는 H2로 재현할 수 없어 배치 실행을 한 번의 왕복으로만 계산한다.
+ * 처리량만 측정하며, after 설정에서 실제로 JDBC 배치로 저장되는지는 attendance-service 테스트(JpaBatchWriteTest)에서 검증한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JpaBatchWriteBenchmark {
+
+    private static final int ROWS = 1_000;
+    private static final int USERS = 500;
+    private static final int ORGANIZATIONS_PER_USER = ROWS / USERS;
+    private static final int SYNC_CHUNK_SIZE = 500;
+
+    @Param({"before", "after"})
+    public String tuning;
+
+    /** 문장 실행/커밋 1회당 DB 왕복 지연 (μs) */
+    @Param({"200"})
+    public long dbRoundTripMicros;
+
+    /** org-service 배정 조회 1회 지연 (μs) */
+    @Param({"2000"})
+    public long remoteLatencyMicros;
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    private JpaBenchmarkHarness harness;
+    private SessionFactory sessionFactory;
+    private List<Long> userIds;
+    private Map<Long, List<Long>> assignments;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        JpaBenchmarkHarness.Builder builder = JpaBenchmarkHarness.builder("jpa-batch-" + tuning)
+                .dbRoundTripMicros(dbRoundTripMicros)
+                .entities(Schedule.class, EmployeeLeaveBalance.class, Notification.class,
+                        User.class, UserOrganization.class, EmploymentType.class, Rank.class, Position.class, Job.class);
+        if (isTuned()) {
+            Map<String, Object> batchSettings = new HashMap<>();
+            new JpaBatchAutoConfiguration()
+                    .jpaBatchHibernatePropertiesCustomizer(new JpaBatchProperties())
+                    .customize(batchSettings);
+            builder.jpaProperties(batchSettings);
+        } else {
+            builder.mappingResource("jpa-batch/identity-orm.xml");
+        }
+        harness = builder.build();
+        sessionFactory = harness.sessionFactory();
+
+        userIds = new ArrayList<>(USERS);
+        assignments = new HashMap<>();
+        sessionFactory.inTransaction(session -> {
+            for (int i = 0; i < USERS; i++) {
+                User user = user(i);
+                session.persist(user);
+                session.flush();
+                userIds.add(user.getId());
+            }
+        });
+        for (Long userId : userIds) {
+            List<Long> organizationIds = new ArrayList<>(ORGANIZATIONS_PER_USER);
+            for (int j = 0; j < ORGANIZATIONS_PER_USER; j++) {
+                organizationIds.add(100L + (userId + j) % 40);
+            }
+            assignments.put(userId, organizationIds);
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void resetIteration() {
+        sessionFactory.inTransaction(session -> {
+            for (String entity : List.of("Schedule", "EmployeeLeaveBalance", "Notification", "UserOrganization")) {
+                session.createMutationQuery("delete from " + entity).executeUpdate();
+            }
+        });
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        harness.close();
+    }
+
+    /** 스케줄 생성 (WorkScheduleService) */
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void schedules() {
+        persistAll(i -> Schedule.builder()
+                .userId(i % USERS + 1)
+                .title("근무")
+                .startDate(LocalDate.of(2025, 1, 1).plusDays(i % 365))
+                .endDate(LocalDate.of(2025, 1, 1).plusDays(i % 365))
+                .startTime(LocalTime.of(9, 0))
+                .endTime(LocalTime.of(18, 0))
+                .scheduleType(ScheduleType.WORK)
+                .isFixed(true)
+                .isEditable(false)
+                .fixedReason("WORK_POLICY")
+                .build());
+    }
+
+    /** 연차 부여 (EmployeeLeaveBalanceServiceImpl) */
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void leaveBalances() {
+        persistAll(i -> EmployeeLeaveBalance.builder()
+                .employeeId(i)
+                .leaveType(LeaveType.BASIC_ANNUAL)
+                .totalLeaveDays(15)
+                .remainingDays(15)
+                .workYears(1)
+                .workPolicyId(1L)
+                .build());
+    }
+
+    /** 알림 저장 (NotificationService) */
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void notifications() {
+        LocalDateTime createdAt = LocalDateTime.now();
+        persistAll(i -> Notification.builder()
+                .userId(i % USERS + 1)
+                .type(NotificationType.ANNOUNCEMENT)
+                .content("공지사항이 등록되었습니다.")
+                .referenceId(1L)
+                .createdAt(createdAt)
+                .build());
+    }
+
+    /** 전체 사용자 조직 동기화 (OrganizationSyncService.syncAllUsersOrganizations) */
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void userOrganizations() {
+        if (!isTuned()) {
+            for (Long userId : userIds) {
+                Stubs.delay(remoteLatencyMicros);
+                sessionFactory.inTransaction(session -> {
+                    session.createMutationQuery("delete from UserOrganization uo where uo.user.id = :userId")
+                            .setParameter("userId", userId)
+                            .executeUpdate();
+                    persistOrganizations(session, List.of(userId));
+                });
+            }
+            return;
+        }
+
+        Stubs.delay(remoteLatencyMicros);
+        for (int from = 0; from < userIds.size(); from += SYNC_CHUNK_SIZE) {
+            List<Long> chunk = userIds.subList(from, Math.min(userIds.size(), from + SYNC_CHUNK_SIZE));
+            sessionFactory.inTransaction(session -> {
+                session.createMutationQuery("delete from UserOrganization uo where uo.user.id in :userIds")
+                        .setParameterList("userIds", chunk)
+                        .executeUpdate();
+                persistOrganizations(session, chunk);
+            });
+        }
+    }
+
+    private void persistOrganizations(Session session, List<Long> chunk) {
+        for (Long userId : chunk) {
+            User user = session.getReference(User.class, userId);
+            for (Long organizationId : assignments.get(userId)) {
+                session.persist(UserOrganization.builder()
+                        .user(user)
+                        .organizationId(organizationId)
+                        .organizationName("조직 " + organizationId)
+                        .isPrimary(organizationId.equals(assignments.get(userId).get(0)))
+                        .isLeader(false)
+                        .assignedAt(LocalDateTime.of(2025, 1, 1, 0, 0))
+                        .build());
+            }
+        }
+    }
+
+    private void persistAll(RowFactory rowFactory) {
+        sessionFactory.inTransaction(session -> {
+            for (int i = 0; i < ROWS; i++) {
+                session.persist(rowFactory.create(sequence.incrementAndGet()));
+            }
+        });
+    }
+
+    private boolean isTuned() {
+        return "after".equals(tuning);
+    }
+
+    private static User user(int index) {
+        LocalDateTime now = LocalDateTime.of(2025, 1, 1, 0, 0);
+        return User.builder()
+                .name("사용자" + index)
+                .email("user" + index + "@hermes.local")
+                .password("{noop}password")
+                .joinDate(LocalDate.of(2020, 1, 1))
+                .isAdmin(false)
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+    }
+
+    @FunctionalInterface
+    private interface RowFactory {
+
+        Object create(long seq);
+    }
+}
@@ -0,0 +1,42 @@
+package com.hermes.benchmarks.user;
+
+import com.hermes.benchmarks.fixture.SyntheticData;
+import com.hermes.userservice.util.CareerCalculator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 입사일 기반 근무년수 계산 성능 (입사일 1건당 평균)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CareerCalculatorBenchmark {
+
+    private static final int JOIN_DATE_COUNT = 1024;
+
+    private LocalDate[] joinDates;
+
+    @Setup
+    public void setUp() {
+        joinDates = SyntheticData.joinDates(JOIN_DATE_COUNT);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(JOIN_DATE_COUNT)
+    public void calculateCareerYears(Blackhole blackhole) {
+        for (LocalDate joinDate : joinDates) {
+            blackhole.consume(CareerCalculator.calculateCareerYears(joinDate));
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package com.hermes.benchmarks.workmonitor;
+
+import com.hermes.attendanceservice.entity.attendance.Attendance;
+import com.hermes.attendanceservice.entity.attendance.AttendanceStatus;
+import com.hermes.attendanceservice.entity.leave.LeaveRequest;
+import com.hermes.attendanceservice.entity.workmonitor.WorkMonitor;
+import com.hermes.attendanceservice.repository.attendance.AttendanceRepository;
+import com.hermes.attendanceservice.repository.workmonitor.WorkMonitorRepository;
+import com.hermes.attendanceservice.service.workmonitor.WorkMonitorService;
+import com.hermes.benchmarks.fixture.JpaBenchmarkHarness;
+import com.hermes.benchmarks.fixture.Stubs;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 동시 출근 처리 시 근무 모니터링 갱신 지연 분포
+ * <p>
+ * {@link JpaBenchmarkHarness}로 출근 기록과 근무 모니터링 테이블을 인메모리 H2(PostgreSQL 모드)에 띄우고,
+ * 8개 스레드가 각자 다른 직원의 출근 상태를 바꾸는 출근 트랜잭션을 동시에 실행한다.
+ * path=full-reload는 기존 출근 처리의 refreshTodayWorkMonitor(오늘 출근 기록 전체와 휴가를 읽어 센 뒤 모니터 행을 덮어씀)를
+ * 출근 트랜잭션 안에서 실행하고, path=delta는 WorkMonitorService.applyAttendanceTransition으로 커밋 후 별도 트랜잭션의
+ * 단일 증분 갱신만 실행한다. 두 경로 모두 같은 날짜의 모니터 행 하나에 쓰기가 몰린다.
+ * 전체 직원 수는 현재처럼 캐시된 값을 쓴다고 보고 User Service 호출은 포함하지 않는다.
+ * PostgreSQL의 INSERT ... ON CONFLICT DO UPDATE는 H2에서 실행되지 않으므로, 증분 갱신은 행이 이미 있을 때와 같은
+ * 단일 UPDATE로 대신한다 (모니터 행은 반복마다 미리 만들어 둔다).
+ * SampleTime 모드 결과의 p0.99 값으로 두 경로의 꼬리 지연을 비교한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(WorkMonitorCheckInBenchmark.THREADS)
+public class WorkMonitorCheckInBenchmark {
+
+    static final int THREADS = 8;
+    private static final LocalDate DATE = LocalDate.of(2025, 3, 3);
+    private static final int TOTAL_EMPLOYEES = 20_000;
+
+    @Param({"full-reload", "delta"})
+    public String path;
+
+    /** 오늘 출근 기록 수 (스레드 수의 배수, 스레드마다 겹치지 않는 직원을 맡는다) */
+    @Param({"1000", "10000"})
+    public int employees;
+
+    /** 문장 실행/커밋 1회당 DB 왕복 지연 (μs) */
+    @Param({"200"})
+    public long dbRoundTripMicros;
+
+    private final AtomicInteger threadSequence = new AtomicInteger();
+
+    private JpaBenchmarkHarness harness;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private AttendanceRepository attendanceRepository;
+    private WorkMonitorRepository workMonitorRepository;
+    private WorkMonitorService workMonitorService;
+    private boolean fullReload;
+
+    @State(Scope.Thread)
+    public static class Employee {
+
+        private int offset;
+        private long cursor;
+
+        @Setup(Level.Trial)
+        public void setUp(WorkMonitorCheckInBenchmark benchmark) {
+            offset = benchmark.threadSequence.getAndIncrement();
+        }
+
+        private long nextAttendanceId(int employees) {
+            return (offset + THREADS * cursor++) % employees + 1;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        harness = JpaBenchmarkHarness.builder("work-monitor-check-in")
+                .dbRoundTripMicros(dbRoundTripMicros)
+                .urlOption("LOCK_TIMEOUT=10000")
+                .entities(Attendance.class, WorkMonitor.class, LeaveRequest.class)
+                .configurations(AttendanceRepositoryConfig.class)
+                .build();
+        jdbcTemplate = harness.jdbcTemplate();
+        transactionTemplate = new TransactionTemplate(harness.transactionManager());
+        attendanceRepository = harness.bean(AttendanceRepository.class);
+        workMonitorRepository = harness.bean(WorkMonitorRepository.class);
+
+        WorkMonitorRepository deltaRepository = Stubs.of(WorkMonitorRepository.class, Map.of(
+                "upsertDelta", args -> jdbcTemplate.update("UPDATE work_monitor SET " +
+                        "attendance_count = attendance_count + ?, late_count = late_count + ?, " +
+                        "updated_at = CURRENT_TIMESTAMP WHERE date = ?", args[1], args[2], args[0])));
+        workMonitorService = new WorkMonitorService(deltaRepository, attendanceRepository, null, null, null, null,
+                harness.transactionManager());
+        fullReload = "full-reload".equals(path);
+
+        jdbcTemplate.update("INSERT INTO leave_requests (employee_id, leave_type, start_date, end_date, total_days, " +
+                "status, requested_at) SELECT X, 'BASIC_ANNUAL', ?, ?, 1, 'APPROVED', CURRENT_TIMESTAMP " +
+                "FROM SYSTEM_RANGE(1, " + employees / 50 + ")", DATE, DATE);
+    }
+
+    /**
+     * 반복마다 출근 전 기록과 모니터 행을 새로 만든다. 출근 기록 id는 1 ~ employees다.
+     */
+    @Setup(Level.Iteration)
+    public void seedAttendance() {
+        jdbcTemplate.update("DELETE FROM attendance");
+        jdbcTemplate.update("DELETE FROM work_monitor");
+        jdbcTemplate.execute("ALTER TABLE attendance ALTER COLUMN id RESTART WITH 1");
+        jdbcTemplate.update("INSERT INTO attendance (user_id, date, attendance_status, work_status, is_auto_recorded) " +
+                "SELECT X, ?, 'NOT_CLOCKIN', 'OFFICE', FALSE FROM SYSTEM_RANGE(1, " + employees + ")", DATE);
+        jdbcTemplate.update("INSERT INTO work_monitor (date, total_employees, attendance_count, late_count, vacation_count, " +
+                "created_at, updated_at) VALUES (?, ?, 0, 0, 0, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)", DATE, TOTAL_EMPLOYEES);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        harness.close();
+    }
+
+    /**
+     * 출근 처리: 출근 기록의 상태를 바꾸고 근무 모니터링을 갱신한다 (이미 출근한 직원은 정상/지각을 번갈아 바꿔 항상 전이가 생긴다)
+     */
+    @Benchmark
+    public void checkIn(Employee employee) {
+        long attendanceId = employee.nextAttendanceId(employees);
+        transactionTemplate.executeWithoutResult(status -> {
+            Attendance attendance = attendanceRepository.findById(attendanceId).orElseThrow();
+            AttendanceStatus before = WorkMonitorService.countedStatus(attendance);
+            attendance.setCheckIn(Instant.now());
+            attendance.setAttendanceStatus(before == AttendanceStatus.REGULAR ? AttendanceStatus.LATE : AttendanceStatus.REGULAR);
+            attendanceRepository.save(attendance);
+
+            if (fullReload) {
+                reloadTodayWorkMonitor();
+            } else {
+                workMonitorService.applyAttendanceTransition(DATE, before, WorkMonitorService.countedStatus(attendance));
+            }
+        });
+    }
+
+    /**
+     * 기존 refreshTodayWorkMonitor: 오늘 출근 기록을 모두 읽어 상태별로 세고, 승인된 휴가 수를 조회한 뒤
+     * 모니터 행을 읽어 집계 값으로 덮어쓴다
+     */
+    private void reloadTodayWorkMonitor() {
+        int attendanceCount = 0;
+        int lateCount = 0;
+        for (Attendance attendance : attendanceRepository.findByDate(DATE)) {
+            if (attendance.getCheckIn() == null) {
+                continue;
+            }
+            if (attendance.getAttendanceStatus() == AttendanceStatus.REGULAR) {
+                attendanceCount++;
+            } else if (attendance.getAttendanceStatus() == AttendanceStatus.LATE) {
+                lateCount++;
+            }
+        }
+        Long vacationCount = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM leave_requests " +
+                "WHERE status = 'APPROVED' AND ? BETWEEN start_date AND end_date", Long.class, DATE);
+
+        WorkMonitor workMonitor = workMonitorRepository.findByDate(DATE).orElseThrow();
+        workMonitor.setAttendanceCount(attendanceCount);
+        workMonitor.setLateCount(lateCount);
+        workMonitor.setVacationCount(vacationCount != null ? vacationCount.intValue() : 0);
+        workMonitorRepository.save(workMonitor);
+    }
+
+    @Configuration
+    @EnableJpaRepositories(basePackageClasses = {AttendanceRepository.class, WorkMonitorRepository.class})
+    static class AttendanceRepositoryConfig {
+    }
+}
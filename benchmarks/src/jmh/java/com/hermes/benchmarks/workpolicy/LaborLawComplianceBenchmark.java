@@ -0,0 +1,46 @@
+package com.hermes.benchmarks.workpolicy;
+
+import com.hermes.attendanceservice.dto.workpolicy.WorkPolicyRequestDto;
+import com.hermes.attendanceservice.service.workpolicy.WorkPolicyServiceImpl;
+import com.hermes.benchmarks.fixture.SyntheticData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 근무 정책 노동법 준수 검증 성능 (요청 1건당 평균)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class LaborLawComplianceBenchmark {
+
+    private static final int REQUEST_COUNT = 1024;
+
+    private WorkPolicyServiceImpl workPolicyService;
+    private List<WorkPolicyRequestDto> requests;
+
+    @Setup
+    public void setUp() {
+        // checkLaborLawCompliance는 협력 객체를 사용하지 않는다
+        workPolicyService = new WorkPolicyServiceImpl(null, null, null);
+        requests = SyntheticData.workPolicyRequests(REQUEST_COUNT);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(REQUEST_COUNT)
+    public void checkLaborLawCompliance(Blackhole blackhole) {
+        for (WorkPolicyRequestDto request : requests) {
+            blackhole.consume(workPolicyService.checkLaborLawCompliance(request));
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package com.hermes.benchmarks.workschedule;
+
+import com.hermes.attendanceservice.client.UserServiceClient;
+import com.hermes.attendanceservice.dto.workpolicy.WorkPolicyResponseDto;
+import com.hermes.attendanceservice.dto.workschedule.WorkTimeInfoDto;
+import com.hermes.attendanceservice.entity.workpolicy.StartDayOfWeek;
+import com.hermes.attendanceservice.entity.workpolicy.UserWorkPolicyAssignment;
+import com.hermes.attendanceservice.entity.workpolicy.WorkType;
+import com.hermes.attendanceservice.repository.workpolicy.UserWorkPolicyAssignmentRepository;
+import com.hermes.attendanceservice.repository.workschedule.ScheduleRepository;
+import com.hermes.attendanceservice.service.workpolicy.UserWorkPolicyProjectionService;
+import com.hermes.attendanceservice.service.workpolicy.WorkPolicyService;
+import com.hermes.attendanceservice.service.workschedule.WorkScheduleService;
+import com.hermes.benchmarks.fixture.Stubs;
+import com.hermes.benchmarks.fixture.SyntheticData;
+import com.hermes.cache.TenantCacheManager;
+import com.hermes.cache.config.CacheProperties;
+import com.hermes.cache.tenant.SecurityContextTenantKeyResolver;
+import com.hermes.events.cache.CacheNames;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 출근 처리 시 근무 시간 결정(getUserWorkTime) 지연 분포
+ * <p>
+ * 출근이 몰리는 시간대에는 사용자마다 첫 조회이므로 캐시 미스 경로를 측정한다.
+ * source=user-service는 로컬 프로젝션이 비어 있어 매번 User Service(스텁)를 호출하고,
+ * source=projection은 로컬 프로젝션과 근무 정책 조회만 사용한다.
+ * SampleTime 모드 결과의 p0.99 값으로 두 경로의 꼬리 지연을 비교한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(8)
+public class CheckInWorkTimeBenchmark {
+
+    private static final Long WORK_POLICY_ID = 1L;
+
+    @Param({"user-service", "projection"})
+    public String source;
+
+    /** User Service 호출 1회 기준 지연 (μs) */
+    @Param({"8000"})
+    public long remoteLatencyMicros;
+
+    /** 로컬 인덱스 조회 1회 기준 지연 (μs) */
+    @Param({"300"})
+    public long localReadMicros;
+
+    private WorkScheduleService workScheduleService;
+    private TenantCacheManager tenantCacheManager;
+    private LocalDate date;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        boolean projected = "projection".equals(source);
+        long remote = remoteLatencyMicros;
+        long local = localReadMicros;
+
+        UserServiceClient userServiceClient = Stubs.of(UserServiceClient.class, Map.of(
+                "getUserWorkPolicyRaw", args -> {
+                    Stubs.delay(remote);
+                    return Map.of("data", Map.of("id", args[0], "workPolicyId", WORK_POLICY_ID));
+                }));
+
+        ScheduleRepository scheduleRepository = Stubs.of(ScheduleRepository.class, Map.of(
+                "findByUserIdAndDateAndScheduleType", args -> {
+                    Stubs.delay(local);
+                    return List.of();
+                }));
+
+        WorkPolicyResponseDto workPolicy = workPolicyResponse();
+        WorkPolicyService workPolicyService = Stubs.of(WorkPolicyService.class, Map.of(
+                "getWorkPolicyById", args -> {
+                    Stubs.delay(local);
+                    return workPolicy;
+                }));
+
+        UserWorkPolicyAssignmentRepository assignmentRepository = Stubs.of(UserWorkPolicyAssignmentRepository.class, Map.of(
+                "findById", args -> {
+                    Stubs.delay(local);
+                    UserWorkPolicyAssignment.AssignmentId id = (UserWorkPolicyAssignment.AssignmentId) args[0];
+                    return projected
+                            ? Optional.of(UserWorkPolicyAssignment.builder()
+                                    .tenantId(id.getTenantId())
+                                    .userId(id.getUserId())
+                                    .workPolicyId(WORK_POLICY_ID)
+                                    .build())
+                            : Optional.empty();
+                },
+                // user-service 경로는 보충 결과를 버려 매번 원격 조회가 일어나도록 유지
+                "insertIfAbsent", args -> 0));
+
+        SecurityContextTenantKeyResolver tenantKeyResolver = new SecurityContextTenantKeyResolver();
+        tenantCacheManager = new TenantCacheManager(new CacheProperties(), tenantKeyResolver);
+        workScheduleService = new WorkScheduleService(
+                userServiceClient,
+                scheduleRepository,
+                null,
+                workPolicyService,
+                tenantCacheManager,
+                new UserWorkPolicyProjectionService(assignmentRepository, null, tenantKeyResolver));
+        date = SyntheticData.BASE_DATE.plusDays(1);
+    }
+
+    @Setup(Level.Iteration)
+    public void clearCache() {
+        tenantCacheManager.getCache(CacheNames.USER_WORK_POLICY).clear();
+    }
+
+    @Benchmark
+    public WorkTimeInfoDto getUserWorkTime(UserCursor cursor) {
+        return workScheduleService.getUserWorkTime(cursor.next(), date);
+    }
+
+    /**
+     * 스레드별로 겹치지 않는 사용자 ID를 발급해 매 호출이 캐시 미스가 되도록 함
+     */
+    @State(Scope.Thread)
+    public static class UserCursor {
+
+        private static final AtomicLong OFFSET = new AtomicLong();
+
+        private long nextUserId;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            nextUserId = OFFSET.getAndAdd(1_000_000_000L);
+        }
+
+        Long next() {
+            return nextUserId++;
+        }
+    }
+
+    private static WorkPolicyResponseDto workPolicyResponse() {
+        return WorkPolicyResponseDto.builder()
+                .id(WORK_POLICY_ID)
+                .name("고정 근무")
+                .type(WorkType.FIXED)
+                .workDays(List.of(StartDayOfWeek.MONDAY, StartDayOfWeek.TUESDAY, StartDayOfWeek.WEDNESDAY,
+                        StartDayOfWeek.THURSDAY, StartDayOfWeek.FRIDAY))
+                .holidayDays(List.of(StartDayOfWeek.SATURDAY, StartDayOfWeek.SUNDAY))
+                .startTime(LocalTime.of(9, 0))
+                .endTime(LocalTime.of(18, 0))
+                .workHours(8)
+                .workMinutes(0)
+                .breakStartTime(LocalTime.of(12, 0))
+                .breakEndTime(LocalTime.of(13, 0))
+                .breakMinutes(60)
+                .build();
+    }
+}
@@ -0,0 +1,60 @@
+package com.hermes.benchmarks.workschedule;
+
+import com.hermes.attendanceservice.dto.workschedule.WorkPolicyDto;
+import com.hermes.attendanceservice.entity.workschedule.Schedule;
+import com.hermes.attendanceservice.service.workschedule.CompiledWorkPolicy;
+import com.hermes.benchmarks.fixture.SyntheticData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 근무 유형별 스케줄 전개 성능 (1개월/1년 구간)
+ * <p>
+ * compileAndExpand는 조회마다 정책을 컴파일하는 경로, expand는 캐시된 규칙을 재사용하는 경로를 측정한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ScheduleExpansionBenchmark {
+
+    private static final Long USER_ID = 1001L;
+
+    @Param({"FIXED", "FLEXIBLE", "OPTIONAL", "SHIFT"})
+    public String workType;
+
+    @Param({"MONTH", "YEAR"})
+    public String range;
+
+    private WorkPolicyDto policy;
+    private CompiledWorkPolicy compiled;
+    private LocalDate startDate;
+    private LocalDate endDate;
+
+    @Setup
+    public void setUp() {
+        policy = SyntheticData.workPolicy(workType);
+        compiled = CompiledWorkPolicy.compile(policy.getId(), policy);
+        startDate = SyntheticData.BASE_DATE;
+        endDate = "YEAR".equals(range) ? startDate.plusYears(1).minusDays(1) : startDate.plusMonths(1).minusDays(1);
+    }
+
+    @Benchmark
+    public List<Schedule> compileAndExpand() {
+        return CompiledWorkPolicy.compile(policy.getId(), policy).expand(USER_ID, startDate, endDate);
+    }
+
+    @Benchmark
+    public List<Schedule> expand() {
+        return compiled.expand(USER_ID, startDate, endDate);
+    }
+}
@@ -9,7 +9,8 @@ import com.hermes.communicationservice.announcement.entity.Announcement;
 import com.hermes.communicationservice.announcement.repository.AnnouncementRepository;
 import com.hermes.communicationservice.client.UserServiceClient;
 import com.hermes.communicationservice.notification.service.NotificationService;
-import com.hermes.notification.dto.NotificationRequest;
+import com.hermes.notification.dto.AudienceNotificationRequest;
+import com.hermes.notification.enums.AudienceType;
 import com.hermes.notification.enums.NotificationType;
 import com.hermes.notification.publisher.NotificationPublisher;
 import java.time.LocalDateTime;
@@ -52,7 +53,8 @@ public class AnnouncementService {
       if (authorization != null && !authorization.isEmpty()) {
         List<Long> userIds = userServiceClient.getAllUserIds(authorization).getData();
         if (userIds != null && !userIds.isEmpty()) {
-          NotificationRequest notificationRequest = NotificationRequest.builder()
+          AudienceNotificationRequest notificationRequest = AudienceNotificationRequest.builder()
+              .audienceType(AudienceType.ALL)
               .userIds(userIds)
               .type(NotificationType.ANNOUNCEMENT)
               .content("[공지사항] " + saved.getTitle())
@@ -60,7 +62,7 @@ public class AnnouncementService {
               .createdAt(LocalDateTime.now())
               .build();
 
-          notificationPublisher.publish(notificationRequest);
+          notificationPublisher.publishToAudience(notificationRequest);
           log.info("공지사항 생성 알림 발송 완료 - 공지 ID: {}, 대상자 수: {}", saved.getId(), userIds.size());
         }
       } else {
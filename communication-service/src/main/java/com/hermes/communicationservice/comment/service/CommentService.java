@@ -10,6 +10,8 @@ import com.hermes.communicationservice.comment.repository.CommentRepository;
 import com.hermes.communicationservice.announcement.entity.Announcement;
 import com.hermes.communicationservice.announcement.repository.AnnouncementRepository;
 import com.hermes.api.common.ApiResult;
+import com.hermes.cache.TenantCacheManager;
+import com.hermes.events.cache.CacheNames;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -30,6 +32,7 @@ public class CommentService {
   private final AnnouncementRepository announcementRepository;
   private final UserServiceClient userServiceClient;
   private final CommentMapper commentMapper;
+  private final TenantCacheManager tenantCacheManager;
 
   // 댓글 생성
   @Transactional
@@ -87,16 +90,18 @@ public class CommentService {
         .orElseThrow(() -> new IllegalArgumentException("공지사항을 찾을 수 없습니다: " + announcementId));
   }
 
+  // 작성자 정보는 댓글마다 반복 조회되므로 캐시 사용 (user-service에서 프로필 변경 시 무효화)
   private UserBasicInfo fetchUserBasicInfo(Long userId, String authorization) {
+    if (authorization == null || authorization.isEmpty()) {
+      log.warn("Authorization 헤더가 비어있어 기본 사용자 정보를 반환합니다. - userId={}", userId);
+      return createDefaultUserBasicInfo(userId);
+    }
+
     try {
-      if (authorization == null || authorization.isEmpty()) {
-        log.warn("Authorization 헤더가 비어있어 기본 사용자 정보를 반환합니다. - userId={}", userId);
-        return createDefaultUserBasicInfo(userId);
-      }
-      
-      ApiResult<MainProfileResponseDto> response = userServiceClient.getMainProfile(userId, authorization);
-      if (response != null && response.getData() != null && response.getData().getId() != null) {
-        return commentMapper.toUserBasicInfo(response.getData());
+      UserBasicInfo userInfo = tenantCacheManager.<Long, UserBasicInfo>getCache(CacheNames.USER_PROFILE)
+          .get(userId, () -> loadUserBasicInfo(userId, authorization));
+      if (userInfo != null) {
+        return userInfo;
       }
     } catch (Exception e) {
       log.warn("사용자 정보 조회 실패 - userId={}, reason={}", userId, e.getMessage());
@@ -104,6 +109,14 @@ public class CommentService {
 
     return createDefaultUserBasicInfo(userId);
   }
+
+  private UserBasicInfo loadUserBasicInfo(Long userId, String authorization) {
+    ApiResult<MainProfileResponseDto> response = userServiceClient.getMainProfile(userId, authorization);
+    if (response != null && response.getData() != null && response.getData().getId() != null) {
+      return commentMapper.toUserBasicInfo(response.getData());
+    }
+    return null;
+  }
   
   private UserBasicInfo createDefaultUserBasicInfo(Long userId) {
     return UserBasicInfo.builder()
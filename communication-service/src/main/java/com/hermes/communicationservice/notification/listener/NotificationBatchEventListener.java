@@ -0,0 +1,103 @@
+package com.hermes.communicationservice.notification.listener;
+
+import com.hermes.communicationservice.notification.dto.CreateNotificationRequestDto;
+import com.hermes.communicationservice.notification.service.NotificationService;
+import com.hermes.communicationservice.websocket.service.WebSocketNotificationService;
+import com.hermes.notification.enums.NotificationType;
+import com.hermes.notification.event.NotificationEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * notification.create 큐를 묶음 단위로 소비하는 Listener
+ * hermes.notification.batch.enabled=true 일 때 단건 Listener 대신 동작
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "hermes.notification.batch.enabled", havingValue = "true")
+public class NotificationBatchEventListener {
+
+    private final NotificationService notificationService;
+    private final WebSocketNotificationService webSocketNotificationService;
+
+    // 이미 브로드캐스트된 공지사항 ID를 추적하기 위한 Set (묶음 간 중복 방지)
+    private final Set<Long> broadcastedAnnouncements = ConcurrentHashMap.newKeySet();
+
+    @RabbitListener(queues = "notification.create", containerFactory = "notificationBatchListenerContainerFactory")
+    public void handleNotificationEvents(List<NotificationEvent> events) {
+        log.info("알림 이벤트 묶음 수신: {}건", events.size());
+
+        List<Long> notificationIds;
+        try {
+            // 1. 묶음 전체를 하나의 트랜잭션에서 JDBC batch로 저장
+            notificationIds = notificationService.createNotifications(events);
+        } catch (Exception e) {
+            // 묶음 저장 실패 시 전체가 롤백되므로 건별 저장으로 전환하여 문제 메시지만 제외
+            log.error("알림 묶음 저장 실패, 건별 저장으로 전환: {}건, error={}", events.size(), e.getMessage(), e);
+            notificationIds = createNotificationsIndividually(events);
+        }
+        log.info("알림 묶음 DB 저장 완료: {}건", events.size());
+
+        // 2. 사용자별로 묶어서 실시간 WebSocket 알림 전송
+        sendRealtimeNotifications(events, notificationIds);
+    }
+
+    private List<Long> createNotificationsIndividually(List<NotificationEvent> events) {
+        List<Long> notificationIds = new ArrayList<>(events.size());
+        for (NotificationEvent event : events) {
+            try {
+                notificationIds.add(notificationService.createNotification(new CreateNotificationRequestDto(
+                        event.getUserId(),
+                        event.getType(),
+                        event.getContent(),
+                        event.getReferenceId(),
+                        event.getCreatedAt())).getId());
+            } catch (Exception e) {
+                log.error("알림 처리 실패: userId={}, type={}, error={}",
+                        event.getUserId(), event.getType(), e.getMessage(), e);
+                notificationIds.add(null);
+            }
+        }
+        return notificationIds;
+    }
+
+    /**
+     * 공지사항은 referenceId별로 한 번만 브로드캐스트하고,
+     * 개인 알림은 사용자별로 모아 같은 (type, referenceId) 중복을 최신 알림 하나로 합쳐 전송합니다.
+     */
+    private void sendRealtimeNotifications(List<NotificationEvent> events, List<Long> notificationIds) {
+        Map<Long, Map<String, Integer>> latestByUser = new LinkedHashMap<>();
+
+        for (int i = 0; i < events.size(); i++) {
+            NotificationEvent event = events.get(i);
+            if (notificationIds.get(i) == null) {
+                continue;
+            }
+
+            if (event.getType() == NotificationType.ANNOUNCEMENT) {
+                if (broadcastedAnnouncements.add(event.getReferenceId())) {
+                    webSocketNotificationService.sendBroadcastNotification(event, notificationIds.get(i));
+                }
+                continue;
+            }
+
+            String key = event.getType() + ":" + Objects.toString(event.getReferenceId());
+            latestByUser.computeIfAbsent(event.getUserId(), userId -> new LinkedHashMap<>()).put(key, i);
+        }
+
+        latestByUser.values().forEach(latest -> latest.values().forEach(index ->
+                webSocketNotificationService.sendNotificationToUser(events.get(index), notificationIds.get(index))));
+    }
+}
@@ -4,6 +4,8 @@ import com.hermes.communicationservice.notification.dto.CreateNotificationReques
 import com.hermes.communicationservice.notification.dto.NotificationResponseDto;
 import com.hermes.communicationservice.notification.service.NotificationService;
 import com.hermes.communicationservice.websocket.service.WebSocketNotificationService;
+import com.hermes.notification.enums.AudienceType;
+import com.hermes.notification.event.AudienceNotificationEvent;
 import com.hermes.notification.event.NotificationEvent;
 import com.hermes.notification.enums.NotificationType;
 import lombok.RequiredArgsConstructor;
@@ -11,6 +13,9 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -25,7 +30,9 @@ public class NotificationEventListener {
     // 이미 브로드캐스트된 공지사항 ID를 추적하기 위한 Set (중복 방지)
     private final Set<Long> broadcastedAnnouncements = ConcurrentHashMap.newKeySet();
 
-    @RabbitListener(queues = "notification.create")
+    // batch 모드에서는 NotificationBatchEventListener가 같은 큐를 소비
+    @RabbitListener(queues = "notification.create",
+            autoStartup = "#{!${hermes.notification.batch.enabled:false}}")
     public void handleNotificationEvent(NotificationEvent event) {
         log.info("알림 이벤트 수신: userId={}, type={}, content={}", 
                 event.getUserId(), event.getType(), event.getContent());
@@ -54,6 +61,66 @@ public class NotificationEventListener {
         }
     }
 
+    @RabbitListener(queues = "${hermes.notification.audience-queue:notification.audience}")
+    public void handleAudienceNotificationEvent(AudienceNotificationEvent event) {
+        List<Long> userIds = event.getUserIds();
+        if (userIds == null || userIds.isEmpty()) {
+            log.warn("수신자가 없는 대상자 알림 이벤트 무시: audienceType={}, type={}, referenceId={}",
+                    event.getAudienceType(), event.getType(), event.getReferenceId());
+            return;
+        }
+
+        log.info("대상자 알림 이벤트 수신: audienceType={}, 대상자 수={}, type={}, content={}",
+                event.getAudienceType(), userIds.size(), event.getType(), event.getContent());
+
+        try {
+            // 1. 수신자별 알림을 JDBC batch로 일괄 저장
+            List<Long> notificationIds = notificationService.createNotifications(event);
+            log.info("대상자 알림 DB 저장 완료: audienceType={}, 저장 {}건, type={}",
+                    event.getAudienceType(), notificationIds.size(), event.getType());
+
+            // 2. 실시간 WebSocket 알림 전송
+            sendRealtimeAudienceNotification(event, notificationIds);
+
+            if (event.getPublishedAt() != null) {
+                log.info("대상자 알림 발행→전달 소요 시간: {}ms, audienceType={}, 대상자 수={}",
+                        Duration.between(event.getPublishedAt(), Instant.now()).toMillis(),
+                        event.getAudienceType(), userIds.size());
+            }
+
+        } catch (Exception e) {
+            log.error("대상자 알림 처리 실패: audienceType={}, 대상자 수={}, type={}, error={}",
+                    event.getAudienceType(), userIds.size(), event.getType(), e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 전사원 대상은 한 번의 브로드캐스트로, 그 외 대상은 수신자별로 실시간 알림을 전송합니다.
+     */
+    private void sendRealtimeAudienceNotification(AudienceNotificationEvent event, List<Long> notificationIds) {
+        if (event.getAudienceType() == AudienceType.ALL) {
+            // 수신자마다 알림 ID가 다르므로 브로드캐스트에는 알림 ID를 싣지 않음
+            webSocketNotificationService.sendBroadcastNotification(toNotificationEvent(event, null), null);
+            return;
+        }
+
+        List<Long> userIds = event.getUserIds();
+        for (int i = 0; i < userIds.size(); i++) {
+            webSocketNotificationService.sendNotificationToUser(
+                    toNotificationEvent(event, userIds.get(i)), notificationIds.get(i));
+        }
+    }
+
+    private NotificationEvent toNotificationEvent(AudienceNotificationEvent event, Long userId) {
+        return NotificationEvent.builder()
+                .userId(userId)
+                .type(event.getType())
+                .content(event.getContent())
+                .referenceId(event.getReferenceId())
+                .createdAt(event.getCreatedAt())
+                .build();
+    }
+
     /**
      * 알림 타입에 따라 적절한 실시간 알림을 전송합니다.
      */
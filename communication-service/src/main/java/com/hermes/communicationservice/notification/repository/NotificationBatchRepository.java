@@ -0,0 +1,104 @@
+package com.hermes.communicationservice.notification.repository;
+
+import com.hermes.jpa.batch.SequenceIdAllocator;
+import com.hermes.notification.enums.NotificationType;
+import com.hermes.notification.event.NotificationEvent;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 다수 알림을 JDBC batch insert로 저장하는 Repository
+ * ID는 notifications_id_seq에서 블록 단위로 미리 할당해 직접 넣으므로 생성 키를 돌려받지 않으며,
+ * 드라이버가 배치를 다중 VALUES INSERT로 재작성할 수 있다
+ */
+@Repository
+@RequiredArgsConstructor
+public class NotificationBatchRepository {
+
+  private static final String INSERT_SQL =
+      "INSERT INTO notifications (id, user_id, type, content, reference_id, is_read, created_at) "
+          + "VALUES (?, ?, ?, ?, ?, false, ?)";
+
+  private static final String ID_SEQUENCE = "notifications_id_seq";
+
+  private static final int BATCH_SIZE = 1000;
+
+  private final JdbcTemplate jdbcTemplate;
+
+  /**
+   * 동일한 알림을 수신자별로 일괄 저장하고, 입력 순서대로 생성된 알림 ID 목록을 반환합니다.
+   */
+  public List<Long> insertAll(List<Long> userIds, NotificationType type, String content,
+      Long referenceId, LocalDateTime createdAt) {
+    Timestamp createdAtTimestamp = toTimestamp(createdAt);
+    return insert(userIds.size(), (ps, i) -> {
+      ps.setLong(2, userIds.get(i));
+      ps.setString(3, type.name());
+      ps.setString(4, content);
+      ps.setLong(5, referenceId);
+      ps.setTimestamp(6, createdAtTimestamp);
+    });
+  }
+
+  /**
+   * 개별 알림 이벤트 목록을 일괄 저장하고, 입력 순서대로 생성된 알림 ID 목록을 반환합니다.
+   */
+  public List<Long> insertAll(List<NotificationEvent> events) {
+    return insert(events.size(), (ps, i) -> {
+      NotificationEvent event = events.get(i);
+      ps.setLong(2, event.getUserId());
+      ps.setString(3, event.getType().name());
+      ps.setString(4, event.getContent());
+      ps.setLong(5, event.getReferenceId());
+      ps.setTimestamp(6, toTimestamp(event.getCreatedAt()));
+    });
+  }
+
+  private List<Long> insert(int size, RowSetter rowSetter) {
+    List<Long> notificationIds = new ArrayList<>(size);
+
+    for (int from = 0; from < size; from += BATCH_SIZE) {
+      int offset = from;
+      int chunkSize = Math.min(BATCH_SIZE, size - from);
+      long[] ids = SequenceIdAllocator.allocate(jdbcTemplate, ID_SEQUENCE, chunkSize);
+
+      jdbcTemplate.batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
+        @Override
+        public void setValues(PreparedStatement ps, int i) throws SQLException {
+          ps.setLong(1, ids[i]);
+          rowSetter.setValues(ps, offset + i);
+        }
+
+        @Override
+        public int getBatchSize() {
+          return chunkSize;
+        }
+      });
+
+      for (long id : ids) {
+        notificationIds.add(id);
+      }
+    }
+
+    return notificationIds;
+  }
+
+  private static Timestamp toTimestamp(LocalDateTime dateTime) {
+    return dateTime != null ? Timestamp.valueOf(dateTime) : null;
+  }
+
+  @FunctionalInterface
+  private interface RowSetter {
+
+    void setValues(PreparedStatement ps, int index) throws SQLException;
+  }
+
+}
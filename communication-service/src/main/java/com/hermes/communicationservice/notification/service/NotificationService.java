@@ -5,8 +5,11 @@ import com.hermes.communicationservice.notification.dto.NotificationResponseDto;
 import com.hermes.communicationservice.notification.entity.Notification;
 import com.hermes.communicationservice.notification.exception.NotificationAccessDeniedException;
 import com.hermes.communicationservice.notification.exception.NotificationNotFoundException;
+import com.hermes.communicationservice.notification.repository.NotificationBatchRepository;
 import com.hermes.communicationservice.notification.repository.NotificationRepository;
 import com.hermes.notification.enums.NotificationType;
+import com.hermes.notification.event.AudienceNotificationEvent;
+import com.hermes.notification.event.NotificationEvent;
 import java.util.List;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
@@ -23,6 +26,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class NotificationService {
 
   private final NotificationRepository notificationRepository;
+  private final NotificationBatchRepository notificationBatchRepository;
 
   @Transactional
   public NotificationResponseDto createNotification(CreateNotificationRequestDto requestDto) {
@@ -31,6 +35,31 @@ public class NotificationService {
     return NotificationResponseDto.fromEntity(savedNotification);
   }
 
+  /**
+   * 대상자 그룹 알림을 수신자별로 일괄 저장합니다.
+   *
+   * @return 수신자 순서와 동일한 알림 ID 목록
+   */
+  @Transactional
+  public List<Long> createNotifications(AudienceNotificationEvent event) {
+    return notificationBatchRepository.insertAll(
+        event.getUserIds(),
+        event.getType(),
+        event.getContent(),
+        event.getReferenceId(),
+        event.getCreatedAt());
+  }
+
+  /**
+   * 개별 알림 이벤트 묶음을 하나의 트랜잭션에서 일괄 저장합니다.
+   *
+   * @return 이벤트 순서와 동일한 알림 ID 목록
+   */
+  @Transactional
+  public List<Long> createNotifications(List<NotificationEvent> events) {
+    return notificationBatchRepository.insertAll(events);
+  }
+
   @Transactional(readOnly = true)
   public List<NotificationResponseDto> getNotifications(Long userId, Long lastId, int size) {
     Pageable pageable = PageRequest.of(0, size);
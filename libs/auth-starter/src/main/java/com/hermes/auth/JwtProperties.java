@@ -17,4 +17,7 @@ public class JwtProperties {
 
     // 리프레시 토큰 만료 시간 (초)
     private long refreshTokenTTL;
+
+    // 서비스 간 호출용(ServiceTokenContext 범위로 요청한 스케줄러/백그라운드 작업) 서비스 토큰 만료 시간 (초)
+    private long serviceTokenTTL = 300;
 }
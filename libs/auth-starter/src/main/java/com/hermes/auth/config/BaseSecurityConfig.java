@@ -4,6 +4,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.hermes.api.common.ApiResult;
 import com.hermes.auth.JwtProperties;
 import com.hermes.auth.jwt.JwtAuthenticationConverter;
+import com.hermes.auth.principal.UserPrincipal;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
 import lombok.extern.slf4j.Slf4j;
@@ -17,13 +18,20 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AuthorizeHttpRequestsConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
 import org.springframework.security.web.AuthenticationEntryPoint;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.access.AccessDeniedHandler;
+import org.springframework.security.web.servlet.util.matcher.PathPatternRequestMatcher;
+import org.springframework.security.web.util.matcher.OrRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 
 import javax.crypto.SecretKey;
+import java.util.Arrays;
+import java.util.List;
 
 /**
  * Spring Security 기본 설정을 제공하는 추상 클래스
@@ -52,6 +60,11 @@ public abstract class BaseSecurityConfig {
                 auth.requestMatchers("/actuator/health", "/actuator/info").permitAll();
                 auth.requestMatchers("/swagger-ui/**", "/v3/api-docs/**").permitAll();
                 
+                // 서비스 토큰은 serviceEndpoints()에 명시한 경로 외에는 거부
+                RequestMatcher serviceEndpoints = serviceEndpointMatcher();
+                RequestMatcher serviceTokenOutsideEndpoints = request -> isServiceToken() && !serviceEndpoints.matches(request);
+                auth.requestMatchers(serviceTokenOutsideEndpoints).denyAll();
+                
                 // 서비스별 커스텀 경로 (추상 메서드)
                 configureAuthorization(auth);
                 
@@ -80,6 +93,28 @@ public abstract class BaseSecurityConfig {
         AuthorizeHttpRequestsConfigurer<HttpSecurity>.AuthorizationManagerRequestMatcherRegistry auth
     );
 
+    /**
+     * 서비스 토큰(SERVICE 권한)으로 호출할 수 있는 경로 (기본: 없음)
+     * 여기에 없는 경로는 서비스 토큰으로 호출하면 거부된다. 경로별 권한은 configureAuthorization에서 SERVICE 권한을 명시해 허용한다.
+     */
+    protected String[] serviceEndpoints() {
+        return new String[0];
+    }
+
+    private RequestMatcher serviceEndpointMatcher() {
+        List<RequestMatcher> matchers = Arrays.stream(serviceEndpoints())
+                .<RequestMatcher>map(pattern -> PathPatternRequestMatcher.withDefaults().matcher(pattern))
+                .toList();
+        return matchers.isEmpty() ? request -> false : new OrRequestMatcher(matchers);
+    }
+
+    private static boolean isServiceToken() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null
+                && authentication.getPrincipal() instanceof UserPrincipal principal
+                && principal.isService();
+    }
+
     @Bean
     public JwtDecoder jwtDecoder() {
         String secret = jwtProperties.getSecret();
@@ -1,6 +1,9 @@
 package com.hermes.auth.config;
 
+import com.hermes.auth.jwt.ServiceTokenContext;
+import com.hermes.auth.jwt.ServiceTokenProvider;
 import feign.RequestInterceptor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.context.request.RequestContextHolder;
@@ -8,12 +11,26 @@ import org.springframework.web.context.request.ServletRequestAttributes;
 
 import jakarta.servlet.http.HttpServletRequest;
 
+/**
+ * Feign 호출 인증 헤더 설정
+ * {@link ServiceTokenContext} 범위 안의 호출은 범위에 지정한 테넌트의 서비스 토큰을 사용하고,
+ * 그 외에는 사용자 요청의 Authorization 헤더만 그대로 전달한다.
+ * 요청 컨텍스트가 없는 스레드(스케줄러, 메시지 리스너 등)에서 범위 없이 호출하면 인증 헤더를 붙이지 않는다.
+ */
+@Slf4j
 @Configuration
 public class FeignConfig {
 
     @Bean
-    public RequestInterceptor requestInterceptor() {
+    public RequestInterceptor requestInterceptor(ServiceTokenProvider serviceTokenProvider) {
         return requestTemplate -> {
+            String serviceTenantId = ServiceTokenContext.getTenantId();
+            if (serviceTenantId != null) {
+                requestTemplate.header("Authorization", "Bearer " + serviceTokenProvider.getToken(serviceTenantId));
+                log.debug("Feign 호출에 서비스 토큰 사용: tenantId={}, url={}", serviceTenantId, requestTemplate.url());
+                return;
+            }
+
             ServletRequestAttributes attributes = (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
             if (attributes != null) {
                 HttpServletRequest request = attributes.getRequest();
@@ -24,4 +41,4 @@ public class FeignConfig {
             }
         };
     }
-}
\ No newline at end of file
+}
@@ -19,7 +19,13 @@ public enum Role {
      * 관리자 권한
      * 대부분의 관리 기능에 대한 접근 권한을 가집니다.
      */
-    ADMIN("관리자");
+    ADMIN("관리자"),
+
+    /**
+     * 서비스 간 호출 권한
+     * 서비스 토큰 전용으로, 사용자 권한 계층에 속하지 않으며 수신 서비스가 명시적으로 허용한 경로만 호출할 수 있습니다.
+     */
+    SERVICE("서비스");
 
     /**
      * -- GETTER --
@@ -45,6 +51,11 @@ public enum Role {
             return false;
         }
         
+        // 서비스 권한은 계층에 속하지 않으므로 정확히 일치할 때만 만족
+        if (this == SERVICE || requiredRole == SERVICE) {
+            return this == requiredRole;
+        }
+        
         // ordinal() 기반 계층 구조: 높은 ordinal 값이 낮은 ordinal 값의 권한을 포함
         return this.ordinal() >= requiredRole.ordinal();
     }
@@ -52,12 +63,12 @@ public enum Role {
     
     /**
      * 관리자 권한 이상인지 확인합니다.
-     * ADMIN 이상의 모든 권한(향후 SUPERADMIN 포함)에 대해 true를 반환합니다.
+     * ADMIN 이상의 모든 권한(향후 SUPERADMIN 포함)에 대해 true를 반환합니다. SERVICE는 포함하지 않습니다.
      * 
      * @return 관리자 권한 이상인 경우 true
      */
     public boolean isAdmin() {
-        return this.ordinal() >= ADMIN.ordinal();
+        return this != SERVICE && this.ordinal() >= ADMIN.ordinal();
     }
     
     /**
@@ -69,6 +80,15 @@ public enum Role {
         return this == USER;
     }
     
+    /**
+     * 서비스 토큰 권한인지 확인합니다.
+     * 
+     * @return SERVICE 권한인 경우 true
+     */
+    public boolean isService() {
+        return this == SERVICE;
+    }
+    
     /**
      * 문자열로부터 Role을 생성합니다.
      * 
@@ -43,6 +43,11 @@ public class JwtAuthenticationConverter implements Converter<Jwt, AbstractAuthen
             // Role 파싱
             Role role = Role.fromString(roleStr, Role.USER);
             
+            // 서비스 권한은 ServiceTokenProvider가 발급한 서비스 토큰에만 허용
+            if (role.isService() && !ServiceTokenProvider.TOKEN_TYPE.equals(jwt.getClaimAsString("type"))) {
+                throw new IllegalArgumentException("Service role requires a service token");
+            }
+            
             // UserPrincipal 생성
             UserPrincipal principal = new UserPrincipal(userId, role, tenantId);
             
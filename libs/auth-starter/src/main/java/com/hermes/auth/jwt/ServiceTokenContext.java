@@ -0,0 +1,68 @@
+package com.hermes.auth.jwt;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.util.StringUtils;
+
+import java.util.function.Supplier;
+
+/**
+ * 서비스 토큰 사용 범위 관리 클래스
+ * <p>
+ * Feign 인터셉터는 이 범위 안에서 실행되는 호출에만 {@link ServiceTokenProvider}의 서비스 토큰을 붙인다.
+ * 범위 밖에서는 사용자 요청의 Authorization 헤더만 전달하므로, 서비스 권한이 필요한 작업(스케줄러 등)은
+ * 호출 대상 테넌트를 명시해 직접 범위를 열어야 한다.
+ * ThreadLocal을 사용하므로 다른 스레드에서 호출하려면 {@link #getTenantId()}로 읽어 해당 스레드에서 다시 연다.
+ *
+ * <pre>{@code
+ * Integer count = ServiceTokenContext.callAsService(tenantId, () -> userServiceClient.getTotalEmployees());
+ * }</pre>
+ */
+@Slf4j
+public final class ServiceTokenContext {
+
+    private static final ThreadLocal<String> tenantIdHolder = new ThreadLocal<>();
+
+    private ServiceTokenContext() {
+    }
+
+    /**
+     * 테넌트의 서비스 토큰으로 작업 실행 (이전 범위는 작업 후 복원)
+     *
+     * @param tenantId 호출 대상 테넌트 (필수)
+     */
+    public static <T> T callAsService(String tenantId, Supplier<T> call) {
+        if (!StringUtils.hasText(tenantId)) {
+            throw new IllegalArgumentException("서비스 토큰 범위에는 테넌트 ID가 필요합니다.");
+        }
+
+        String previous = tenantIdHolder.get();
+        tenantIdHolder.set(tenantId);
+        log.debug("Service token scope opened: tenantId={}", tenantId);
+        try {
+            return call.get();
+        } finally {
+            if (previous != null) {
+                tenantIdHolder.set(previous);
+            } else {
+                tenantIdHolder.remove();
+            }
+        }
+    }
+
+    /**
+     * 테넌트의 서비스 토큰으로 작업 실행 (반환값 없음)
+     */
+    public static void runAsService(String tenantId, Runnable call) {
+        callAsService(tenantId, () -> {
+            call.run();
+            return null;
+        });
+    }
+
+    /**
+     * 현재 스레드의 서비스 토큰 범위 테넌트 (범위 밖이면 null)
+     */
+    public static String getTenantId() {
+        return tenantIdHolder.get();
+    }
+}
@@ -0,0 +1,92 @@
+package com.hermes.auth.jwt;
+
+import com.hermes.auth.JwtProperties;
+import com.hermes.auth.enums.Role;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import javax.crypto.SecretKey;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 서비스 간 호출용 서비스 토큰 발급 (client-credentials 방식)
+ * <p>
+ * 스케줄러처럼 전달할 사용자 요청이 없는 백그라운드 작업이 {@link ServiceTokenContext}로 명시적으로 요청한 경우에만 사용한다.
+ * 사용자 토큰과 같은 비밀키로 서명하므로 각 서비스의 Resource Server가 별도 설정 없이 검증하며,
+ * 서비스 권한(SERVICE)과 서비스 식별 클레임(type=service, service), 호출 대상 테넌트(tenantId)를 가진다.
+ * SERVICE 권한은 수신 서비스가 {@code BaseSecurityConfig#serviceEndpoints()}에 명시한 경로만 호출할 수 있다.
+ * 발급한 토큰은 테넌트별로 보관하다가 만료 시간의 80%가 지나면 재발급한다.
+ */
+@Slf4j
+@Component
+public class ServiceTokenProvider {
+
+    public static final String TOKEN_TYPE = "service";
+    public static final long SERVICE_USER_ID = 0L;
+
+    private final JwtProperties jwtProperties;
+    private final String serviceName;
+    private final ConcurrentMap<String, IssuedToken> tokens = new ConcurrentHashMap<>();
+
+    public ServiceTokenProvider(JwtProperties jwtProperties,
+                                @Value("${spring.application.name:unknown-service}") String serviceName) {
+        this.jwtProperties = jwtProperties;
+        this.serviceName = serviceName;
+    }
+
+    /**
+     * 테넌트의 서비스 토큰 조회 (없거나 갱신 시점이 지났으면 재발급)
+     *
+     * @param tenantId 호출 대상 테넌트 (필수)
+     */
+    public String getToken(String tenantId) {
+        if (!StringUtils.hasText(tenantId)) {
+            throw new IllegalArgumentException("서비스 토큰 발급에는 테넌트 ID가 필요합니다.");
+        }
+        Instant now = Instant.now();
+        return tokens.compute(tenantId, (k, issued) ->
+                issued != null && now.isBefore(issued.refreshAt()) ? issued : issue(tenantId, now)).value();
+    }
+
+    private IssuedToken issue(String tenantId, Instant now) {
+        long ttl = Math.max(1, jwtProperties.getServiceTokenTTL());
+        Instant expiration = now.plus(ttl, ChronoUnit.SECONDS);
+
+        Map<String, Object> claims = new HashMap<>();
+        claims.put("userId", SERVICE_USER_ID);
+        claims.put("role", Role.SERVICE.name());
+        claims.put("type", TOKEN_TYPE);
+        claims.put("service", serviceName);
+        claims.put("tenantId", tenantId);
+
+        String token = Jwts.builder()
+                .subject(serviceName)
+                .claims(claims)
+                .issuedAt(Date.from(now))
+                .expiration(Date.from(expiration))
+                .signWith(getSigningKey(), Jwts.SIG.HS256)
+                .compact();
+
+        log.debug("Service token issued: service={}, tenantId={}, ttl={}s", serviceName, tenantId, ttl);
+        return new IssuedToken(token, now.plus(ttl * 8 / 10, ChronoUnit.SECONDS));
+    }
+
+    private SecretKey getSigningKey() {
+        byte[] keyBytes = Decoders.BASE64.decode(jwtProperties.getSecret());
+        return Keys.hmacShaKeyFor(keyBytes);
+    }
+
+    private record IssuedToken(String value, Instant refreshAt) {
+    }
+}
@@ -79,6 +79,13 @@ public class UserPrincipal implements UserDetails {
         return role != null && role.isUser();
     }
     
+    /**
+     * 서비스 토큰으로 인증된 호출인지 확인
+     */
+    public boolean isService() {
+        return role != null && role.isService();
+    }
+    
     /**
      * 특정 권한을 가지고 있는지 확인
      */
@@ -0,0 +1,176 @@
+package com.hermes.auth.jwt;
+
+import com.hermes.auth.JwtProperties;
+import com.hermes.auth.config.FeignConfig;
+import com.hermes.auth.enums.Role;
+import com.hermes.auth.principal.UserPrincipal;
+import feign.RequestInterceptor;
+import feign.RequestTemplate;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Instant;
+import java.util.Collection;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 서비스 토큰 발급, 사용 범위, Feign 인터셉터 동작 테스트
+ */
+class ServiceTokenProviderTest {
+
+    private static final String SECRET = "c2VydmljZS10b2tlbi10ZXN0LXNlY3JldC1rZXktZm9yLWhtYWMtc2hhMjU2LXNpZ25pbmc=";
+
+    private ServiceTokenProvider serviceTokenProvider;
+    private RequestInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setSecret(SECRET);
+        serviceTokenProvider = new ServiceTokenProvider(jwtProperties, "attendance-service");
+        interceptor = new FeignConfig().requestInterceptor(serviceTokenProvider);
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void testServiceTokenHasServiceRoleAndTenant() {
+        Claims claims = parse(serviceTokenProvider.getToken("tenant1"));
+
+        assertEquals(Role.SERVICE.name(), claims.get("role"));
+        assertEquals(ServiceTokenProvider.TOKEN_TYPE, claims.get("type"));
+        assertEquals("attendance-service", claims.get("service"));
+        assertEquals("tenant1", claims.get("tenantId"));
+    }
+
+    @Test
+    void testServiceTokenRequiresTenant() {
+        assertThrows(IllegalArgumentException.class, () -> serviceTokenProvider.getToken(null));
+        assertThrows(IllegalArgumentException.class, () -> serviceTokenProvider.getToken(" "));
+        assertThrows(IllegalArgumentException.class, () -> ServiceTokenContext.runAsService(null, () -> {}));
+    }
+
+    @Test
+    void testServiceTokenIsReusedPerTenant() {
+        String first = serviceTokenProvider.getToken("tenant1");
+
+        assertEquals(first, serviceTokenProvider.getToken("tenant1"));
+        assertNotEquals(first, serviceTokenProvider.getToken("tenant2"));
+    }
+
+    @Test
+    void testInterceptorSendsNothingOutsideScopeWithoutRequest() {
+        RequestTemplate template = new RequestTemplate();
+
+        interceptor.apply(template);
+
+        assertFalse(template.headers().containsKey("Authorization"));
+    }
+
+    @Test
+    void testInterceptorRelaysUserAuthorizationHeader() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer user-token");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        RequestTemplate template = new RequestTemplate();
+
+        interceptor.apply(template);
+
+        assertEquals("Bearer user-token", authorization(template));
+    }
+
+    @Test
+    void testInterceptorDoesNotReplaceMissingUserHeader() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        RequestTemplate template = new RequestTemplate();
+
+        interceptor.apply(template);
+
+        assertFalse(template.headers().containsKey("Authorization"));
+    }
+
+    @Test
+    void testInterceptorUsesServiceTokenInsideScope() {
+        RequestTemplate template = new RequestTemplate();
+
+        ServiceTokenContext.runAsService("tenant1", () -> interceptor.apply(template));
+
+        Claims claims = parse(authorization(template).substring("Bearer ".length()));
+        assertEquals("tenant1", claims.get("tenantId"));
+        assertNull(ServiceTokenContext.getTenantId());
+    }
+
+    @Test
+    void testNestedScopeRestoresOuterTenant() {
+        String inner = ServiceTokenContext.callAsService("tenant1", () -> {
+            String nested = ServiceTokenContext.callAsService("tenant2", ServiceTokenContext::getTenantId);
+            assertEquals("tenant1", ServiceTokenContext.getTenantId());
+            return nested;
+        });
+
+        assertEquals("tenant2", inner);
+        assertNull(ServiceTokenContext.getTenantId());
+    }
+
+    @Test
+    void testServiceRoleIsOutsideUserHierarchy() {
+        assertFalse(Role.SERVICE.isAdmin());
+        assertFalse(Role.SERVICE.hasPermission(Role.USER));
+        assertFalse(Role.ADMIN.hasPermission(Role.SERVICE));
+        assertTrue(Role.SERVICE.hasPermission(Role.SERVICE));
+        assertTrue(Role.ADMIN.hasPermission(Role.USER));
+    }
+
+    @Test
+    void testConverterAcceptsServiceRoleOnlyFromServiceToken() {
+        JwtAuthenticationConverter converter = new JwtAuthenticationConverter();
+
+        UserPrincipal principal = (UserPrincipal) converter.convert(jwt("service")).getPrincipal();
+        assertTrue(principal.isService());
+        assertFalse(principal.isAdmin());
+
+        assertThrows(IllegalArgumentException.class, () -> converter.convert(jwt(null)));
+    }
+
+    private Jwt jwt(String type) {
+        Jwt.Builder builder = Jwt.withTokenValue("token")
+                .header("alg", "HS256")
+                .claim("userId", "0")
+                .claim("role", Role.SERVICE.name())
+                .claim("tenantId", "tenant1")
+                .issuedAt(Instant.now())
+                .expiresAt(Instant.now().plusSeconds(60));
+        if (type != null) {
+            builder.claim("type", type);
+        }
+        return builder.build();
+    }
+
+    private Claims parse(String token) {
+        return Jwts.parser()
+                .verifyWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET)))
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+
+    private String authorization(RequestTemplate template) {
+        Collection<String> values = template.headers().get("Authorization");
+        assertNotNull(values);
+        assertEquals(1, values.size());
+        return values.iterator().next();
+    }
+}
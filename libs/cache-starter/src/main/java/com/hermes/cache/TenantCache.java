@@ -0,0 +1,116 @@
+package com.hermes.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.hermes.cache.tenant.TenantKeyResolver;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+/**
+ * 테넌트 단위로 격리된 읽기 캐시
+ * <p>
+ * 같은 키에 대한 동시 조회는 첫 요청의 로딩 결과를 공유하여 원본 호출이 한 번만 발생한다.
+ * 로딩은 호출 스레드에서 실행되므로 Feign 인증 헤더 전달, TenantContext 등 스레드 로컬 상태가 그대로 유지된다.
+ * null 결과와 예외는 캐시하지 않는다.
+ */
+public class TenantCache<K, V> {
+
+    private final String name;
+    private final AsyncCache<TenantKey, V> cache;
+    private final TenantKeyResolver tenantKeyResolver;
+    private final boolean enabled;
+
+    TenantCache(String name, AsyncCache<TenantKey, V> cache, TenantKeyResolver tenantKeyResolver, boolean enabled) {
+        this.name = name;
+        this.cache = cache;
+        this.tenantKeyResolver = tenantKeyResolver;
+        this.enabled = enabled;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * 캐시 조회, 없으면 loader로 조회 후 저장
+     */
+    public V get(K key, Supplier<V> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+
+        TenantKey tenantKey = new TenantKey(tenantKeyResolver.resolve(), key);
+        CompletableFuture<V> pending = new CompletableFuture<>();
+        CompletableFuture<V> existing = cache.asMap().putIfAbsent(tenantKey, pending);
+        if (existing != null) {
+            return await(existing);
+        }
+
+        try {
+            V value = loader.get();
+            pending.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            // 예외로 완료된 항목은 Caffeine이 자동 제거
+            pending.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * 현재 테넌트의 단일 항목 무효화
+     */
+    public void evict(K key) {
+        evict(tenantKeyResolver.resolve(), key);
+    }
+
+    public void evict(String tenantId, Object key) {
+        cache.synchronous().invalidate(new TenantKey(tenantId, key));
+    }
+
+    /**
+     * 테넌트의 모든 항목 무효화
+     */
+    public void evictTenant(String tenantId) {
+        cache.asMap().keySet().removeIf(key -> key.tenantId().equals(tenantId));
+    }
+
+    public void clear() {
+        cache.synchronous().invalidateAll();
+    }
+
+    public long size() {
+        return cache.synchronous().estimatedSize();
+    }
+
+    public CacheStats stats() {
+        return cache.synchronous().stats();
+    }
+
+    private V await(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 테넌트 + 원본 키
+     * 원본 키는 문자열로 정규화하여 무효화 이벤트의 키와 비교 가능하게 함
+     */
+    record TenantKey(String tenantId, String key) {
+
+        TenantKey(String tenantId, Object key) {
+            this(tenantId, String.valueOf(key));
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.hermes.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hermes.cache.config.CacheProperties;
+import com.hermes.cache.tenant.TenantKeyResolver;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 이름별 테넌트 캐시 생성/관리
+ * 만료 시간과 최대 항목 수는 hermes.cache.caches.{name} 설정을 따름
+ */
+@Slf4j
+public class TenantCacheManager {
+
+    private final CacheProperties properties;
+    private final TenantKeyResolver tenantKeyResolver;
+    private final ConcurrentMap<String, TenantCache<?, ?>> caches = new ConcurrentHashMap<>();
+
+    public TenantCacheManager(CacheProperties properties, TenantKeyResolver tenantKeyResolver) {
+        this.properties = properties;
+        this.tenantKeyResolver = tenantKeyResolver;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <K, V> TenantCache<K, V> getCache(String name) {
+        return (TenantCache<K, V>) caches.computeIfAbsent(name, this::createCache);
+    }
+
+    /**
+     * 생성된 캐시만 무효화 (해당 서비스가 보유하지 않은 캐시는 무시)
+     */
+    public void evict(String tenantId, String cacheName, String key) {
+        TenantCache<?, ?> cache = caches.get(cacheName);
+        if (cache == null) {
+            return;
+        }
+        if (key == null) {
+            cache.evictTenant(tenantId);
+        } else {
+            cache.evict(tenantId, key);
+        }
+    }
+
+    public void evictTenant(String tenantId) {
+        caches.values().forEach(cache -> cache.evictTenant(tenantId));
+    }
+
+    public Collection<TenantCache<?, ?>> getCaches() {
+        return caches.values();
+    }
+
+    private TenantCache<?, ?> createCache(String name) {
+        AsyncCache<TenantCache.TenantKey, Object> cache = Caffeine.newBuilder()
+                .expireAfterWrite(properties.ttlOf(name))
+                .maximumSize(properties.maxSizeOf(name))
+                .recordStats()
+                .buildAsync();
+
+        log.info("Tenant cache created: name={}, ttl={}, maxSize={}",
+                name, properties.ttlOf(name), properties.maxSizeOf(name));
+        return new TenantCache<>(name, cache, tenantKeyResolver, properties.isEnabled());
+    }
+}
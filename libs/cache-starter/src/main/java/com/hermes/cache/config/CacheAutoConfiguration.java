@@ -0,0 +1,126 @@
+package com.hermes.cache.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hermes.cache.TenantCacheManager;
+import com.hermes.cache.invalidation.CacheInvalidationListener;
+import com.hermes.cache.invalidation.CacheInvalidationPublisher;
+import com.hermes.cache.tenant.SecurityContextTenantKeyResolver;
+import com.hermes.cache.tenant.TenantKeyResolver;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.AnonymousQueue;
+import org.springframework.amqp.core.Base64UrlNamingStrategy;
+import org.springframework.amqp.core.Binding;
+import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.ExchangeBuilder;
+import org.springframework.amqp.core.TopicExchange;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.rabbit.listener.SimpleMessageListenerContainer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.amqp.RabbitAutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 테넌트 캐시 자동 구성
+ */
+@Slf4j
+@AutoConfiguration(after = {RabbitAutoConfiguration.class, JacksonAutoConfiguration.class})
+@EnableConfigurationProperties(CacheProperties.class)
+public class CacheAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public TenantKeyResolver tenantKeyResolver() {
+        return new SecurityContextTenantKeyResolver();
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public TenantCacheManager tenantCacheManager(CacheProperties properties, TenantKeyResolver tenantKeyResolver) {
+        log.info("Tenant cache enabled={}, defaultTtl={}, defaultMaxSize={}",
+                properties.isEnabled(), properties.getDefaultTtl(), properties.getDefaultMaxSize());
+        return new TenantCacheManager(properties, tenantKeyResolver);
+    }
+
+    /**
+     * 무효화 발행기 (RabbitMQ 미사용 시 로컬 캐시만 무효화)
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public CacheInvalidationPublisher cacheInvalidationPublisher(ObjectProvider<RabbitTemplate> rabbitTemplate,
+                                                                 ObjectMapper objectMapper,
+                                                                 CacheProperties properties,
+                                                                 TenantCacheManager tenantCacheManager,
+                                                                 TenantKeyResolver tenantKeyResolver) {
+        RabbitTemplate template = properties.getInvalidation().isEnabled() ? rabbitTemplate.getIfAvailable() : null;
+        return new CacheInvalidationPublisher(template, objectMapper, properties, tenantCacheManager, tenantKeyResolver);
+    }
+
+    /**
+     * RabbitMQ 기반 캐시 무효화 수신 구성
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass({RabbitTemplate.class, ConnectionFactory.class})
+    @ConditionalOnProperty(prefix = "hermes.cache.invalidation", name = "enabled", havingValue = "true", matchIfMissing = true)
+    static class InvalidationConfiguration {
+
+        @Bean
+        public TopicExchange cacheInvalidationExchange(CacheProperties properties) {
+            return ExchangeBuilder
+                    .topicExchange(properties.getInvalidation().getExchange())
+                    .durable(true)
+                    .build();
+        }
+
+        /**
+         * 인스턴스 전용 임시 Queue (연결 종료 시 자동 삭제)
+         */
+        @Bean
+        public AnonymousQueue cacheInvalidationQueue() {
+            return new AnonymousQueue(new Base64UrlNamingStrategy("cache.invalidation."));
+        }
+
+        @Bean
+        public Binding cacheInvalidationBinding(AnonymousQueue cacheInvalidationQueue,
+                                                @Qualifier("cacheInvalidationExchange") TopicExchange cacheInvalidationExchange) {
+            return BindingBuilder
+                    .bind(cacheInvalidationQueue)
+                    .to(cacheInvalidationExchange)
+                    .with("cache.invalidate.#");
+        }
+
+        @Bean
+        public Binding cacheTenantDeletedBinding(AnonymousQueue cacheInvalidationQueue,
+                                                 @Qualifier("cacheInvalidationExchange") TopicExchange cacheInvalidationExchange) {
+            return BindingBuilder
+                    .bind(cacheInvalidationQueue)
+                    .to(cacheInvalidationExchange)
+                    .with("tenant.deleted");
+        }
+
+        @Bean
+        public CacheInvalidationListener cacheInvalidationListener(TenantCacheManager tenantCacheManager,
+                                                                   ObjectMapper objectMapper) {
+            return new CacheInvalidationListener(tenantCacheManager, objectMapper);
+        }
+
+        @Bean
+        public SimpleMessageListenerContainer cacheInvalidationListenerContainer(ConnectionFactory connectionFactory,
+                                                                                 AnonymousQueue cacheInvalidationQueue,
+                                                                                 CacheInvalidationListener cacheInvalidationListener) {
+            SimpleMessageListenerContainer container = new SimpleMessageListenerContainer(connectionFactory);
+            container.setQueues(cacheInvalidationQueue);
+            container.setMessageListener(cacheInvalidationListener);
+            container.setConcurrentConsumers(1);
+            return container;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.hermes.cache.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 테넌트 캐시 설정 속성
+ */
+@Data
+@ConfigurationProperties(prefix = "hermes.cache")
+public class CacheProperties {
+
+    /**
+     * 캐시 기능 활성화 여부 (비활성화 시 항상 원본 조회)
+     */
+    private boolean enabled = true;
+
+    /**
+     * 기본 만료 시간 (쓰기 시점 기준)
+     */
+    private Duration defaultTtl = Duration.ofMinutes(5);
+
+    /**
+     * 기본 최대 항목 수 (모든 테넌트 합산)
+     */
+    private long defaultMaxSize = 10_000;
+
+    /**
+     * 캐시별 개별 설정 (미지정 항목은 기본값 사용)
+     */
+    private Map<String, Spec> caches = new HashMap<>();
+
+    /**
+     * 무효화 이벤트 설정
+     */
+    private Invalidation invalidation = new Invalidation();
+
+    public Duration ttlOf(String cacheName) {
+        Spec spec = caches.get(cacheName);
+        return spec != null && spec.getTtl() != null ? spec.getTtl() : defaultTtl;
+    }
+
+    public long maxSizeOf(String cacheName) {
+        Spec spec = caches.get(cacheName);
+        return spec != null && spec.getMaxSize() != null ? spec.getMaxSize() : defaultMaxSize;
+    }
+
+    @Data
+    public static class Spec {
+
+        /**
+         * 만료 시간
+         */
+        private Duration ttl;
+
+        /**
+         * 최대 항목 수
+         */
+        private Long maxSize;
+    }
+
+    @Data
+    public static class Invalidation {
+
+        /**
+         * RabbitMQ 무효화 이벤트 송수신 여부
+         */
+        private boolean enabled = true;
+
+        /**
+         * 무효화 이벤트 Exchange (테넌트 이벤트 Exchange 공유)
+         */
+        private String exchange = "tenant.events";
+    }
+}
@@ -0,0 +1,45 @@
+package com.hermes.cache.invalidation;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hermes.cache.TenantCacheManager;
+import com.hermes.events.cache.CacheInvalidationEvent;
+import com.hermes.events.tenant.TenantEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageListener;
+
+/**
+ * 캐시 무효화 이벤트 수신
+ * 인스턴스별 임시 Queue로 수신하므로 모든 인스턴스가 각자의 로컬 캐시를 무효화한다.
+ * 테넌트 삭제 이벤트 수신 시 해당 테넌트의 모든 캐시를 제거한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class CacheInvalidationListener implements MessageListener {
+
+    static final String TENANT_DELETED_ROUTING_KEY = "tenant.deleted";
+
+    private final TenantCacheManager cacheManager;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void onMessage(Message message) {
+        String routingKey = message.getMessageProperties().getReceivedRoutingKey();
+        try {
+            if (TENANT_DELETED_ROUTING_KEY.equals(routingKey)) {
+                TenantEvent event = objectMapper.readValue(message.getBody(), TenantEvent.class);
+                cacheManager.evictTenant(event.getTenantId());
+                log.info("Tenant caches evicted: tenant={}", event.getTenantId());
+                return;
+            }
+
+            CacheInvalidationEvent event = objectMapper.readValue(message.getBody(), CacheInvalidationEvent.class);
+            cacheManager.evict(event.getTenantId(), event.getCacheName(), event.getKey());
+            log.debug("Cache invalidated: tenant={}, cache={}, key={}",
+                    event.getTenantId(), event.getCacheName(), event.getKey());
+        } catch (Exception e) {
+            log.warn("Failed to handle cache invalidation message: routingKey={}", routingKey, e);
+        }
+    }
+}
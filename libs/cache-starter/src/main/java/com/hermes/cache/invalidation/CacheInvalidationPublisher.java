@@ -0,0 +1,83 @@
+package com.hermes.cache.invalidation;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hermes.cache.TenantCacheManager;
+import com.hermes.cache.config.CacheProperties;
+import com.hermes.cache.tenant.TenantKeyResolver;
+import com.hermes.events.cache.CacheInvalidationEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageBuilder;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 캐시 무효화 이벤트 발행
+ * <p>
+ * 로컬 캐시는 즉시 무효화하고, 다른 인스턴스/서비스에는 RabbitMQ로 전파한다. (RabbitTemplate이 없으면 로컬만 무효화)
+ * 트랜잭션 안에서 호출되면 커밋 이후에 발행하여 다른 인스턴스가 커밋 전 데이터를 다시 캐시하지 않도록 한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class CacheInvalidationPublisher {
+
+    private final RabbitTemplate rabbitTemplate;
+    private final ObjectMapper objectMapper;
+    private final CacheProperties properties;
+    private final TenantCacheManager cacheManager;
+    private final TenantKeyResolver tenantKeyResolver;
+
+    /**
+     * 현재 테넌트의 단일 항목 무효화
+     */
+    public void invalidate(String cacheName, Object key) {
+        publish(CacheInvalidationEvent.of(tenantKeyResolver.resolve(), cacheName, key));
+    }
+
+    /**
+     * 현재 테넌트의 캐시 전체 무효화
+     */
+    public void invalidateAll(String cacheName) {
+        publish(CacheInvalidationEvent.all(tenantKeyResolver.resolve(), cacheName));
+    }
+
+    public void publish(CacheInvalidationEvent event) {
+        cacheManager.evict(event.getTenantId(), event.getCacheName(), event.getKey());
+
+        if (rabbitTemplate == null) {
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    // 커밋 전 조회로 다시 채워졌을 수 있는 로컬 항목도 정리
+                    cacheManager.evict(event.getTenantId(), event.getCacheName(), event.getKey());
+                    send(event);
+                }
+            });
+        } else {
+            send(event);
+        }
+    }
+
+    private void send(CacheInvalidationEvent event) {
+        try {
+            Message message = MessageBuilder
+                    .withBody(objectMapper.writeValueAsBytes(event))
+                    .setContentType(MessageProperties.CONTENT_TYPE_JSON)
+                    .build();
+            rabbitTemplate.send(properties.getInvalidation().getExchange(), event.getRoutingKey(), message);
+            log.debug("Cache invalidation published: tenant={}, cache={}, key={}",
+                    event.getTenantId(), event.getCacheName(), event.getKey());
+        } catch (Exception e) {
+            // 무효화 실패 시 다른 인스턴스는 TTL 만료까지 이전 값을 사용
+            log.warn("Failed to publish cache invalidation: tenant={}, cache={}, key={}",
+                    event.getTenantId(), event.getCacheName(), event.getKey(), e);
+        }
+    }
+}
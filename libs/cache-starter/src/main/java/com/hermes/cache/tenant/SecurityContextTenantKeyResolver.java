@@ -0,0 +1,23 @@
+package com.hermes.cache.tenant;
+
+import com.hermes.auth.principal.UserPrincipal;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * SecurityContext의 UserPrincipal에서 테넌트 식별자 조회
+ * 인증 정보가 없으면 기본 테넌트 사용
+ */
+public class SecurityContextTenantKeyResolver implements TenantKeyResolver {
+
+    @Override
+    public String resolve() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null
+                && authentication.getPrincipal() instanceof UserPrincipal principal
+                && principal.getTenantId() != null) {
+            return principal.getTenantId();
+        }
+        return DEFAULT_TENANT;
+    }
+}
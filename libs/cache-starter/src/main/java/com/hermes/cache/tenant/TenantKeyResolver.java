@@ -0,0 +1,12 @@
+package com.hermes.cache.tenant;
+
+/**
+ * 현재 요청의 테넌트 식별자 조회
+ */
+@FunctionalInterface
+public interface TenantKeyResolver {
+
+    String DEFAULT_TENANT = "default";
+
+    String resolve();
+}
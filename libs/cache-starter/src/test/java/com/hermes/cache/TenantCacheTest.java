@@ -0,0 +1,134 @@
+package com.hermes.cache;
+
+import com.hermes.cache.config.CacheProperties;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 테넌트 격리, 동시 조회 시 단일 로딩, 무효화 동작 검증
+ */
+class TenantCacheTest {
+
+    private static final int CALLERS = 32;
+
+    private final AtomicReference<String> currentTenant = new AtomicReference<>("company1");
+    private final TenantCacheManager cacheManager = new TenantCacheManager(new CacheProperties(), currentTenant::get);
+
+    @Test
+    void 같은_키_동시_조회시_원본_호출은_한번() throws Exception {
+        // given
+        TenantCache<Long, String> cache = cacheManager.getCache("user-profile");
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+
+        // when
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(executor.submit(() -> cache.get(1L, () -> {
+                loads.incrementAndGet();
+                await(release);
+                return "user-1";
+            })));
+        }
+        Thread.sleep(100);
+        release.countDown();
+
+        // then
+        for (Future<String> result : results) {
+            assertEquals("user-1", result.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, loads.get());
+        executor.shutdownNow();
+    }
+
+    @Test
+    void 테넌트별로_격리() {
+        // given
+        TenantCache<Long, String> cache = cacheManager.getCache("user-profile");
+        cache.get(1L, () -> "company1-user");
+
+        // when
+        currentTenant.set("company2");
+        String value = cache.get(1L, () -> "company2-user");
+
+        // then
+        assertEquals("company2-user", value);
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    void 로딩_실패와_null은_캐시하지_않음() {
+        // given
+        TenantCache<Long, String> cache = cacheManager.getCache("user-profile");
+        AtomicInteger loads = new AtomicInteger();
+
+        // when
+        assertThrows(IllegalStateException.class, () -> cache.get(1L, () -> {
+            loads.incrementAndGet();
+            throw new IllegalStateException("down");
+        }));
+        assertNull(cache.get(2L, () -> {
+            loads.incrementAndGet();
+            return null;
+        }));
+        cache.get(1L, () -> {
+            loads.incrementAndGet();
+            return "user-1";
+        });
+
+        // then
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    void 무효화_이벤트_키로_항목_제거() {
+        // given
+        TenantCache<Long, String> cache = cacheManager.getCache("user-profile");
+        cache.get(1L, () -> "old");
+        cache.get(2L, () -> "other");
+
+        // when
+        cacheManager.evict("company1", "user-profile", "1");
+
+        // then
+        assertEquals("new", cache.get(1L, () -> "new"));
+        assertEquals("other", cache.get(2L, () -> "unexpected"));
+    }
+
+    @Test
+    void 테넌트_삭제시_해당_테넌트_항목만_제거() {
+        // given
+        TenantCache<Long, String> cache = cacheManager.getCache("user-profile");
+        cache.get(1L, () -> "company1-user");
+        currentTenant.set("company2");
+        cache.get(1L, () -> "company2-user");
+
+        // when
+        cacheManager.evictTenant("company1");
+
+        // then
+        assertEquals("company2-user", cache.get(1L, () -> "unexpected"));
+        currentTenant.set("company1");
+        assertEquals("reloaded", cache.get(1L, () -> "reloaded"));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
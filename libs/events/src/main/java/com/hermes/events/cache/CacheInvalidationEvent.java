@@ -0,0 +1,42 @@
+package com.hermes.events.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 캐시 무효화 이벤트
+ * 원본 데이터를 변경한 서비스가 발행하고, 해당 캐시를 보유한 모든 서비스 인스턴스가 수신
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheInvalidationEvent {
+
+    private String tenantId;
+    private String cacheName;
+    private String key;                 // null이면 테넌트의 해당 캐시 전체 무효화
+    private LocalDateTime timestamp;
+
+    public static CacheInvalidationEvent of(String tenantId, String cacheName, Object key) {
+        return new CacheInvalidationEvent(
+            tenantId,
+            cacheName,
+            key != null ? String.valueOf(key) : null,
+            LocalDateTime.now()
+        );
+    }
+
+    public static CacheInvalidationEvent all(String tenantId, String cacheName) {
+        return of(tenantId, cacheName, null);
+    }
+
+    /**
+     * 캐시별 라우팅 키 (cache.invalidate.{cacheName})
+     */
+    public String getRoutingKey() {
+        return "cache.invalidate." + cacheName;
+    }
+}
@@ -0,0 +1,19 @@
+package com.hermes.events.cache;
+
+/**
+ * 서비스 간 공유하는 캐시 이름
+ * 캐시를 보유한 서비스와 무효화 이벤트를 발행하는 서비스가 같은 이름을 사용해야 함
+ */
+public final class CacheNames {
+
+    public static final String USER_PROFILE = "user-profile";                       // userId → 사용자 프로필
+    public static final String USER_WORK_POLICY = "user-work-policy";               // userId → 사용자 근무 정책
+    public static final String WORK_POLICY = "work-policy";                         // workPolicyId → 근무 정책
+    public static final String ORGANIZATION_ASSIGNMENT = "organization-assignment"; // employeeId → 조직 배정 목록
+    public static final String USER_HEADCOUNT = "user-headcount";                   // 고정 키 → 테넌트 전체 직원 수
+    public static final String ORGANIZATION_GRAPH = "organization-graph";           // 고정 키 → 테넌트 조직 계층 + 직원 배정 전체
+    public static final String APPROVAL_TEMPLATE = "approval-template";             // templateId → 컴파일된 결재 템플릿 필드/검증기
+
+    private CacheNames() {
+    }
+}
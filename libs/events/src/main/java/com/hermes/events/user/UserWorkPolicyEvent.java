@@ -0,0 +1,39 @@
+package com.hermes.events.user;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자 근무 정책 할당 변경 이벤트
+ * user-service가 사용자 생성/수정/삭제 및 근무 정책 변경 시 발행하고,
+ * attendance-service가 수신하여 로컬 사용자-근무정책 프로젝션을 갱신
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserWorkPolicyEvent {
+
+    public static final String ASSIGNED_ROUTING_KEY = "user.work-policy.assigned";
+    public static final String REMOVED_ROUTING_KEY = "user.work-policy.removed";
+
+    private String tenantId;
+    private Long userId;
+    private Long workPolicyId;          // null이면 근무 정책 미할당
+    private boolean removed;            // 사용자 삭제 여부
+    private LocalDateTime timestamp;
+
+    public static UserWorkPolicyEvent assigned(String tenantId, Long userId, Long workPolicyId) {
+        return new UserWorkPolicyEvent(tenantId, userId, workPolicyId, false, LocalDateTime.now());
+    }
+
+    public static UserWorkPolicyEvent removed(String tenantId, Long userId) {
+        return new UserWorkPolicyEvent(tenantId, userId, null, true, LocalDateTime.now());
+    }
+
+    public String getRoutingKey() {
+        return removed ? REMOVED_ROUTING_KEY : ASSIGNED_ROUTING_KEY;
+    }
+}
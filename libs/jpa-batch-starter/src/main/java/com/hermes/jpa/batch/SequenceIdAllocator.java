@@ -0,0 +1,52 @@
+package com.hermes.jpa.batch;
+
+import org.springframework.jdbc.core.JdbcOperations;
+
+import java.util.List;
+
+/**
+ * JDBC 배치 INSERT용 ID 블록 할당 (PostgreSQL 시퀀스)
+ * <p>
+ * Hibernate pooled-lo optimizer와 같은 방식으로, nextval 값 v 하나가 [v, v + 증가값 - 1] 블록을 예약한다.
+ * 같은 시퀀스를 쓰는 JPA 엔티티 저장, IDENTITY 기본값과 섞여도 ID가 겹치지 않으며,
+ * 증가값은 매번 DB에서 읽으므로 마이그레이션 전(증가값 1)에도 안전하다.
+ */
+public final class SequenceIdAllocator {
+
+    private static final String INCREMENT_SQL =
+            "SELECT seqincrement FROM pg_sequence WHERE seqrelid = CAST(? AS regclass)";
+
+    private static final String NEXTVAL_SQL =
+            "SELECT nextval(CAST(? AS regclass)) FROM generate_series(1, ?)";
+
+    private SequenceIdAllocator() {
+    }
+
+    /**
+     * count개의 ID를 할당해 배열로 반환
+     *
+     * @param sequenceName 시퀀스 이름 (search_path 기준으로 해석)
+     */
+    public static long[] allocate(JdbcOperations jdbcOperations, String sequenceName, int count) {
+        long[] ids = new long[count];
+        if (count == 0) {
+            return ids;
+        }
+
+        Long increment = jdbcOperations.queryForObject(INCREMENT_SQL, Long.class, sequenceName);
+        if (increment == null || increment < 1) {
+            throw new IllegalStateException("오름차순 시퀀스가 아닙니다: " + sequenceName);
+        }
+
+        int blocks = (int) ((count + increment - 1) / increment);
+        List<Long> blockStarts = jdbcOperations.queryForList(NEXTVAL_SQL, Long.class, sequenceName, blocks);
+
+        int index = 0;
+        for (long start : blockStarts) {
+            for (long id = start; id < start + increment && index < count; id++) {
+                ids[index++] = id;
+            }
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,85 @@
+package com.hermes.jpa.batch.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.id.SequenceMismatchStrategy;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+
+import java.util.Map;
+
+/**
+ * JPA 배치 쓰기 튜닝 자동 구성
+ * <p>
+ * Hibernate JDBC 배치와 INSERT/UPDATE 정렬을 켜고, 시퀀스 ID 생성기의 기본 optimizer를 pooled-lo로 지정한다.
+ * DB 시퀀스 증가값이 allocationSize와 다르면(마이그레이션 전) 기동을 막지 않고 DB 증가값에 맞춰 동작한다.
+ * PostgreSQL Hikari DataSource에는 reWriteBatchedInserts를 추가한다.
+ */
+@Slf4j
+@AutoConfiguration(before = HibernateJpaAutoConfiguration.class)
+@EnableConfigurationProperties(JpaBatchProperties.class)
+@ConditionalOnProperty(prefix = "hermes.jpa.batch", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class JpaBatchAutoConfiguration {
+
+    private static final String POSTGRESQL_URL_PREFIX = "jdbc:postgresql:";
+    private static final String REWRITE_BATCHED_INSERTS = "reWriteBatchedInserts";
+
+    @Bean
+    public HibernatePropertiesCustomizer jpaBatchHibernatePropertiesCustomizer(JpaBatchProperties properties) {
+        log.info("JPA batch tuning: batchSize={}, orderInserts={}, orderUpdates={}, pooledOptimizer={}",
+                properties.getBatchSize(), properties.isOrderInserts(), properties.isOrderUpdates(),
+                properties.getPooledOptimizer());
+
+        return (Map<String, Object> hibernateProperties) -> {
+            hibernateProperties.putIfAbsent(AvailableSettings.STATEMENT_BATCH_SIZE, properties.getBatchSize());
+            hibernateProperties.putIfAbsent(AvailableSettings.ORDER_INSERTS, properties.isOrderInserts());
+            hibernateProperties.putIfAbsent(AvailableSettings.ORDER_UPDATES, properties.isOrderUpdates());
+            hibernateProperties.putIfAbsent(AvailableSettings.PREFERRED_POOLED_OPTIMIZER, properties.getPooledOptimizer());
+            hibernateProperties.putIfAbsent(AvailableSettings.SEQUENCE_INCREMENT_SIZE_MISMATCH_STRATEGY,
+                    SequenceMismatchStrategy.FIX.name());
+        };
+    }
+
+    /**
+     * PostgreSQL 드라이버 배치 INSERT 재작성 옵션 추가 (풀 시작 전에만 적용 가능)
+     */
+    @Bean
+    @ConditionalOnClass(HikariDataSource.class)
+    public static BeanPostProcessor jpaBatchDataSourcePostProcessor(ObjectProvider<JpaBatchProperties> properties) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource dataSource
+                        && properties.getObject().isRewriteBatchedInserts()
+                        && isPostgreSql(dataSource)
+                        && !hasRewriteOption(dataSource)) {
+                    try {
+                        dataSource.addDataSourceProperty(REWRITE_BATCHED_INSERTS, "true");
+                        log.info("PostgreSQL {}=true applied: dataSource={}", REWRITE_BATCHED_INSERTS, beanName);
+                    } catch (IllegalStateException e) {
+                        log.warn("Skip {}: pool already started: dataSource={}", REWRITE_BATCHED_INSERTS, beanName);
+                    }
+                }
+                return bean;
+            }
+        };
+    }
+
+    private static boolean isPostgreSql(HikariDataSource dataSource) {
+        String url = dataSource.getJdbcUrl();
+        return url != null && url.startsWith(POSTGRESQL_URL_PREFIX);
+    }
+
+    private static boolean hasRewriteOption(HikariDataSource dataSource) {
+        return dataSource.getJdbcUrl().contains(REWRITE_BATCHED_INSERTS)
+                || dataSource.getDataSourceProperties().containsKey(REWRITE_BATCHED_INSERTS);
+    }
+}
@@ -0,0 +1,43 @@
+package com.hermes.jpa.batch.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * JPA 배치 쓰기 튜닝 설정 속성
+ * spring.jpa.properties로 같은 Hibernate 설정을 지정하면 그 값이 우선한다
+ */
+@Data
+@ConfigurationProperties(prefix = "hermes.jpa.batch")
+public class JpaBatchProperties {
+
+    /**
+     * 튜닝 적용 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * JDBC 배치 크기 (hibernate.jdbc.batch_size)
+     */
+    private int batchSize = 100;
+
+    /**
+     * INSERT를 엔티티 타입별로 정렬해 배치로 묶음 (hibernate.order_inserts)
+     */
+    private boolean orderInserts = true;
+
+    /**
+     * UPDATE를 엔티티 타입/ID 순으로 정렬해 배치로 묶음 (hibernate.order_updates)
+     */
+    private boolean orderUpdates = true;
+
+    /**
+     * 시퀀스 optimizer (pooled-lo: 시퀀스 값이 블록의 시작 ID)
+     */
+    private String pooledOptimizer = "pooled-lo";
+
+    /**
+     * PostgreSQL 드라이버가 배치 INSERT를 다중 VALUES 문으로 재작성 (reWriteBatchedInserts)
+     */
+    private boolean rewriteBatchedInserts = true;
+}
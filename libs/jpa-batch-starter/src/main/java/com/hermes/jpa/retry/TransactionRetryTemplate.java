@@ -0,0 +1,77 @@
+package com.hermes.jpa.retry;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * 동시성 충돌 트랜잭션 재시도 템플릿
+ * <p>
+ * 버전 충돌(낙관적 잠금), 유니크 키 선점 충돌, 잠금 대기 실패, 교착 상태({@link ConcurrencyFailureException})는
+ * 트랜잭션 단위로만 재시도할 수 있으므로, 진행 중인 트랜잭션이 없을 때에만 새 트랜잭션을 열어 재시도한다.
+ * 호출자의 트랜잭션에 참여한 경우에는 바로 실행하고 예외를 그대로 전파해 바깥 경계에서 처리하게 한다.
+ * 서비스별 정책은 이 클래스를 상속해 이름과 재시도 설정만 지정한다.
+ */
+@Slf4j
+public class TransactionRetryTemplate {
+
+    private final String name;
+    private final TransactionTemplate transactionTemplate;
+    private final int maxAttempts;
+    private final long backoffMillis;
+
+    /**
+     * @param name          로그에 남길 정책 이름
+     * @param maxAttempts   최대 시도 횟수 (1 미만이면 1)
+     * @param backoffMillis 재시도 간격 기준값, 시도마다 선형 증가하고 지터를 더함 (0이면 바로 재시도)
+     */
+    public TransactionRetryTemplate(String name, PlatformTransactionManager transactionManager,
+                                    int maxAttempts, long backoffMillis) {
+        this.name = name;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.backoffMillis = Math.max(0, backoffMillis);
+    }
+
+    public <T> T execute(String operation, Supplier<T> action) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return action.get();
+        }
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> action.get());
+            } catch (ConcurrencyFailureException e) {
+                retryOrThrow(operation, attempt, e);
+            }
+        }
+    }
+
+    private void retryOrThrow(String operation, int attempt, RuntimeException e) {
+        if (attempt >= maxAttempts) {
+            log.warn("{} 재시도 한도 초과: operation={}, attempts={}", name, operation, attempt);
+            throw e;
+        }
+        log.debug("{} 충돌, 재시도: operation={}, attempt={}, cause={}", name, operation, attempt, e.getMessage());
+        backoff(attempt, e);
+    }
+
+    private void backoff(int attempt, RuntimeException cause) {
+        if (backoffMillis == 0) {
+            return;
+        }
+        // 동시에 충돌한 요청이 같은 시점에 다시 부딪히지 않도록 지터를 더함
+        long delay = backoffMillis * attempt + ThreadLocalRandom.current().nextLong(backoffMillis + 1);
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw cause;
+        }
+    }
+}
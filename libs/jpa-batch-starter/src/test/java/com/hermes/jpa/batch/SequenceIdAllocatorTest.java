@@ -0,0 +1,63 @@
+package com.hermes.jpa.batch;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcOperations;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * 시퀀스 증가값에 따른 ID 블록 전개 검증
+ */
+class SequenceIdAllocatorTest {
+
+    private static final String SEQUENCE = "notifications_id_seq";
+
+    private final JdbcOperations jdbcOperations = mock(JdbcOperations.class);
+
+    @Test
+    void 증가값_단위_블록을_필요한_만큼만_예약() {
+        // given
+        when(jdbcOperations.queryForObject(anyString(), eq(Long.class), eq(SEQUENCE))).thenReturn(50L);
+        when(jdbcOperations.queryForList(anyString(), eq(Long.class), eq(SEQUENCE), eq(3)))
+                .thenReturn(List.of(101L, 151L, 301L));
+
+        // when
+        long[] ids = SequenceIdAllocator.allocate(jdbcOperations, SEQUENCE, 120);
+
+        // then
+        assertEquals(120, ids.length);
+        assertArrayEquals(LongStream.rangeClosed(101, 200).toArray(), Arrays.copyOf(ids, 100));
+        assertArrayEquals(LongStream.rangeClosed(301, 320).toArray(), Arrays.copyOfRange(ids, 100, 120));
+    }
+
+    @Test
+    void 증가값_1이면_행마다_nextval() {
+        // given
+        when(jdbcOperations.queryForObject(anyString(), eq(Long.class), eq(SEQUENCE))).thenReturn(1L);
+        when(jdbcOperations.queryForList(anyString(), eq(Long.class), eq(SEQUENCE), eq(3)))
+                .thenReturn(List.of(7L, 8L, 12L));
+
+        // when
+        long[] ids = SequenceIdAllocator.allocate(jdbcOperations, SEQUENCE, 3);
+
+        // then
+        assertArrayEquals(new long[]{7L, 8L, 12L}, ids);
+    }
+
+    @Test
+    void 요청_건수가_0이면_DB를_호출하지_않음() {
+        // when
+        long[] ids = SequenceIdAllocator.allocate(jdbcOperations, SEQUENCE, 0);
+
+        // then
+        assertEquals(0, ids.length);
+        verifyNoInteractions(jdbcOperations);
+    }
+}
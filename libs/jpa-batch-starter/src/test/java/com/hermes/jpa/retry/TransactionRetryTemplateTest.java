@@ -0,0 +1,98 @@
+package com.hermes.jpa.retry;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * 충돌 재시도 횟수와 트랜잭션 참여 시 동작 검증
+ */
+class TransactionRetryTemplateTest {
+
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+    }
+
+    @Test
+    void 충돌하면_새_트랜잭션에서_재시도() {
+        // given
+        when(transactionManager.getTransaction(any(TransactionDefinition.class))).thenReturn(new SimpleTransactionStatus());
+        TransactionRetryTemplate retryTemplate = new TransactionRetryTemplate("테스트", transactionManager, 3, 0);
+        AtomicInteger attempts = new AtomicInteger();
+
+        // when
+        String result = retryTemplate.execute("op", () -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new OptimisticLockingFailureException("conflict");
+            }
+            return "ok";
+        });
+
+        // then
+        assertEquals("ok", result);
+        assertEquals(3, attempts.get());
+        verify(transactionManager, times(3)).getTransaction(any(TransactionDefinition.class));
+        verify(transactionManager, times(2)).rollback(any());
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    void 재시도_한도를_넘으면_마지막_충돌을_전파() {
+        // given
+        when(transactionManager.getTransaction(any(TransactionDefinition.class))).thenReturn(new SimpleTransactionStatus());
+        TransactionRetryTemplate retryTemplate = new TransactionRetryTemplate("테스트", transactionManager, 2, 0);
+        AtomicInteger attempts = new AtomicInteger();
+
+        // when & then
+        assertThrows(OptimisticLockingFailureException.class, () -> retryTemplate.execute("op", () -> {
+            attempts.incrementAndGet();
+            throw new OptimisticLockingFailureException("conflict");
+        }));
+        assertEquals(2, attempts.get());
+    }
+
+    @Test
+    void 충돌이_아닌_예외는_재시도하지_않음() {
+        // given
+        when(transactionManager.getTransaction(any(TransactionDefinition.class))).thenReturn(new SimpleTransactionStatus());
+        TransactionRetryTemplate retryTemplate = new TransactionRetryTemplate("테스트", transactionManager, 3, 0);
+        AtomicInteger attempts = new AtomicInteger();
+
+        // when & then
+        assertThrows(DataIntegrityViolationException.class, () -> retryTemplate.execute("op", () -> {
+            attempts.incrementAndGet();
+            throw new DataIntegrityViolationException("constraint");
+        }));
+        assertEquals(1, attempts.get());
+    }
+
+    @Test
+    void 진행_중인_트랜잭션에_참여하면_재시도하지_않고_전파() {
+        // given
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionRetryTemplate retryTemplate = new TransactionRetryTemplate("테스트", transactionManager, 3, 0);
+        AtomicInteger attempts = new AtomicInteger();
+
+        // when & then
+        assertThrows(OptimisticLockingFailureException.class, () -> retryTemplate.execute("op", () -> {
+            attempts.incrementAndGet();
+            throw new OptimisticLockingFailureException("conflict");
+        }));
+        assertEquals(1, attempts.get());
+        verifyNoInteractions(transactionManager);
+    }
+}
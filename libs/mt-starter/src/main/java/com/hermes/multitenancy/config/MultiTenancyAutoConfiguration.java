@@ -1,6 +1,6 @@
 package com.hermes.multitenancy.config;
 
-import com.hermes.multitenancy.flyway.FlywayTenantInitializer;
+import com.hermes.multitenancy.flyway.TenantMigrationCoordinator;
 import com.hermes.multitenancy.flyway.TenantSchemaMigrationInitializer;
 import com.hermes.multitenancy.hibernate.SchemaBasedConnectionProvider;
 import com.hermes.multitenancy.hibernate.TenantIdentifierResolver;
@@ -54,10 +54,10 @@ public class MultiTenancyAutoConfiguration {
     @ConditionalOnClass(name = "org.flywaydb.core.Flyway")
     public TenantSchemaMigrationInitializer tenantSchemaMigrationInitializer(
             SchemaUtils schemaUtils,
-            FlywayTenantInitializer flywayTenantInitializer,
+            TenantMigrationCoordinator tenantMigrationCoordinator,
             MultiTenancyProperties multiTenancyProperties) {
 
         log.info("Registering TenantSchemaMigrationInitializer for automatic startup migration");
-        return new TenantSchemaMigrationInitializer(schemaUtils, flywayTenantInitializer, multiTenancyProperties);
+        return new TenantSchemaMigrationInitializer(schemaUtils, tenantMigrationCoordinator, multiTenancyProperties);
     }
 }
@@ -3,6 +3,7 @@ package com.hermes.multitenancy.config;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.time.Duration;
 import java.util.List;
 
 /**
@@ -27,6 +28,26 @@ public class MultiTenancyProperties {
      */
     private RabbitMQConfig rabbitmq = new RabbitMQConfig();
 
+    /**
+     * 테넌트 Connection 설정
+     */
+    private ConnectionConfig connection = new ConnectionConfig();
+
+    /**
+     * 테넌트 스키마(search_path) 적용 방식
+     */
+    public enum SearchPathMode {
+        /**
+         * 체크아웃마다 search_path를 조회/설정하고 반납 시 초기화
+         */
+        RESET,
+
+        /**
+         * 물리 Connection별로 적용된 스키마를 추적하여 이미 일치하면 설정을 생략하고, 반납 시 초기화하지 않음
+         */
+        PINNED
+    }
+
     @Data
     public static class FlywayConfig {
 
@@ -79,6 +100,33 @@ public class MultiTenancyProperties {
          * migration 실행 시 트랜잭션 사용 여부
          */
         private boolean executeInTransaction = true;
+
+        /**
+         * 시작 시 테넌트 스키마 migration 동시 실행 작업자 수 (1이면 순차 실행)
+         */
+        private int migrationParallelism = 1;
+
+        /**
+         * migration 스크립트를 한 번만 로드하여 모든 스키마에서 공유할지 여부
+         */
+        private boolean cacheMigrationResources = true;
+
+        /**
+         * 시작 시 migration을 백그라운드로 실행하여 완료를 기다리지 않을지 여부
+         * 활성화하면 아직 migration되지 않은 테넌트는 첫 접근 시 migration 완료 후 Connection을 제공
+         */
+        private boolean lazyMigrationEnabled = false;
+
+        /**
+         * 지연 migration 모드에서 migration에 실패한 스키마를 다시 시도하기까지의 대기 시간
+         * 연속으로 실패할 때마다 두 배로 늘어나며, 대기 중인 접근은 Flyway를 다시 실행하지 않고 즉시 실패
+         */
+        private Duration lazyMigrationRetryBackoff = Duration.ofSeconds(30);
+
+        /**
+         * 지연 migration 재시도 대기 시간 최대값
+         */
+        private Duration lazyMigrationMaxRetryBackoff = Duration.ofMinutes(10);
     }
 
     @Data
@@ -130,4 +178,14 @@ public class MultiTenancyProperties {
         private String deadLetterQueuePattern = "tenant.events.dlq.{serviceName}";
     }
 
+    @Data
+    public static class ConnectionConfig {
+
+        /**
+         * search_path 적용 방식
+         * PINNED 모드는 DataSource를 Hibernate 외 경로(JdbcTemplate 등)에서 스키마 미지정 쿼리로 사용하지 않는 서비스에서만 사용
+         */
+        private SearchPathMode searchPathMode = SearchPathMode.RESET;
+    }
+
 }
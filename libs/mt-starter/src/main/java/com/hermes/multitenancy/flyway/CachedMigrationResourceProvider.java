@@ -0,0 +1,162 @@
+package com.hermes.multitenancy.flyway;
+
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.api.ResourceProvider;
+import org.flywaydb.core.api.resource.LoadableResource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 테넌트 migration 스크립트를 한 번만 스캔/로드하여 모든 스키마의 Flyway 인스턴스가 공유하는 ResourceProvider
+ * 스키마마다 classpath를 다시 스캔하고 SQL 파일을 읽는 비용을 제거한다.
+ */
+@Slf4j
+public class CachedMigrationResourceProvider implements ResourceProvider {
+
+    private static final String CLASSPATH_PREFIX = "classpath:";
+    private static final String FILESYSTEM_PREFIX = "filesystem:";
+
+    private final List<LoadableResource> resources;
+
+    private CachedMigrationResourceProvider(List<LoadableResource> resources) {
+        this.resources = List.copyOf(resources);
+    }
+
+    /**
+     * Flyway location 목록에서 SQL 스크립트를 로드
+     */
+    public static CachedMigrationResourceProvider load(List<String> locations) {
+        PathMatchingResourcePatternResolver resolver = new PathMatchingResourcePatternResolver();
+        List<LoadableResource> loaded = new ArrayList<>();
+
+        for (String location : locations) {
+            String locationPath = stripPrefix(location);
+            String pattern = toSpringLocation(location) + "/**/*.sql";
+
+            try {
+                for (Resource resource : resolver.getResources(pattern)) {
+                    String absolutePath = resource.getURL().toString();
+                    String content = StreamUtils.copyToString(resource.getInputStream(), StandardCharsets.UTF_8);
+                    loaded.add(new CachedResource(absolutePath, relativePath(absolutePath, locationPath),
+                            resource.getFilename(), content));
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to load migration resources from: " + location, e);
+            }
+        }
+
+        log.info("Cached {} tenant migration resources from {}", loaded.size(), locations);
+        return new CachedMigrationResourceProvider(loaded);
+    }
+
+    @Override
+    public LoadableResource getResource(String name) {
+        return resources.stream()
+                .filter(resource -> resource.getRelativePath().equals(name))
+                .findFirst()
+                .orElse(null);
+    }
+
+    @Override
+    public Collection<LoadableResource> getResources(String prefix, String[] suffixes) {
+        return resources.stream()
+                .filter(resource -> resource.getFilename().startsWith(prefix))
+                .filter(resource -> Arrays.stream(suffixes).anyMatch(resource.getFilename()::endsWith))
+                .toList();
+    }
+
+    public int size() {
+        return resources.size();
+    }
+
+    private static String stripPrefix(String location) {
+        if (location.startsWith(CLASSPATH_PREFIX)) {
+            return trimSlashes(location.substring(CLASSPATH_PREFIX.length()));
+        }
+        if (location.startsWith(FILESYSTEM_PREFIX)) {
+            return trimSlashes(location.substring(FILESYSTEM_PREFIX.length()));
+        }
+        return trimSlashes(location);
+    }
+
+    private static String toSpringLocation(String location) {
+        if (location.startsWith(FILESYSTEM_PREFIX)) {
+            return "file:" + location.substring(FILESYSTEM_PREFIX.length());
+        }
+        // 여러 jar에 나뉜 migration도 모두 포함
+        return "classpath*:" + stripPrefix(location);
+    }
+
+    private static String relativePath(String absolutePath, String locationPath) {
+        int index = absolutePath.lastIndexOf(locationPath + "/");
+        if (index < 0) {
+            return absolutePath.substring(absolutePath.lastIndexOf('/') + 1);
+        }
+        return absolutePath.substring(index + locationPath.length() + 1);
+    }
+
+    private static String trimSlashes(String path) {
+        String result = path;
+        while (result.startsWith("/")) {
+            result = result.substring(1);
+        }
+        while (result.endsWith("/")) {
+            result = result.substring(0, result.length() - 1);
+        }
+        return result;
+    }
+
+    /**
+     * 메모리에 로드된 migration 스크립트
+     */
+    private static final class CachedResource extends LoadableResource {
+
+        private final String absolutePath;
+        private final String relativePath;
+        private final String filename;
+        private final String content;
+
+        private CachedResource(String absolutePath, String relativePath, String filename, String content) {
+            this.absolutePath = absolutePath;
+            this.relativePath = relativePath;
+            this.filename = filename;
+            this.content = content;
+        }
+
+        @Override
+        public Reader read() {
+            return new StringReader(content);
+        }
+
+        @Override
+        public String getAbsolutePath() {
+            return absolutePath;
+        }
+
+        @Override
+        public String getAbsolutePathOnDisk() {
+            return absolutePath;
+        }
+
+        @Override
+        public String getFilename() {
+            return filename;
+        }
+
+        @Override
+        public String getRelativePath() {
+            return relativePath;
+        }
+    }
+}
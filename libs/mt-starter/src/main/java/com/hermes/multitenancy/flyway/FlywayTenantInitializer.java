@@ -5,6 +5,7 @@ import com.hermes.multitenancy.util.SchemaUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.configuration.FluentConfiguration;
 import org.springframework.stereotype.Component;
 
 import javax.sql.DataSource;
@@ -21,6 +22,11 @@ public class FlywayTenantInitializer {
     private final SchemaUtils schemaUtils;
     private final MultiTenancyProperties multiTenancyProperties;
     
+    /**
+     * 모든 스키마가 공유하는 Flyway 기본 설정 (스키마만 달리하여 재사용)
+     */
+    private volatile FluentConfiguration baseConfiguration;
+    
     /**
      * 새 테넌트 스키마 생성 및 Migration 실행
      */
@@ -65,26 +71,59 @@ public class FlywayTenantInitializer {
     
     /**
      * 특정 스키마에 대해 Flyway Migration 실행
+     *
+     * @return 실행된 migration 수
      */
-    private void runFlywayMigration(String schemaName) {
+    private int runFlywayMigration(String schemaName) {
         log.debug("Running Flyway migration for schema: {}", schemaName);
         
-        Flyway flyway = Flyway.configure()
-                .dataSource(dataSource)
+        // Migration 실행
+        int migrationsExecuted = flywayFor(schemaName).migrate().migrationsExecuted;
+        log.info("Executed {} migrations for schema: {}", migrationsExecuted, schemaName);
+        return migrationsExecuted;
+    }
+    
+    /**
+     * 특정 스키마 대상 Flyway 인스턴스 생성 (공유 기본 설정 사용)
+     */
+    private Flyway flywayFor(String schemaName) {
+        return Flyway.configure()
+                .configuration(baseConfiguration())
                 .schemas(schemaName)  // 특정 스키마 대상
-                .locations(multiTenancyProperties.getFlyway().getLocations().toArray(new String[0]))
-                .table(multiTenancyProperties.getFlyway().getTable())
-                .baselineVersion(multiTenancyProperties.getFlyway().getBaselineVersion())
-                .baselineDescription(multiTenancyProperties.getFlyway().getBaselineDescription())
-                .baselineOnMigrate(multiTenancyProperties.getFlyway().isBaselineOnMigrate())
-                .validateOnMigrate(multiTenancyProperties.getFlyway().isValidateOnMigrate())
-                .cleanOnValidationError(multiTenancyProperties.getFlyway().isCleanOnValidationError())
-                .executeInTransaction(multiTenancyProperties.getFlyway().isExecuteInTransaction())
                 .load();
+    }
+    
+    /**
+     * Flyway 기본 설정을 최초 1회만 생성
+     * migration 리소스 캐시가 활성화되어 있으면 스크립트 스캔/로드도 이 시점에 한 번만 수행
+     */
+    private FluentConfiguration baseConfiguration() {
+        FluentConfiguration configuration = baseConfiguration;
+        if (configuration != null) {
+            return configuration;
+        }
         
-        // Migration 실행
-        int migrationsExecuted = flyway.migrate().migrationsExecuted;
-        log.info("Executed {} migrations for schema: {}", migrationsExecuted, schemaName);
+        synchronized (this) {
+            if (baseConfiguration == null) {
+                MultiTenancyProperties.FlywayConfig flywayConfig = multiTenancyProperties.getFlyway();
+                FluentConfiguration created = Flyway.configure()
+                        .dataSource(dataSource)
+                        .locations(flywayConfig.getLocations().toArray(new String[0]))
+                        .table(flywayConfig.getTable())
+                        .baselineVersion(flywayConfig.getBaselineVersion())
+                        .baselineDescription(flywayConfig.getBaselineDescription())
+                        .baselineOnMigrate(flywayConfig.isBaselineOnMigrate())
+                        .validateOnMigrate(flywayConfig.isValidateOnMigrate())
+                        .cleanOnValidationError(flywayConfig.isCleanOnValidationError())
+                        .executeInTransaction(flywayConfig.isExecuteInTransaction());
+                
+                if (flywayConfig.isCacheMigrationResources()) {
+                    created.resourceProvider(CachedMigrationResourceProvider.load(flywayConfig.getLocations()));
+                }
+                baseConfiguration = created;
+            }
+            return baseConfiguration;
+        }
     }
     
     /**
@@ -92,14 +131,7 @@ public class FlywayTenantInitializer {
      */
     public boolean isMigrationRequired(String schemaName) {
         try {
-            Flyway flyway = Flyway.configure()
-                    .dataSource(dataSource)
-                    .schemas(schemaName)
-                    .locations(multiTenancyProperties.getFlyway().getLocations().toArray(new String[0]))
-                    .table(multiTenancyProperties.getFlyway().getTable())
-                    .load();
-                    
-            return flyway.info().pending().length > 0;
+            return flywayFor(schemaName).info().pending().length > 0;
             
         } catch (Exception e) {
             log.warn("Could not check migration status for schema: {}", schemaName, e);
@@ -112,14 +144,7 @@ public class FlywayTenantInitializer {
      */
     public void logMigrationInfo(String schemaName) {
         try {
-            Flyway flyway = Flyway.configure()
-                    .dataSource(dataSource)
-                    .schemas(schemaName)
-                    .locations(multiTenancyProperties.getFlyway().getLocations().toArray(new String[0]))
-                    .table(multiTenancyProperties.getFlyway().getTable())
-                    .load();
-
-            var info = flyway.info();
+            var info = flywayFor(schemaName).info();
             log.info("Migration info for schema '{}': {} applied, {} pending",
                     schemaName, info.applied().length, info.pending().length);
 
@@ -130,23 +155,27 @@ public class FlywayTenantInitializer {
 
     /**
      * 기존 스키마에 대해서만 Flyway Migration 실행 (스키마 생성 없이)
+     *
+     * @return 실행된 migration 수
      */
-    public void runMigrationOnly(String schemaName) {
+    public int runMigrationOnly(String schemaName) {
         try {
             log.info("Running migration for existing schema: {}", schemaName);
 
             // 스키마 존재 여부 확인
             if (!schemaUtils.schemaExists(schemaName)) {
                 log.warn("Schema does not exist, skipping migration: {}", schemaName);
-                return;
+                return 0;
             }
 
             // Flyway migration만 실행
             if (multiTenancyProperties.getFlyway().isEnabled()) {
-                runFlywayMigration(schemaName);
+                int migrationsExecuted = runFlywayMigration(schemaName);
                 log.info("Flyway migration completed for existing schema: {}", schemaName);
+                return migrationsExecuted;
             } else {
                 log.info("Flyway is disabled, skipping migration for schema: {}", schemaName);
+                return 0;
             }
 
         } catch (Exception e) {
@@ -154,35 +183,4 @@ public class FlywayTenantInitializer {
             throw new RuntimeException("Migration failed for schema: " + schemaName, e);
         }
     }
-
-    /**
-     * 여러 스키마에 대해 일괄적으로 Migration 실행
-     */
-    public void runMigrationsForSchemas(java.util.List<String> schemaNames) {
-        if (schemaNames == null || schemaNames.isEmpty()) {
-            log.info("No schemas provided for migration");
-            return;
-        }
-
-        log.info("Starting migrations for {} schemas: {}", schemaNames.size(), schemaNames);
-
-        int successCount = 0;
-        int failureCount = 0;
-
-        for (String schemaName : schemaNames) {
-            try {
-                runMigrationOnly(schemaName);
-                successCount++;
-            } catch (Exception e) {
-                log.error("Migration failed for schema: {}", schemaName, e);
-                failureCount++;
-            }
-        }
-
-        log.info("Migration completed. Success: {}, Failed: {}", successCount, failureCount);
-
-        if (failureCount > 0) {
-            log.warn("Some migrations failed. Please check the logs for details.");
-        }
-    }
 }
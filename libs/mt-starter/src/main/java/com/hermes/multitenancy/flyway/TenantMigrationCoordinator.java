@@ -0,0 +1,261 @@
+package com.hermes.multitenancy.flyway;
+
+import com.hermes.multitenancy.config.MultiTenancyProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * 테넌트 스키마 Migration 조정기
+ *
+ * 시작 시 기존 테넌트 스키마들을 제한된 병렬도로 migration하고, 스키마별 진행 상황과 소요 시간을 Micrometer로 기록한다.
+ * 지연 migration 모드에서는 백그라운드 migration이 끝나지 않은 테넌트에 처음 접근할 때
+ * 해당 스키마만 먼저 migration하며, 같은 스키마는 동시에 두 번 migration되지 않는다.
+ * migration에 실패한 스키마는 재시도 대기 시간이 지날 때까지 Flyway를 다시 실행하지 않고 접근을 즉시 실패시킨다.
+ */
+@Slf4j
+@Component
+public class TenantMigrationCoordinator {
+
+    static final String DURATION_METRIC = "tenant.migration.duration";
+    static final String SCHEMAS_METRIC = "tenant.migration.schemas";
+    static final String STARTUP_COMPLETED_METRIC = "tenant.migration.startup.completed";
+    static final String BACKOFF_REJECTED_METRIC = "tenant.migration.backoff.rejected";
+
+    private final FlywayTenantInitializer flywayTenantInitializer;
+    private final MultiTenancyProperties multiTenancyProperties;
+    private final MeterRegistry meterRegistry;
+    private final Clock clock;
+    private final Counter backoffRejected;
+
+    /**
+     * 스키마별 migration 진행/완료 상태 (완료된 future는 migration 완료를 의미)
+     */
+    private final Map<String, CompletableFuture<Void>> migrations = new ConcurrentHashMap<>();
+
+    /**
+     * migration에 실패한 스키마별 연속 실패 횟수와 재시도 가능 시각 (성공하면 제거)
+     */
+    private final Map<String, FailedMigration> failures = new ConcurrentHashMap<>();
+
+    private final AtomicInteger completedCount = new AtomicInteger();
+    private final AtomicInteger failedCount = new AtomicInteger();
+    private volatile int totalCount;
+    private volatile boolean startupMigrationCompleted;
+
+    @Autowired
+    public TenantMigrationCoordinator(FlywayTenantInitializer flywayTenantInitializer,
+                                      MultiTenancyProperties multiTenancyProperties,
+                                      ObjectProvider<MeterRegistry> meterRegistry) {
+        // Actuator가 없는 서비스는 전역 레지스트리에 등록 (등록된 구현이 없으면 기록되지 않음)
+        this(flywayTenantInitializer, multiTenancyProperties,
+                meterRegistry.getIfAvailable(() -> Metrics.globalRegistry), Clock.systemUTC());
+    }
+
+    TenantMigrationCoordinator(FlywayTenantInitializer flywayTenantInitializer,
+                               MultiTenancyProperties multiTenancyProperties,
+                               MeterRegistry meterRegistry,
+                               Clock clock) {
+        this.flywayTenantInitializer = flywayTenantInitializer;
+        this.multiTenancyProperties = multiTenancyProperties;
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+
+        registerSchemaGauge("total", coordinator -> coordinator.totalCount);
+        registerSchemaGauge("completed", coordinator -> coordinator.completedCount.get());
+        registerSchemaGauge("failed", coordinator -> coordinator.failures.size());
+        registerSchemaGauge("pending", coordinator -> Math.max(0,
+                coordinator.totalCount - coordinator.completedCount.get() - coordinator.failures.size()));
+        Gauge.builder(STARTUP_COMPLETED_METRIC, this, coordinator -> coordinator.startupMigrationCompleted ? 1 : 0)
+                .description("시작 시 테넌트 스키마 migration 완료 여부 (1: 완료)")
+                .register(meterRegistry);
+        backoffRejected = Counter.builder(BACKOFF_REJECTED_METRIC)
+                .description("migration 재시도 대기 중이라 즉시 실패시킨 테넌트 접근 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 시작 시 전체 테넌트 스키마 migration
+     * 지연 migration 모드면 백그라운드에서 실행하고 즉시 반환
+     */
+    public void migrateOnStartup(List<String> schemaNames) {
+        totalCount = schemaNames.size();
+
+        if (isLazyMigration()) {
+            log.info("Starting background migration for {} tenant schemas", schemaNames.size());
+            Thread worker = new Thread(() -> migrateAll(schemaNames), "tenant-migration-startup");
+            worker.setDaemon(true);
+            worker.start();
+        } else {
+            migrateAll(schemaNames);
+        }
+    }
+
+    /**
+     * 스키마가 migration된 상태임을 보장 (지연 migration 모드에서 첫 접근 시 호출)
+     * 다른 스레드가 migration 중이면 완료를 기다린다.
+     */
+    public void ensureMigrated(String schemaName) {
+        if (!isLazyMigration() || startupMigrationCompleted || schemaName == null) {
+            return;
+        }
+
+        CompletableFuture<Void> migration = migrations.get(schemaName);
+        if (migration != null && migration.isDone() && !migration.isCompletedExceptionally()) {
+            return;
+        }
+
+        FailedMigration failure = failures.get(schemaName);
+        if (failure != null && clock.millis() < failure.retryAtMillis()) {
+            backoffRejected.increment();
+            throw new IllegalStateException("Migration failed for schema: " + schemaName
+                    + " (attempt " + failure.attempts() + "), retrying after "
+                    + Instant.ofEpochMilli(failure.retryAtMillis()), failure.cause());
+        }
+
+        log.info("Tenant schema '{}' accessed before startup migration completed, migrating on demand", schemaName);
+        try {
+            migrate(schemaName).join();
+        } catch (CompletionException e) {
+            throw new IllegalStateException("Migration failed for schema: " + schemaName, e.getCause());
+        }
+    }
+
+    public int getCompletedCount() {
+        return completedCount.get();
+    }
+
+    public int getFailedCount() {
+        return failedCount.get();
+    }
+
+    public int getTotalCount() {
+        return totalCount;
+    }
+
+    public boolean isStartupMigrationCompleted() {
+        return startupMigrationCompleted;
+    }
+
+    private void migrateAll(List<String> schemaNames) {
+        int parallelism = Math.max(1, Math.min(
+                multiTenancyProperties.getFlyway().getMigrationParallelism(), schemaNames.size()));
+        long startTime = System.currentTimeMillis();
+        log.info("Starting migrations for {} schemas with parallelism {}", schemaNames.size(), parallelism);
+
+        AtomicInteger threadIndex = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "tenant-migration-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        try {
+            List<CompletableFuture<Void>> futures = new ArrayList<>();
+            for (String schemaName : schemaNames) {
+                futures.add(CompletableFuture.runAsync(() -> migrate(schemaName).join(), executor)
+                        .exceptionally(e -> null)); // 실패는 migrate에서 기록됨
+            }
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        } finally {
+            executor.shutdown();
+        }
+
+        startupMigrationCompleted = failedCount.get() == 0;
+        log.info("Migration completed in {} ms. Success: {}, Failed: {}",
+                System.currentTimeMillis() - startTime, completedCount.get(), failedCount.get());
+
+        if (failedCount.get() > 0) {
+            log.warn("Some migrations failed. Please check the logs for details.");
+        }
+    }
+
+    /**
+     * 스키마 migration 실행 (이미 실행 중이거나 완료되었으면 해당 결과를 재사용, 실패했으면 재시도)
+     */
+    private CompletableFuture<Void> migrate(String schemaName) {
+        CompletableFuture<Void> created = new CompletableFuture<>();
+        CompletableFuture<Void> existing = migrations.compute(schemaName, (key, current) ->
+                current == null || current.isCompletedExceptionally() ? created : current);
+
+        if (existing != created) {
+            return existing;
+        }
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            int migrationsExecuted = flywayTenantInitializer.runMigrationOnly(schemaName);
+            long duration = TimeUnit.NANOSECONDS.toMillis(sample.stop(migrationTimer(schemaName, "success")));
+            failures.remove(schemaName);
+
+            log.info("[{}/{}] Migrated schema '{}' in {} ms ({} migrations executed)",
+                    completedCount.incrementAndGet(), totalCount, schemaName, duration, migrationsExecuted);
+            created.complete(null);
+        } catch (Exception e) {
+            sample.stop(migrationTimer(schemaName, "failure"));
+            failedCount.incrementAndGet();
+            FailedMigration failure = failures.compute(schemaName, (key, previous) -> {
+                int attempts = previous == null ? 1 : previous.attempts() + 1;
+                return new FailedMigration(attempts, clock.millis() + retryBackoff(attempts).toMillis(), e);
+            });
+            log.error("Migration failed for schema: {} (attempt {}, retry after {})",
+                    schemaName, failure.attempts(), Instant.ofEpochMilli(failure.retryAtMillis()), e);
+            created.completeExceptionally(e);
+        }
+        return created;
+    }
+
+    /**
+     * 연속 실패 횟수에 따른 재시도 대기 시간 (기본 대기 시간에서 실패할 때마다 두 배, 최대값 제한)
+     */
+    private Duration retryBackoff(int attempts) {
+        MultiTenancyProperties.FlywayConfig flywayConfig = multiTenancyProperties.getFlyway();
+        Duration backoff = flywayConfig.getLazyMigrationRetryBackoff().multipliedBy(1L << Math.min(attempts - 1, 20));
+        Duration maxBackoff = flywayConfig.getLazyMigrationMaxRetryBackoff();
+        return backoff.compareTo(maxBackoff) > 0 ? maxBackoff : backoff;
+    }
+
+    private Timer migrationTimer(String schemaName, String outcome) {
+        return Timer.builder(DURATION_METRIC)
+                .description("테넌트 스키마별 migration 소요 시간")
+                .tag("schema", schemaName)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private void registerSchemaGauge(String state, ToDoubleFunction<TenantMigrationCoordinator> value) {
+        Gauge.builder(SCHEMAS_METRIC, this, value)
+                .description("상태별 테넌트 스키마 migration 수")
+                .tag("state", state)
+                .register(meterRegistry);
+    }
+
+    private boolean isLazyMigration() {
+        MultiTenancyProperties.FlywayConfig flywayConfig = multiTenancyProperties.getFlyway();
+        return flywayConfig.isEnabled() && flywayConfig.isLazyMigrationEnabled();
+    }
+
+    private record FailedMigration(int attempts, long retryAtMillis, Exception cause) {
+    }
+}
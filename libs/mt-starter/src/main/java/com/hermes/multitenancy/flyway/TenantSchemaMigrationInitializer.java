@@ -15,6 +15,7 @@ import java.util.List;
  *
  * 이 컴포넌트는 애플리케이션이 시작될 때 데이터베이스에서 "tenant_"로 시작하는
  * 기존 스키마들을 자동으로 찾아서 Flyway migration을 실행합니다.
+ * 병렬도와 지연 migration 여부는 {@link TenantMigrationCoordinator}가 설정에 따라 처리합니다.
  */
 @Slf4j
 @RequiredArgsConstructor
@@ -22,7 +23,7 @@ import java.util.List;
 public class TenantSchemaMigrationInitializer implements ApplicationRunner {
 
     private final SchemaUtils schemaUtils;
-    private final FlywayTenantInitializer flywayTenantInitializer;
+    private final TenantMigrationCoordinator tenantMigrationCoordinator;
     private final MultiTenancyProperties multiTenancyProperties;
 
     @Override
@@ -50,13 +51,14 @@ public class TenantSchemaMigrationInitializer implements ApplicationRunner {
 
             log.info("Found {} existing tenant schemas", tenantSchemas.size());
 
-            // 각 스키마의 migration 상태 확인 및 로그
-            logMigrationStatus(tenantSchemas);
+            // 일괄 migration 실행 (up-to-date 스키마는 Flyway가 상태 확인만 수행)
+            tenantMigrationCoordinator.migrateOnStartup(tenantSchemas);
 
-            // 일괄 migration 실행
-            flywayTenantInitializer.runMigrationsForSchemas(tenantSchemas);
-
-            log.info("Tenant schema migration initialization completed successfully");
+            if (multiTenancyProperties.getFlyway().isLazyMigrationEnabled()) {
+                log.info("Tenant schema migration continues in background; schemas are migrated on first access");
+            } else {
+                log.info("Tenant schema migration initialization completed successfully");
+            }
 
         } catch (Exception e) {
             log.error("Failed to initialize tenant schema migrations", e);
@@ -66,25 +68,4 @@ public class TenantSchemaMigrationInitializer implements ApplicationRunner {
             log.warn("Application will continue despite migration initialization failure");
         }
     }
-
-    /**
-     * 각 스키마의 migration 상태를 로깅
-     */
-    private void logMigrationStatus(List<String> tenantSchemas) {
-        log.info("Checking migration status for {} tenant schemas...", tenantSchemas.size());
-
-        for (String schemaName : tenantSchemas) {
-            try {
-                boolean migrationRequired = flywayTenantInitializer.isMigrationRequired(schemaName);
-                if (migrationRequired) {
-                    log.info("Schema '{}' has pending migrations", schemaName);
-                    flywayTenantInitializer.logMigrationInfo(schemaName);
-                } else {
-                    log.debug("Schema '{}' is up to date", schemaName);
-                }
-            } catch (Exception e) {
-                log.warn("Failed to check migration status for schema: {}", schemaName, e);
-            }
-        }
-    }
-}
\ No newline at end of file
+}
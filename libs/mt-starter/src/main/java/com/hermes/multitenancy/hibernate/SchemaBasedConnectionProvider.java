@@ -1,5 +1,7 @@
 package com.hermes.multitenancy.hibernate;
 
+import com.hermes.multitenancy.config.MultiTenancyProperties;
+import com.hermes.multitenancy.flyway.TenantMigrationCoordinator;
 import com.hermes.multitenancy.util.TenantUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -10,10 +12,18 @@ import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Schema-per-tenant 방식의 Connection Provider
  * 단일 DataSource를 사용하되 tenant별로 search_path를 동적 변경
+ *
+ * PINNED 모드에서는 물리 Connection마다 마지막으로 적용한 스키마를 기억하여,
+ * 같은 테넌트가 같은 Connection을 다시 사용할 때 search_path 조회/설정/초기화 왕복을 생략한다.
  */
 @Slf4j
 @Component
@@ -21,11 +31,29 @@ import java.sql.Statement;
 public class SchemaBasedConnectionProvider implements MultiTenantConnectionProvider<String> {
 
     private final DataSource dataSource;
+    private final MultiTenancyProperties properties;
+    private final TenantMigrationCoordinator tenantMigrationCoordinator;
+
+    /**
+     * 물리 Connection별 search_path 상태 (PINNED 모드)
+     * Pool에서 Connection이 폐기되면 함께 정리되도록 WeakHashMap 사용
+     */
+    private final Map<Connection, PinnedSearchPath> pinnedSearchPaths =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final AtomicLong searchPathSetCount = new AtomicLong();
+    private final AtomicLong searchPathReuseCount = new AtomicLong();
 
     @Override
     public Connection getAnyConnection() throws SQLException {
         log.debug("Getting any connection (no schema set)");
-        return dataSource.getConnection();
+        Connection connection = dataSource.getConnection();
+
+        if (isPinnedMode()) {
+            // 다른 테넌트 스키마가 남아 있을 수 있으므로 기본 search_path로 복원
+            applyWithCleanup(connection, null);
+        }
+        return connection;
     }
 
     @Override
@@ -40,8 +68,19 @@ public class SchemaBasedConnectionProvider implements MultiTenantConnectionProvi
     public Connection getConnection(String tenantId) throws SQLException {
         log.debug("Getting connection for tenant: {}", tenantId);
 
+        // 지연 migration 모드에서 아직 migration되지 않은 테넌트면 먼저 migration
+        if (!tenantId.isEmpty()) {
+            tenantMigrationCoordinator.ensureMigrated(TenantUtils.generateSchemaName(tenantId));
+        }
+
         Connection connection = dataSource.getConnection();
 
+        if (isPinnedMode()) {
+            String schemaName = tenantId.isEmpty() ? null : TenantUtils.generateSchemaName(tenantId);
+            applyWithCleanup(connection, schemaName);
+            return connection;
+        }
+
         try {
             if (!tenantId.isEmpty()) {
                 String schemaName = TenantUtils.generateSchemaName(tenantId);
@@ -53,11 +92,7 @@ public class SchemaBasedConnectionProvider implements MultiTenantConnectionProvi
 
         } catch (SQLException e) {
             log.error("Failed to configure connection for tenant: {}", tenantId, e);
-            try {
-                connection.close();
-            } catch (SQLException closeException) {
-                log.warn("Failed to close connection after error", closeException);
-            }
+            closeQuietly(connection);
             throw e;
         }
     }
@@ -67,6 +102,12 @@ public class SchemaBasedConnectionProvider implements MultiTenantConnectionProvi
         log.debug("Releasing connection for tenant: {}", tenantId);
 
         if (connection != null && !connection.isClosed()) {
+            if (isPinnedMode()) {
+                // PINNED 모드에서는 다음 체크아웃에서 필요할 때만 search_path를 변경
+                connection.close();
+                return;
+            }
+
             try {
                 // Connection을 반납하기 전에 search_path를 기본값으로 재설정
                 // 이는 Connection Pool에서 재사용될 때 안전성을 보장
@@ -86,6 +127,20 @@ public class SchemaBasedConnectionProvider implements MultiTenantConnectionProvi
         return true;
     }
 
+    /**
+     * search_path를 실제로 변경한 횟수 (PINNED 모드)
+     */
+    public long getSearchPathSetCount() {
+        return searchPathSetCount.get();
+    }
+
+    /**
+     * 이미 적용된 스키마와 일치하여 search_path 변경을 생략한 횟수 (PINNED 모드)
+     */
+    public long getSearchPathReuseCount() {
+        return searchPathReuseCount.get();
+    }
+
     @Override
     public boolean isUnwrappableAs(Class<?> unwrapType) {
         return false;
@@ -96,6 +151,84 @@ public class SchemaBasedConnectionProvider implements MultiTenantConnectionProvi
         throw new UnsupportedOperationException("Unwrapping is not supported by this implementation");
     }
 
+    private boolean isPinnedMode() {
+        return properties.getConnection().getSearchPathMode() == MultiTenancyProperties.SearchPathMode.PINNED;
+    }
+
+    /**
+     * PINNED 모드 스키마 적용, 실패 시 Connection을 닫고 예외 전파
+     */
+    private void applyWithCleanup(Connection connection, String schemaName) throws SQLException {
+        try {
+            applyPinnedSchema(connection, schemaName);
+        } catch (SQLException e) {
+            log.error("Failed to configure pinned connection for schema: {}", schemaName, e);
+            closeQuietly(connection);
+            throw e;
+        }
+    }
+
+    /**
+     * 물리 Connection에 적용된 스키마가 다를 때만 search_path 설정
+     * 기본 search_path는 물리 Connection당 최초 1회만 조회
+     *
+     * @param schemaName 적용할 테넌트 스키마 (null이면 기본 search_path)
+     */
+    private void applyPinnedSchema(Connection connection, String schemaName) throws SQLException {
+        Connection physical = unwrapPhysical(connection);
+        PinnedSearchPath state = pinnedSearchPaths.get(physical);
+
+        if (state == null) {
+            state = new PinnedSearchPath(getCurrentSearchPath(connection));
+            pinnedSearchPaths.put(physical, state);
+        }
+
+        if (Objects.equals(state.appliedSchema, schemaName)) {
+            searchPathReuseCount.incrementAndGet();
+            log.debug("Reusing pinned search_path for schema '{}'", schemaName);
+            return;
+        }
+
+        String searchPath = schemaName != null
+                ? schemaName + ", " + state.baseSearchPath
+                : state.baseSearchPath;
+        String sql = "SET search_path TO " + searchPath;
+        log.debug("Executing: {} (pinned: {})", sql, state.appliedSchema);
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        } catch (SQLException e) {
+            // 실제 상태를 알 수 없으므로 다음 체크아웃에서 다시 조회
+            pinnedSearchPaths.remove(physical);
+            throw e;
+        }
+
+        state.appliedSchema = schemaName;
+        searchPathSetCount.incrementAndGet();
+    }
+
+    /**
+     * Pool 프록시를 벗겨 물리 Connection 조회 (프록시가 아니면 그대로 사용)
+     */
+    private Connection unwrapPhysical(Connection connection) {
+        try {
+            if (connection.isWrapperFor(Connection.class)) {
+                return connection.unwrap(Connection.class);
+            }
+        } catch (SQLException e) {
+            log.debug("Failed to unwrap pooled connection, using proxy as key", e);
+        }
+        return connection;
+    }
+
+    private void closeQuietly(Connection connection) {
+        try {
+            connection.close();
+        } catch (SQLException closeException) {
+            log.warn("Failed to close connection after error", closeException);
+        }
+    }
+
     /**
      * Connection의 search_path 설정
      * 현재 search_path를 조회하여 테넌트 스키마를 앞에 추가
@@ -142,4 +275,17 @@ public class SchemaBasedConnectionProvider implements MultiTenantConnectionProvi
             statement.execute(sql);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 물리 Connection의 기본 search_path와 현재 적용된 테넌트 스키마
+     */
+    private static final class PinnedSearchPath {
+
+        private final String baseSearchPath;
+        private volatile String appliedSchema;
+
+        private PinnedSearchPath(String baseSearchPath) {
+            this.baseSearchPath = baseSearchPath;
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.hermes.multitenancy.flyway;
+
+import org.flywaydb.core.api.resource.LoadableResource;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * migration 스크립트 캐시의 로드 위치별 경로 계산과 Flyway 조회 규칙 검증
+ */
+class CachedMigrationResourceProviderTest {
+
+    private static final String[] SQL_SUFFIXES = {".sql"};
+
+    @TempDir
+    Path migrationDir;
+
+    @Test
+    void classpath_위치의_하위_디렉토리까지_로드() throws IOException {
+        // when
+        CachedMigrationResourceProvider provider =
+                CachedMigrationResourceProvider.load(List.of("classpath:db/migration/tenant-cache-test"));
+
+        // then
+        assertEquals(2, provider.size());
+        assertEquals("CREATE TABLE sample (id BIGINT PRIMARY KEY);\n",
+                read(provider.getResource("V1__create_sample.sql")));
+        assertNotNull(provider.getResource("feature/V2__add_sample_name.sql"));
+    }
+
+    @Test
+    void filesystem_위치는_location_기준_상대경로로_조회() throws IOException {
+        // given
+        write("V1__init.sql", "CREATE TABLE a (id BIGINT);");
+        write("nested/V2__add.sql", "CREATE TABLE b (id BIGINT);");
+
+        // when
+        CachedMigrationResourceProvider provider =
+                CachedMigrationResourceProvider.load(List.of("filesystem:" + migrationDir));
+
+        // then
+        assertEquals(2, provider.size());
+        assertEquals("CREATE TABLE a (id BIGINT);", read(provider.getResource("V1__init.sql")));
+        assertEquals("CREATE TABLE b (id BIGINT);", read(provider.getResource("nested/V2__add.sql")));
+        assertNull(provider.getResource("V2__add.sql"));
+    }
+
+    @Test
+    void 접두사와_확장자가_일치하는_스크립트만_반환() throws IOException {
+        // given
+        write("V1__init.sql", "SELECT 1;");
+        write("R__refresh_view.sql", "SELECT 2;");
+        write("nested/V2__add.sql", "SELECT 3;");
+        CachedMigrationResourceProvider provider =
+                CachedMigrationResourceProvider.load(List.of("filesystem:" + migrationDir));
+
+        // when
+        Collection<LoadableResource> versioned = provider.getResources("V", SQL_SUFFIXES);
+        Collection<LoadableResource> repeatable = provider.getResources("R__", SQL_SUFFIXES);
+        Collection<LoadableResource> otherSuffix = provider.getResources("V", new String[]{".conf"});
+
+        // then
+        assertEquals(List.of("V1__init.sql", "V2__add.sql"),
+                versioned.stream().map(LoadableResource::getFilename).sorted().toList());
+        assertEquals(1, repeatable.size());
+        assertTrue(otherSuffix.isEmpty());
+    }
+
+    @Test
+    void 여러_위치의_스크립트를_합쳐서_로드() throws IOException {
+        // given
+        write("V10__extra.sql", "SELECT 10;");
+
+        // when
+        CachedMigrationResourceProvider provider = CachedMigrationResourceProvider.load(List.of(
+                "classpath:db/migration/tenant-cache-test", "filesystem:" + migrationDir));
+
+        // then
+        assertEquals(3, provider.size());
+        assertNotNull(provider.getResource("V10__extra.sql"));
+        assertNotNull(provider.getResource("V1__create_sample.sql"));
+    }
+
+    @Test
+    void 스크립트가_없는_위치는_빈_목록() {
+        // when
+        CachedMigrationResourceProvider provider =
+                CachedMigrationResourceProvider.load(List.of("filesystem:" + migrationDir.resolve("missing")));
+
+        // then
+        assertEquals(0, provider.size());
+        assertTrue(provider.getResources("V", SQL_SUFFIXES).isEmpty());
+    }
+
+    private void write(String relativePath, String content) throws IOException {
+        Path file = migrationDir.resolve(relativePath);
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, content);
+    }
+
+    private static String read(LoadableResource resource) throws IOException {
+        assertNotNull(resource);
+        try (Reader reader = resource.read()) {
+            StringBuilder content = new StringBuilder();
+            char[] buffer = new char[256];
+            int read;
+            while ((read = reader.read(buffer)) != -1) {
+                content.append(buffer, 0, read);
+            }
+            return content.toString();
+        }
+    }
+}
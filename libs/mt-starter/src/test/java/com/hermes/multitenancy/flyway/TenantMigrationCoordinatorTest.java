@@ -0,0 +1,210 @@
+package com.hermes.multitenancy.flyway;
+
+import com.hermes.multitenancy.config.MultiTenancyProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 테넌트 스키마 migration 진행 지표와 지연 migration 실패 재시도 대기 검증
+ */
+class TenantMigrationCoordinatorTest {
+
+    private final MutableClock clock = new MutableClock();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final MultiTenancyProperties properties = new MultiTenancyProperties();
+    private FlywayTenantInitializer flywayTenantInitializer;
+
+    @BeforeEach
+    void setUp() {
+        flywayTenantInitializer = mock(FlywayTenantInitializer.class);
+        properties.getFlyway().setLazyMigrationRetryBackoff(Duration.ofSeconds(30));
+        properties.getFlyway().setLazyMigrationMaxRetryBackoff(Duration.ofMinutes(10));
+    }
+
+    @Test
+    void 시작_migration은_스키마별_소요시간과_진행상황을_기록() {
+        // given
+        TenantMigrationCoordinator coordinator = createCoordinator(false);
+        when(flywayTenantInitializer.runMigrationOnly("tenant_c")).thenThrow(new RuntimeException("broken script"));
+
+        // when
+        coordinator.migrateOnStartup(List.of("tenant_a", "tenant_b", "tenant_c"));
+
+        // then
+        assertEquals(1, timerCount("tenant_a", "success"));
+        assertEquals(1, timerCount("tenant_b", "success"));
+        assertEquals(1, timerCount("tenant_c", "failure"));
+        assertEquals(3, schemaGauge("total"));
+        assertEquals(2, schemaGauge("completed"));
+        assertEquals(1, schemaGauge("failed"));
+        assertEquals(0, schemaGauge("pending"));
+        assertEquals(0, meterRegistry.get(TenantMigrationCoordinator.STARTUP_COMPLETED_METRIC).gauge().value());
+    }
+
+    @Test
+    void 지연_migration이_아니면_접근_시_migration하지_않음() {
+        // given
+        TenantMigrationCoordinator coordinator = createCoordinator(false);
+
+        // when
+        coordinator.ensureMigrated("tenant_a");
+
+        // then
+        verifyNoInteractions(flywayTenantInitializer);
+    }
+
+    @Test
+    void 지연_migration은_실패한_스키마를_대기시간_동안_다시_실행하지_않음() {
+        // given
+        TenantMigrationCoordinator coordinator = createCoordinator(true);
+        when(flywayTenantInitializer.runMigrationOnly("tenant_a")).thenThrow(new RuntimeException("broken script"));
+
+        // when
+        assertThrows(IllegalStateException.class, () -> coordinator.ensureMigrated("tenant_a"));
+        for (int i = 0; i < 10; i++) {
+            assertThrows(IllegalStateException.class, () -> coordinator.ensureMigrated("tenant_a"));
+        }
+
+        // then
+        verify(flywayTenantInitializer, times(1)).runMigrationOnly("tenant_a");
+        assertEquals(10, meterRegistry.get(TenantMigrationCoordinator.BACKOFF_REJECTED_METRIC).counter().count());
+        assertEquals(1, schemaGauge("failed"));
+    }
+
+    @Test
+    void 연속_실패할수록_재시도_대기시간이_늘어남() {
+        // given
+        TenantMigrationCoordinator coordinator = createCoordinator(true);
+        when(flywayTenantInitializer.runMigrationOnly("tenant_a")).thenThrow(new RuntimeException("broken script"));
+        assertThrows(IllegalStateException.class, () -> coordinator.ensureMigrated("tenant_a"));
+
+        // when: 첫 대기 30초가 지나 재시도하고 다시 실패하면 60초를 기다린다
+        clock.advance(Duration.ofSeconds(31));
+        assertThrows(IllegalStateException.class, () -> coordinator.ensureMigrated("tenant_a"));
+        clock.advance(Duration.ofSeconds(31));
+        assertThrows(IllegalStateException.class, () -> coordinator.ensureMigrated("tenant_a"));
+
+        // then
+        verify(flywayTenantInitializer, times(2)).runMigrationOnly("tenant_a");
+
+        clock.advance(Duration.ofSeconds(30));
+        assertThrows(IllegalStateException.class, () -> coordinator.ensureMigrated("tenant_a"));
+        verify(flywayTenantInitializer, times(3)).runMigrationOnly("tenant_a");
+    }
+
+    @Test
+    void 재시도에_성공하면_실패_상태를_해제() {
+        // given
+        TenantMigrationCoordinator coordinator = createCoordinator(true);
+        when(flywayTenantInitializer.runMigrationOnly("tenant_a"))
+                .thenThrow(new RuntimeException("connection refused"))
+                .thenReturn(1);
+        assertThrows(IllegalStateException.class, () -> coordinator.ensureMigrated("tenant_a"));
+
+        // when
+        clock.advance(Duration.ofSeconds(31));
+        coordinator.ensureMigrated("tenant_a");
+        coordinator.ensureMigrated("tenant_a");
+
+        // then
+        verify(flywayTenantInitializer, times(2)).runMigrationOnly("tenant_a");
+        assertEquals(0, schemaGauge("failed"));
+        assertEquals(1, schemaGauge("completed"));
+        assertEquals(1, timerCount("tenant_a", "failure"));
+        assertEquals(1, timerCount("tenant_a", "success"));
+    }
+
+    @Test
+    void 같은_스키마에_동시에_접근해도_한번만_migration() throws Exception {
+        // given
+        TenantMigrationCoordinator coordinator = createCoordinator(true);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(flywayTenantInitializer.runMigrationOnly("tenant_a")).thenAnswer(invocation -> {
+            started.countDown();
+            assertTrue(release.await(10, TimeUnit.SECONDS));
+            return 1;
+        });
+
+        // when
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<?>> accesses = new ArrayList<>();
+        try {
+            for (int i = 0; i < 8; i++) {
+                accesses.add(executor.submit(() -> coordinator.ensureMigrated("tenant_a")));
+            }
+            assertTrue(started.await(10, TimeUnit.SECONDS));
+            release.countDown();
+            for (Future<?> access : accesses) {
+                access.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // then
+        verify(flywayTenantInitializer, times(1)).runMigrationOnly("tenant_a");
+        assertEquals(1, timerCount("tenant_a", "success"));
+    }
+
+    private TenantMigrationCoordinator createCoordinator(boolean lazyMigration) {
+        properties.getFlyway().setLazyMigrationEnabled(lazyMigration);
+        return new TenantMigrationCoordinator(flywayTenantInitializer, properties, meterRegistry, clock);
+    }
+
+    private long timerCount(String schemaName, String outcome) {
+        return meterRegistry.get(TenantMigrationCoordinator.DURATION_METRIC)
+                .tag("schema", schemaName)
+                .tag("outcome", outcome)
+                .timer()
+                .count();
+    }
+
+    private double schemaGauge(String state) {
+        return meterRegistry.get(TenantMigrationCoordinator.SCHEMAS_METRIC).tag("state", state).gauge().value();
+    }
+
+    /**
+     * 재시도 대기 시간 경과를 흉내내기 위한 시계
+     */
+    private static final class MutableClock extends Clock {
+
+        private volatile Instant now = Instant.parse("2025-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.hermes.multitenancy.hibernate;
+
+import com.hermes.multitenancy.config.MultiTenancyProperties;
+import com.hermes.multitenancy.flyway.TenantMigrationCoordinator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * search_path 적용 방식별 Connection 체크아웃/반납 시 발생하는 DB 왕복 횟수 검증
+ * 단일 물리 Connection을 재사용하는 Pool을 가정
+ */
+class SchemaBasedConnectionProviderTest {
+
+    private static final int REQUESTS = 100;
+
+    private final List<String> executedSql = new ArrayList<>();
+    private DataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        Statement statement = mock(Statement.class);
+        when(statement.execute(anyString())).thenAnswer(invocation -> {
+            executedSql.add(invocation.getArgument(0));
+            return false;
+        });
+        when(statement.executeQuery(anyString())).thenAnswer(invocation -> {
+            executedSql.add(invocation.getArgument(0));
+            ResultSet resultSet = mock(ResultSet.class);
+            when(resultSet.next()).thenReturn(true);
+            when(resultSet.getString(1)).thenReturn("\"$user\", public");
+            return resultSet;
+        });
+
+        Connection connection = mock(Connection.class);
+        when(connection.createStatement()).thenReturn(statement);
+        when(connection.isClosed()).thenReturn(false);
+
+        dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+    }
+
+    @Test
+    void RESET_모드는_요청마다_세번_왕복() throws SQLException {
+        // given
+        SchemaBasedConnectionProvider provider = createProvider(MultiTenancyProperties.SearchPathMode.RESET);
+
+        // when
+        for (int i = 0; i < REQUESTS; i++) {
+            checkoutAndRelease(provider, "company1");
+        }
+
+        // then
+        assertEquals(REQUESTS * 3, executedSql.size());
+    }
+
+    @Test
+    void PINNED_모드는_같은_테넌트_재사용시_왕복_생략() throws SQLException {
+        // given
+        SchemaBasedConnectionProvider provider = createProvider(MultiTenancyProperties.SearchPathMode.PINNED);
+
+        // when
+        for (int i = 0; i < REQUESTS; i++) {
+            checkoutAndRelease(provider, "company1");
+        }
+
+        // then
+        assertEquals(List.of("SHOW search_path", "SET search_path TO tenant_company1, \"$user\", public"), executedSql);
+        assertEquals(1, provider.getSearchPathSetCount());
+        assertEquals(REQUESTS - 1, provider.getSearchPathReuseCount());
+    }
+
+    @Test
+    void PINNED_모드는_테넌트_변경시에만_search_path_설정() throws SQLException {
+        // given
+        SchemaBasedConnectionProvider provider = createProvider(MultiTenancyProperties.SearchPathMode.PINNED);
+
+        // when
+        checkoutAndRelease(provider, "company1");
+        checkoutAndRelease(provider, "company2");
+        checkoutAndRelease(provider, "company2");
+
+        // then
+        assertEquals(List.of(
+                "SHOW search_path",
+                "SET search_path TO tenant_company1, \"$user\", public",
+                "SET search_path TO tenant_company2, \"$user\", public"), executedSql);
+    }
+
+    @Test
+    void PINNED_모드에서_스키마_미지정_Connection은_기본_search_path로_복원() throws SQLException {
+        // given
+        SchemaBasedConnectionProvider provider = createProvider(MultiTenancyProperties.SearchPathMode.PINNED);
+        checkoutAndRelease(provider, "company1");
+
+        // when
+        Connection connection = provider.getAnyConnection();
+        provider.releaseAnyConnection(connection);
+
+        // then
+        assertEquals("SET search_path TO \"$user\", public", executedSql.get(executedSql.size() - 1));
+    }
+
+    private SchemaBasedConnectionProvider createProvider(MultiTenancyProperties.SearchPathMode mode) {
+        MultiTenancyProperties properties = new MultiTenancyProperties();
+        properties.getConnection().setSearchPathMode(mode);
+        return new SchemaBasedConnectionProvider(dataSource, properties, mock(TenantMigrationCoordinator.class));
+    }
+
+    private void checkoutAndRelease(SchemaBasedConnectionProvider provider, String tenantId) throws SQLException {
+        Connection connection = provider.getConnection(tenantId);
+        provider.releaseConnection(tenantId, connection);
+    }
+}
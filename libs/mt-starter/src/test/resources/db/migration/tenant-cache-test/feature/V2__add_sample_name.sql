@@ -0,0 +1 @@
+ALTER TABLE sample ADD COLUMN name VARCHAR(100);
@@ -3,6 +3,7 @@ package com.hermes.notification.config;
 import com.hermes.notification.publisher.NotificationPublisher;
 import com.hermes.notification.sender.NotificationSender;
 import com.hermes.notification.sender.RabbitNotificationSender;
+import org.springframework.amqp.core.AcknowledgeMode;
 import org.springframework.amqp.core.Binding;
 import org.springframework.amqp.core.BindingBuilder;
 import org.springframework.amqp.core.Queue;
@@ -36,6 +37,18 @@ public class NotificationAutoConfiguration {
   @Value("${hermes.notification.routing-key:notification.create}")
   private String routingKey;
 
+  @Value("${hermes.notification.audience-queue:notification.audience}")
+  private String audienceQueueName;
+
+  @Value("${hermes.notification.audience-routing-key:notification.audience}")
+  private String audienceRoutingKey;
+
+  @Value("${hermes.notification.batch.size:100}")
+  private int batchSize;
+
+  @Value("${hermes.notification.batch.linger-ms:200}")
+  private long batchLingerMs;
+
   @Bean
   @ConditionalOnMissingBean // 교환기로 TopicExchange 사용
   public TopicExchange notificationExchange() {
@@ -56,6 +69,20 @@ public class NotificationAutoConfiguration {
         .with(routingKey);
   }
 
+  @Bean
+  @ConditionalOnMissingBean(name = "notificationAudienceQueue")
+  public Queue notificationAudienceQueue() {
+    return QueueBuilder.durable(audienceQueueName).build();
+  }
+
+  @Bean
+  @ConditionalOnMissingBean(name = "notificationAudienceBinding")
+  public Binding notificationAudienceBinding() {
+    return BindingBuilder.bind(notificationAudienceQueue())
+        .to(notificationExchange())
+        .with(audienceRoutingKey);
+  }
+
   @Bean
   @ConditionalOnMissingBean
   public RabbitTemplate rabbitTemplate(ConnectionFactory connectionFactory) {
@@ -81,6 +108,28 @@ public class NotificationAutoConfiguration {
     return factory;
   }
 
+  /**
+   * 알림 batch 소비용 Listener Container Factory
+   * batch-size건이 모이거나 linger-ms 동안 추가 메시지가 없으면 묶음 단위로 전달하고,
+   * Listener가 정상 종료되면 묶음 전체를 한 번에 ack
+   */
+  @Bean
+  @ConditionalOnMissingBean(name = "notificationBatchListenerContainerFactory")
+  @ConditionalOnProperty(name = "hermes.notification.batch.enabled", havingValue = "true")
+  public SimpleRabbitListenerContainerFactory notificationBatchListenerContainerFactory(
+      ConnectionFactory connectionFactory) {
+    SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+    factory.setConnectionFactory(connectionFactory);
+    factory.setMessageConverter(new Jackson2JsonMessageConverter());
+    factory.setBatchListener(true);
+    factory.setConsumerBatchEnabled(true);
+    factory.setBatchSize(batchSize);
+    factory.setReceiveTimeout(batchLingerMs);
+    factory.setPrefetchCount(batchSize);
+    factory.setAcknowledgeMode(AcknowledgeMode.AUTO);
+    return factory;
+  }
+
   @Bean
   @ConditionalOnMissingBean
   public NotificationPublisher notificationPublisher(NotificationSender notificationSender) {
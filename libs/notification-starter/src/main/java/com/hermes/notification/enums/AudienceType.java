@@ -0,0 +1,7 @@
+package com.hermes.notification.enums;
+
+public enum AudienceType {
+  ALL,            // 전사원 (브로드캐스트 전송)
+  ORGANIZATION,   // 특정 조직 구성원
+  USERS           // 명시된 사용자 목록
+}
@@ -0,0 +1,28 @@
+package com.hermes.notification.event;
+
+import com.hermes.notification.enums.AudienceType;
+import com.hermes.notification.enums.NotificationType;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AudienceNotificationEvent {
+
+  private AudienceType audienceType;    // 알림 대상 유형 (전사원, 조직, 사용자 목록)
+  private Long organizationId;          // 조직 ID (ORGANIZATION 대상일 때)
+  private List<Long> userIds;           // 알림을 받을 사용자 ID 목록
+  private NotificationType type;        // 알림 타입 (공지사항, 결재 등)
+  private String content;               // 알림 내용
+  private Long referenceId;             // 관련 리소스 ID (공지사항 id or 결재 id)
+  private LocalDateTime createdAt;      // 이벤트 발생 시간
+  private Instant publishedAt;          // 메시지 발행 시각 (발행→전달 소요 시간 측정용)
+
+}
@@ -1,7 +1,9 @@
 package com.hermes.notification.publisher;
 
+import com.hermes.notification.dto.AudienceNotificationRequest;
 import com.hermes.notification.dto.NotificationRequest;
 import com.hermes.notification.dto.NotificationResponse;
+import com.hermes.notification.event.AudienceNotificationEvent;
 import com.hermes.notification.event.NotificationEvent;
 import com.hermes.notification.exception.NotificationPublishException;
 import com.hermes.notification.exception.NotificationSendException;
@@ -9,6 +11,7 @@ import com.hermes.notification.sender.NotificationSender;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -75,6 +78,42 @@ public class NotificationPublisher {
     return result;
   }
 
+  /**
+   * 대상자 그룹 알림 발송
+   * 수신자 수와 관계없이 하나의 메시지만 발행하며, 수신자별 저장은 소비 측에서 일괄 처리
+   */
+  public NotificationResponse publishToAudience(AudienceNotificationRequest request) {
+    String typeDescription = "[" + request.getType() + "]";
+    int totalCount = request.getUserIds().size();
+    log.info("{} 대상자 알림 발송 시작: audienceType={}, content={}, 대상자 수={}",
+        typeDescription, request.getAudienceType(), request.getContent(), totalCount);
+
+    AudienceNotificationEvent event = AudienceNotificationEvent.builder()
+        .audienceType(request.getAudienceType())
+        .organizationId(request.getOrganizationId())
+        .userIds(request.getUserIds())
+        .type(request.getType())
+        .content(request.getContent())
+        .referenceId(request.getReferenceId())
+        .createdAt(request.getCreatedAt())
+        .publishedAt(Instant.now())
+        .build();
+
+    try {
+      notificationSender.sendAudienceNotification(event);
+    } catch (Exception e) {
+      List<NotificationSendException> failures = List.of(
+          new NotificationSendException(null, request.getType(), e));
+      log.error("{} 대상자 알림 발송 실패: audienceType={}, content={}, 총 {}명",
+          typeDescription, request.getAudienceType(), request.getContent(), totalCount);
+      throw new NotificationPublishException(request.getType(), failures, 0, totalCount);
+    }
+
+    log.info("{} 대상자 알림 발송 완료: audienceType={}, content={}, 대상자 {}명",
+        typeDescription, request.getAudienceType(), request.getContent(), totalCount);
+    return new NotificationResponse(request.getType(), totalCount, totalCount, List.of());
+  }
+
   private void logFailedUsers(List<NotificationSendException> failures, String typeDescription) {
     log.error("{} 알림 발송 실패 사용자 목록:", typeDescription);
     failures.forEach(failure ->
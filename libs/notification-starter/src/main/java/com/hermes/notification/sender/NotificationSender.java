@@ -1,9 +1,12 @@
 package com.hermes.notification.sender;
 
+import com.hermes.notification.event.AudienceNotificationEvent;
 import com.hermes.notification.event.NotificationEvent;
 
 public interface NotificationSender {
 
   void sendNotification(NotificationEvent event);
 
-}
\ No newline at end of file
+  void sendAudienceNotification(AudienceNotificationEvent event);
+
+}
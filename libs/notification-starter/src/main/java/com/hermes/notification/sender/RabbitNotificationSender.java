@@ -1,5 +1,6 @@
 package com.hermes.notification.sender;
 
+import com.hermes.notification.event.AudienceNotificationEvent;
 import com.hermes.notification.event.NotificationEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -20,6 +21,9 @@ public class RabbitNotificationSender implements NotificationSender {
   @Value("${hermes.notification.routing-key:notification.create}")
   private String routingKey;
 
+  @Value("${hermes.notification.audience-routing-key:notification.audience}")
+  private String audienceRoutingKey;
+
   @Override
   public void sendNotification(NotificationEvent event) {
     try {
@@ -33,4 +37,17 @@ public class RabbitNotificationSender implements NotificationSender {
     }
   }
 
-}
\ No newline at end of file
+  @Override
+  public void sendAudienceNotification(AudienceNotificationEvent event) {
+    try {
+      rabbitTemplate.convertAndSend(exchange, audienceRoutingKey, event);
+      log.debug("대상자 알림 이벤트 발송 완료: audienceType={}, 대상자 수={}, type={}",
+          event.getAudienceType(), event.getUserIds().size(), event.getType());
+    } catch (Exception e) {
+      log.error("대상자 알림 이벤트 발송 실패: audienceType={}, type={}, error={}",
+          event.getAudienceType(), event.getType(), e.getMessage(), e);
+      throw e;
+    }
+  }
+
+}
@@ -94,6 +94,19 @@ public class EmployeeAssignmentController {
         return ResponseEntity.ok(ApiResult.success("조직 배정 목록 조회 성공", assignments));
     }
 
+    @GetMapping("/organization/{organizationId}/subtree")
+    @Operation(summary = "하위 조직 포함 배정 목록 조회", description = "조직 ID로 해당 조직과 모든 하위 조직의 배정 목록을 조회합니다.")
+    @ApiResponse(responseCode = "200", description = "하위 조직 포함 배정 목록 조회 성공")
+    @ApiResponse(responseCode = "404", description = "조직을 찾을 수 없음")
+    @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+    public ResponseEntity<ApiResult<List<EmployeeAssignmentDto>>> getAssignmentsUnderOrganization(
+            @Parameter(description = "조회할 조직 ID", required = true, example = "1") 
+            @PathVariable Long organizationId) {
+        log.info("Get subtree assignments API called: organizationId={}", organizationId);
+        List<EmployeeAssignmentDto> assignments = employeeAssignmentService.getAssignmentsUnderOrganization(organizationId);
+        return ResponseEntity.ok(ApiResult.success("하위 조직 포함 배정 목록 조회 성공", assignments));
+    }
+
     @GetMapping("/employee/{employeeId}/primary")
     @Operation(summary = "직원 메인 부서 조회", description = "직원 ID로 해당 직원의 메인 부서 배정 목록을 조회합니다.")
     @ApiResponse(responseCode = "200", description = "직원 메인 부서 조회 성공")
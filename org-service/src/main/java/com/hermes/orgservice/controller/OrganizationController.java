@@ -106,6 +106,38 @@ public class OrganizationController {
         return ResponseEntity.ok(ApiResult.success("조직 계층 구조 조회 성공", hierarchy));
     }
 
+    @GetMapping("/{organizationId}/subtree")
+    @Operation(summary = "하위 조직 계층 구조 조회", description = "특정 조직을 최상위로 하는 하위 계층 구조를 트리 형태로 조회합니다.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "하위 조직 계층 구조 조회 성공", 
+                     content = @Content(schema = @Schema(implementation = OrganizationHierarchyDto.class))),
+        @ApiResponse(responseCode = "401", description = "인증 실패"),
+        @ApiResponse(responseCode = "404", description = "조직을 찾을 수 없음")
+    })
+    public ResponseEntity<ApiResult<OrganizationHierarchyDto>> getOrganizationSubtree(
+            @Parameter(description = "기준 조직 ID", required = true, example = "1") 
+            @PathVariable Long organizationId) {
+        log.info("Get organization subtree API called: organizationId={}", organizationId);
+        OrganizationHierarchyDto subtree = organizationService.getOrganizationSubtree(organizationId);
+        return ResponseEntity.ok(ApiResult.success("하위 조직 계층 구조 조회 성공", subtree));
+    }
+
+    @GetMapping("/{organizationId}/ancestors")
+    @Operation(summary = "상위 조직 경로 조회", description = "최상위 조직부터 특정 조직까지의 경로를 순서대로 조회합니다.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "상위 조직 경로 조회 성공", 
+                     content = @Content(schema = @Schema(implementation = OrganizationDto.class))),
+        @ApiResponse(responseCode = "401", description = "인증 실패"),
+        @ApiResponse(responseCode = "404", description = "조직을 찾을 수 없음")
+    })
+    public ResponseEntity<ApiResult<List<OrganizationDto>>> getOrganizationAncestors(
+            @Parameter(description = "기준 조직 ID", required = true, example = "1") 
+            @PathVariable Long organizationId) {
+        log.info("Get organization ancestors API called: organizationId={}", organizationId);
+        List<OrganizationDto> ancestors = organizationService.getOrganizationAncestors(organizationId);
+        return ResponseEntity.ok(ApiResult.success("상위 조직 경로 조회 성공", ancestors));
+    }
+
     @PreAuthorize("hasRole('ADMIN')")
     @PutMapping("/{organizationId}")
     @Operation(summary = "조직 정보 수정", description = "기존 조직의 정보를 수정합니다. 관리자만 접근 가능합니다.")
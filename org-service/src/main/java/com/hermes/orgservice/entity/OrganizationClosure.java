@@ -0,0 +1,41 @@
+package com.hermes.orgservice.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+
+/**
+ * 조직 계층 Closure Table
+ * 모든 (상위 조직, 하위 조직) 쌍과 그 거리를 저장하며, 자기 자신도 depth 0으로 포함
+ */
+@Entity
+@Table(name = "organization_closure", indexes = {
+        @Index(name = "idx_organization_closure_descendant", columnList = "descendant_id, depth")
+})
+@IdClass(OrganizationClosure.OrganizationClosureId.class)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrganizationClosure {
+
+    @Id
+    @Column(name = "ancestor_id")
+    private Long ancestorId;
+
+    @Id
+    @Column(name = "descendant_id")
+    private Long descendantId;
+
+    @Column(nullable = false)
+    private Integer depth;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class OrganizationClosureId implements Serializable {
+        private Long ancestorId;
+        private Long descendantId;
+    }
+}
@@ -28,6 +28,10 @@ public interface EmployeeAssignmentRepository extends JpaRepository<EmployeeAssi
     @Query("SELECT ea FROM EmployeeAssignment ea WHERE ea.organization.organizationId = :organizationId AND ea.isLeader = true")
     List<EmployeeAssignment> findLeadersByOrganizationId(@Param("organizationId") Long organizationId);
     
+    @Query("SELECT ea FROM EmployeeAssignment ea JOIN FETCH ea.organization o " +
+           "WHERE o.organizationId IN (SELECT c.descendantId FROM OrganizationClosure c WHERE c.ancestorId = :organizationId)")
+    List<EmployeeAssignment> findAllUnderOrganization(@Param("organizationId") Long organizationId);
+    
     boolean existsByEmployeeIdAndOrganizationOrganizationId(Long employeeId, Long organizationId);
     
     long countByOrganizationOrganizationId(Long organizationId);
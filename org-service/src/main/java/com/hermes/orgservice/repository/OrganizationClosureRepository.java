@@ -0,0 +1,126 @@
+package com.hermes.orgservice.repository;
+
+import com.hermes.orgservice.entity.OrganizationClosure;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface OrganizationClosureRepository extends JpaRepository<OrganizationClosure, OrganizationClosure.OrganizationClosureId> {
+
+    String SUMMARY_COLUMNS = """
+            o.organization_id AS "organizationId", o.name AS "name",
+            o.parent_id AS "parentId", p.name AS "parentName",
+            COUNT(ea.assignment_id) AS "memberCount",
+            COUNT(ea.assignment_id) FILTER (WHERE ea.is_leader) AS "leaderCount"
+            """;
+
+    String SUMMARY_JOINS = """
+            LEFT JOIN organization p ON p.organization_id = o.parent_id
+            LEFT JOIN employee_assignment ea ON ea.organization_id = o.organization_id
+            """;
+
+    boolean existsByAncestorIdAndDescendantId(Long ancestorId, Long descendantId);
+
+    long countByDepth(Integer depth);
+
+    /**
+     * 전체 조직을 구성원/리더 수와 함께 조회합니다. (depth는 최상위 조직 기준 거리)
+     */
+    @Query(value = "SELECT " + SUMMARY_COLUMNS + ", "
+            + "(SELECT MAX(c.depth) FROM organization_closure c WHERE c.descendant_id = o.organization_id) AS \"depth\" "
+            + "FROM organization o " + SUMMARY_JOINS
+            + "GROUP BY o.organization_id, o.name, o.parent_id, p.name "
+            + "ORDER BY \"depth\", o.organization_id",
+            nativeQuery = true)
+    List<OrganizationSummary> findAllSummaries();
+
+    /**
+     * 특정 조직과 모든 하위 조직을 구성원/리더 수와 함께 조회합니다. (depth는 기준 조직으로부터의 거리)
+     */
+    @Query(value = "SELECT " + SUMMARY_COLUMNS + ", c.depth AS \"depth\" "
+            + "FROM organization_closure c JOIN organization o ON o.organization_id = c.descendant_id "
+            + SUMMARY_JOINS
+            + "WHERE c.ancestor_id = :organizationId "
+            + "GROUP BY o.organization_id, o.name, o.parent_id, p.name, c.depth "
+            + "ORDER BY c.depth, o.organization_id",
+            nativeQuery = true)
+    List<OrganizationSummary> findSubtreeSummaries(@Param("organizationId") Long organizationId);
+
+    /**
+     * 특정 조직의 상위 조직 경로를 최상위 조직부터 순서대로 조회합니다. (자기 자신 포함)
+     */
+    @Query(value = "SELECT " + SUMMARY_COLUMNS + ", c.depth AS \"depth\" "
+            + "FROM organization_closure c JOIN organization o ON o.organization_id = c.ancestor_id "
+            + SUMMARY_JOINS
+            + "WHERE c.descendant_id = :organizationId "
+            + "GROUP BY o.organization_id, o.name, o.parent_id, p.name, c.depth "
+            + "ORDER BY c.depth DESC",
+            nativeQuery = true)
+    List<OrganizationSummary> findAncestorSummaries(@Param("organizationId") Long organizationId);
+
+    /**
+     * 새 조직의 자기 자신 경로를 추가합니다. 상위 조직 연결은 attachSubtree로 처리
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT INTO organization_closure (ancestor_id, descendant_id, depth) VALUES (:organizationId, :organizationId, 0)",
+            nativeQuery = true)
+    int insertSelf(@Param("organizationId") Long organizationId);
+
+    /**
+     * 하위 트리를 기존 상위 조직들로부터 분리합니다. (하위 트리 내부 경로는 유지)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            DELETE FROM organization_closure
+            WHERE descendant_id IN (
+                SELECT descendant_id FROM organization_closure WHERE ancestor_id = :organizationId)
+              AND ancestor_id IN (
+                SELECT ancestor_id FROM organization_closure
+                WHERE descendant_id = :organizationId AND ancestor_id <> :organizationId)
+            """, nativeQuery = true)
+    int detachSubtree(@Param("organizationId") Long organizationId);
+
+    /**
+     * 분리된 하위 트리를 새 상위 조직 아래에 연결합니다.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            INSERT INTO organization_closure (ancestor_id, descendant_id, depth)
+            SELECT anc.ancestor_id, sub.descendant_id, anc.depth + sub.depth + 1
+            FROM organization_closure anc
+            CROSS JOIN organization_closure sub
+            WHERE anc.descendant_id = :parentId
+              AND sub.ancestor_id = :organizationId
+            """, nativeQuery = true)
+    int attachSubtree(@Param("organizationId") Long organizationId, @Param("parentId") Long parentId);
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = "DELETE FROM organization_closure WHERE ancestor_id = :organizationId OR descendant_id = :organizationId",
+            nativeQuery = true)
+    int deleteNode(@Param("organizationId") Long organizationId);
+
+    /**
+     * parent_id 기준으로 Closure Table 전체를 다시 구성합니다.
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO organization_closure (ancestor_id, descendant_id, depth)
+            WITH RECURSIVE tree (ancestor_id, descendant_id, depth) AS (
+                SELECT organization_id, organization_id, 0 FROM organization
+                UNION ALL
+                SELECT t.ancestor_id, o.organization_id, t.depth + 1
+                FROM tree t JOIN organization o ON o.parent_id = t.descendant_id
+            )
+            SELECT ancestor_id, descendant_id, depth FROM tree
+            """, nativeQuery = true)
+    int rebuildAll();
+
+    @Modifying
+    @Query(value = "DELETE FROM organization_closure", nativeQuery = true)
+    int deleteAllPaths();
+}
@@ -0,0 +1,21 @@
+package com.hermes.orgservice.repository;
+
+/**
+ * 조직 정보와 구성원/리더 수를 한 번에 집계한 조회 결과
+ */
+public interface OrganizationSummary {
+
+    Long getOrganizationId();
+
+    String getName();
+
+    Long getParentId();
+
+    String getParentName();
+
+    Integer getDepth();
+
+    Long getMemberCount();
+
+    Long getLeaderCount();
+}
@@ -1,5 +1,7 @@
 package com.hermes.orgservice.service;
 
+import com.hermes.cache.invalidation.CacheInvalidationPublisher;
+import com.hermes.events.cache.CacheNames;
 import com.hermes.orgservice.dto.CreateAssignmentRequest;
 import com.hermes.orgservice.dto.EmployeeAssignmentDto;
 import com.hermes.orgservice.entity.EmployeeAssignment;
@@ -24,6 +26,7 @@ public class EmployeeAssignmentService {
 
     private final EmployeeAssignmentRepository employeeAssignmentRepository;
     private final OrganizationRepository organizationRepository;
+    private final CacheInvalidationPublisher cacheInvalidationPublisher;
 
     public EmployeeAssignmentDto createAssignment(CreateAssignmentRequest request) {
         log.info("Creating employee assignment: employeeId={}, organizationId={}", 
@@ -63,6 +66,7 @@ public class EmployeeAssignmentService {
         
         EmployeeAssignment savedAssignment = employeeAssignmentRepository.save(assignment);
         log.info("Employee assignment created: assignmentId={}", savedAssignment.getAssignmentId());
+        invalidateAssignmentCache(savedAssignment.getEmployeeId());
         
         return convertToDto(savedAssignment);
     }
@@ -99,6 +103,17 @@ public class EmployeeAssignmentService {
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
+    public List<EmployeeAssignmentDto> getAssignmentsUnderOrganization(Long organizationId) {
+        if (!organizationRepository.existsById(organizationId)) {
+            throw new OrganizationNotFoundException(organizationId);
+        }
+        List<EmployeeAssignment> assignments = employeeAssignmentRepository.findAllUnderOrganization(organizationId);
+        return assignments.stream()
+                .map(this::convertToDto)
+                .collect(Collectors.toList());
+    }
+
     @Transactional(readOnly = true)
     public List<EmployeeAssignmentDto> getPrimaryAssignmentsByEmployeeId(Long employeeId) {
         List<EmployeeAssignment> assignments = employeeAssignmentRepository.findByEmployeeIdAndIsPrimaryTrue(employeeId);
@@ -141,6 +156,7 @@ public class EmployeeAssignmentService {
         
         EmployeeAssignment savedAssignment = employeeAssignmentRepository.save(assignment);
         log.info("Employee assignment updated: assignmentId={}", savedAssignment.getAssignmentId());
+        invalidateAssignmentCache(savedAssignment.getEmployeeId());
         
         return convertToDto(savedAssignment);
     }
@@ -152,9 +168,18 @@ public class EmployeeAssignmentService {
                 .orElseThrow(() -> new EmployeeAssignmentNotFoundException(assignmentId));
         
         employeeAssignmentRepository.delete(assignment);
+        invalidateAssignmentCache(assignment.getEmployeeId());
         log.info("Employee assignment deleted: assignmentId={}", assignmentId);
     }
 
+    /**
+     * user-service가 보유한 사원별 조직 배정 캐시와 approval-service가 보유한 조직 그래프 캐시 무효화
+     */
+    private void invalidateAssignmentCache(Long employeeId) {
+        cacheInvalidationPublisher.invalidate(CacheNames.ORGANIZATION_ASSIGNMENT, employeeId);
+        cacheInvalidationPublisher.invalidateAll(CacheNames.ORGANIZATION_GRAPH);
+    }
+
     private EmployeeAssignmentDto convertToDto(EmployeeAssignment assignment) {
         return EmployeeAssignmentDto.builder()
                 .assignmentId(assignment.getAssignmentId())
@@ -0,0 +1,38 @@
+package com.hermes.orgservice.service;
+
+import com.hermes.orgservice.repository.OrganizationClosureRepository;
+import com.hermes.orgservice.repository.OrganizationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Closure Table 도입 이전에 생성된 조직 데이터를 위해 시작 시 경로를 채움
+ * 조직 수와 자기 자신 경로 수가 다르면 parent_id 기준으로 전체를 다시 구성
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrganizationClosureInitializer {
+
+    private final OrganizationRepository organizationRepository;
+    private final OrganizationClosureRepository organizationClosureRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void initialize() {
+        long organizationCount = organizationRepository.count();
+        long selfPathCount = organizationClosureRepository.countByDepth(0);
+        if (organizationCount == selfPathCount) {
+            return;
+        }
+
+        log.info("Rebuilding organization closure table: organizations={}, selfPaths={}", organizationCount, selfPathCount);
+        organizationClosureRepository.deleteAllPaths();
+        int paths = organizationClosureRepository.rebuildAll();
+        log.info("Organization closure table rebuilt: paths={}", paths);
+    }
+}
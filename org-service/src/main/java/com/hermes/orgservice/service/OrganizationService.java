@@ -1,20 +1,29 @@
 package com.hermes.orgservice.service;
 
+import com.hermes.cache.invalidation.CacheInvalidationPublisher;
+import com.hermes.events.cache.CacheNames;
 import com.hermes.orgservice.dto.CreateOrganizationRequest;
 import com.hermes.orgservice.dto.OrganizationDto;
 import com.hermes.orgservice.dto.OrganizationHierarchyDto;
 import com.hermes.orgservice.dto.UpdateOrganizationRequest;
 import com.hermes.orgservice.entity.Organization;
 import com.hermes.orgservice.exception.DuplicateOrganizationException;
+import com.hermes.orgservice.exception.InvalidOrganizationHierarchyException;
 import com.hermes.orgservice.exception.OrganizationNotFoundException;
 import com.hermes.orgservice.repository.EmployeeAssignmentRepository;
+import com.hermes.orgservice.repository.OrganizationClosureRepository;
 import com.hermes.orgservice.repository.OrganizationRepository;
+import com.hermes.orgservice.repository.OrganizationSummary;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -25,6 +34,8 @@ public class OrganizationService {
 
     private final OrganizationRepository organizationRepository;
     private final EmployeeAssignmentRepository employeeAssignmentRepository;
+    private final OrganizationClosureRepository organizationClosureRepository;
+    private final CacheInvalidationPublisher cacheInvalidationPublisher;
 
     public OrganizationDto createOrganization(CreateOrganizationRequest request) {
         log.info("Organization creation requested: {}", request.getName());
@@ -45,7 +56,12 @@ public class OrganizationService {
                 .build();
         
         Organization savedOrganization = organizationRepository.save(organization);
+        organizationClosureRepository.insertSelf(savedOrganization.getOrganizationId());
+        if (parent != null) {
+            organizationClosureRepository.attachSubtree(savedOrganization.getOrganizationId(), parent.getOrganizationId());
+        }
         log.info("Organization created successfully: {}", savedOrganization.getName());
+        cacheInvalidationPublisher.invalidateAll(CacheNames.ORGANIZATION_GRAPH);
         
         return convertToDto(savedOrganization);
     }
@@ -60,16 +76,15 @@ public class OrganizationService {
 
     @Transactional(readOnly = true)
     public List<OrganizationDto> getRootOrganizations() {
-        List<Organization> rootOrganizations = organizationRepository.findByParentIsNull();
-        return rootOrganizations.stream()
+        return organizationClosureRepository.findAllSummaries().stream()
+                .filter(summary -> summary.getParentId() == null)
                 .map(this::convertToDto)
                 .collect(Collectors.toList());
     }
 
     @Transactional(readOnly = true)
     public List<OrganizationDto> getAllOrganizations() {
-        List<Organization> organizations = organizationRepository.findAll();
-        return organizations.stream()
+        return organizationClosureRepository.findAllSummaries().stream()
                 .map(this::convertToDto)
                 .collect(Collectors.toList());
     }
@@ -87,7 +102,15 @@ public class OrganizationService {
         
         organization.setName(request.getName());
         
+        Long currentParentId = organization.getParent() != null ? organization.getParent().getOrganizationId() : null;
+        boolean parentChanged = !Objects.equals(currentParentId, request.getParentId());
+        
         if (request.getParentId() != null) {
+            // 자기 자신이나 하위 조직을 상위 조직으로 지정하면 순환이 생김
+            if (organizationClosureRepository.existsByAncestorIdAndDescendantId(organizationId, request.getParentId())) {
+                throw new InvalidOrganizationHierarchyException(
+                        "Cannot move organization under itself or its descendant: " + request.getParentId());
+            }
             Organization parent = organizationRepository.findById(request.getParentId())
                     .orElseThrow(() -> new OrganizationNotFoundException(request.getParentId()));
             organization.setParent(parent);
@@ -96,7 +119,18 @@ public class OrganizationService {
         }
         
         Organization savedOrganization = organizationRepository.save(organization);
+        
+        // 하위 트리 전체를 같은 트랜잭션에서 새 상위 조직 아래로 이동
+        if (parentChanged) {
+            organizationClosureRepository.detachSubtree(organizationId);
+            if (request.getParentId() != null) {
+                organizationClosureRepository.attachSubtree(organizationId, request.getParentId());
+            }
+        }
         log.info("Organization updated successfully: {}", savedOrganization.getName());
+        // 배정 정보에 조직명이 포함되므로 테넌트의 배정 캐시 전체 무효화
+        cacheInvalidationPublisher.invalidateAll(CacheNames.ORGANIZATION_ASSIGNMENT);
+        cacheInvalidationPublisher.invalidateAll(CacheNames.ORGANIZATION_GRAPH);
         
         return convertToDto(savedOrganization);
     }
@@ -116,8 +150,10 @@ public class OrganizationService {
             throw new RuntimeException("Cannot delete organization with assigned employees.");
         }
         
+        organizationClosureRepository.deleteNode(organizationId);
         organizationRepository.delete(organization);
         log.info("Organization deleted successfully: {}", organization.getName());
+        cacheInvalidationPublisher.invalidateAll(CacheNames.ORGANIZATION_GRAPH);
     }
 
     @Transactional(readOnly = true)
@@ -131,12 +167,54 @@ public class OrganizationService {
     @Transactional(readOnly = true)
     public List<OrganizationHierarchyDto> getOrganizationHierarchy() {
         log.info("Organization hierarchy requested");
-        List<Organization> rootOrganizations = organizationRepository.findByParentIsNull(); // 수정
-        return rootOrganizations.stream()
-                .map(this::convertToHierarchyDto)
+        return buildHierarchy(organizationClosureRepository.findAllSummaries());
+    }
+
+    @Transactional(readOnly = true)
+    public OrganizationHierarchyDto getOrganizationSubtree(Long organizationId) {
+        log.info("Organization subtree requested: ID={}", organizationId);
+        List<OrganizationSummary> summaries = organizationClosureRepository.findSubtreeSummaries(organizationId);
+        if (summaries.isEmpty()) {
+            throw new OrganizationNotFoundException(organizationId);
+        }
+        return buildHierarchy(summaries).get(0);
+    }
+
+    @Transactional(readOnly = true)
+    public List<OrganizationDto> getOrganizationAncestors(Long organizationId) {
+        List<OrganizationSummary> summaries = organizationClosureRepository.findAncestorSummaries(organizationId);
+        if (summaries.isEmpty()) {
+            throw new OrganizationNotFoundException(organizationId);
+        }
+        return summaries.stream()
+                .map(this::convertToDto)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 조회된 조직 목록으로 트리를 구성합니다. 목록에 상위 조직이 없는 조직이 최상위가 됩니다.
+     */
+    private List<OrganizationHierarchyDto> buildHierarchy(List<OrganizationSummary> summaries) {
+        Map<Long, OrganizationHierarchyDto> nodes = new LinkedHashMap<>();
+        for (OrganizationSummary summary : summaries) {
+            nodes.put(summary.getOrganizationId(), convertToHierarchyDto(summary));
+        }
+
+        List<OrganizationHierarchyDto> roots = new ArrayList<>();
+        for (OrganizationHierarchyDto node : nodes.values()) {
+            OrganizationHierarchyDto parent = node.getParentId() != null ? nodes.get(node.getParentId()) : null;
+            if (parent == null) {
+                roots.add(node);
+                continue;
+            }
+            if (parent.getChildren() == null) {
+                parent.setChildren(new ArrayList<>());
+            }
+            parent.getChildren().add(node);
+        }
+        return roots;
+    }
+
 
     private OrganizationDto convertToDto(Organization organization) {
         long memberCount = employeeAssignmentRepository.countByOrganizationOrganizationId(organization.getOrganizationId());
@@ -152,25 +230,25 @@ public class OrganizationService {
                 .build();
     }
 
-    private OrganizationHierarchyDto convertToHierarchyDto(Organization organization) {
-        long memberCount = employeeAssignmentRepository.countByOrganizationOrganizationId(organization.getOrganizationId());
-        long leaderCount = employeeAssignmentRepository.countByOrganizationOrganizationIdAndIsLeaderTrue(organization.getOrganizationId());
-        
-        List<OrganizationHierarchyDto> children = null;
-        if (organization.getChildren() != null && !organization.getChildren().isEmpty()) {
-            children = organization.getChildren().stream()
-                    .map(this::convertToHierarchyDto)
-                    .collect(Collectors.toList());
-        }
-        
+    private OrganizationDto convertToDto(OrganizationSummary summary) {
+        return OrganizationDto.builder()
+                .organizationId(summary.getOrganizationId())
+                .name(summary.getName())
+                .parentId(summary.getParentId())
+                .parentName(summary.getParentName())
+                .memberCount(summary.getMemberCount().intValue())
+                .leaderCount(summary.getLeaderCount().intValue())
+                .build();
+    }
+
+    private OrganizationHierarchyDto convertToHierarchyDto(OrganizationSummary summary) {
         return OrganizationHierarchyDto.builder()
-                .organizationId(organization.getOrganizationId())
-                .name(organization.getName())
-                .parentId(organization.getParent() != null ? organization.getParent().getOrganizationId() : null)
-                .parentName(organization.getParent() != null ? organization.getParent().getName() : null)
-                .children(children)
-                .memberCount((int) memberCount)
-                .leaderCount((int) leaderCount)
+                .organizationId(summary.getOrganizationId())
+                .name(summary.getName())
+                .parentId(summary.getParentId())
+                .parentName(summary.getParentName())
+                .memberCount(summary.getMemberCount().intValue())
+                .leaderCount(summary.getLeaderCount().intValue())
                 .isExpanded(false)
                 .build();
     }
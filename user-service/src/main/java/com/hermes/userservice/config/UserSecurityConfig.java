@@ -17,8 +17,9 @@ public class UserSecurityConfig extends BaseSecurityConfig {
     ) {
         auth.requestMatchers("/api/auth/**").permitAll();
         
-        auth.requestMatchers("/api/users/count").hasRole("ADMIN");
+        auth.requestMatchers(HttpMethod.GET, "/api/users/count").hasAnyRole("ADMIN", "SERVICE");
         auth.requestMatchers("/api/users/ids").hasRole("ADMIN");
+        auth.requestMatchers(HttpMethod.GET, "/api/users/leave-grant-targets").hasAnyRole("ADMIN", "SERVICE");
         auth.requestMatchers(HttpMethod.POST, "/api/users").hasRole("ADMIN");
         auth.requestMatchers(HttpMethod.PUT, "/api/users/**").hasRole("ADMIN");
         auth.requestMatchers(HttpMethod.PATCH, "/api/users/*/profile-image").authenticated();
@@ -26,6 +27,7 @@ public class UserSecurityConfig extends BaseSecurityConfig {
         auth.requestMatchers(HttpMethod.DELETE, "/api/users/**").hasRole("ADMIN");
         auth.requestMatchers("/api/users/sync-organizations").hasRole("ADMIN");
         auth.requestMatchers(HttpMethod.POST, "/api/users/*/sync-organization").hasRole("ADMIN");
+        auth.requestMatchers(HttpMethod.POST, "/api/users/profiles:batch").authenticated();
         
         auth.requestMatchers(HttpMethod.POST, "/api/v1/titles/ranks").hasRole("ADMIN");
         auth.requestMatchers(HttpMethod.PUT, "/api/v1/titles/ranks/**").hasRole("ADMIN");
@@ -42,4 +44,12 @@ public class UserSecurityConfig extends BaseSecurityConfig {
         auth.requestMatchers(HttpMethod.GET, "/api/v1/titles/**").authenticated();
         auth.requestMatchers(HttpMethod.GET, "/api/users/**").authenticated();
     }
+    
+    /**
+     * attendance-service 스케줄러(근무 모니터링 직원 수, 연차 일괄 부여 대상 조회)가 서비스 토큰으로 호출하는 경로
+     */
+    @Override
+    protected String[] serviceEndpoints() {
+        return new String[] {"/api/users/count", "/api/users/leave-grant-targets"};
+    }
 }
\ No newline at end of file
@@ -3,6 +3,7 @@ package com.hermes.userservice.controller;
 import com.hermes.api.common.ApiResult;
 import com.hermes.auth.principal.UserPrincipal;
 import com.hermes.userservice.dto.DetailProfileResponseDto;
+import com.hermes.userservice.dto.LeaveGrantTargetDto;
 import com.hermes.userservice.dto.UserCreateDto;
 import com.hermes.userservice.dto.UserResponseDto;
 import com.hermes.userservice.dto.UserUpdateDto;
@@ -42,6 +43,9 @@ import com.hermes.userservice.service.VacationService;
 @Tag(name = "사용자 관리 API", description = "사용자 정보 조회, 생성, 수정, 삭제 및 조직 동기화 기능 제공")
 public class UserController {
 
+    private static final int MAX_BATCH_PROFILE_SIZE = 1000;
+    private static final int MAX_LEAVE_GRANT_PAGE_SIZE = 1000;
+
     private final UserService userService;
     private final OrganizationSyncService organizationSyncService;
     private final VacationService vacationService;
@@ -182,6 +186,27 @@ public class UserController {
         return ResponseEntity.ok(ApiResult.success("공개 프로필 조회 성공", profile));
     }
 
+    @PostMapping("/profiles:batch")
+    @PreAuthorize("isAuthenticated()")
+    @Operation(summary = "공개 프로필 일괄 조회", description = "여러 사용자의 공개 프로필을 한 번에 조회합니다. 근무정책 정보는 포함되지 않으며, 존재하지 않는 사용자는 결과에서 제외됩니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "프로필 일괄 조회 성공",
+                    content = @Content(schema = @Schema(implementation = MainProfileResponseDto.class))),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청 데이터"),
+            @ApiResponse(responseCode = "401", description = "인증 실패")
+    })
+    public ResponseEntity<ApiResult<List<MainProfileResponseDto>>> getMainProfiles(
+            @Parameter(description = "조회할 사용자 ID 목록", required = true)
+            @RequestBody List<Long> userIds) {
+        log.info("공개 프로필 일괄 조회 요청: count={}", userIds.size());
+        if (userIds.size() > MAX_BATCH_PROFILE_SIZE) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResult.failure("한 번에 조회할 수 있는 사용자 수는 " + MAX_BATCH_PROFILE_SIZE + "명 이하입니다."));
+        }
+        List<MainProfileResponseDto> profiles = userService.getMainProfiles(userIds);
+        return ResponseEntity.ok(ApiResult.success("공개 프로필 일괄 조회 성공", profiles));
+    }
+
     @GetMapping("/{userId}/profile/detail")
     @PreAuthorize("isAuthenticated()")
     @Operation(summary = "상세 프로필 조회", description = "사용자의 상세 프로필 정보를 조회합니다. 본인 또는 관리자만 접근 가능합니다.")
@@ -286,6 +311,28 @@ public class UserController {
         return ResponseEntity.ok(ApiResult.success("사용자 ID 목록 조회 성공", userIds));
     }
 
+    @GetMapping("/leave-grant-targets")
+    @PreAuthorize("hasAnyRole('ADMIN', 'SERVICE')")
+    @Operation(summary = "연차 부여 대상 페이지 조회", description = "연차 일괄 부여를 위해 직원의 입사일, 근무년수, 근무정책 ID를 id 순으로 afterId 이후부터 조회합니다. ADMIN 권한 또는 서비스 토큰 필요.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "연차 부여 대상 조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 페이지 크기"),
+            @ApiResponse(responseCode = "403", description = "권한 부족 (ADMIN 권한 또는 서비스 토큰 필요)")
+    })
+    public ResponseEntity<ApiResult<List<LeaveGrantTargetDto>>> getLeaveGrantTargets(
+            @Parameter(description = "이 ID 이후의 직원부터 조회 (첫 페이지는 0)", example = "0")
+            @RequestParam(defaultValue = "0") Long afterId,
+            @Parameter(description = "페이지 크기", example = "500")
+            @RequestParam(defaultValue = "500") int size) {
+        if (size <= 0 || size > MAX_LEAVE_GRANT_PAGE_SIZE) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResult.failure("페이지 크기는 1 이상 " + MAX_LEAVE_GRANT_PAGE_SIZE + " 이하여야 합니다."));
+        }
+        log.info("연차 부여 대상 페이지 조회 요청: afterId={}, size={}", afterId, size);
+        List<LeaveGrantTargetDto> targets = vacationService.getLeaveGrantTargets(afterId, size);
+        return ResponseEntity.ok(ApiResult.success("연차 부여 대상 조회 성공", targets));
+    }
+
     @PatchMapping("/{userId}/profile-image")
     @PreAuthorize("isAuthenticated()")
     @Operation(summary = "프로필 이미지 수정", description = "본인의 프로필 이미지만 수정합니다.")
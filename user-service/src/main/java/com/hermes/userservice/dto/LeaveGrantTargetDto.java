@@ -0,0 +1,19 @@
+package com.hermes.userservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+/**
+ * 연차 일괄 부여 대상 직원 정보 (attendance-service 연차 부여 파이프라인용)
+ */
+@Getter
+@AllArgsConstructor
+public class LeaveGrantTargetDto {
+
+    private Long userId;
+    private LocalDate joinDate;
+    private Integer workYears;
+    private Long workPolicyId;
+}
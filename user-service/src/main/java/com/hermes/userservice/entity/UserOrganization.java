@@ -14,7 +14,8 @@ import java.time.LocalDateTime;
 public class UserOrganization {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_organizations_id_seq")
+    @SequenceGenerator(name = "user_organizations_id_seq", sequenceName = "user_organizations_id_seq", allocationSize = 50)
     private Long id;
     
     @ManyToOne(fetch = FetchType.LAZY)
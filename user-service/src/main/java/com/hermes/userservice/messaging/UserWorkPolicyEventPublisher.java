@@ -0,0 +1,61 @@
+package com.hermes.userservice.messaging;
+
+import com.hermes.events.user.UserWorkPolicyEvent;
+import com.hermes.multitenancy.config.MultiTenancyProperties;
+import com.hermes.multitenancy.context.TenantContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 사용자 근무 정책 할당 변경 이벤트 발행
+ * 트랜잭션 안에서 호출되면 커밋 이후에 발행하여 수신 측이 롤백된 할당을 반영하지 않도록 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserWorkPolicyEventPublisher {
+
+    private final RabbitTemplate rabbitTemplate;
+    private final MultiTenancyProperties properties;
+
+    public void publishAssigned(Long userId, Long workPolicyId) {
+        publish(UserWorkPolicyEvent.assigned(currentTenantId(), userId, workPolicyId));
+    }
+
+    public void publishRemoved(Long userId) {
+        publish(UserWorkPolicyEvent.removed(currentTenantId(), userId));
+    }
+
+    private void publish(UserWorkPolicyEvent event) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    send(event);
+                }
+            });
+        } else {
+            send(event);
+        }
+    }
+
+    private void send(UserWorkPolicyEvent event) {
+        try {
+            rabbitTemplate.convertAndSend(properties.getRabbitmq().getTenantExchange(), event.getRoutingKey(), event);
+            log.debug("User work policy event published: tenant={}, userId={}, workPolicyId={}, removed={}",
+                    event.getTenantId(), event.getUserId(), event.getWorkPolicyId(), event.isRemoved());
+        } catch (Exception e) {
+            // 발행 실패로 어긋난 attendance-service 프로젝션은 leave-grant-targets 조회 기반 주기 대조가 바로잡음
+            log.warn("Failed to publish user work policy event: tenant={}, userId={}",
+                    event.getTenantId(), event.getUserId(), e);
+        }
+    }
+
+    private String currentTenantId() {
+        return TenantContext.hasTenantContext() ? TenantContext.getCurrentTenantId() : null;
+    }
+}
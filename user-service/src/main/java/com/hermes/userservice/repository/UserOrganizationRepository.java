@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -25,4 +26,8 @@ public interface UserOrganizationRepository extends JpaRepository<UserOrganizati
     @Modifying
     @Query("delete from UserOrganization uo where uo.user.id = :userId")
     void deleteAllByUserId(@Param("userId") Long userId);
+    
+    @Modifying
+    @Query("delete from UserOrganization uo where uo.user.id in :userIds")
+    void deleteAllByUserIdIn(@Param("userIds") Collection<Long> userIds);
 }
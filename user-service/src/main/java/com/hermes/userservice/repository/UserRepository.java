@@ -1,5 +1,6 @@
 package com.hermes.userservice.repository;
 
+import com.hermes.userservice.dto.LeaveGrantTargetDto;
 import com.hermes.userservice.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -8,6 +9,7 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -37,6 +39,15 @@ public interface UserRepository extends JpaRepository<User, Long> {
     @Query("SELECT u.id FROM User u")
     List<Long> findAllUserIds();
 
+    // 연차 일괄 부여용 키셋 페이지 조회 (id 순, afterId 초과)
+    @Query("SELECT new com.hermes.userservice.dto.LeaveGrantTargetDto(u.id, u.joinDate, u.workYears, u.workPolicyId) " +
+           "FROM User u WHERE u.id > :afterId ORDER BY u.id")
+    List<LeaveGrantTargetDto> findLeaveGrantTargets(@Param("afterId") Long afterId, Pageable pageable);
+
+    // 프로필 일괄 조회용 (직급/직위/직무를 함께 로딩하여 N+1 방지)
+    @Query("SELECT u FROM User u LEFT JOIN FETCH u.rank LEFT JOIN FETCH u.position LEFT JOIN FETCH u.job WHERE u.id IN :userIds")
+    List<User> findAllWithTitlesByIdIn(@Param("userIds") Collection<Long> userIds);
+
     @Modifying
     @Query("UPDATE User u SET u.profileImageUrl = :profileImageUrl WHERE u.id = :userId")
     void updateProfileImageUrl(@Param("userId") Long userId, @Param("profileImageUrl") String profileImageUrl);
@@ -1,6 +1,8 @@
 package com.hermes.userservice.service;
 
 import com.hermes.api.common.ApiResult;
+import com.hermes.cache.TenantCacheManager;
+import com.hermes.events.cache.CacheNames;
 import com.hermes.userservice.client.OrgServiceClient;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -16,26 +18,42 @@ import java.util.stream.Collectors;
 public class OrganizationIntegrationService {
 
     private final OrgServiceClient orgServiceClient;
+    private final TenantCacheManager tenantCacheManager;
 
+    /**
+     * 사용자 조직 배정 조회 (org-service에서 배정 변경 시 캐시 무효화)
+     * 조회 실패는 캐시하지 않고 빈 목록 반환
+     */
     public List<Map<String, Object>> getUserOrganizations(Long userId) {
         try {
-            log.info("Get user organizations: userId={}", userId);
-            ApiResult<List<Map<String, Object>>> apiResult = orgServiceClient.getAssignmentsByEmployeeId(userId);
-
-            if ("SUCCESS".equals(apiResult.getStatus())) {
-                List<Map<String, Object>> result = apiResult.getData();
-                log.info("Get user organizations result: userId={}, count={}", userId, result.size());
-                return result;
-            } else {
-                log.error("Failed to get user organizations from org-service: {}", apiResult.getMessage());
-                return List.of();
-            }
+            return tenantCacheManager.<Long, List<Map<String, Object>>>getCache(CacheNames.ORGANIZATION_ASSIGNMENT)
+                    .get(userId, () -> fetchUserOrganizations(userId));
         } catch (Exception e) {
             log.error("Failed to call org-service for user organizations: userId={}, error={}", userId, e.getMessage(), e);
             return List.of();
         }
     }
 
+    /**
+     * 캐시를 거치지 않고 사용자 조직 배정을 다시 조회
+     */
+    public List<Map<String, Object>> refreshUserOrganizations(Long userId) {
+        tenantCacheManager.getCache(CacheNames.ORGANIZATION_ASSIGNMENT).evict(userId);
+        return getUserOrganizations(userId);
+    }
+
+    private List<Map<String, Object>> fetchUserOrganizations(Long userId) {
+        log.info("Get user organizations: userId={}", userId);
+        ApiResult<List<Map<String, Object>>> apiResult = orgServiceClient.getAssignmentsByEmployeeId(userId);
+
+        if (!"SUCCESS".equals(apiResult.getStatus())) {
+            throw new IllegalStateException("Failed to get user organizations from org-service: " + apiResult.getMessage());
+        }
+        List<Map<String, Object>> result = List.copyOf(apiResult.getData());
+        log.info("Get user organizations result: userId={}, count={}", userId, result.size());
+        return result;
+    }
+
     public Map<Long, List<Map<String, Object>>> getAllUsersOrganizations() {
         try {
             log.info("Get all users organizations");
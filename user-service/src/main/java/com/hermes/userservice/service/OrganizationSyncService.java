@@ -9,8 +9,10 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -20,9 +22,13 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class OrganizationSyncService {
     
+    // 전체 동기화 트랜잭션 하나에 담을 사용자 수 (삭제 1회 + 배치 INSERT)
+    private static final int SYNC_CHUNK_SIZE = 500;
+    
     private final UserRepository userRepository;
     private final UserOrganizationRepository userOrganizationRepository;
     private final OrganizationIntegrationService organizationIntegrationService;
+    private final TransactionTemplate transactionTemplate;
     
     @Transactional
     public void syncUserOrganizations(Long userId) {
@@ -31,21 +37,14 @@ public class OrganizationSyncService {
             
             userOrganizationRepository.deleteAllByUserId(userId);
             
-            List<Map<String, Object>> organizations = organizationIntegrationService.getUserOrganizations(userId);
+            List<Map<String, Object>> organizations = organizationIntegrationService.refreshUserOrganizations(userId);
             
             if (!organizations.isEmpty()) {
                 User user = userRepository.findById(userId)
                     .orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다: " + userId));
                 
                 List<UserOrganization> userOrganizations = organizations.stream()
-                    .map(org -> UserOrganization.builder()
-                        .user(user)
-                        .organizationId(Long.valueOf(org.get("organizationId").toString()))
-                        .organizationName(org.get("organizationName").toString())
-                        .isPrimary(Boolean.TRUE.equals(org.get("isPrimary")))
-                        .isLeader(Boolean.TRUE.equals(org.get("isLeader")))
-                        .assignedAt(LocalDateTime.parse(org.get("assignedAt").toString()))
-                        .build())
+                    .map(org -> toUserOrganization(user, org))
                     .collect(Collectors.toList());
                 
                 userOrganizationRepository.saveAll(userOrganizations);
@@ -61,23 +60,69 @@ public class OrganizationSyncService {
         }
     }
     
+    /**
+     * 전체 배정을 한 번에 조회한 뒤 사용자 청크 단위 트랜잭션으로 삭제/일괄 저장
+     * 조회 실패(빈 결과) 시 기존 조직 정보를 지우지 않도록 동기화를 중단
+     */
     public void syncAllUsersOrganizations() {
         log.info("전체 사용자 조직 정보 동기화 시작");
         
-        List<User> users = userRepository.findAll();
+        Map<Long, List<Map<String, Object>>> assignments = organizationIntegrationService.getAllUsersOrganizations();
+        if (assignments.isEmpty()) {
+            log.warn("전체 조직 배정 조회 결과가 없어 동기화를 중단합니다");
+            return;
+        }
+        
+        List<Long> userIds = userRepository.findAll().stream()
+            .map(User::getId)
+            .collect(Collectors.toList());
         int successCount = 0;
         int failCount = 0;
+        int savedCount = 0;
         
-        for (User user : users) {
+        for (int from = 0; from < userIds.size(); from += SYNC_CHUNK_SIZE) {
+            List<Long> chunk = userIds.subList(from, Math.min(userIds.size(), from + SYNC_CHUNK_SIZE));
             try {
-                syncUserOrganizations(user.getId());
-                successCount++;
+                Integer saved = transactionTemplate.execute(status -> syncChunk(chunk, assignments));
+                savedCount += saved != null ? saved : 0;
+                successCount += chunk.size();
             } catch (Exception e) {
-                log.error("사용자 조직 정보 동기화 실패: userId={}, error={}", user.getId(), e.getMessage());
-                failCount++;
+                log.error("사용자 조직 정보 동기화 실패: userIds={}..{}, error={}",
+                    chunk.get(0), chunk.get(chunk.size() - 1), e.getMessage());
+                failCount += chunk.size();
+            }
+        }
+        
+        log.info("전체 사용자 조직 정보 동기화 완료: 성공={}, 실패={}, 저장된 조직 수={}", successCount, failCount, savedCount);
+    }
+    
+    private int syncChunk(List<Long> userIds, Map<Long, List<Map<String, Object>>> assignments) {
+        userOrganizationRepository.deleteAllByUserIdIn(userIds);
+        
+        List<UserOrganization> userOrganizations = new ArrayList<>();
+        for (Long userId : userIds) {
+            List<Map<String, Object>> organizations = assignments.getOrDefault(userId, List.of());
+            if (organizations.isEmpty()) {
+                continue;
+            }
+            User user = userRepository.getReferenceById(userId);
+            for (Map<String, Object> org : organizations) {
+                userOrganizations.add(toUserOrganization(user, org));
             }
         }
         
-        log.info("전체 사용자 조직 정보 동기화 완료: 성공={}, 실패={}", successCount, failCount);
+        userOrganizationRepository.saveAll(userOrganizations);
+        return userOrganizations.size();
+    }
+    
+    private UserOrganization toUserOrganization(User user, Map<String, Object> org) {
+        return UserOrganization.builder()
+            .user(user)
+            .organizationId(Long.valueOf(org.get("organizationId").toString()))
+            .organizationName(org.get("organizationName").toString())
+            .isPrimary(Boolean.TRUE.equals(org.get("isPrimary")))
+            .isLeader(Boolean.TRUE.equals(org.get("isLeader")))
+            .assignedAt(LocalDateTime.parse(org.get("assignedAt").toString()))
+            .build();
     }
 }
\ No newline at end of file
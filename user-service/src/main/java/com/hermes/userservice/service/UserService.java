@@ -1,5 +1,7 @@
 package com.hermes.userservice.service;
 
+import com.hermes.cache.invalidation.CacheInvalidationPublisher;
+import com.hermes.events.cache.CacheNames;
 import com.hermes.multitenancy.context.TenantContext;
 import com.hermes.userservice.dto.*;
 import com.hermes.userservice.dto.title.*;
@@ -13,6 +15,7 @@ import com.hermes.userservice.entity.Job;
 import com.hermes.userservice.exception.DuplicateEmailException;
 import com.hermes.userservice.exception.UserNotFoundException;
 import com.hermes.userservice.mapper.UserMapper;
+import com.hermes.userservice.messaging.UserWorkPolicyEventPublisher;
 import com.hermes.userservice.repository.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -21,10 +24,12 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -43,6 +48,8 @@ public class UserService {
     private final RankRepository rankRepository;
     private final PositionRepository positionRepository;
     private final JobRepository jobRepository;
+    private final CacheInvalidationPublisher cacheInvalidationPublisher;
+    private final UserWorkPolicyEventPublisher userWorkPolicyEventPublisher;
 
     @Transactional(readOnly = true)
     public UserResponseDto getUserById(Long userId) {
@@ -118,6 +125,7 @@ public class UserService {
 
         User finalUser = userRepository.save(createdUser);
         log.info("최종 저장 완료: userId={}, rank={}, position={}, job={}", finalUser.getId(), finalUser.getRank(), finalUser.getPosition(), finalUser.getJob());
+        userWorkPolicyEventPublisher.publishAssigned(finalUser.getId(), finalUser.getWorkPolicyId());
 
         // UserTenant 생성 (public 스키마에 email-tenantId 매핑 저장)
         if (TenantContext.hasTenantContext()) {
@@ -196,6 +204,8 @@ public class UserService {
         User updatedUser = userRepository.save(user);
 
         log.info("DB 저장 완료: userId={}", updatedUser.getId());
+        invalidateUserCaches(updatedUser.getId());
+        userWorkPolicyEventPublisher.publishAssigned(updatedUser.getId(), updatedUser.getWorkPolicyId());
 
         List<Map<String, Object>> remoteOrganizations = organizationIntegrationService.getUserOrganizations(updatedUser.getId());
 
@@ -219,6 +229,8 @@ public class UserService {
             throw new UserNotFoundException("삭제할 사용자를 찾을 수 없습니다: " + userId);
         }
         userRepository.deleteById(userId);
+        invalidateUserCaches(userId);
+        userWorkPolicyEventPublisher.publishRemoved(userId);
         log.info("사용자 삭제 완료: userId={}", userId);
     }
 
@@ -253,7 +265,10 @@ public class UserService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다: " + userId));
         user.updateWorkPolicyId(workPolicyId);
-        return userRepository.save(user);
+        User savedUser = userRepository.save(user);
+        cacheInvalidationPublisher.invalidate(CacheNames.USER_WORK_POLICY, userId);
+        userWorkPolicyEventPublisher.publishAssigned(userId, savedUser.getWorkPolicyId());
+        return savedUser;
     }
 
     @Transactional(readOnly = true)
@@ -283,6 +298,26 @@ public class UserService {
         return result;
     }
 
+    /**
+     * 여러 사용자의 공개 프로필을 한 번에 조회
+     * 다른 서비스의 응답 조립용으로 근무정책 정보는 포함하지 않으며, 존재하지 않는 ID는 결과에서 제외된다.
+     */
+    @Transactional(readOnly = true)
+    public List<MainProfileResponseDto> getMainProfiles(Collection<Long> userIds) {
+        if (userIds == null || userIds.isEmpty()) {
+            return List.of();
+        }
+
+        Set<Long> distinctIds = userIds.stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        log.info("공개 프로필 일괄 조회 요청: count={}", distinctIds.size());
+
+        return userRepository.findAllWithTitlesByIdIn(distinctIds).stream()
+                .map(user -> userMapper.toMainProfileDto(user, null))
+                .collect(Collectors.toList());
+    }
+
     @Transactional(readOnly = true)
     public DetailProfileResponseDto getDetailProfile(Long userId) {
         log.info("상세 프로필 조회 요청: userId={}", userId);
@@ -367,7 +402,16 @@ public class UserService {
 
         // 프로필 이미지 URL만 업데이트
         userRepository.updateProfileImageUrl(userId, profileImageUrl);
+        cacheInvalidationPublisher.invalidate(CacheNames.USER_PROFILE, userId);
 
         log.info("프로필 이미지 업데이트 완료: userId={}", userId);
     }
-}
\ No newline at end of file
+
+    /**
+     * 다른 서비스가 보유한 사용자 캐시(프로필, 근무 정책) 무효화
+     */
+    private void invalidateUserCaches(Long userId) {
+        cacheInvalidationPublisher.invalidate(CacheNames.USER_PROFILE, userId);
+        cacheInvalidationPublisher.invalidate(CacheNames.USER_WORK_POLICY, userId);
+    }
+}
@@ -1,14 +1,18 @@
 package com.hermes.userservice.service;
 
+import com.hermes.userservice.dto.LeaveGrantTargetDto;
 import com.hermes.userservice.entity.User;
 import com.hermes.userservice.repository.UserRepository;
 import com.hermes.userservice.util.CareerCalculator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -29,6 +33,14 @@ public class VacationService {
         return calculatedWorkYears;
     }
 
+    /**
+     * 연차 일괄 부여 대상 직원을 id 순으로 afterId 이후부터 size명 조회
+     */
+    @Transactional(readOnly = true)
+    public List<LeaveGrantTargetDto> getLeaveGrantTargets(Long afterId, int size) {
+        return userRepository.findLeaveGrantTargets(afterId != null ? afterId : 0L, PageRequest.of(0, size));
+    }
+
     public void updateWorkYears(Long userId) {
         log.info("근무년수 업데이트: userId={}", userId);
         User user = userRepository.findById(userId)
@@ -1,5 +1,7 @@
 package com.hermes.userservice.service;
 
+import com.hermes.cache.TenantCacheManager;
+import com.hermes.events.cache.CacheNames;
 import com.hermes.userservice.client.WorkPolicyServiceClient;
 import com.hermes.userservice.dto.workpolicy.WorkPolicyRequestDto;
 import com.hermes.userservice.dto.workpolicy.WorkPolicyResponseDto;
@@ -27,6 +29,7 @@ public class WorkPolicyIntegrationService {
 
     private final WorkPolicyServiceClient workPolicyServiceClient;
     private final UserRepository userRepository;
+    private final TenantCacheManager tenantCacheManager;
 
     public WorkPolicyResponseDto getUserWorkPolicy(Long userId) {
         User user = userRepository.findById(userId)
@@ -57,7 +60,15 @@ public class WorkPolicyIntegrationService {
         }
     }
 
+    /**
+     * 근무 정책 조회 (attendance-service에서 정책 수정/삭제 시 캐시 무효화)
+     */
     public WorkPolicyResponseDto getWorkPolicy(Long workPolicyId) {
+        return tenantCacheManager.<Long, WorkPolicyResponseDto>getCache(CacheNames.WORK_POLICY)
+                .get(workPolicyId, () -> fetchWorkPolicy(workPolicyId));
+    }
+
+    private WorkPolicyResponseDto fetchWorkPolicy(Long workPolicyId) {
         log.info("Feign Client 호출: workPolicyId={}", workPolicyId);
         try {
             WorkPolicyResponseDto result = workPolicyServiceClient.getWorkPolicy(workPolicyId);
@@ -0,0 +1,4 @@
+-- user_organizations ids come from the identity sequence through Hibernate's pooled-lo optimizer
+-- (allocationSize = 50) so organization syncs can JDBC-batch their INSERTs.
+-- Each nextval reserves [v, v + 49]; the identity increment has to match allocationSize.
+ALTER TABLE user_organizations ALTER COLUMN id SET INCREMENT BY 50;